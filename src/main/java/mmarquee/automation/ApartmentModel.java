@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.platform.win32.Ole32;
+
+/**
+ * How COM is initialized for a UIAutomation instance.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public enum ApartmentModel {
+    /**
+     * A single threaded apartment, on the Canalizer thread, which all the
+     * Ole32 calls are made from (the default).
+     */
+    SingleThreaded(Ole32.COINIT_APARTMENTTHREADED, true),
+
+    /**
+     * The multithreaded apartment, joined by the thread that creates the
+     * UIAutomation instance, with Ole32 called directly. The automation
+     * interfaces can then be called from any thread, in parallel, without
+     * being marshalled to one thread.
+     *
+     * The creating thread stays in the multithreaded apartment, and should
+     * not be a thread that needs a single threaded one (such as a Swing or
+     * JavaFX thread).
+     */
+    MultiThreaded(Ole32.COINIT_MULTITHREADED, false);
+
+    /**
+     * The flag for CoInitializeEx.
+     */
+    private final int value;
+
+    /**
+     * Whether the Ole32 calls are canalized.
+     */
+    private final boolean canalized;
+
+    /**
+     * Gets the flag for CoInitializeEx.
+     * @return The actual value
+     */
+    public int getValue() {
+        return this.value;
+    }
+
+    /**
+     * Whether the Ole32 calls are made on the Canalizer thread.
+     * @return True if canalized
+     */
+    public boolean isCanalized() {
+        return this.canalized;
+    }
+
+    /**
+     * Constructor for ApartmentModel.
+     *
+     * @param theValue The flag for CoInitializeEx.
+     * @param theCanalized Whether the Ole32 calls are canalized.
+     */
+    ApartmentModel(int theValue, boolean theCanalized) {
+        this.value = theValue;
+        this.canalized = theCanalized;
+    }
+}
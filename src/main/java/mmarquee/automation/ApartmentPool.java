@@ -0,0 +1,409 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of worker threads, each of which is its own single threaded
+ * apartment, with its own automation instance and root element.
+ *
+ * Work is done in sessions, each of which is pinned to one worker for its
+ * lifetime, so that the elements got in a session are always used on the
+ * thread (and so in the apartment) they were got on. Sessions on different
+ * workers run in parallel, so several applications can be driven at once.
+ *
+ * Elements must not be passed from one session to another, unless both are
+ * on the same worker.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class ApartmentPool implements AutoCloseable {
+    /**
+     * The logger.
+     */
+    private static final Logger logger =
+            LogManager.getLogger(ApartmentPool.class.getName());
+
+    /**
+     * How long close waits for the workers to finish, in seconds.
+     */
+    private static final int CLOSE_TIMEOUT = 30;
+
+    /**
+     * Creates the automation instance for each worker.
+     */
+    public interface Factory {
+        /**
+         * Creates the automation instance, on the worker thread.
+         *
+         * @return The automation instance
+         * @throws AutomationException Failed to create the instance
+         */
+        UIAutomation create() throws AutomationException;
+
+        /**
+         * Disposes of the automation instance, on the worker thread, when
+         * the pool is closed.
+         *
+         * @param automation The automation instance
+         */
+        default void destroy(final UIAutomation automation) {
+        }
+    }
+
+    /**
+     * Work to be done in a session.
+     *
+     * @param <T> The type of the result
+     */
+    @FunctionalInterface
+    public interface Task<T> {
+        /**
+         * Does the work, on the session's worker thread.
+         *
+         * @param automation The automation instance of the worker
+         * @return The result
+         * @throws Exception Something went wrong
+         */
+        T run(UIAutomation automation) throws Exception;
+    }
+
+    /**
+     * The workers.
+     */
+    private final Worker[] workers;
+
+    /**
+     * Constructor for the ApartmentPool, with workers that each create
+     * their own automation instance in a single threaded apartment.
+     *
+     * @param size The number of workers
+     */
+    public ApartmentPool(final int size) {
+        this(size, new Factory() {
+            @Override
+            public UIAutomation create() {
+                return UIAutomation.createForCurrentThread();
+            }
+
+            @Override
+            public void destroy(final UIAutomation automation) {
+                automation.uninitialize();
+            }
+        });
+    }
+
+    /**
+     * Constructor for the ApartmentPool.
+     *
+     * @param size The number of workers
+     * @param factory Creates the automation instance for each worker
+     */
+    public ApartmentPool(final int size, final Factory factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be at least 1");
+        }
+
+        this.workers = new Worker[size];
+
+        for (int index = 0; index < size; index++) {
+            this.workers[index] = new Worker(index, factory);
+        }
+    }
+
+    /**
+     * Gets the number of workers.
+     *
+     * @return The number of workers
+     */
+    public int size() {
+        return this.workers.length;
+    }
+
+    /**
+     * Opens a session, on the worker with the fewest open sessions.
+     *
+     * @return The session
+     * @throws IllegalStateException The pool has been closed
+     */
+    public synchronized Session openSession() {
+        Worker chosen = null;
+
+        for (Worker worker : this.workers) {
+            if (chosen == null
+                    || worker.sessions.get() < chosen.sessions.get()) {
+                chosen = worker;
+            }
+        }
+
+        if (chosen.executor.isShutdown()) {
+            throw new IllegalStateException("The pool has been closed");
+        }
+
+        chosen.sessions.incrementAndGet();
+
+        return new Session(chosen);
+    }
+
+    /**
+     * Closes the pool, once the work already submitted has been done. The
+     * automation instance of each worker is destroyed on its thread.
+     */
+    @Override
+    public synchronized void close() {
+        for (Worker worker : this.workers) {
+            worker.shutdown();
+        }
+
+        for (Worker worker : this.workers) {
+            try {
+                if (!worker.executor.awaitTermination(
+                        CLOSE_TIMEOUT, TimeUnit.SECONDS)) {
+                    logger.warn("Worker " + worker.index
+                            + " did not finish in time");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * A series of tasks, all done on the same worker.
+     */
+    public final class Session implements AutoCloseable {
+        /**
+         * The worker the session is pinned to.
+         */
+        private final Worker worker;
+
+        /**
+         * Whether the session has been closed.
+         */
+        private volatile boolean closed;
+
+        /**
+         * Constructor for the Session.
+         *
+         * @param inWorker The worker
+         */
+        private Session(final Worker inWorker) {
+            this.worker = inWorker;
+        }
+
+        /**
+         * Gets the index of the worker that the session is pinned to.
+         *
+         * @return The index of the worker
+         */
+        public int getWorker() {
+            return this.worker.index;
+        }
+
+        /**
+         * Does the task on the worker, and waits for the result. A task
+         * that is already running on the worker is done directly.
+         *
+         * @param task The task
+         * @param <T> The type of the result
+         * @return The result
+         * @throws AutomationException The task failed
+         */
+        public <T> T call(final Task<T> task) throws AutomationException {
+            if (Thread.currentThread() == this.worker.thread) {
+                return this.worker.run(task);
+            }
+
+            try {
+                return this.submit(task).get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new AutomationException(ex);
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof AutomationException) {
+                    throw (AutomationException) ex.getCause();
+                }
+
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+
+                throw new AutomationException(ex.getCause());
+            }
+        }
+
+        /**
+         * Submits the task to the worker.
+         *
+         * @param task The task
+         * @param <T> The type of the result
+         * @return The future result
+         * @throws IllegalStateException The session has been closed
+         */
+        public <T> Future<T> submit(final Task<T> task) {
+            if (this.closed) {
+                throw new IllegalStateException("The session has been closed");
+            }
+
+            return this.worker.executor.submit(() -> this.worker.run(task));
+        }
+
+        /**
+         * Closes the session, which frees up its worker for other sessions.
+         */
+        @Override
+        public synchronized void close() {
+            if (!this.closed) {
+                this.closed = true;
+                this.worker.sessions.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * A thread with its own apartment and automation instance.
+     */
+    private static final class Worker {
+        /**
+         * The index of the worker.
+         */
+        private final int index;
+
+        /**
+         * The factory.
+         */
+        private final Factory factory;
+
+        /**
+         * The single thread.
+         */
+        private final ExecutorService executor;
+
+        /**
+         * The number of open sessions.
+         */
+        private final AtomicInteger sessions = new AtomicInteger();
+
+        /**
+         * The thread (only read once started).
+         */
+        private volatile Thread thread;
+
+        /**
+         * The automation instance, only used on the thread.
+         */
+        private UIAutomation automation;
+
+        /**
+         * Why the automation instance could not be created.
+         */
+        private AutomationException failure;
+
+        /**
+         * Constructor for the Worker, which creates the automation
+         * instance on its thread.
+         *
+         * @param inIndex The index
+         * @param inFactory The factory
+         */
+        Worker(final int inIndex, final Factory inFactory) {
+            this.index = inIndex;
+            this.factory = inFactory;
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread t = new Thread(runnable, "Apartment-" + inIndex);
+                t.setDaemon(true);
+                return t;
+            });
+
+            this.executor.execute(this::start);
+        }
+
+        /**
+         * Creates the automation instance.
+         */
+        private void start() {
+            this.thread = Thread.currentThread();
+
+            try {
+                this.automation = this.factory.create();
+
+                // So that controls made on the worker use its instance
+                UIAutomation.setCurrentInstance(this.automation);
+            } catch (AutomationException ex) {
+                logger.warn("Failed to create automation for worker "
+                        + this.index, ex);
+                this.failure = ex;
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to create automation for worker "
+                        + this.index, ex);
+                this.failure = new AutomationException(ex);
+            }
+        }
+
+        /**
+         * Does a task, on the thread.
+         *
+         * @param task The task
+         * @param <T> The type of the result
+         * @return The result
+         * @throws AutomationException The task failed, or there is no
+         *                             automation instance
+         */
+        private <T> T run(final Task<T> task) throws AutomationException {
+            if (this.failure != null) {
+                throw this.failure;
+            }
+
+            try {
+                return task.run(this.automation);
+            } catch (AutomationException | RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new AutomationException(ex);
+            }
+        }
+
+        /**
+         * Destroys the automation instance, and stops the thread once the
+         * queued work has been done.
+         */
+        void shutdown() {
+            if (this.executor.isShutdown()) {
+                return;
+            }
+
+            this.executor.execute(() -> {
+                if (this.automation != null) {
+                    UIAutomation.setCurrentInstance(null);
+                    this.factory.destroy(this.automation);
+                    this.automation = null;
+                }
+            });
+            this.executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import mmarquee.automation.controls.Application;
+import mmarquee.automation.controls.Panel;
+import mmarquee.automation.controls.Search;
+import mmarquee.automation.controls.Window;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Runs lookups asynchronously, trying again while the element is not found
+ * until a timeout, and completes a CompletableFuture with the result.
+ *
+ * Nothing waits between attempts: each attempt is scheduled on a shared
+ * scheduler, so a handful of threads can wait for any number of windows
+ * and controls at once. Futures can be combined with allOf and anyOf, and
+ * cancelling one stops its attempts.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class AsyncLookup {
+    /**
+     * The default time to keep trying for, in milliseconds (the same as
+     * the synchronous desktop lookups).
+     */
+    public static final long DEFAULT_TIMEOUT = 12500;
+
+    /**
+     * The default time between attempts, in milliseconds.
+     */
+    public static final long DEFAULT_INTERVAL = 100;
+
+    /**
+     * The number of threads in the shared scheduler.
+     */
+    private static final int THREADS = 2;
+
+    /**
+     * The shared scheduler, created when first used.
+     */
+    private static final class Shared {
+        /**
+         * The scheduler.
+         */
+        static final ScheduledExecutorService SCHEDULER =
+                createScheduler();
+
+        /**
+         * Creates the scheduler, with daemon threads.
+         *
+         * @return The scheduler
+         */
+        private static ScheduledExecutorService createScheduler() {
+            final AtomicInteger count = new AtomicInteger();
+
+            return Executors.newScheduledThreadPool(THREADS, runnable -> {
+                Thread thread = new Thread(runnable,
+                        "AsyncLookup-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * A lookup, which throws ElementNotFoundException or
+     * ItemNotFoundException when there is nothing to find (yet).
+     *
+     * @param <T> The type found
+     */
+    @FunctionalInterface
+    public interface Lookup<T> {
+        /**
+         * Tries to find the element, once.
+         *
+         * @return The element
+         * @throws AutomationException Not found, or something went wrong
+         */
+        T find() throws AutomationException;
+    }
+
+    /**
+     * The scheduler that the attempts are made on.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * How long to keep trying for, in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * How long to wait between attempts, in milliseconds.
+     */
+    private final long interval;
+
+    /**
+     * Constructor for the AsyncLookup, with the default timeout and
+     * interval, on the shared scheduler.
+     */
+    public AsyncLookup() {
+        this(DEFAULT_TIMEOUT, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Constructor for the AsyncLookup, on the shared scheduler.
+     *
+     * @param inTimeout How long to keep trying for, in milliseconds
+     * @param inInterval How long to wait between attempts, in milliseconds
+     */
+    public AsyncLookup(final long inTimeout, final long inInterval) {
+        this(Shared.SCHEDULER, inTimeout, inInterval);
+    }
+
+    /**
+     * Constructor for the AsyncLookup.
+     *
+     * @param inScheduler The scheduler to make the attempts on
+     * @param inTimeout How long to keep trying for, in milliseconds
+     * @param inInterval How long to wait between attempts, in milliseconds
+     */
+    public AsyncLookup(final ScheduledExecutorService inScheduler,
+                       final long inTimeout,
+                       final long inInterval) {
+        this.scheduler = inScheduler;
+        this.timeout = inTimeout;
+        this.interval = inInterval;
+    }
+
+    /**
+     * Starts the lookup. The first attempt is made straight away, on the
+     * scheduler.
+     *
+     * @param lookup The lookup
+     * @param <T> The type found
+     * @return The result, or the last not found exception once the timeout
+     *         has passed, or any other exception thrown by the lookup
+     */
+    public <T> CompletableFuture<T> find(final Lookup<T> lookup) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(this.timeout);
+
+        this.scheduler.execute(() -> this.attempt(lookup, result, deadline));
+
+        return result;
+    }
+
+    /**
+     * Makes one attempt, and schedules the next if not found.
+     *
+     * @param lookup The lookup
+     * @param result The future to complete
+     * @param deadline When to give up, from System.nanoTime
+     * @param <T> The type found
+     */
+    private <T> void attempt(final Lookup<T> lookup,
+                             final CompletableFuture<T> result,
+                             final long deadline) {
+        if (result.isDone()) {
+            // Cancelled
+            return;
+        }
+
+        try {
+            result.complete(lookup.find());
+        } catch (ElementNotFoundException | ItemNotFoundException ex) {
+            final long remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0) {
+                result.completeExceptionally(ex);
+            } else {
+                this.scheduler.schedule(
+                        () -> this.attempt(lookup, result, deadline),
+                        Math.min(TimeUnit.MILLISECONDS.toNanos(this.interval),
+                                remaining),
+                        TimeUnit.NANOSECONDS);
+            }
+        } catch (Throwable ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Gets the desktop window with the title.
+     *
+     * @param automation The automation instance
+     * @param title The title
+     * @return The future window
+     */
+    public CompletableFuture<Window> getDesktopWindow(final UIAutomation automation,
+                                                      final String title) {
+        return this.find(() -> automation.getDesktopWindow(title, 1));
+    }
+
+    /**
+     * Gets the desktop window with a title matching the pattern.
+     *
+     * @param automation The automation instance
+     * @param titlePattern The pattern
+     * @return The future window
+     */
+    public CompletableFuture<Window> getDesktopWindow(final UIAutomation automation,
+                                                      final Pattern titlePattern) {
+        return this.find(() -> automation.getDesktopWindow(titlePattern, 1));
+    }
+
+    /**
+     * Gets the window with the title, searching all open windows.
+     *
+     * @param automation The automation instance
+     * @param title The title
+     * @return The future window
+     */
+    public CompletableFuture<Window> getWindow(final UIAutomation automation,
+                                               final String title) {
+        return this.find(() -> automation.getWindow(title, 1));
+    }
+
+    /**
+     * Gets the window with a title matching the pattern, searching all
+     * open windows.
+     *
+     * @param automation The automation instance
+     * @param titlePattern The pattern
+     * @return The future window
+     */
+    public CompletableFuture<Window> getWindow(final UIAutomation automation,
+                                               final Pattern titlePattern) {
+        return this.find(() -> automation.getWindow(titlePattern, 1));
+    }
+
+    /**
+     * Gets the desktop object (a pane) with the title.
+     *
+     * @param automation The automation instance
+     * @param title The title
+     * @return The future panel
+     */
+    public CompletableFuture<Panel> getDesktopObject(final UIAutomation automation,
+                                                     final String title) {
+        return this.find(() -> automation.getDesktopObject(title, 1));
+    }
+
+    /**
+     * Gets the desktop object (a pane) with a title matching the pattern.
+     *
+     * @param automation The automation instance
+     * @param titlePattern The pattern
+     * @return The future panel
+     */
+    public CompletableFuture<Panel> getDesktopObject(final UIAutomation automation,
+                                                     final Pattern titlePattern) {
+        return this.find(() -> automation.getDesktopObject(titlePattern, 1));
+    }
+
+    /**
+     * Gets the window of the application, using the search criteria.
+     *
+     * @param application The application
+     * @param search The search criteria
+     * @return The future window
+     */
+    public CompletableFuture<Window> getWindow(final Application application,
+                                               final Search search) {
+        return this.find(() -> application.getWindow(search));
+    }
+}
@@ -18,27 +18,45 @@ package mmarquee.automation;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 import mmarquee.uiautomation.IUIAutomationElement;
-import mmarquee.uiautomation.IUIAutomationElementConverter;
 import mmarquee.uiautomation.IUIAutomationTreeWalker;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the AutomationTreeWalker.
  *
+ * Each element returned by the walker owns a COM reference, so a long walk
+ * should close the elements once it has finished with them.
+ *
  * @author Mark Humphreys
  * Date 02/02/2017.
  */
-public class AutomationTreeWalker extends BaseAutomation {
+public class AutomationTreeWalker extends BaseAutomation
+        implements AutoCloseable {
     /**
      * The underlying raw tree walker.
      */
     private IUIAutomationTreeWalker walker;
 
+    /**
+     * The reference to the walker, released on close.
+     */
+    private final ComReference reference;
+
     /**
      * Constructor for AutomationTreeWalker.
      * @param inWalker The raw walker.
      */
     public AutomationTreeWalker(final IUIAutomationTreeWalker inWalker) {
         this.walker = inWalker;
+        this.reference = ComReference.track(this, inWalker);
+    }
+
+    /**
+     * Releases the underlying walker.
+     */
+    @Override
+    public void close() {
+        this.reference.release();
     }
 
     /**
@@ -58,7 +76,7 @@ public class AutomationTreeWalker extends BaseAutomation {
 
         try {
 	        IUIAutomationElement childElement =
-	                IUIAutomationElementConverter.pointerToInterface(pChild);
+	                VTableDispatcher.pointerToInterface(IUIAutomationElement.class, pChild);
 	        return new Element(childElement);
         } catch (NullPointerException ex) {
         	return null;
@@ -82,7 +100,7 @@ public class AutomationTreeWalker extends BaseAutomation {
 
         try {
 	        IUIAutomationElement childElement =
-	                IUIAutomationElementConverter.pointerToInterface(pChild);
+	                VTableDispatcher.pointerToInterface(IUIAutomationElement.class, pChild);
 	        return new Element(childElement);
         } catch (NullPointerException ex) {
         	return null;
@@ -106,7 +124,7 @@ public class AutomationTreeWalker extends BaseAutomation {
 
         try {
 	        IUIAutomationElement childElement =
-	                IUIAutomationElementConverter.pointerToInterface(pChild);
+	                VTableDispatcher.pointerToInterface(IUIAutomationElement.class, pChild);
 	        return new Element(childElement);
         } catch (NullPointerException ex) {
         	return null;
@@ -129,7 +147,7 @@ public class AutomationTreeWalker extends BaseAutomation {
 
         try {
 	        IUIAutomationElement childElement =
-	                IUIAutomationElementConverter.pointerToInterface(pChild);
+	                VTableDispatcher.pointerToInterface(IUIAutomationElement.class, pChild);
 	        return new Element(childElement);
         } catch (NullPointerException ex) {
         	return null;
@@ -152,7 +170,7 @@ public class AutomationTreeWalker extends BaseAutomation {
 
         try {
             IUIAutomationElement parentElement =
-                    IUIAutomationElementConverter.pointerToInterface(pParent);
+                    VTableDispatcher.pointerToInterface(IUIAutomationElement.class, pParent);
             return new Element(parentElement);
         } catch (NullPointerException ex) {
             return null;
@@ -191,6 +209,8 @@ public class AutomationTreeWalker extends BaseAutomation {
     	/**
     	 * Visits an element during an
     	 * {@link AutomationTreeWalker#walk(AutomationElementVisitor, Element)} run.
+    	 * The visitor owns the element, but must not close it here, as the
+    	 * walk goes on to its next sibling afterwards.
     	 * @param walker The walker to use.
     	 * @param element The currently visited element.
     	 * @return true to continue walking the elements siblings,
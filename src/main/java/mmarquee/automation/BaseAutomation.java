@@ -23,14 +23,11 @@ import com.sun.jna.platform.win32.OaIdl.VARIANT_BOOL;
 import com.sun.jna.platform.win32.WinDef.BOOL;
 import com.sun.jna.platform.win32.Guid;
 import com.sun.jna.platform.win32.WinNT;
-import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
 import mmarquee.uiautomation.IUIAutomationElement;
 import mmarquee.uiautomation.IUIAutomationElementArray;
-import mmarquee.uiautomation.IUIAutomationElementArrayConverter;
-import mmarquee.uiautomation.IUIAutomationElementConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -52,9 +49,40 @@ public abstract class BaseAutomation {
         return new Unknown(pvInstance);
     }
 
+    /**
+     * Whether to check the interface of the elements returned by the
+     * automation library, rather than trusting it.
+     */
+    private static volatile boolean verifyInterfaces =
+            Boolean.getBoolean("mmarquee.automation.verifyInterfaces");
+
+    /**
+     * Turns checking of the interface of returned elements on or off. This
+     * costs a QueryInterface for each element, so is only for debugging.
+     *
+     * @param value Whether to check the interfaces
+     */
+    public static void setVerifyInterfaces(final boolean value) {
+        verifyInterfaces = value;
+    }
+
+    /**
+     * Whether the interface of returned elements is checked.
+     *
+     * @return True if checked
+     */
+    public static boolean isVerifyInterfaces() {
+        return verifyInterfaces;
+    }
+
     /**
      * Convert a raw PointerByReference to a IUIAutomationElement.
      *
+     * The automation library already returns an IUIAutomationElement, so
+     * the pointer is used as it is, taking over the reference that was
+     * returned with it. In verified mode, the interface is checked with
+     * QueryInterface first.
+     *
      * @param pbr The raw pointer.
      * @return The IUIAutomationElement.
      * @throws AutomationException Automation library has thrown an error.
@@ -62,21 +90,31 @@ public abstract class BaseAutomation {
     public IUIAutomationElement getAutomationElementFromReference(
             final PointerByReference pbr)
             throws AutomationException {
-        Unknown unknown = makeUnknown(pbr.getValue());
+        if (verifyInterfaces) {
+            Unknown unknown = makeUnknown(pbr.getValue());
+
+            WinNT.HRESULT result0 =
+                    unknown.QueryInterface(
+                            new Guid.REFIID(IUIAutomationElement.IID), pbr);
 
-        WinNT.HRESULT result0 =
-                unknown.QueryInterface(
-                        new Guid.REFIID(IUIAutomationElement.IID), pbr);
+            if (COMUtils.FAILED(result0)) {
+                throw new AutomationException(result0.intValue());
+            }
 
-        if (COMUtils.FAILED(result0)) {
-            throw new AutomationException(result0.intValue());
+            // QueryInterface added a reference of its own
+            unknown.Release();
         }
 
-        return IUIAutomationElementConverter.pointerToInterface(pbr);
+        return VTableDispatcher.pointerToInterface(IUIAutomationElement.class, pbr);
     }
 
     /**
      * Convert a raw PointerByReference to a IUIAutomationElementArray.
+     *
+     * As with elements, the pointer is used as it is, taking over the
+     * reference that was returned with it. In verified mode, the interface
+     * is checked with QueryInterface first.
+     *
      * @param pbr The raw pointer.
      * @return The IUIAutomationElementArray.
      * @throws AutomationException Automation library has thrown an error.
@@ -84,25 +122,32 @@ public abstract class BaseAutomation {
     public IUIAutomationElementArray getAutomationElementArrayFromReference(
             final PointerByReference pbr)
             throws AutomationException {
-        Unknown unknown = this.makeUnknown(pbr.getValue());
-        PointerByReference pUnknown = new PointerByReference();
+        if (verifyInterfaces) {
+            Unknown unknown = this.makeUnknown(pbr.getValue());
+
+            WinNT.HRESULT result0 =
+                    unknown.QueryInterface(
+                            new Guid.REFIID(
+                                    IUIAutomationElementArray.IID),
+                                    pbr);
 
-        WinNT.HRESULT result0 =
-                unknown.QueryInterface(
-                        new Guid.REFIID(
-                                IUIAutomationElementArray.IID),
-                                pUnknown);
+            if (COMUtils.FAILED(result0)) {
+                throw new AutomationException(result0.intValue());
+            }
 
-        if (COMUtils.FAILED(result0)) {
-            throw new AutomationException(result0.intValue());
+            // QueryInterface added a reference of its own
+            unknown.Release();
         }
 
-        return IUIAutomationElementArrayConverter.pointerToInterface(pUnknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationElementArray.class, pbr);
     }
 
     /**
      * Turns a collection (array) of automation elements, into a collection.
      *
+     * The list fetches the elements as they are used, and releases the
+     * collection when it is closed.
+     *
      * @param collection The ElementArray.
      * @return The List.
      * @throws AutomationException Error in the automation library.
@@ -110,45 +155,16 @@ public abstract class BaseAutomation {
     public List<Element> collectionToList(
             final IUIAutomationElementArray collection)
             throws AutomationException {
-
-        IntByReference ibr = new IntByReference();
-
-        final int res = collection.getLength(ibr);
-        if (res != 0) {
-            throw new AutomationException(res);
-        }
-
-        List<Element> list = new ArrayList<>();
-
-        for (int count = 0; count < ibr.getValue(); count++) {
-
-            PointerByReference pbr = new PointerByReference();
-
-            final int res1 = collection.getElement(count, pbr);
-            if (res1 != 0) {
-                throw new AutomationException(res1);
-            }
-
-            Unknown uElement = new Unknown(pbr.getValue());
-
-            WinNT.HRESULT result0 =
-                    uElement.QueryInterface(
-                            new Guid.REFIID(IUIAutomationElement.IID), pbr);
-
-            if (COMUtils.SUCCEEDED(result0)) {
-                IUIAutomationElement element =
-                        IUIAutomationElementConverter.pointerToInterface(pbr);
-
-                list.add(new Element(element));
-            }
-        }
-
-        return list;
+        return new ElementList(this, collection, false);
     }
 
     /**
      * Gets the raw pointer to the element.
      *
+     * The pointer is borrowed from the element, so it is only valid for as
+     * long as the element is. Unless in verified mode, it is read from the
+     * element without calling COM.
+     *
      * @param element The underlying element.
      * @return Pointer The raw pointer.
      * @throws AutomationException An error has occurred in the automation
@@ -156,6 +172,14 @@ public abstract class BaseAutomation {
      */
     protected Pointer getPointerFromElement(final IUIAutomationElement element)
             throws AutomationException {
+        if (!verifyInterfaces) {
+            final Pointer pointer = VTableDispatcher.getPointer(element);
+
+            if (pointer != null) {
+                return pointer;
+            }
+        }
+
         PointerByReference pElement = new PointerByReference();
 
         WinNT.HRESULT result1 =
@@ -165,6 +189,10 @@ public abstract class BaseAutomation {
             throw new AutomationException(result1.intValue());
         }
 
+        // The element keeps the object alive, so give back the reference
+        // that QueryInterface added
+        new Unknown(pElement.getValue()).Release();
+
         return pElement.getValue();
     }
 
@@ -22,7 +22,7 @@ import com.sun.jna.platform.win32.Guid;
 import com.sun.jna.platform.win32.WinNT;
 import com.sun.jna.ptr.PointerByReference;
 import mmarquee.uiautomation.IUIAutomationCacheRequest;
-import mmarquee.uiautomation.IUIAutomationCacheRequestConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Encapsulated the cache request.
@@ -31,7 +31,7 @@ import mmarquee.uiautomation.IUIAutomationCacheRequestConverter;
  * Date 17/12/2017.
  *
  */
-public class CacheRequest {
+public class CacheRequest implements AutoCloseable {
 
     /**
      * Makes an Unknown value fro the pointer.
@@ -52,6 +52,11 @@ public class CacheRequest {
      */
     private IUIAutomationCacheRequest request;
 
+    /**
+     * The references held by the request, released on close.
+     */
+    private final ComReference[] references = new ComReference[2];
+
     /**
      * Gets the value.
      * @return The value
@@ -70,35 +75,64 @@ public class CacheRequest {
 
         this.cache = automation.createCacheRequest();
 
+        if (this.cache.getValue() == null) {
+            throw new AutomationException("No cache request was created");
+        }
+
         PointerByReference pbr = new PointerByReference();
 
         Unknown unknown = makeUnknown(cache.getValue());
+        this.references[0] = ComReference.track(this, unknown);
 
         WinNT.HRESULT result0 =
                 unknown.QueryInterface(
                         new Guid.REFIID(IUIAutomationCacheRequest.IID), pbr);
 
         if (COMUtils.FAILED(result0)) {
+            this.close();
             throw new AutomationException(result0.intValue());
         }
 
         this.request =
-                IUIAutomationCacheRequestConverter.pointerToInterface(pbr);
+                VTableDispatcher.pointerToInterface(IUIAutomationCacheRequest.class, pbr);
+        this.references[1] = ComReference.track(this, this.request);
+    }
+
+    /**
+     * Releases the cache request.
+     */
+    @Override
+    public void close() {
+        for (ComReference reference : this.references) {
+            if (reference != null) {
+                reference.release();
+            }
+        }
     }
 
     /**
      * Adds a pattern to the request.
      * @param inVal The pattern
+     * @throws AutomationException The pattern could not be added
      */
-    public void addPattern(final int inVal) {
-        this.request.addPattern(inVal);
+    public void addPattern(final int inVal) throws AutomationException {
+        final int res = this.request.addPattern(inVal);
+        if (res != 0) {
+            throw new AutomationException(res);
+        }
     }
 
     /**
      * Adds a property to the request.
      * @param inVal The property
+     * @throws AutomationException The property could not be added, as
+     *                             when it is not registered on this version
+     *                             of Windows
      */
-    public void addProperty(final int inVal) {
-        this.request.addProperty(inVal);
+    public void addProperty(final int inVal) throws AutomationException {
+        final int res = this.request.addProperty(inVal);
+        if (res != 0) {
+            throw new AutomationException(res);
+        }
     }
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.platform.win32.COM.IUnknown;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A COM reference held by one of the wrapper classes, which is released
+ * exactly once.
+ *
+ * The owner should release it when it is closed. If the owner is garbage
+ * collected without being closed, the reference is released on the thread
+ * that obtained it, as an interface from a single threaded apartment must
+ * only be released in that apartment. This happens the next time that
+ * thread tracks a reference, or calls releaseUnreachable. A reference whose
+ * thread has ended is not released, as its apartment has gone with it.
+ *
+ * In leak detection mode (turned on by setLeakDetection, or by the
+ * mmarquee.automation.leakDetection system property), the place where each
+ * reference was obtained is recorded, and logged for any reference that
+ * was not closed.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class ComReference {
+    /**
+     * The logger.
+     */
+    private static final Logger logger =
+            LogManager.getLogger(ComReference.class.getName());
+
+    /**
+     * The owners that have been garbage collected.
+     */
+    private static final ReferenceQueue<Object> QUEUE =
+            new ReferenceQueue<>();
+
+    /**
+     * The safety nets, kept here so that they are not collected before
+     * their owners.
+     */
+    private static final Set<SafetyNet> NETS =
+            Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * The references whose owners have been garbage collected, waiting to
+     * be released on the thread that obtained them.
+     */
+    private static final Map<Thread, Queue<ComReference>> PENDING =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The number of references released by the safety net.
+     */
+    private static final LongAdder LEAKED = new LongAdder();
+
+    /**
+     * Whether to record where references were obtained.
+     */
+    private static volatile boolean leakDetection =
+            Boolean.getBoolean("mmarquee.automation.leakDetection");
+
+    /**
+     * The COM interface.
+     */
+    private final IUnknown unknown;
+
+    /**
+     * The thread that obtained the reference.
+     */
+    private final Thread thread;
+
+    /**
+     * Where the reference was obtained, in leak detection mode.
+     */
+    private final Throwable site;
+
+    /**
+     * Set once the reference has been released.
+     */
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    /**
+     * The safety net for this reference.
+     */
+    private final SafetyNet net;
+
+    /**
+     * Constructor for the ComReference.
+     *
+     * @param owner The owner of the reference
+     * @param inUnknown The COM interface
+     */
+    private ComReference(final Object owner, final IUnknown inUnknown) {
+        this.unknown = inUnknown;
+        this.thread = Thread.currentThread();
+        this.site = leakDetection
+                ? new Throwable("COM reference obtained here")
+                : null;
+        this.net = new SafetyNet(owner, this);
+        NETS.add(this.net);
+    }
+
+    /**
+     * Tracks a COM reference belonging to the owner.
+     *
+     * @param owner The object that owns the reference
+     * @param unknown The COM interface, which has been AddRef'd for the owner
+     * @return The reference, to be released by the owner
+     */
+    public static ComReference track(final Object owner,
+                                     final IUnknown unknown) {
+        releaseUnreachable();
+        return new ComReference(owner, unknown);
+    }
+
+    /**
+     * Releases the COM reference, if it has not already been released.
+     */
+    public void release() {
+        if (this.released.compareAndSet(false, true)) {
+            NETS.remove(this.net);
+            this.net.clear();
+            this.unknown.Release();
+        }
+    }
+
+    /**
+     * Whether the reference has been released.
+     *
+     * @return True if released
+     */
+    public boolean isReleased() {
+        return this.released.get();
+    }
+
+    /**
+     * Releases the references obtained on this thread whose owners have
+     * been garbage collected without being closed. Those obtained on other
+     * threads are left for their own threads to release.
+     *
+     * @return The number of references released
+     */
+    public static int releaseUnreachable() {
+        collect();
+
+        final Queue<ComReference> pending =
+                PENDING.get(Thread.currentThread());
+
+        if (pending == null) {
+            return 0;
+        }
+
+        int count = 0;
+
+        for (ComReference reference = pending.poll(); reference != null;
+             reference = pending.poll()) {
+            count++;
+
+            try {
+                reference.unknown.Release();
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to release COM reference", ex);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Hands the references whose owners have been garbage collected to the
+     * threads that obtained them.
+     */
+    private static void collect() {
+        boolean collected = false;
+
+        for (Reference<?> ref = QUEUE.poll(); ref != null; ref = QUEUE.poll()) {
+            final ComReference reference = ((SafetyNet) ref).reference;
+
+            NETS.remove(ref);
+
+            if (reference.released.compareAndSet(false, true)) {
+                LEAKED.increment();
+                collected = true;
+
+                if (reference.site != null) {
+                    logger.warn("COM reference was not closed",
+                            reference.site);
+                }
+
+                if (reference.thread.isAlive()) {
+                    PENDING.computeIfAbsent(reference.thread,
+                            key -> new ConcurrentLinkedQueue<>())
+                            .add(reference);
+                } else {
+                    logger.warn("COM reference not released, as the thread "
+                            + "that obtained it has ended");
+                }
+            }
+        }
+
+        if (collected) {
+            PENDING.keySet().removeIf(thread -> !thread.isAlive());
+        }
+    }
+
+    /**
+     * Gets the number of references that have not been released.
+     *
+     * @return The number of outstanding references
+     */
+    public static int outstanding() {
+        return NETS.size();
+    }
+
+    /**
+     * Gets the number of references that were released by the safety net,
+     * rather than by their owners.
+     *
+     * @return The number of leaked references
+     */
+    public static long leaked() {
+        return LEAKED.sum();
+    }
+
+    /**
+     * Gets where the outstanding references were obtained. Only references
+     * obtained in leak detection mode are included.
+     *
+     * @return The allocation sites
+     */
+    public static List<Throwable> outstandingSites() {
+        final List<Throwable> sites = new ArrayList<>();
+
+        for (SafetyNet net : NETS) {
+            if (net.reference.site != null) {
+                sites.add(net.reference.site);
+            }
+        }
+
+        return sites;
+    }
+
+    /**
+     * Turns leak detection on or off, for references tracked from now on.
+     *
+     * @param value Whether to record where references are obtained
+     */
+    public static void setLeakDetection(final boolean value) {
+        leakDetection = value;
+    }
+
+    /**
+     * Whether leak detection is on.
+     *
+     * @return True if leak detection is on
+     */
+    public static boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    /**
+     * Notices when the owner of a reference is garbage collected.
+     */
+    private static final class SafetyNet extends PhantomReference<Object> {
+        /**
+         * The reference to release (which must not refer to the owner).
+         */
+        private final ComReference reference;
+
+        /**
+         * Constructor for the SafetyNet.
+         *
+         * @param owner The owner
+         * @param inReference The reference
+         */
+        SafetyNet(final Object owner, final ComReference inReference) {
+            super(owner, QUEUE);
+            this.reference = inReference;
+        }
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.ptr.PointerByReference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A search condition, built in Java and compiled into a COM condition when
+ * it is first used.
+ *
+ * Conditions are immutable, and compare equal when they have the same
+ * structure, so they can be kept in constants, used as keys and logged.
+ * A condition holds no COM objects itself. It is compiled through the
+ * condition cache of the automation instance it is used with, which keys
+ * each part by its structure, so using the condition again with the same
+ * instance, from any thread, finds the COM conditions already created.
+ *
+ * <pre>
+ * Condition okButton = Condition.controlType(ControlType.Button)
+ *         .and(Condition.name("OK"));
+ * </pre>
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public abstract class Condition {
+    /**
+     * Matches every element.
+     */
+    public static final Condition TRUE = new Constant(true);
+
+    /**
+     * Matches no element.
+     */
+    public static final Condition FALSE = new Constant(false);
+
+    /**
+     * The condition for each control type, so that each is built once.
+     */
+    private static final Map<ControlType, Condition> CONTROL_TYPES =
+            new EnumMap<>(ControlType.class);
+
+    static {
+        for (ControlType type : ControlType.values()) {
+            CONTROL_TYPES.put(type,
+                    new Property(PropertyID.ControlType, type.getValue()));
+        }
+    }
+
+    /**
+     * Constructor for the Condition.
+     */
+    Condition() {
+    }
+
+    /**
+     * Gets a condition that the property equals the value.
+     *
+     * @param property The property
+     * @param value The value, a String, Integer or Boolean
+     * @return The condition
+     * @throws IllegalArgumentException The value is not of a supported type
+     */
+    public static Condition property(final PropertyID property,
+                                     final Object value) {
+        if (!(value instanceof String
+                || value instanceof Integer
+                || value instanceof Boolean)) {
+            throw new IllegalArgumentException(
+                    "Unsupported value for " + property + ": " + value);
+        }
+
+        return new Property(property, value);
+    }
+
+    /**
+     * Gets a condition that the element has the name.
+     *
+     * @param name The name
+     * @return The condition
+     */
+    public static Condition name(final String name) {
+        return property(PropertyID.Name, name);
+    }
+
+    /**
+     * Gets a condition that the element has the automation id.
+     *
+     * @param automationId The automation id
+     * @return The condition
+     */
+    public static Condition automationId(final String automationId) {
+        return property(PropertyID.AutomationId, automationId);
+    }
+
+    /**
+     * Gets a condition that the element has the class name.
+     *
+     * @param className The class name
+     * @return The condition
+     */
+    public static Condition className(final String className) {
+        return property(PropertyID.ClassName, className);
+    }
+
+    /**
+     * Gets a condition that the element is of the control type.
+     *
+     * @param controlType The control type
+     * @return The condition
+     */
+    public static Condition controlType(final ControlType controlType) {
+        return CONTROL_TYPES.get(controlType);
+    }
+
+    /**
+     * Gets a condition that all of the conditions match.
+     *
+     * @param conditions The conditions
+     * @return The condition, which is TRUE if there are none
+     */
+    public static Condition allOf(final Condition... conditions) {
+        return combine(Combination.AND, conditions);
+    }
+
+    /**
+     * Gets a condition that any of the conditions match.
+     *
+     * @param conditions The conditions
+     * @return The condition, which is FALSE if there are none
+     */
+    public static Condition anyOf(final Condition... conditions) {
+        return combine(Combination.OR, conditions);
+    }
+
+    /**
+     * Gets a condition that the condition does not match.
+     *
+     * @param condition The condition
+     * @return The condition
+     */
+    public static Condition not(final Condition condition) {
+        if (condition instanceof Not) {
+            return ((Not) condition).operand;
+        }
+
+        return new Not(condition);
+    }
+
+    /**
+     * Gets a condition that this and the other condition both match.
+     *
+     * @param other The other condition
+     * @return The condition
+     */
+    public Condition and(final Condition other) {
+        return allOf(this, other);
+    }
+
+    /**
+     * Gets a condition that this or the other condition matches.
+     *
+     * @param other The other condition
+     * @return The condition
+     */
+    public Condition or(final Condition other) {
+        return anyOf(this, other);
+    }
+
+    /**
+     * Gets a condition that this condition does not match.
+     *
+     * @return The condition
+     */
+    public Condition negate() {
+        return not(this);
+    }
+
+    /**
+     * Gets the COM condition, from the automation instance's condition cache
+     * when it has been compiled before.
+     *
+     * @param automation The automation instance to compile with
+     * @return The COM condition, with a reference owned by the caller, who
+     *         releases it with ConditionCache.release
+     * @throws AutomationException Failed to create the COM condition
+     */
+    public PointerByReference compile(final UIAutomation automation)
+            throws AutomationException {
+        return this.create(automation);
+    }
+
+    /**
+     * Creates the COM condition.
+     *
+     * @param automation The automation instance
+     * @return The COM condition, with a reference owned by the caller
+     * @throws AutomationException Failed to create the COM condition
+     */
+    abstract PointerByReference create(UIAutomation automation)
+            throws AutomationException;
+
+    /**
+     * Combines conditions, flattening any that are combined the same way.
+     *
+     * @param operator AND or OR
+     * @param conditions The conditions
+     * @return The condition
+     */
+    private static Condition combine(final String operator,
+                                     final Condition... conditions) {
+        final List<Condition> operands = new ArrayList<>();
+
+        for (Condition condition : conditions) {
+            if (condition instanceof Combination
+                    && ((Combination) condition).operator.equals(operator)) {
+                operands.addAll(((Combination) condition).operands);
+            } else if (condition == null) {
+                throw new IllegalArgumentException("Condition must not be null");
+            } else {
+                operands.add(condition);
+            }
+        }
+
+        if (operands.isEmpty()) {
+            return operator.equals(Combination.AND) ? TRUE : FALSE;
+        }
+
+        if (operands.size() == 1) {
+            return operands.get(0);
+        }
+
+        return new Combination(operator, operands);
+    }
+
+    /**
+     * TRUE or FALSE.
+     */
+    private static final class Constant extends Condition {
+        /**
+         * The value.
+         */
+        private final boolean value;
+
+        /**
+         * Constructor for the Constant.
+         *
+         * @param inValue The value
+         */
+        Constant(final boolean inValue) {
+            this.value = inValue;
+        }
+
+        @Override
+        PointerByReference create(final UIAutomation automation)
+                throws AutomationException {
+            return this.value
+                    ? automation.createTrueCondition()
+                    : automation.createFalseCondition();
+        }
+
+        @Override
+        public String toString() {
+            return this.value ? "TRUE" : "FALSE";
+        }
+    }
+
+    /**
+     * A property equal to a value.
+     */
+    private static final class Property extends Condition {
+        /**
+         * The property.
+         */
+        private final PropertyID property;
+
+        /**
+         * The value.
+         */
+        private final Object value;
+
+        /**
+         * Constructor for the Property condition.
+         *
+         * @param inProperty The property
+         * @param inValue The value
+         */
+        Property(final PropertyID inProperty, final Object inValue) {
+            this.property = inProperty;
+            this.value = inValue;
+        }
+
+        @Override
+        PointerByReference create(final UIAutomation automation)
+                throws AutomationException {
+            final int id = this.property.getValue();
+
+            if (this.value instanceof String) {
+                return automation.createPropertyCondition(id, (String) this.value);
+            } else if (this.value instanceof Boolean) {
+                return automation.createPropertyCondition(id, (boolean) (Boolean) this.value);
+            } else {
+                return automation.createPropertyCondition(id, (int) (Integer) this.value);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Property
+                    && this.property == ((Property) other).property
+                    && this.value.equals(((Property) other).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.property.hashCode() + this.value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            if (this.property == PropertyID.ControlType) {
+                return this.property + "=" + ControlType.fromValue((Integer) this.value);
+            }
+
+            return this.property + "=" + (this.value instanceof String
+                    ? "'" + this.value + "'"
+                    : this.value);
+        }
+    }
+
+    /**
+     * All or any of several conditions.
+     */
+    private static final class Combination extends Condition {
+        /**
+         * All of the conditions.
+         */
+        static final String AND = "AND";
+
+        /**
+         * Any of the conditions.
+         */
+        static final String OR = "OR";
+
+        /**
+         * AND or OR.
+         */
+        private final String operator;
+
+        /**
+         * The conditions, at least two.
+         */
+        private final List<Condition> operands;
+
+        /**
+         * Constructor for the Combination.
+         *
+         * @param inOperator AND or OR
+         * @param inOperands The conditions
+         */
+        Combination(final String inOperator,
+                    final List<Condition> inOperands) {
+            this.operator = inOperator;
+            this.operands = Collections.unmodifiableList(
+                    new ArrayList<>(inOperands));
+        }
+
+        @Override
+        PointerByReference create(final UIAutomation automation)
+                throws AutomationException {
+            PointerByReference result = this.operands.get(0).compile(automation);
+
+            for (int index = 1; index < this.operands.size(); index++) {
+                final PointerByReference next;
+
+                try {
+                    next = this.operands.get(index).compile(automation);
+                } catch (AutomationException | RuntimeException ex) {
+                    ConditionCache.release(result);
+                    throw ex;
+                }
+
+                final PointerByReference combined;
+
+                try {
+                    combined = this.operator.equals(AND)
+                            ? automation.createAndCondition(result, next)
+                            : automation.createOrCondition(result, next);
+                } finally {
+                    // The combination holds its own references to these
+                    ConditionCache.release(result);
+                    ConditionCache.release(next);
+                }
+
+                result = combined;
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Combination
+                    && this.operator.equals(((Combination) other).operator)
+                    && this.operands.equals(((Combination) other).operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.operator.hashCode() + this.operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder("(");
+
+            for (int index = 0; index < this.operands.size(); index++) {
+                if (index > 0) {
+                    builder.append(' ').append(this.operator).append(' ');
+                }
+
+                builder.append(this.operands.get(index));
+            }
+
+            return builder.append(')').toString();
+        }
+    }
+
+    /**
+     * A condition that does not match.
+     */
+    private static final class Not extends Condition {
+        /**
+         * The condition.
+         */
+        private final Condition operand;
+
+        /**
+         * Constructor for the Not condition.
+         *
+         * @param inOperand The condition
+         */
+        Not(final Condition inOperand) {
+            this.operand = inOperand;
+        }
+
+        @Override
+        PointerByReference create(final UIAutomation automation)
+                throws AutomationException {
+            final PointerByReference operand = this.operand.compile(automation);
+
+            try {
+                return automation.createNotCondition(operand);
+            } finally {
+                ConditionCache.release(operand);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Not
+                    && this.operand.equals(((Not) other).operand);
+        }
+
+        @Override
+        public int hashCode() {
+            return ~this.operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + this.operand;
+        }
+    }
+}
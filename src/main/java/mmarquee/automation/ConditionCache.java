@@ -0,0 +1,343 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.COM.Unknown;
+import com.sun.jna.ptr.PointerByReference;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of COM condition objects, so that the same condition is
+ * created once rather than on every lookup.
+ *
+ * Property conditions are keyed by the property, the value and the flags.
+ * And, or and not conditions are keyed by the keys of their operands, so
+ * combining the same cached conditions again finds the same combination.
+ * Conditions with an operand that did not come from the cache are not
+ * cached.
+ *
+ * The cache holds a COM reference to each condition, which is released when
+ * the condition is evicted (least recently used first) or the cache is
+ * cleared. Each condition got from the cache comes with a reference of its
+ * own, as a newly created condition would, so evicting it never frees a
+ * condition that a caller still holds. The caller releases that reference
+ * when it is done with the condition (see release).
+ *
+ * The size can be set with the mmarquee.automation.conditionCacheSize system
+ * property; a size of 0 turns the cache off.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class ConditionCache {
+    /**
+     * The default maximum number of conditions.
+     */
+    public static final int DEFAULT_SIZE = 256;
+
+    /**
+     * Creates a condition, when it is not in the cache.
+     */
+    @FunctionalInterface
+    public interface Creator {
+        /**
+         * Creates the condition.
+         *
+         * @return The condition, AddRef'd for the cache
+         * @throws AutomationException Failed to create the condition
+         */
+        Pointer create() throws AutomationException;
+    }
+
+    /**
+     * The maximum number of conditions.
+     */
+    private final int capacity;
+
+    /**
+     * The conditions, least recently used first.
+     */
+    private final LinkedHashMap<Object, Entry> entries;
+
+    /**
+     * The key of each cached condition, by address, so that combinations can
+     * be keyed by their operands.
+     */
+    private final Map<Long, Object> keys = new HashMap<>();
+
+    /**
+     * The number of conditions found in the cache.
+     */
+    private long hits;
+
+    /**
+     * The number of conditions created.
+     */
+    private long misses;
+
+    /**
+     * Constructor for the ConditionCache, with the size from the
+     * mmarquee.automation.conditionCacheSize system property, if set.
+     */
+    public ConditionCache() {
+        this(Integer.getInteger("mmarquee.automation.conditionCacheSize",
+                DEFAULT_SIZE));
+    }
+
+    /**
+     * Constructor for the ConditionCache.
+     *
+     * @param inCapacity The maximum number of conditions, or 0 to not cache
+     */
+    public ConditionCache(final int inCapacity) {
+        if (inCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+
+        this.capacity = inCapacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Gets the condition for the key, creating it if it is not cached.
+     *
+     * @param key The key
+     * @param creator Creates the condition
+     * @return The condition, with a reference owned by the caller
+     * @throws AutomationException Failed to create the condition
+     */
+    public synchronized Pointer get(final Object key, final Creator creator)
+            throws AutomationException {
+        if (key == null || this.capacity == 0) {
+            return creator.create();
+        }
+
+        final Entry entry = this.entries.get(key);
+
+        if (entry != null) {
+            this.hits++;
+            new Unknown(entry.pointer).AddRef();
+            return entry.pointer;
+        }
+
+        this.misses++;
+
+        final Pointer pointer = creator.create();
+
+        if (pointer == null) {
+            return null;
+        }
+
+        this.entries.put(key, new Entry(pointer));
+        this.keys.put(Pointer.nativeValue(pointer), key);
+
+        // One reference for the cache, and one for the caller
+        new Unknown(pointer).AddRef();
+
+        this.evict();
+
+        return pointer;
+    }
+
+    /**
+     * Gets the key of a cached condition.
+     *
+     * @param condition The condition
+     * @return The key, or null if the condition is not in the cache
+     */
+    public synchronized Object keyOf(final Pointer condition) {
+        if (condition == null) {
+            return null;
+        }
+
+        return this.keys.get(Pointer.nativeValue(condition));
+    }
+
+    /**
+     * Releases all the conditions.
+     */
+    public synchronized void clear() {
+        for (Entry entry : this.entries.values()) {
+            entry.reference.release();
+        }
+
+        this.entries.clear();
+        this.keys.clear();
+    }
+
+    /**
+     * Gets the number of conditions in the cache.
+     *
+     * @return The number of conditions
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the number of conditions found in the cache.
+     *
+     * @return The number of hits
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of conditions that had to be created.
+     *
+     * @return The number of misses
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Releases the caller's reference to a condition.
+     *
+     * @param condition The condition, which may be null
+     */
+    public static void release(final PointerByReference condition) {
+        if (condition != null && condition.getValue() != null) {
+            new Unknown(condition.getValue()).Release();
+        }
+    }
+
+    /**
+     * Releases the least recently used conditions, down to the capacity.
+     */
+    private void evict() {
+        final Iterator<Map.Entry<Object, Entry>> iterator =
+                this.entries.entrySet().iterator();
+
+        while (this.entries.size() > this.capacity && iterator.hasNext()) {
+            final Entry entry = iterator.next().getValue();
+
+            iterator.remove();
+            this.keys.remove(Pointer.nativeValue(entry.pointer));
+            entry.reference.release();
+        }
+    }
+
+    /**
+     * Gets the key of a property condition.
+     *
+     * @param propertyId The property
+     * @param value The value, as a String, Integer or Boolean
+     * @param flags The PropertyConditionFlags
+     * @return The key
+     */
+    public static Object propertyKey(final int propertyId,
+                                     final Object value,
+                                     final int flags) {
+        return new Key("Property", propertyId, value, flags);
+    }
+
+    /**
+     * Gets the key of a combination of cached conditions.
+     *
+     * @param operator The operator, such as "And"
+     * @param operands The keys of the operands, any of which may be null
+     * @return The key, or null if any operand is not cached
+     */
+    public static Object combinationKey(final String operator,
+                                        final Object... operands) {
+        for (Object operand : operands) {
+            if (operand == null) {
+                return null;
+            }
+        }
+
+        final Object[] parts = new Object[operands.length + 1];
+        parts[0] = operator;
+        System.arraycopy(operands, 0, parts, 1, operands.length);
+
+        return new Key(parts);
+    }
+
+    /**
+     * A cached condition.
+     */
+    private final class Entry {
+        /**
+         * The condition.
+         */
+        private final Pointer pointer;
+
+        /**
+         * The reference held by the cache.
+         */
+        private final ComReference reference;
+
+        /**
+         * Constructor for the Entry.
+         *
+         * @param inPointer The condition
+         */
+        Entry(final Pointer inPointer) {
+            this.pointer = inPointer;
+            this.reference = ComReference.track(this, new Unknown(inPointer));
+        }
+    }
+
+    /**
+     * A key, compared by its parts.
+     */
+    private static final class Key {
+        /**
+         * The parts.
+         */
+        private final Object[] parts;
+
+        /**
+         * The hash of the parts.
+         */
+        private final int hash;
+
+        /**
+         * Constructor for the Key.
+         *
+         * @param inParts The parts
+         */
+        Key(final Object... inParts) {
+            this.parts = inParts;
+            this.hash = Arrays.hashCode(inParts);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Key
+                    && this.hash == ((Key) other).hash
+                    && Arrays.equals(this.parts, ((Key) other).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(this.parts);
+        }
+    }
+}
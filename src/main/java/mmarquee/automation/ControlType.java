@@ -259,17 +259,50 @@ public enum ControlType {
         this.value = inValue;
     }
 
+    /**
+     * The lowest value, other than None.
+     */
+    private static final int FIRST;
+
+    /**
+     * The control types other than None, indexed by value less the
+     * lowest value.
+     */
+    private static final ControlType[] BY_VALUE;
+
+    static {
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+
+        for (ControlType type : values()) {
+            if (type != None) {
+                first = Math.min(first, type.value);
+                last = Math.max(last, type.value);
+            }
+        }
+
+        FIRST = first;
+        BY_VALUE = new ControlType[last - first + 1];
+
+        for (ControlType type : values()) {
+            if (type != None) {
+                BY_VALUE[type.value - first] = type;
+            }
+        }
+    }
+
     /**
      * Gets the control type from the value.
      * @param controlTypeValue The value
-     * @return The control type
+     * @return The control type, or None if there is none
      */
 	public static ControlType fromValue(int controlTypeValue) {
-		for (ControlType type: values()) {
-			if (type.getValue() == controlTypeValue) {
-				return type;
-			}
+		final int index = controlTypeValue - FIRST;
+
+		if (index < 0 || index >= BY_VALUE.length || BY_VALUE[index] == null) {
+			return None;
 		}
-		return None;
+
+		return BY_VALUE[index];
 	}
 }
\ No newline at end of file
@@ -24,28 +24,32 @@ import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
 
 import mmarquee.automation.pattern.BasePattern;
+import mmarquee.uiautomation.Bstr;
 import mmarquee.uiautomation.IUIAutomationElement;
 import mmarquee.uiautomation.IUIAutomationElement3;
-import mmarquee.uiautomation.IUIAutomationElement3Converter;
 import mmarquee.uiautomation.IUIAutomationElement6;
-import mmarquee.uiautomation.IUIAutomationElement6Converter;
 import mmarquee.uiautomation.IUIAutomationElement7;
-import mmarquee.uiautomation.IUIAutomationElement7Converter;
 import mmarquee.uiautomation.IUIAutomationElementArray;
 import mmarquee.uiautomation.TreeScope;
 import mmarquee.uiautomation.OrientationType;
+import mmarquee.uiautomation.VTableDispatcher;
+import mmarquee.uiautomation.VariantBuffer;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * <p>
  * Wrapper for the underlying automation element.
  * </p>
+ * <p>
+ * The element owns its reference to the COM element, which is released
+ * when the element is closed.
+ * </p>
  * @author Mark Humphreys
  * Date 06/03/2016.
  */
-public class Element extends BaseAutomation {
+public class Element extends BaseAutomation implements AutoCloseable {
     /**
      * <p>
      * The underlying automation element.
@@ -53,13 +57,91 @@ public class Element extends BaseAutomation {
      */
     private IUIAutomationElement element;
 
+    /**
+     * The reference to the underlying element, released on close.
+     */
+    private ComReference reference;
+
+    /**
+     * Whether the element has been closed, after which it cannot be used.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The index of IUIAutomationElement3 in the versions.
+     */
+    private static final int ELEMENT3 = 0;
+
+    /**
+     * The index of IUIAutomationElement6 in the versions.
+     */
+    private static final int ELEMENT6 = 1;
+
+    /**
+     * The index of IUIAutomationElement7 in the versions.
+     */
+    private static final int ELEMENT7 = 2;
+
+    /**
+     * The later versions of the element interface that can be asked for.
+     */
+    private static final int[] VERSIONS = {3, 6, 7};
+
+    /**
+     * The interfaces of the later versions.
+     */
+    private static final List<Class<? extends IUIAutomationElement>>
+            VERSION_TYPES = Arrays.asList(
+                    IUIAutomationElement3.class,
+                    IUIAutomationElement6.class,
+                    IUIAutomationElement7.class);
+
+    /**
+     * The IIDs of the later versions.
+     */
+    private static final Guid.IID[] VERSION_IIDS = {
+            IUIAutomationElement3.IID,
+            IUIAutomationElement6.IID,
+            IUIAutomationElement7.IID
+    };
+
+    /**
+     * The later versions of the element interface found so far.
+     */
+    private IUIAutomationElement[] versions;
+
+    /**
+     * The references to the later versions, released on close.
+     */
+    private ComReference[] versionReferences;
+
+    /**
+     * The versions known not to be supported, one bit per index.
+     */
+    private int unsupportedVersions;
+
     /**
      * Gets the underlying automation element.
      *
      * @return IUIAutomationElement The automation element.
      */
     public final IUIAutomationElement getElement() {
-        return element;
+        return this.live();
+    }
+
+    /**
+     * Gets the underlying automation element, checking that it has not
+     * been released.
+     *
+     * @return The automation element
+     * @throws IllegalStateException The element has been closed
+     */
+    private IUIAutomationElement live() {
+        if (this.closed) {
+            throw new IllegalStateException("The element has been closed");
+        }
+
+        return this.element;
     }
 
     /**
@@ -70,17 +152,7 @@ public class Element extends BaseAutomation {
      */
     public final IUIAutomationElement3 getElement3()
             throws AutomationException {
-
-        PointerByReference pUnknown = new PointerByReference();
-
-        WinNT.HRESULT result = this.element.QueryInterface(
-                new Guid.REFIID(IUIAutomationElement3.IID), pUnknown);
-
-        if (COMUtils.SUCCEEDED(result)) {
-            return IUIAutomationElement3Converter.pointerToInterface(pUnknown);
-        } else {
-            throw new ConversionFailure("IUIAutomationElement3");
-        }
+        return (IUIAutomationElement3) this.getVersion(ELEMENT3);
     }
 
     /**
@@ -91,17 +163,88 @@ public class Element extends BaseAutomation {
      */
     public final IUIAutomationElement6 getElement6()
             throws AutomationException {
+        return (IUIAutomationElement6) this.getVersion(ELEMENT6);
+    }
+
+    /**
+     * Gets the highest version of IUIAutomationElement supported by the
+     * element, out of those that can be asked for (3, 6 and 7).
+     *
+     * @return The version, or 1 if none of the later versions is supported
+     */
+    public final int getHighestVersion() {
+        for (int index = VERSIONS.length - 1; index >= 0; index--) {
+            if (this.findVersion(index) != null) {
+                return VERSIONS[index];
+            }
+        }
+
+        return 1;
+    }
+
+    /**
+     * Gets a later version of the element interface.
+     *
+     * @param index The index of the version
+     * @return The interface
+     * @throws ConversionFailure The element does not support the version
+     */
+    private IUIAutomationElement getVersion(final int index)
+            throws ConversionFailure {
+        final IUIAutomationElement found = this.findVersion(index);
+
+        if (found == null) {
+            throw new ConversionFailure(VERSION_TYPES.get(index).getSimpleName());
+        }
+
+        return found;
+    }
+
+    /**
+     * Finds a later version of the element interface. The answer is
+     * remembered, whether or not the version is supported, so the element
+     * is only asked once.
+     *
+     * @param index The index of the version
+     * @return The interface, or null if not supported
+     */
+    private synchronized IUIAutomationElement findVersion(final int index) {
+        final IUIAutomationElement current = this.live();
+
+        if (this.versions == null) {
+            this.versions = new IUIAutomationElement[VERSIONS.length];
+            this.versionReferences = new ComReference[VERSIONS.length];
+        }
 
-        PointerByReference pUnknown = new PointerByReference();
+        if (this.versions[index] != null
+                || (this.unsupportedVersions & (1 << index)) != 0) {
+            return this.versions[index];
+        }
 
-        WinNT.HRESULT result = this.element.QueryInterface(
-                new Guid.REFIID(IUIAutomationElement6.IID), pUnknown);
+        final Class<? extends IUIAutomationElement> type =
+                VERSION_TYPES.get(index);
 
-        if (COMUtils.SUCCEEDED(result)) {
-            return IUIAutomationElement6Converter.pointerToInterface(pUnknown);
+        if (type.isInstance(current)) {
+            this.versions[index] = current;
         } else {
-            throw new ConversionFailure("IUIAutomationElement6");
+            final PointerByReference pUnknown = new PointerByReference();
+
+            final WinNT.HRESULT result = current.QueryInterface(
+                    new Guid.REFIID(VERSION_IIDS[index]), pUnknown);
+
+            if (COMUtils.SUCCEEDED(result)) {
+                final IUIAutomationElement found =
+                        VTableDispatcher.pointerToInterface(type, pUnknown);
+
+                this.versions[index] = found;
+                this.versionReferences[index] =
+                        ComReference.track(this, found);
+            } else {
+                this.unsupportedVersions |= 1 << index;
+            }
         }
+
+        return this.versions[index];
     }
 
     /**
@@ -110,7 +253,10 @@ public class Element extends BaseAutomation {
      * @param inValue The new value.
      */
     public final void setElement(final IUIAutomationElement inValue) {
+        this.close();
         this.element = inValue;
+        this.reference = track(inValue);
+        this.closed = false;
     }
 
     /**
@@ -120,6 +266,7 @@ public class Element extends BaseAutomation {
      */
     public Element(final IUIAutomationElement inElement) {
         this.element = inElement;
+        this.reference = track(inElement);
     }
 
     /**
@@ -129,9 +276,63 @@ public class Element extends BaseAutomation {
      */
     public Element(final IUIAutomationElement6 inElement) {
         this.element = inElement;
+        this.reference = track(inElement);
         this.cached = false;
     }
 
+    /**
+     * Gets another Element for the same underlying element, with a reference
+     * of its own, so that closing either one leaves the other usable.
+     *
+     * @return The new Element
+     */
+    public Element copy() {
+        final IUIAutomationElement current = this.live();
+        current.AddRef();
+
+        final Element copy = new Element(current);
+        copy.setCached(this.cached);
+
+        return copy;
+    }
+
+    /**
+     * Tracks the reference to the underlying element.
+     *
+     * @param inElement The element (may be null)
+     * @return The reference, or null
+     */
+    private ComReference track(final IUIAutomationElement inElement) {
+        return inElement == null ? null : ComReference.track(this, inElement);
+    }
+
+    /**
+     * Releases the underlying element. The element cannot be used
+     * afterwards: its methods throw IllegalStateException.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.versionReferences != null) {
+            for (ComReference versionReference : this.versionReferences) {
+                if (versionReference != null) {
+                    versionReference.release();
+                }
+            }
+        }
+
+        this.versions = null;
+        this.versionReferences = null;
+        this.unsupportedVersions = 0;
+
+        if (this.reference != null) {
+            this.reference.release();
+        }
+
+        this.reference = null;
+        this.element = null;
+        this.closed = true;
+    }
+
     /**
      * Is the element cached.
      */
@@ -163,23 +364,126 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     protected String cachedName() throws AutomationException {
-       PointerByReference sr = new PointerByReference();
+       PointerByReference sr = OutParameters.get().pointerReference();
 
-       final int res = this.element.getCachedName(sr);
+       final int res = this.live().getCachedName(sr);
        if (res != 0) {
            throw new AutomationException(res);
        }
 
-       if (sr.getValue() == null) {
-           return "";
-       } else {
-           return sr.getValue().getWideString(0);
-       }
+       return Bstr.take(sr);
+    }
+
+    /**
+     * Gets the control type from the cached property.
+     *
+     * @return The cached control type
+     * @throws AutomationException Call to Automation API failed.
+     */
+    public int getCachedControlType() throws AutomationException {
+        IntByReference ibr = OutParameters.get().intReference();
+
+        final int res = this.live().getCachedControlType(ibr);
+        if (res != 0) {
+            throw new AutomationException(res);
+        }
+
+        return ibr.getValue();
+    }
+
+    /**
+     * Gets the automation id from the cached property.
+     *
+     * @return The cached automation id
+     * @throws AutomationException Call to Automation API failed.
+     */
+    public String getCachedAutomationId() throws AutomationException {
+        PointerByReference sr = OutParameters.get().pointerReference();
+
+        final int res = this.live().getCachedAutomationId(sr);
+        if (res != 0) {
+            throw new AutomationException(res);
+        }
+
+        return Bstr.take(sr);
+    }
+
+    /**
+     * Gets the class name from the cached property.
+     *
+     * @return The cached class name
+     * @throws AutomationException Call to Automation API failed.
+     */
+    public String getCachedClassName() throws AutomationException {
+        PointerByReference sr = OutParameters.get().pointerReference();
+
+        final int res = this.live().getCachedClassName(sr);
+        if (res != 0) {
+            throw new AutomationException(res);
+        }
+
+        return Bstr.take(sr);
+    }
+
+    /**
+     * Gets a boolean property from the cached properties. Integer
+     * properties are true when not zero.
+     *
+     * @param property The property to get, which must have been cached
+     * @return The cached value of the property
+     * @throws AutomationException Call to Automation API failed.
+     */
+    public boolean getCachedBooleanProperty(final PropertyID property)
+            throws AutomationException {
+        final VariantBuffer value = VariantBuffer.get();
+
+        try {
+            final int res = this.live().getCachedPropertyValue(
+                    property.getValue(), value.getPointer());
+            if (res != 0) {
+                throw new AutomationException(res);
+            }
+
+            return value.getBoolean();
+        } finally {
+            value.clear();
+        }
+    }
+
+    /**
+     * Gets a new element for the same control, with the properties and
+     * patterns of the cache request fetched in one call.
+     *
+     * @param request The cache request
+     * @return The element holding the cached values, to be closed when done
+     * @throws AutomationException Call to Automation API failed.
+     */
+    public Element buildUpdatedCache(final CacheRequest request)
+            throws AutomationException {
+        PointerByReference pbr = new PointerByReference();
+
+        final int res = this.live().buildUpdatedCache(request.getValue(), pbr);
+        if (res != 0) {
+            throw new AutomationException(res);
+        }
+
+        if (pbr.getValue() == null) {
+            throw new ElementNotFoundException();
+        }
+
+        final Element updated =
+                new Element(getAutomationElementFromReference(pbr));
+        updated.setCached(true);
+
+        return updated;
     }
 
     /**
      * Gets the property associated with the passed in id.
      *
+     * The typed accessors (such as getBooleanProperty) should be preferred,
+     * as they do not allocate a VARIANT, and free what it holds.
+     *
      * @param propertyId The property ID to get.
      * @return The property ID.
      * @throws AutomationException Call to Automation API failed.
@@ -188,7 +492,7 @@ public class Element extends BaseAutomation {
             throws AutomationException {
         Variant.VARIANT.ByReference value = new Variant.VARIANT.ByReference();
 
-        final int res = this.element.getCurrentPropertyValue(propertyId, value);
+        final int res = this.live().getCurrentPropertyValue(propertyId, value);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -196,6 +500,112 @@ public class Element extends BaseAutomation {
         return value.getValue();
     }
 
+    /**
+     * Gets a boolean property. Integer properties are true when not zero.
+     *
+     * @param property The property to get
+     * @return The value of the property
+     * @throws AutomationException Call to Automation API failed.
+     */
+    public boolean getBooleanProperty(final PropertyID property)
+            throws AutomationException {
+        final VariantBuffer value = this.readProperty(property);
+
+        try {
+            return value.getBoolean();
+        } finally {
+            value.clear();
+        }
+    }
+
+    /**
+     * Gets an integer property.
+     *
+     * @param property The property to get
+     * @return The value of the property (0 if not set)
+     * @throws AutomationException Call to Automation API failed, or the
+     *                             property is not an integer.
+     */
+    public int getIntProperty(final PropertyID property)
+            throws AutomationException {
+        final VariantBuffer value = this.readProperty(property);
+
+        try {
+            return value.getInt();
+        } catch (IllegalStateException ex) {
+            throw new AutomationException(property + ": " + ex.getMessage());
+        } finally {
+            value.clear();
+        }
+    }
+
+    /**
+     * Gets a string property.
+     *
+     * @param property The property to get
+     * @return The value of the property (empty if not set)
+     * @throws AutomationException Call to Automation API failed, or the
+     *                             property is not a string.
+     */
+    public String getStringProperty(final PropertyID property)
+            throws AutomationException {
+        final VariantBuffer value = this.readProperty(property);
+
+        try {
+            return value.takeString();
+        } catch (IllegalStateException ex) {
+            throw new AutomationException(property + ": " + ex.getMessage());
+        } finally {
+            value.clear();
+        }
+    }
+
+    /**
+     * Gets a rectangle property, such as the BoundingRectangle.
+     *
+     * @param property The property to get
+     * @return The value of the property (empty if not set)
+     * @throws AutomationException Call to Automation API failed, or the
+     *                             property is not a rectangle.
+     */
+    public WinDef.RECT getRectProperty(final PropertyID property)
+            throws AutomationException {
+        final VariantBuffer value = this.readProperty(property);
+        final WinDef.RECT rect = new WinDef.RECT();
+
+        try {
+            value.getRect(rect);
+        } catch (IllegalStateException ex) {
+            throw new AutomationException(property + ": " + ex.getMessage());
+        } finally {
+            value.clear();
+        }
+
+        return rect;
+    }
+
+    /**
+     * Reads a property into the VARIANT buffer of this thread, which the
+     * caller must clear.
+     *
+     * @param property The property to get
+     * @return The buffer holding the value
+     * @throws AutomationException Call to Automation API failed.
+     */
+    private VariantBuffer readProperty(final PropertyID property)
+            throws AutomationException {
+        final VariantBuffer value = VariantBuffer.get();
+
+        final int res = this.live().getCurrentPropertyValue(
+                property.getValue(), value.getPointer());
+        if (res != 0) {
+            value.clear();
+            throw new AutomationException(res);
+        }
+
+        return value;
+    }
+
     /**
      * Gets the current control type.
      *
@@ -203,9 +613,9 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public int getControlType() throws AutomationException {
-        IntByReference ibr = new IntByReference();
+        IntByReference ibr = OutParameters.get().intReference();
 
-        final int res = this.element.getCurrentControlType(ibr);
+        final int res = this.live().getCurrentControlType(ibr);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -220,14 +630,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String getClassName() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentClassName(sr);
+        final int res = this.live().getCurrentClassName(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -237,14 +647,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String getAutomationId() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentAutomationId(sr);
+        final int res = this.live().getCurrentAutomationId(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -253,9 +663,9 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String getRuntimeId() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentRuntimeId(sr);
+        final int res = this.live().getCurrentRuntimeId(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -270,14 +680,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String localizedControlType() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentLocalizedControlType(sr);
+        final int res = this.live().getCurrentLocalizedControlType(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -287,9 +697,9 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public Boolean isPassword() throws AutomationException {
-        IntByReference ibr = new IntByReference();
+        IntByReference ibr = OutParameters.get().intReference();
 
-        final int res = this.element.getCurrentIsPassword(ibr);
+        final int res = this.live().getCurrentIsPassword(ibr);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -304,14 +714,15 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public Boolean offScreen() throws AutomationException {
-        WinDef.BOOLByReference bbr = new WinDef.BOOLByReference();
+        final OutParameters out = OutParameters.get();
+        WinDef.BOOLByReference bbr = out.boolReference();
 
-        final int res = this.element.getCurrentIsOffscreen(bbr);
+        final int res = this.live().getCurrentIsOffscreen(bbr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return bbr.getValue().booleanValue();
+        return out.boolValue();
     }
 
     /**
@@ -321,14 +732,15 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public Boolean isContentElement() throws AutomationException {
-        WinDef.BOOLByReference bbr = new WinDef.BOOLByReference();
+        final OutParameters out = OutParameters.get();
+        WinDef.BOOLByReference bbr = out.boolReference();
 
-        final int res = this.element.getCurrentIsContentElement(bbr);
+        final int res = this.live().getCurrentIsContentElement(bbr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return bbr.getValue().booleanValue();
+        return out.boolValue();
     }
 
     /**
@@ -338,14 +750,15 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public Boolean isControlElement() throws AutomationException {
-        WinDef.BOOLByReference bbr = new WinDef.BOOLByReference();
+        final OutParameters out = OutParameters.get();
+        WinDef.BOOLByReference bbr = out.boolReference();
 
-        final int res = this.element.getCurrentIsControlElement(bbr);
+        final int res = this.live().getCurrentIsControlElement(bbr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return bbr.getValue().booleanValue();
+        return out.boolValue();
     }
 
     /**
@@ -355,14 +768,15 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public Boolean isEnabled() throws AutomationException {
-        WinDef.BOOLByReference bbr = new WinDef.BOOLByReference();
+        final OutParameters out = OutParameters.get();
+        WinDef.BOOLByReference bbr = out.boolReference();
 
-        final int res = this.element.getCurrentIsEnabled(bbr);
+        final int res = this.live().getCurrentIsEnabled(bbr);
         if (res  != 0) {
             throw new AutomationException(res);
         }
 
-        return bbr.getValue().booleanValue();
+        return out.boolValue();
     }
 
     /**
@@ -382,18 +796,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     protected String currentName() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentName(sr);
+        final int res = this.live().getCurrentName(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        if (sr.getValue() == null) {
-            return "";
-        } else {
-            return sr.getValue().getWideString(0);
-        }
+        return Bstr.take(sr);
     }
 
 //    /**
@@ -418,7 +828,7 @@ public class Element extends BaseAutomation {
             throws AutomationException {
         PointerByReference pbr = new PointerByReference();
 
-        this.element.findFirst(scope, pCondition.getValue(), pbr);
+        this.live().findFirst(scope, pCondition.getValue(), pbr);
 
         try {
             IUIAutomationElement elem =
@@ -440,7 +850,7 @@ public class Element extends BaseAutomation {
             throws AutomationException {
         PointerByReference pbr = new PointerByReference();
 
-        final int res = this.element.getCurrentPattern(patternId, pbr);
+        final int res = this.live().getCurrentPattern(patternId, pbr);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -452,7 +862,7 @@ public class Element extends BaseAutomation {
      * Sets focus to the element.
      */
     public void setFocus() {
-        this.element.setFocus();
+        this.live().setFocus();
     }
 
     /**
@@ -472,6 +882,9 @@ public class Element extends BaseAutomation {
      * Finds all for the cache.
      * Probably will get refactored away at some point
      *
+     * The list returned is an {@link ElementList}, which fetches the
+     * elements as they are used.
+     *
      * @param scope        The scope
      * @param condition    The condition
      * @param cacheRequest The cache
@@ -482,11 +895,9 @@ public class Element extends BaseAutomation {
                                  final PointerByReference condition,
                                  final CacheRequest cacheRequest)
             throws AutomationException {
-        List<Element> items = new ArrayList<>();
-
         PointerByReference all = new PointerByReference();
 
-        final int res = this.element.findAllBuildCache(scope.getValue(),
+        final int res = this.live().findAllBuildCache(scope.getValue(),
                 condition.getValue(),
                 cacheRequest.getValue(),
                 all);
@@ -495,35 +906,17 @@ public class Element extends BaseAutomation {
             throw new AutomationException(res);
         }
 
-        IUIAutomationElementArray collection =
-                getAutomationElementArrayFromReference(all);
-
-        IntByReference ibr = new IntByReference();
-
-        collection.getLength(ibr);
-
-        int counter = ibr.getValue();
-
-        for (int a = 0; a < counter; a++) {
-            PointerByReference pbr = new PointerByReference();
-
-            collection.getElement(a, pbr);
-
-            IUIAutomationElement elem =
-                    getAutomationElementFromReference(pbr);
-
-            Element elmnt = new Element(elem);
-            elmnt.cached = true;
-
-            items.add(elmnt);
-        }
-
-        return items;
+        return new ElementList(this,
+                getAutomationElementArrayFromReference(all),
+                true);
     }
 
     /**
      * Gets all of the elements that match the condition and scope.
      *
+     * The list returned is an {@link ElementList}, which fetches the
+     * elements as they are used.
+     *
      * @param scope The scope in the element tree.
      * @param pCondition The condition.
      * @return List of matching elements.
@@ -532,37 +925,17 @@ public class Element extends BaseAutomation {
     public List<Element> findAll(final TreeScope scope,
                                  final PointerByReference pCondition)
             throws AutomationException {
-        List<Element> items = new ArrayList<>();
-
         PointerByReference pAll = new PointerByReference();
 
         final int res =
-                this.element.findAll(scope, pCondition.getValue(), pAll);
+                this.live().findAll(scope, pCondition.getValue(), pAll);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        IUIAutomationElementArray collection =
-                getAutomationElementArrayFromReference(pAll);
-
-        IntByReference ibr = new IntByReference();
-
-        collection.getLength(ibr);
-
-        int counter = ibr.getValue();
-
-        for (int a = 0; a < counter; a++) {
-            PointerByReference pbr = new PointerByReference();
-
-            collection.getElement(a, pbr);
-
-            IUIAutomationElement elem =
-                    getAutomationElementFromReference(pbr);
-
-            items.add(new Element(elem));
-        }
-
-        return items;
+        return new ElementList(this,
+                getAutomationElementArrayFromReference(pAll),
+                false);
     }
 
     /**
@@ -572,14 +945,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String getAriaRole() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentAriaRole(sr);
+        final int res = this.live().getCurrentAriaRole(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -589,9 +962,9 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Something has gone wrong.
      */
     public OrientationType getOrientation() throws AutomationException {
-        IntByReference ibr = new IntByReference();
+        IntByReference ibr = OutParameters.get().intReference();
 
-        final int res = this.element.getCurrentOrientation(ibr);
+        final int res = this.live().getCurrentOrientation(ibr);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -606,9 +979,9 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Something has gone wrong.
      */
     public Integer getCulture() throws AutomationException {
-        IntByReference ibr = new IntByReference();
+        IntByReference ibr = OutParameters.get().intReference();
 
-        final int res = this.element.getCurrentCulture(ibr);
+        final int res = this.live().getCurrentCulture(ibr);
 
         if (res != 0) {
             throw new AutomationException(res);
@@ -624,14 +997,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String getFrameworkId() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentFrameworkId(sr);
+        final int res = this.live().getCurrentFrameworkId(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -641,14 +1014,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String getProviderDescription() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentProviderDescription(sr);
+        final int res = this.live().getCurrentProviderDescription(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -671,9 +1044,9 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public Integer getProcessId() throws AutomationException {
-        IntByReference ibr = new IntByReference();
+        IntByReference ibr = OutParameters.get().intReference();
 
-        final int res = this.element.getCurrentProcessId(ibr);
+        final int res = this.live().getCurrentProcessId(ibr);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -688,14 +1061,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String getItemStatus() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentItemStatus(sr);
+        final int res = this.live().getCurrentItemStatus(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -705,14 +1078,14 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public String getAcceleratorKey() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
-        final int res = this.element.getCurrentAcceleratorKey(sr);
+        final int res = this.live().getCurrentAcceleratorKey(sr);
         if (res != 0) {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -722,11 +1095,13 @@ public class Element extends BaseAutomation {
      * @throws AutomationException Call to Automation API failed.
      */
     public WinDef.POINT getClickablePoint() throws AutomationException {
-        WinDef.POINT.ByReference pbr = new WinDef.POINT.ByReference();
+        final OutParameters out = OutParameters.get();
 
-        WinDef.BOOLByReference br = new WinDef.BOOLByReference();
+        WinDef.POINT.ByReference pbr = out.pointReference();
 
-        final int res = this.element.getClickablePoint(pbr, br);
+        WinDef.BOOLByReference br = out.boolReference();
+
+        final int res = this.live().getClickablePoint(pbr, br);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -737,13 +1112,18 @@ public class Element extends BaseAutomation {
     /**
      * Gets the bounding rectangle of the control.
      *
+     * Unlike the other getters, this returns a new RECT each time rather
+     * than a per-thread one, as callers keep and compare the rectangles
+     * they get, and a shared RECT would change under them. Loops that want
+     * to avoid the allocation should use getBoundingRectangle(RECT).
+     *
      * @return The bounding rectangle.
      * @throws AutomationException Call to Automation API failed.
      */
     public WinDef.RECT getBoundingRectangle() throws AutomationException {
         WinDef.RECT rect = new WinDef.RECT();
 
-        final int res = this.element.getCurrentBoundingRectangle(rect);
+        final int res = this.live().getCurrentBoundingRectangle(rect);
         if (res != 0) {
             throw new AutomationException(res);
         }
@@ -751,6 +1131,21 @@ public class Element extends BaseAutomation {
         return rect;
     }
 
+    /**
+     * Gets the bounding rectangle of the control, into the given rectangle,
+     * so that nothing is allocated.
+     *
+     * @param rect The rectangle to fill in.
+     * @throws AutomationException Call to Automation API failed.
+     */
+    public void getBoundingRectangle(final WinDef.RECT rect)
+            throws AutomationException {
+        final int res = this.live().getCurrentBoundingRectangle(rect);
+        if (res != 0) {
+            throw new AutomationException(res);
+        }
+    }
+
     /**
      * Shows the context menu for the element, by trying to get the
      * IUIAutomationElement3.
@@ -774,16 +1169,7 @@ public class Element extends BaseAutomation {
      */
     public final IUIAutomationElement7 getElement7()
             throws AutomationException {
-        PointerByReference pUnknown = new PointerByReference();
-
-        WinNT.HRESULT result = this.element.QueryInterface(
-                new Guid.REFIID(IUIAutomationElement7.IID), pUnknown);
-
-        if (COMUtils.SUCCEEDED(result)) {
-            return IUIAutomationElement7Converter.pointerToInterface(pUnknown);
-        }
-
-        throw new ConversionFailure("IUIAutomationElement7");
+        return (IUIAutomationElement7) this.getVersion(ELEMENT7);
     }
 
     /**
@@ -822,7 +1208,7 @@ public class Element extends BaseAutomation {
      *                             library
      */
     public String getFullDescription() throws AutomationException {
-        PointerByReference sr = new PointerByReference();
+        PointerByReference sr = OutParameters.get().pointerReference();
 
         final int res = this.getElement6().getCurrentFullDescription(sr);
 
@@ -832,7 +1218,7 @@ public class Element extends BaseAutomation {
             if (sr.getValue() == null) {
                 return "Not set";
             } else {
-                return sr.getValue().getWideString(0);
+                return Bstr.take(sr);
             }
         }
     }
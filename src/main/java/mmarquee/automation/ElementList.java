@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.IUIAutomationElementArray;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A read-only list of the elements in an IUIAutomationElementArray.
+ *
+ * Only the length is read up front; each element is fetched from the array
+ * the first time it is asked for, so getting one item out of a long list
+ * costs a single call.
+ *
+ * Closing the list releases the array. The elements already fetched belong
+ * to the caller, and stay usable.
+ *
+ * Like ArrayList, this is not safe for use by several threads at once.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class ElementList
+        extends AbstractList<Element>
+        implements RandomAccess, AutoCloseable {
+    /**
+     * Converts the entries of the array.
+     */
+    private final BaseAutomation owner;
+
+    /**
+     * The underlying array.
+     */
+    private final IUIAutomationElementArray array;
+
+    /**
+     * The reference to the array, released on close.
+     */
+    private final ComReference reference;
+
+    /**
+     * Whether the elements were fetched with a cache request.
+     */
+    private final boolean cached;
+
+    /**
+     * The elements fetched so far.
+     */
+    private final Element[] elements;
+
+    /**
+     * Constructor for the ElementList.
+     *
+     * @param inOwner Converts the entries of the array
+     * @param inArray The array, which now belongs to the list
+     * @param inCached Whether the array was built with a cache request
+     * @throws AutomationException Failed to get the length of the array
+     */
+    public ElementList(final BaseAutomation inOwner,
+                       final IUIAutomationElementArray inArray,
+                       final boolean inCached)
+            throws AutomationException {
+        this.owner = inOwner;
+        this.array = inArray;
+        this.reference = ComReference.track(this, inArray);
+        this.cached = inCached;
+
+        final IntByReference ibr = new IntByReference();
+
+        final int res = inArray.getLength(ibr);
+        if (res != 0) {
+            this.close();
+            throw new AutomationException(res);
+        }
+
+        this.elements = new Element[ibr.getValue()];
+    }
+
+    /**
+     * Gets the element, fetching it from the array if this is the first
+     * time it has been asked for.
+     *
+     * @param index The index of the element
+     * @return The element
+     * @throws IndexOutOfBoundsException The index is out of range
+     * @throws IllegalStateException The list has been closed, or the element
+     *                               could not be fetched
+     */
+    @Override
+    public Element get(final int index) {
+        if (index < 0 || index >= this.elements.length) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + this.elements.length);
+        }
+
+        Element element = this.elements[index];
+
+        if (element == null) {
+            element = this.fetch(index);
+            this.elements[index] = element;
+        }
+
+        return element;
+    }
+
+    /**
+     * Gets the number of elements.
+     *
+     * @return The size of the array
+     */
+    @Override
+    public int size() {
+        return this.elements.length;
+    }
+
+    /**
+     * Releases the array.
+     */
+    @Override
+    public void close() {
+        this.reference.release();
+    }
+
+    /**
+     * Fetches an element from the array.
+     *
+     * @param index The index of the element
+     * @return The element
+     */
+    private Element fetch(final int index) {
+        if (this.reference.isReleased()) {
+            throw new IllegalStateException("The list has been closed");
+        }
+
+        final PointerByReference pbr = new PointerByReference();
+
+        try {
+            final int res = this.array.getElement(index, pbr);
+            if (res != 0) {
+                throw new AutomationException(res);
+            }
+
+            final Element element =
+                    new Element(this.owner.getAutomationElementFromReference(pbr));
+            element.setCached(this.cached);
+
+            return element;
+        } catch (AutomationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
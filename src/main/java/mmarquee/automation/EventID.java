@@ -158,4 +158,47 @@ public enum EventID {
     EventID(final int theValue) {
         this.value = theValue;
     }
+
+    /**
+     * The lowest event value.
+     */
+    private static final int FIRST;
+
+    /**
+     * The events, indexed by value less the lowest value.
+     */
+    private static final EventID[] BY_VALUE;
+
+    static {
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+
+        for (EventID id : values()) {
+            first = Math.min(first, id.value);
+            last = Math.max(last, id.value);
+        }
+
+        FIRST = first;
+        BY_VALUE = new EventID[last - first + 1];
+
+        for (EventID id : values()) {
+            BY_VALUE[id.value - first] = id;
+        }
+    }
+
+    /**
+     * Gets the event from the value.
+     *
+     * @param eventValue The value
+     * @return The event, or null if there is none
+     */
+    public static EventID fromValue(final int eventValue) {
+        final int index = eventValue - FIRST;
+
+        if (index < 0 || index >= BY_VALUE.length) {
+            return null;
+        }
+
+        return BY_VALUE[index];
+    }
 }
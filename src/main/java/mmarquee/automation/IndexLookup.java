@@ -0,0 +1,521 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.TreeScope;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+
+/**
+ * Finds the element at an index among the elements that match a condition.
+ *
+ * Finding all the matches to take one sends every match back, which for an
+ * early index in a large tree (such as the first cell of a big grid) is
+ * mostly wasted. For an early index, the matches are instead walked with a
+ * tree walker built from the condition, stopping at the one wanted.
+ *
+ * Each step of a walk is a call to the provider, so a walk only pays for
+ * itself for early indexes. The estimated number of calls is compared with
+ * the walk limit, which is what a findAll is taken to cost; past it, all
+ * the matches are found as before. The calls a walk actually makes are
+ * counted too, and a walk that goes past the limit, as when the matches sit
+ * further from the parent than the estimate assumes, is given up for a
+ * findAll. The limit can be set with the mmarquee.automation.indexWalkLimit
+ * system property, and 0 turns walking off.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class IndexLookup {
+    /**
+     * The default walk limit, in calls to the provider.
+     */
+    public static final int DEFAULT_WALK_LIMIT = 32;
+
+    /**
+     * The calls for each match, when walking the descendants: the first
+     * child, the next sibling, and comparing with the last child.
+     */
+    static final int DESCENDANT_CALLS = 3;
+
+    /**
+     * The calls for each match, when walking the children: the next
+     * sibling, comparing with the last child, and checking the parent.
+     */
+    static final int CHILD_CALLS = 4;
+
+    /**
+     * The logger.
+     */
+    private static final Logger logger =
+            LogManager.getLogger(IndexLookup.class.getName());
+
+    /**
+     * The walk limit.
+     */
+    private static volatile int walkLimit = Integer.getInteger(
+            "mmarquee.automation.indexWalkLimit", DEFAULT_WALK_LIMIT);
+
+    /**
+     * Not to be created.
+     */
+    private IndexLookup() {
+    }
+
+    /**
+     * Sets the walk limit.
+     *
+     * @param limit The most calls a walk is estimated to make, or 0 to
+     *              never walk
+     */
+    public static void setWalkLimit(final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+
+        walkLimit = limit;
+    }
+
+    /**
+     * Gets the walk limit.
+     *
+     * @return The most calls a walk is estimated to make
+     */
+    public static int getWalkLimit() {
+        return walkLimit;
+    }
+
+    /**
+     * Estimates the calls to the provider made by walking to the index.
+     *
+     * @param scope The scope
+     * @param index The index
+     * @return The estimated number of calls
+     */
+    static long estimateWalk(final int scope, final int index) {
+        final int perMatch =
+                scope == TreeScope.CHILDREN ? CHILD_CALLS : DESCENDANT_CALLS;
+
+        // Getting the last child, and checking the element itself
+        final int fixed = scope == TreeScope.SUBTREE ? 2 : 1;
+
+        return fixed + (long) perMatch * (index + 1);
+    }
+
+    /**
+     * Whether walking to the index is expected to cost less than finding
+     * all the matches.
+     *
+     * @param scope The scope
+     * @param index The index
+     * @return True to walk
+     */
+    static boolean shouldWalk(final int scope, final int index) {
+        if (scope != TreeScope.CHILDREN
+                && scope != TreeScope.DESCENDANTS
+                && scope != TreeScope.SUBTREE) {
+            return false;
+        }
+
+        return estimateWalk(scope, index) <= walkLimit;
+    }
+
+    /**
+     * Gets the element at the index among the matches, in the order that
+     * findAll would give them.
+     *
+     * @param automation The automation instance, or null to not walk
+     * @param parent The element to search from
+     * @param scope The scope of the search
+     * @param condition The condition
+     * @param index The index
+     * @return The element
+     * @throws AutomationException Error in automation library
+     * @throws IndexOutOfBoundsException There are not that many matches
+     */
+    public static Element get(final UIAutomation automation,
+                              final Element parent,
+                              final TreeScope scope,
+                              final PointerByReference condition,
+                              final int index)
+            throws AutomationException {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        if (automation != null && shouldWalk(scope.getValue(), index)) {
+            final AutomationTreeWalker walker =
+                    createWalker(automation, condition);
+
+            if (walker != null) {
+                try {
+                    final Element found = new Walk(automation, walker,
+                            parent, scope.getValue(), condition, walkLimit)
+                            .find(index);
+
+                    if (found == null) {
+                        throw new IndexOutOfBoundsException("Index: " + index);
+                    }
+
+                    return found;
+                } catch (WalkLimitExceededException ex) {
+                    logger.debug("Walk passed the limit, finding all");
+                } finally {
+                    walker.close();
+                }
+            }
+        }
+
+        final List<Element> collection = parent.findAll(scope, condition);
+
+        try {
+            return collection.get(index);
+        } finally {
+            if (collection instanceof ElementList) {
+                ((ElementList) collection).close();
+            }
+        }
+    }
+
+    /**
+     * Creates a tree walker for the condition.
+     *
+     * @param automation The automation instance
+     * @param condition The condition
+     * @return The walker, or null if there is none
+     */
+    private static AutomationTreeWalker createWalker(
+            final UIAutomation automation,
+            final PointerByReference condition) {
+        try {
+            return automation.createTreeWalker(condition);
+        } catch (AutomationException ex) {
+            logger.debug("Cannot walk, finding all: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Thrown when a walk makes more calls than the walk limit.
+     */
+    private static final class WalkLimitExceededException extends Exception {
+        /**
+         * Constructor for the WalkLimitExceededException.
+         */
+        WalkLimitExceededException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * A walk through the matches, in the order findAll gives them.
+     *
+     * The walker only visits the matches, so a match whose ancestors do not
+     * match is seen as a child of the nearest one that does, which for the
+     * first level may be outside the parent. The walk of the first level
+     * therefore stops at the last child of the parent, and for the children
+     * scope each is checked to be a direct child.
+     *
+     * Each call to the provider is counted, and the walk is given up once
+     * there are more than the limit.
+     */
+    private static final class Walk {
+        /**
+         * The automation instance.
+         */
+        private final UIAutomation automation;
+
+        /**
+         * The walker for the condition.
+         */
+        private final AutomationTreeWalker walker;
+
+        /**
+         * The element to search from.
+         */
+        private final Element parent;
+
+        /**
+         * The scope.
+         */
+        private final int scope;
+
+        /**
+         * The condition.
+         */
+        private final PointerByReference condition;
+
+        /**
+         * The most calls to the provider the walk may make.
+         */
+        private final int limit;
+
+        /**
+         * The matches still to pass before the one wanted.
+         */
+        private int remaining;
+
+        /**
+         * The calls to the provider made so far.
+         */
+        private int calls;
+
+        /**
+         * Constructor for the Walk.
+         *
+         * @param inAutomation The automation instance
+         * @param inWalker The walker for the condition
+         * @param inParent The element to search from
+         * @param inScope The scope
+         * @param inCondition The condition
+         * @param inLimit The most calls to the provider the walk may make
+         */
+        Walk(final UIAutomation inAutomation,
+             final AutomationTreeWalker inWalker,
+             final Element inParent,
+             final int inScope,
+             final PointerByReference inCondition,
+             final int inLimit) {
+            this.automation = inAutomation;
+            this.walker = inWalker;
+            this.parent = inParent;
+            this.scope = inScope;
+            this.condition = inCondition;
+            this.limit = inLimit;
+        }
+
+        /**
+         * Finds the match at the index.
+         *
+         * @param index The index
+         * @return The match, or null if there are not that many
+         * @throws AutomationException Error in automation library
+         * @throws WalkLimitExceededException The walk passed the limit
+         */
+        Element find(final int index)
+                throws AutomationException, WalkLimitExceededException {
+            this.remaining = index;
+            this.calls = 0;
+
+            if (this.scope == TreeScope.SUBTREE) {
+                final Element self = this.findParent();
+
+                if (self != null) {
+                    if (this.remaining-- == 0) {
+                        return self;
+                    }
+
+                    self.close();
+                }
+            }
+
+            this.charge();
+            final Element last = this.walker.getLastChildElement(this.parent);
+
+            if (last == null) {
+                return null;
+            }
+
+            PointerByReference trueCondition = null;
+            AutomationTreeWalker rawWalker = null;
+            Element top = null;
+
+            try {
+                if (this.scope == TreeScope.CHILDREN) {
+                    trueCondition = this.automation.createTrueCondition();
+                    rawWalker = this.automation.createTreeWalker(trueCondition);
+                }
+
+                this.charge();
+                top = this.walker.getFirstChildElement(this.parent);
+
+                while (top != null) {
+                    final boolean isLast = this.same(top, last);
+
+                    final Element found = rawWalker == null
+                            ? this.visit(top)
+                            : this.visitChild(rawWalker, top);
+
+                    if (found != null) {
+                        if (found == top) {
+                            top = null;
+                        }
+
+                        return found;
+                    }
+
+                    if (isLast) {
+                        return null;
+                    }
+
+                    this.charge();
+                    final Element next = this.walker.getNextSiblingElement(top);
+                    top.close();
+                    top = next;
+                }
+
+                return null;
+            } finally {
+                if (top != null) {
+                    top.close();
+                }
+
+                last.close();
+
+                if (rawWalker != null) {
+                    rawWalker.close();
+                }
+
+                ConditionCache.release(trueCondition);
+            }
+        }
+
+        /**
+         * Visits a match and the matches below it, in order.
+         *
+         * @param node The match
+         * @return The match wanted, or null if it is not below the node
+         * @throws AutomationException Error in automation library
+         * @throws WalkLimitExceededException The walk passed the limit
+         */
+        private Element visit(final Element node)
+                throws AutomationException, WalkLimitExceededException {
+            if (this.remaining-- == 0) {
+                return node;
+            }
+
+            this.charge();
+            Element child = this.walker.getFirstChildElement(node);
+
+            try {
+                while (child != null) {
+                    final Element found = this.visit(child);
+
+                    if (found != null) {
+                        if (found == child) {
+                            child = null;
+                        }
+
+                        return found;
+                    }
+
+                    this.charge();
+                    final Element next =
+                            this.walker.getNextSiblingElement(child);
+                    child.close();
+                    child = next;
+                }
+
+                return null;
+            } finally {
+                if (child != null) {
+                    child.close();
+                }
+            }
+        }
+
+        /**
+         * Visits a match, counting it only if it is a direct child.
+         *
+         * @param rawWalker A walker that visits every element
+         * @param node The match
+         * @return The node if it is the match wanted, otherwise null
+         * @throws AutomationException Error in automation library
+         * @throws WalkLimitExceededException The walk passed the limit
+         */
+        private Element visitChild(final AutomationTreeWalker rawWalker,
+                                   final Element node)
+                throws AutomationException, WalkLimitExceededException {
+            this.charge();
+            final Element nodeParent = rawWalker.getParentElement(node);
+
+            if (nodeParent == null) {
+                return null;
+            }
+
+            try {
+                if (this.same(nodeParent, this.parent)
+                        && this.remaining-- == 0) {
+                    return node;
+                }
+            } finally {
+                nodeParent.close();
+            }
+
+            return null;
+        }
+
+        /**
+         * Counts a call to the provider.
+         *
+         * @throws WalkLimitExceededException The walk passed the limit
+         */
+        private void charge() throws WalkLimitExceededException {
+            if (++this.calls > this.limit) {
+                throw new WalkLimitExceededException();
+            }
+        }
+
+        /**
+         * Gets the parent itself, if it matches the condition.
+         *
+         * @return The parent, or null if it does not match
+         * @throws AutomationException Error in automation library
+         * @throws WalkLimitExceededException The walk passed the limit
+         */
+        private Element findParent()
+                throws AutomationException, WalkLimitExceededException {
+            this.charge();
+
+            try {
+                return this.parent.findFirst(new TreeScope(TreeScope.ELEMENT),
+                        this.condition);
+            } catch (ElementNotFoundException ex) {
+                return null;
+            }
+        }
+
+        /**
+         * Whether two elements are the same.
+         *
+         * @param first The first element
+         * @param second The second element
+         * @return True if they are the same
+         * @throws AutomationException Error in automation library
+         * @throws WalkLimitExceededException The walk passed the limit
+         */
+        private boolean same(final Element first, final Element second)
+                throws AutomationException, WalkLimitExceededException {
+            this.charge();
+
+            final IntByReference same = new IntByReference();
+
+            final int res = this.automation.compareElements(
+                    first.getPointerFromElement(first.getElement()),
+                    second.getPointerFromElement(second.getElement()),
+                    same);
+            if (res != 0) {
+                throw new AutomationException(res);
+            }
+
+            return same.getValue() != 0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.TreeScope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the elements whose name matches a pattern.
+ *
+ * Matching a pattern cannot be done by a condition, so the candidates are
+ * found and their names compared here. With a cache request that includes
+ * the name, the candidates and their names are fetched together, in one
+ * call; without one, each name is a further call to the provider.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class NameLookup {
+
+    /**
+     * Not to be created.
+     */
+    private NameLookup() {
+    }
+
+    /**
+     * Finds the first element whose name matches the pattern.
+     *
+     * @param parent The element to search from
+     * @param scope The scope of the search
+     * @param condition The condition the candidates must match
+     * @param request A cache request that includes the name, or null
+     * @param namePattern The pattern the name must match
+     * @return The element, or null if none matches
+     * @throws AutomationException Error in automation library
+     */
+    public static Element findFirst(final Element parent,
+                                    final TreeScope scope,
+                                    final PointerByReference condition,
+                                    final CacheRequest request,
+                                    final Pattern namePattern)
+            throws AutomationException {
+        final List<Element> found =
+                find(parent, scope, condition, request, namePattern, 1);
+
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Finds all the elements whose name matches the pattern.
+     *
+     * @param parent The element to search from
+     * @param scope The scope of the search
+     * @param condition The condition the candidates must match
+     * @param request A cache request that includes the name, or null
+     * @param namePattern The pattern the name must match
+     * @return The elements, in tree order
+     * @throws AutomationException Error in automation library
+     */
+    public static List<Element> findAll(final Element parent,
+                                        final TreeScope scope,
+                                        final PointerByReference condition,
+                                        final CacheRequest request,
+                                        final Pattern namePattern)
+            throws AutomationException {
+        return find(parent, scope, condition, request, namePattern,
+                Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the elements whose name matches the pattern.
+     *
+     * @param parent The element to search from
+     * @param scope The scope of the search
+     * @param condition The condition the candidates must match
+     * @param request A cache request that includes the name, or null
+     * @param namePattern The pattern the name must match
+     * @param limit The most elements to find
+     * @return The elements
+     * @throws AutomationException Error in automation library
+     */
+    private static List<Element> find(final Element parent,
+                                      final TreeScope scope,
+                                      final PointerByReference condition,
+                                      final CacheRequest request,
+                                      final Pattern namePattern,
+                                      final int limit)
+            throws AutomationException {
+        final List<Element> matches = new ArrayList<>();
+
+        final List<Element> collection = request == null
+                ? parent.findAll(scope, condition)
+                : parent.findAll(scope, condition, request);
+
+        try {
+            for (Element element : collection) {
+                final String name = request == null
+                        ? element.getName()
+                        : element.getCachedName();
+
+                if (matches(namePattern, name)) {
+                    matches.add(element);
+
+                    if (matches.size() == limit) {
+                        break;
+                    }
+                } else {
+                    element.close();
+                }
+            }
+        } finally {
+            if (collection instanceof ElementList) {
+                ((ElementList) collection).close();
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Whether the name matches the pattern.
+     *
+     * @param namePattern The pattern
+     * @param name The name, which may be null
+     * @return True if the name matches
+     */
+    private static boolean matches(final Pattern namePattern,
+                                   final String name) {
+        return name != null && namePattern.matcher(name).matches();
+    }
+}
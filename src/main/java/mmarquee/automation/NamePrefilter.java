@@ -0,0 +1,478 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import mmarquee.uiautomation.PropertyConditionFlags;
+
+import java.util.regex.Pattern;
+
+/**
+ * The part of a name pattern that the provider can check, so that only the
+ * elements that might match are sent back to be checked against the
+ * pattern.
+ *
+ * A pattern that is just a literal, such as one from Pattern.quote, gives
+ * the name itself. Otherwise the longest literal run that every match must
+ * contain is used as a substring, so "Item \\d+" gives "Item ". Both are
+ * compared ignoring case if the pattern is case-insensitive. Patterns that
+ * cannot be analysed safely, such as those with alternatives, give no
+ * prefilter.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class NamePrefilter {
+
+    /**
+     * The literal.
+     */
+    private final String literal;
+
+    /**
+     * Whether the whole name must equal the literal.
+     */
+    private final boolean exact;
+
+    /**
+     * Whether case is ignored.
+     */
+    private final boolean ignoreCase;
+
+    /**
+     * Constructor for the NamePrefilter.
+     *
+     * @param inLiteral The literal
+     * @param inExact Whether the whole name must equal the literal
+     * @param inIgnoreCase Whether case is ignored
+     */
+    NamePrefilter(final String inLiteral,
+                  final boolean inExact,
+                  final boolean inIgnoreCase) {
+        this.literal = inLiteral;
+        this.exact = inExact;
+        this.ignoreCase = inIgnoreCase;
+    }
+
+    /**
+     * Gets the literal.
+     *
+     * @return The literal
+     */
+    public String getLiteral() {
+        return this.literal;
+    }
+
+    /**
+     * Gets whether the whole name must equal the literal, rather than
+     * contain it.
+     *
+     * @return True if the whole name must equal the literal
+     */
+    public boolean isExact() {
+        return this.exact;
+    }
+
+    /**
+     * Gets whether case is ignored.
+     *
+     * @return True if case is ignored
+     */
+    public boolean isIgnoreCase() {
+        return this.ignoreCase;
+    }
+
+    /**
+     * Gets the PropertyConditionFlags for a condition on the literal.
+     *
+     * @return The flags
+     */
+    public int getFlags() {
+        int flags = PropertyConditionFlags.None.getValue();
+
+        if (this.ignoreCase) {
+            flags |= PropertyConditionFlags.IgnoreCase.getValue();
+        }
+
+        if (!this.exact) {
+            flags |= PropertyConditionFlags.MatchSubstring.getValue();
+        }
+
+        return flags;
+    }
+
+    @Override
+    public String toString() {
+        return (this.exact ? "equals" : "contains")
+                + (this.ignoreCase ? " (ignoring case) '" : " '")
+                + this.literal + "'";
+    }
+
+    /**
+     * Analyses a name pattern.
+     *
+     * @param namePattern The pattern
+     * @return The prefilter, or null if there is none
+     */
+    public static NamePrefilter of(final Pattern namePattern) {
+        final int flags = namePattern.flags();
+        String regex = namePattern.pattern();
+
+        if ((flags & (Pattern.COMMENTS | Pattern.CANON_EQ)) != 0) {
+            return null;
+        }
+
+        boolean ignoreCase = (flags & Pattern.CASE_INSENSITIVE) != 0;
+
+        if ((flags & Pattern.LITERAL) != 0) {
+            return regex.isEmpty()
+                    ? null
+                    : new NamePrefilter(regex, true, ignoreCase);
+        }
+
+        if (regex.startsWith("(?i)")) {
+            ignoreCase = true;
+            regex = regex.substring(4);
+        }
+
+        return new Scanner(regex).scan(ignoreCase);
+    }
+
+    /**
+     * Finds the literal runs in a regular expression.
+     */
+    private static final class Scanner {
+        /**
+         * The regular expression.
+         */
+        private final String regex;
+
+        /**
+         * The current literal run.
+         */
+        private final StringBuilder run = new StringBuilder();
+
+        /**
+         * The longest literal run so far.
+         */
+        private String longest = "";
+
+        /**
+         * Whether the last token was a literal character.
+         */
+        private boolean lastLiteral;
+
+        /**
+         * Whether everything so far has been literal.
+         */
+        private boolean onlyLiteral = true;
+
+        /**
+         * Constructor for the Scanner.
+         *
+         * @param inRegex The regular expression
+         */
+        Scanner(final String inRegex) {
+            this.regex = inRegex;
+        }
+
+        /**
+         * Scans the regular expression.
+         *
+         * @param ignoreCase Whether the pattern ignores case
+         * @return The prefilter, or null if there is none
+         */
+        NamePrefilter scan(final boolean ignoreCase) {
+            final int length = this.regex.length();
+            int index = 0;
+
+            while (index < length) {
+                final char current = this.regex.charAt(index);
+
+                switch (current) {
+                    case '\\':
+                        index = this.escape(index);
+                        break;
+
+                    case '[':
+                        this.other();
+                        index = skipClass(this.regex, index);
+                        break;
+
+                    case '(':
+                        if (index + 2 < length
+                                && this.regex.charAt(index + 1) == '?'
+                                && isFlag(this.regex.charAt(index + 2))) {
+                            // Flags that change how the rest is matched
+                            return null;
+                        }
+
+                        this.other();
+                        index = skipGroup(this.regex, index);
+                        break;
+
+                    case '|':
+                        return null;
+
+                    case '^':
+                    case '$':
+                        if ((current == '^' && index == 0)
+                                || (current == '$' && index == length - 1)) {
+                            this.end();
+                            this.lastLiteral = false;
+                        } else {
+                            this.other();
+                        }
+                        index++;
+                        break;
+
+                    case '.':
+                        this.other();
+                        index++;
+                        break;
+
+                    case '*':
+                    case '+':
+                    case '?':
+                    case '{':
+                        index = this.quantifier(index);
+                        break;
+
+                    default:
+                        this.literal(current);
+                        index++;
+                        break;
+                }
+
+                if (index < 0) {
+                    return null;
+                }
+            }
+
+            this.end();
+
+            if (this.longest.isEmpty()) {
+                return null;
+            }
+
+            return new NamePrefilter(this.longest, this.onlyLiteral, ignoreCase);
+        }
+
+        /**
+         * Reads an escape.
+         *
+         * @param index The index of the backslash
+         * @return The index after the escape, or -1 if it is not understood
+         */
+        private int escape(final int index) {
+            if (index + 1 >= this.regex.length()) {
+                return -1;
+            }
+
+            final char escaped = this.regex.charAt(index + 1);
+
+            if (escaped == 'Q') {
+                final int end = this.regex.indexOf("\\E", index + 2);
+                final String quoted = end < 0
+                        ? this.regex.substring(index + 2)
+                        : this.regex.substring(index + 2, end);
+
+                for (int i = 0; i < quoted.length(); i++) {
+                    this.literal(quoted.charAt(i));
+                }
+
+                return end < 0 ? this.regex.length() : end + 2;
+            }
+
+            if (!Character.isLetterOrDigit(escaped)) {
+                this.literal(escaped);
+            } else if ("tnrfae".indexOf(escaped) >= 0) {
+                this.literal("\t\n\r\f\u0007\u001B".charAt(
+                        "tnrfae".indexOf(escaped)));
+            } else if ("dDsSwWhHvVRXbBAGzZ".indexOf(escaped) >= 0) {
+                this.other();
+            } else {
+                // Such as \x41, which would otherwise look like literals
+                return -1;
+            }
+
+            return index + 2;
+        }
+
+        /**
+         * Reads a quantifier, which makes the token before it optional or
+         * repeated.
+         *
+         * @param index The index of the quantifier
+         * @return The index after the quantifier
+         */
+        private int quantifier(final int index) {
+            int next = index + 1;
+
+            if (this.regex.charAt(index) == '{') {
+                next = this.regex.indexOf('}', index) + 1;
+
+                if (next == 0) {
+                    return -1;
+                }
+            }
+
+            if (this.lastLiteral) {
+                // The character may not be there, or may be repeated
+                this.run.setLength(this.run.length()
+                        - Character.charCount(
+                                this.run.codePointBefore(this.run.length())));
+            }
+
+            this.other();
+
+            if (next < this.regex.length()
+                    && (this.regex.charAt(next) == '?'
+                    || this.regex.charAt(next) == '+')) {
+                next++;
+            }
+
+            return next;
+        }
+
+        /**
+         * Adds a literal character to the run.
+         *
+         * @param literal The character
+         */
+        private void literal(final char literal) {
+            this.run.append(literal);
+            this.lastLiteral = true;
+        }
+
+        /**
+         * Ends the run, at something that is not a literal.
+         */
+        private void other() {
+            this.end();
+            this.onlyLiteral = false;
+            this.lastLiteral = false;
+        }
+
+        /**
+         * Ends the run, keeping it if it is the longest.
+         */
+        private void end() {
+            if (this.run.length() > this.longest.length()) {
+                this.longest = this.run.toString();
+            }
+
+            this.run.setLength(0);
+        }
+    }
+
+    /**
+     * Whether the character, after "(?", starts inline flags.
+     *
+     * @param character The character
+     * @return True for flags
+     */
+    private static boolean isFlag(final char character) {
+        return Character.isLetter(character) || character == '-';
+    }
+
+    /**
+     * Skips a character class.
+     *
+     * @param regex The regular expression
+     * @param start The index of the opening bracket
+     * @return The index after the class, or -1 if it is not understood
+     */
+    private static int skipClass(final String regex, final int start) {
+        int index = start + 1;
+
+        if (index < regex.length() && regex.charAt(index) == '^') {
+            index++;
+        }
+
+        if (index < regex.length() && regex.charAt(index) == ']') {
+            return -1;
+        }
+
+        int depth = 1;
+
+        while (index < regex.length()) {
+            final char current = regex.charAt(index);
+
+            if (current == '\\') {
+                if (index + 1 < regex.length()
+                        && regex.charAt(index + 1) == 'Q') {
+                    return -1;
+                }
+                index += 2;
+                continue;
+            }
+
+            if (current == '[') {
+                depth++;
+            } else if (current == ']' && --depth == 0) {
+                return index + 1;
+            }
+
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Skips a group.
+     *
+     * @param regex The regular expression
+     * @param start The index of the opening parenthesis
+     * @return The index after the group, or -1 if it is not understood
+     */
+    private static int skipGroup(final String regex, final int start) {
+        int index = start + 1;
+        int depth = 1;
+
+        while (index < regex.length()) {
+            final char current = regex.charAt(index);
+
+            if (current == '\\') {
+                if (index + 1 < regex.length()
+                        && regex.charAt(index + 1) == 'Q') {
+                    return -1;
+                }
+                index += 2;
+                continue;
+            }
+
+            if (current == '[') {
+                index = skipClass(regex, index);
+
+                if (index < 0) {
+                    return -1;
+                }
+                continue;
+            }
+
+            if (current == '(') {
+                depth++;
+            } else if (current == ')' && --depth == 0) {
+                return index + 1;
+            }
+
+            index++;
+        }
+
+        return -1;
+    }
+}
@@ -16,10 +16,12 @@
 package mmarquee.automation;
 
 import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.COM.COMException;
 import com.sun.jna.platform.win32.COM.COMUtils;
 import com.sun.jna.platform.win32.COM.Unknown;
 import com.sun.jna.platform.win32.Ole32;
 import com.sun.jna.platform.win32.WTypes;
+import com.sun.jna.platform.win32.WinError;
 import com.sun.jna.platform.win32.WinNT;
 import com.sun.jna.ptr.PointerByReference;
 import mmarquee.uiautomation.IUIAutomation;
@@ -36,13 +38,23 @@ public class Ole32Wrapper {
     /**
      * The Ole32 instance.
      */
-    private static Ole32 CANALIZED_OLE32_INSTANCE = null;
+    private Ole32 ole32 = null;
+
+    /**
+     * How COM is initialized.
+     */
+    private final ApartmentModel model;
 
     /**
      * The Unknown COM value.
      */
     private Unknown unknown = null;
 
+    /**
+     * Whether COM was initialized, and so needs uninitializing.
+     */
+    private boolean initialized;
+
     /**
      * Gets the Unknown value of the Ole32 library.
      * @return Unknown the Unknown representation of the Ole32 instance.
@@ -52,30 +64,101 @@ public class Ole32Wrapper {
     }
 
     /**
-     * Constructor for the wrapper.
+     * Constructor for the wrapper, with all calls made on the Canalizer
+     * thread.
      */
     Ole32Wrapper() {
+        this(ApartmentModel.SingleThreaded);
+    }
+
+    /**
+     * Constructor for the wrapper, using the given apartment model.
+     *
+     * @param inModel How COM is initialized
+     */
+    Ole32Wrapper(final ApartmentModel inModel) {
+        this(inModel.isCanalized() ? Canalizer.canalize(Ole32.INSTANCE) : Ole32.INSTANCE,
+                inModel);
+    }
+
+    /**
+     * Constructor for the wrapper, with all calls made through the given
+     * Ole32 (Ole32.INSTANCE to initialise the calling thread).
+     *
+     * @param inOle32 The Ole32 instance to use
+     * @param inModel How COM is initialized
+     */
+    Ole32Wrapper(final Ole32 inOle32, final ApartmentModel inModel) {
+        this.ole32 = inOle32;
+        this.model = inModel;
         createWrapper();
     }
 
+    /**
+     * Gets the apartment model.
+     * @return How COM was initialized
+     */
+    public ApartmentModel getModel() {
+        return this.model;
+    }
+
+    /**
+     * Uninitializes COM on the thread it was initialized on.
+     */
+    void uninitialize() {
+        if (this.unknown != null) {
+            this.unknown.Release();
+            this.unknown = null;
+        }
+
+        if (this.initialized) {
+            this.initialized = false;
+            this.ole32.CoUninitialize();
+        }
+    }
+
     /**
      * Creates the wrapper.
+     *
+     * @throws COMException COM is already initialized on the thread in the
+     *                      other apartment model, or could not be
+     *                      initialized or the automation object created
      */
     private void createWrapper() {
-        CANALIZED_OLE32_INSTANCE = Canalizer.canalize(com.sun.jna.platform.win32.Ole32.INSTANCE);
+        final WinNT.HRESULT init =
+                this.ole32.CoInitializeEx(Pointer.NULL, this.model.getValue());
+
+        if (init.intValue() == WinError.RPC_E_CHANGED_MODE) {
+            throw new COMException("COM is already initialized on this "
+                    + "thread in the other apartment model, so cannot be "
+                    + "used as " + this.model, init);
+        }
+
+        if (COMUtils.FAILED(init)) {
+            throw new COMException("Failed to initialize COM", init);
+        }
 
-        CANALIZED_OLE32_INSTANCE.CoInitializeEx(Pointer.NULL, Ole32.COINIT_APARTMENTTHREADED);
+        // S_FALSE (already initialized the same way) also needs balancing
+        this.initialized = true;
 
         PointerByReference pbr = new PointerByReference();
 
-        WinNT.HRESULT hr = CANALIZED_OLE32_INSTANCE.CoCreateInstance(
-                IUIAutomation.CLSID,
-                null,
-                WTypes.CLSCTX_SERVER,
-                IUIAutomation.IID,
-                pbr);
+        try {
+            WinNT.HRESULT hr = this.ole32.CoCreateInstance(
+                    IUIAutomation.CLSID,
+                    null,
+                    WTypes.CLSCTX_SERVER,
+                    IUIAutomation.IID,
+                    pbr);
 
-        COMUtils.checkRC(hr);
+            if (COMUtils.FAILED(hr)) {
+                throw new COMException(
+                        "Failed to create the automation object", hr);
+            }
+        } catch (RuntimeException ex) {
+            this.uninitialize();
+            throw ex;
+        }
 
         unknown = new Unknown(pbr.getValue());
     }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.platform.win32.WinDef;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+
+/**
+ * Out parameters for COM calls, one set per thread, so that the getters do
+ * not allocate (and later finalize) native memory on every call.
+ *
+ * Each accessor resets the parameter before handing it out. The value
+ * must be read straight after the call, before anything else on the
+ * thread uses the same parameter.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class OutParameters {
+    /**
+     * The parameters for each thread.
+     */
+    private static final ThreadLocal<OutParameters> PARAMETERS =
+            ThreadLocal.withInitial(OutParameters::new);
+
+    /**
+     * An int.
+     */
+    private final IntByReference intReference = new IntByReference();
+
+    /**
+     * A pointer, such as a BSTR or an interface.
+     */
+    private final PointerByReference pointerReference =
+            new PointerByReference();
+
+    /**
+     * A BOOL.
+     */
+    private final WinDef.BOOLByReference boolReference =
+            new WinDef.BOOLByReference();
+
+    /**
+     * A POINT.
+     */
+    private final WinDef.POINT.ByReference pointReference =
+            new WinDef.POINT.ByReference();
+
+    /**
+     * Constructor for the parameters.
+     */
+    private OutParameters() {
+    }
+
+    /**
+     * Gets the parameters for the current thread.
+     *
+     * @return The parameters
+     */
+    public static OutParameters get() {
+        return PARAMETERS.get();
+    }
+
+    /**
+     * Gets the int parameter, set to 0.
+     *
+     * @return The parameter
+     */
+    public IntByReference intReference() {
+        this.intReference.setValue(0);
+        return this.intReference;
+    }
+
+    /**
+     * Gets the pointer parameter, set to null.
+     *
+     * @return The parameter
+     */
+    public PointerByReference pointerReference() {
+        this.pointerReference.setValue(null);
+        return this.pointerReference;
+    }
+
+    /**
+     * Gets the BOOL parameter, set to false.
+     *
+     * @return The parameter
+     */
+    public WinDef.BOOLByReference boolReference() {
+        this.boolReference.getPointer().setInt(0, 0);
+        return this.boolReference;
+    }
+
+    /**
+     * Reads the BOOL parameter, without allocating a BOOL.
+     *
+     * @return The value
+     */
+    public boolean boolValue() {
+        return this.boolReference.getPointer().getInt(0) != 0;
+    }
+
+    /**
+     * Gets the POINT parameter, set to 0, 0.
+     *
+     * @return The parameter
+     */
+    public WinDef.POINT.ByReference pointReference() {
+        this.pointReference.x = 0;
+        this.pointReference.y = 0;
+        return this.pointReference;
+    }
+}
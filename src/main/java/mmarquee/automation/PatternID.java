@@ -217,4 +217,76 @@ public enum PatternID {
     PatternID(int value) {
         this.value = value;
     }
+
+    /**
+     * The lowest pattern value.
+     */
+    private static final int FIRST;
+
+    /**
+     * The patterns, indexed by value less the lowest value.
+     */
+    private static final PatternID[] BY_VALUE;
+
+    /**
+     * The property telling whether each pattern is available, indexed by
+     * ordinal.
+     */
+    private static final PropertyID[] AVAILABLE;
+
+    static {
+        final PatternID[] patterns = values();
+
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+
+        for (PatternID pattern : patterns) {
+            first = Math.min(first, pattern.value);
+            last = Math.max(last, pattern.value);
+        }
+
+        FIRST = first;
+        BY_VALUE = new PatternID[last - first + 1];
+        AVAILABLE = new PropertyID[patterns.length];
+
+        for (PatternID pattern : patterns) {
+            BY_VALUE[pattern.value - first] = pattern;
+
+            // e.g. Text2 is told by IsTextPattern2Available
+            final String name = pattern.name();
+            final String propertyName = String.format("Is%sPattern%sAvailable",
+                    name.replaceAll("\\d", ""), name.replaceAll("\\D", ""));
+
+            for (PropertyID property : PropertyID.values()) {
+                if (property.name().equals(propertyName)) {
+                    AVAILABLE[pattern.ordinal()] = property;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the pattern from the value.
+     *
+     * @param patternValue The value
+     * @return The pattern, or null if there is none
+     */
+    public static PatternID fromValue(final int patternValue) {
+        final int index = patternValue - FIRST;
+
+        if (index < 0 || index >= BY_VALUE.length) {
+            return null;
+        }
+
+        return BY_VALUE[index];
+    }
+
+    /**
+     * Gets the property that tells whether the pattern is available.
+     *
+     * @return The property, or null if there is none
+     */
+    public PropertyID getAvailableProperty() {
+        return AVAILABLE[this.ordinal()];
+    }
 }
\ No newline at end of file
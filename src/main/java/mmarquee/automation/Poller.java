@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tries something again and again until it succeeds or a deadline passes.
+ *
+ * The first attempt is made straight away. The waits between attempts start
+ * small and double up to a limit, so that an element that appears quickly
+ * is found quickly, while one that takes a while is not asked for too often.
+ * Each wait is varied a little at random, so that several threads waiting
+ * for the same thing do not all ask at once.
+ *
+ * The time spent waiting is recorded against the name of the call site,
+ * see getStatistics.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class Poller {
+    /**
+     * The default wait after the first attempt, in milliseconds.
+     */
+    public static final long DEFAULT_INITIAL_DELAY = 2;
+
+    /**
+     * The default longest wait between attempts, in milliseconds.
+     */
+    public static final long DEFAULT_MAX_DELAY = 250;
+
+    /**
+     * How much each wait is varied by, either way.
+     */
+    private static final double JITTER = 0.25;
+
+    /**
+     * The wait after the first attempt, for pollers that do not set one.
+     */
+    private static volatile long initialDelay = DEFAULT_INITIAL_DELAY;
+
+    /**
+     * The longest wait, for pollers that do not set one.
+     */
+    private static volatile long maxDelay = DEFAULT_MAX_DELAY;
+
+    /**
+     * The statistics of each call site.
+     */
+    private static final ConcurrentMap<String, Statistics> STATISTICS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Something to try, which is not done yet when it returns null or throws
+     * ElementNotFoundException or ItemNotFoundException.
+     *
+     * @param <T> The type of the result
+     */
+    @FunctionalInterface
+    public interface Attempt<T> {
+        /**
+         * Tries once.
+         *
+         * @return The result, or null if not done yet
+         * @throws AutomationException Not found, or something went wrong
+         */
+        T attempt() throws AutomationException;
+    }
+
+    /**
+     * The name of the call site.
+     */
+    private final String callSite;
+
+    /**
+     * How long to keep trying for, in milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * The wait after the first attempt, in milliseconds, or 0 for the
+     * default.
+     */
+    private final long firstDelay;
+
+    /**
+     * The longest wait, in milliseconds, or 0 for the default.
+     */
+    private final long lastDelay;
+
+    /**
+     * Constructor for the Poller, with the default waits.
+     *
+     * @param inCallSite The name of the call site, for the statistics
+     * @param inTimeout How long to keep trying for, in milliseconds
+     */
+    public Poller(final String inCallSite, final long inTimeout) {
+        this(inCallSite, inTimeout, 0, 0);
+    }
+
+    /**
+     * Constructor for the Poller.
+     *
+     * @param inCallSite The name of the call site, for the statistics
+     * @param inTimeout How long to keep trying for, in milliseconds
+     * @param inInitialDelay The wait after the first attempt, in milliseconds
+     * @param inMaxDelay The longest wait between attempts, in milliseconds
+     */
+    public Poller(final String inCallSite,
+                  final long inTimeout,
+                  final long inInitialDelay,
+                  final long inMaxDelay) {
+        this.callSite = inCallSite;
+        this.timeout = Math.max(0, inTimeout);
+        this.firstDelay = inInitialDelay;
+        this.lastDelay = inMaxDelay;
+    }
+
+    /**
+     * Sets the waits used by pollers that do not set their own.
+     *
+     * @param inInitialDelay The wait after the first attempt, in milliseconds
+     * @param inMaxDelay The longest wait between attempts, in milliseconds
+     */
+    public static void setDelays(final long inInitialDelay,
+                                 final long inMaxDelay) {
+        if (inInitialDelay < 1 || inMaxDelay < inInitialDelay) {
+            throw new IllegalArgumentException(
+                    "Delays must be at least 1, and the maximum at least the initial");
+        }
+
+        initialDelay = inInitialDelay;
+        maxDelay = inMaxDelay;
+    }
+
+    /**
+     * Tries until the attempt succeeds, or the timeout passes. There is
+     * always at least one attempt, and the last is made at the deadline.
+     *
+     * @param attempt What to try
+     * @param <T> The type of the result
+     * @return The result, or null if the last attempt returned null
+     * @throws ElementNotFoundException The last attempt threw it
+     * @throws ItemNotFoundException The last attempt threw it
+     * @throws AutomationException An attempt failed some other way, or the
+     *                             thread was interrupted while waiting
+     */
+    public <T> T poll(final Attempt<T> attempt) throws AutomationException {
+        final Statistics statistics = getStatistics(this.callSite);
+        final long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(this.timeout);
+        final long limit = this.lastDelay > 0 ? this.lastDelay : maxDelay;
+
+        long delay = this.firstDelay > 0 ? this.firstDelay : initialDelay;
+
+        statistics.calls.increment();
+
+        while (true) {
+            AutomationException notFound = null;
+            T result = null;
+
+            statistics.attempts.increment();
+
+            try {
+                result = attempt.attempt();
+            } catch (ElementNotFoundException | ItemNotFoundException ex) {
+                notFound = ex;
+            }
+
+            if (result != null) {
+                return result;
+            }
+
+            final long remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0) {
+                statistics.timeouts.increment();
+
+                if (notFound != null) {
+                    throw notFound;
+                }
+
+                return null;
+            }
+
+            final long wait = Math.min(
+                    TimeUnit.MILLISECONDS.toNanos(jitter(delay)), remaining);
+            final long start = System.nanoTime();
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new AutomationException(ex);
+            } finally {
+                statistics.waits.increment();
+                statistics.waitNanos.add(System.nanoTime() - start);
+            }
+
+            delay = Math.min(delay * 2, limit);
+        }
+    }
+
+    /**
+     * Varies the wait by up to JITTER either way.
+     *
+     * @param delay The wait, in milliseconds
+     * @return The varied wait, in milliseconds, at least 1
+     */
+    private static long jitter(final long delay) {
+        final double factor = 1 + JITTER
+                * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+
+        return Math.max(1, Math.round(delay * factor));
+    }
+
+    /**
+     * Gets the statistics of a call site, creating them if needed.
+     *
+     * @param callSite The name of the call site
+     * @return The statistics
+     */
+    public static Statistics getStatistics(final String callSite) {
+        return STATISTICS.computeIfAbsent(callSite, Statistics::new);
+    }
+
+    /**
+     * Gets the statistics of all the call sites so far, by name.
+     *
+     * @return The statistics
+     */
+    public static Map<String, Statistics> getStatistics() {
+        return new TreeMap<>(STATISTICS);
+    }
+
+    /**
+     * Forgets the statistics of all the call sites.
+     */
+    public static void resetStatistics() {
+        STATISTICS.clear();
+    }
+
+    /**
+     * How often a call site has polled, and how long it has waited.
+     */
+    public static final class Statistics {
+        /**
+         * The name of the call site.
+         */
+        private final String callSite;
+
+        /**
+         * The number of calls to poll.
+         */
+        private final LongAdder calls = new LongAdder();
+
+        /**
+         * The number of attempts.
+         */
+        private final LongAdder attempts = new LongAdder();
+
+        /**
+         * The number of waits.
+         */
+        private final LongAdder waits = new LongAdder();
+
+        /**
+         * The number of calls that ran out of time.
+         */
+        private final LongAdder timeouts = new LongAdder();
+
+        /**
+         * The time spent waiting, in nanoseconds.
+         */
+        private final LongAdder waitNanos = new LongAdder();
+
+        /**
+         * Constructor for the Statistics.
+         *
+         * @param inCallSite The name of the call site
+         */
+        private Statistics(final String inCallSite) {
+            this.callSite = inCallSite;
+        }
+
+        /**
+         * Gets the name of the call site.
+         *
+         * @return The name
+         */
+        public String getCallSite() {
+            return this.callSite;
+        }
+
+        /**
+         * Gets the number of calls to poll.
+         *
+         * @return The number of calls
+         */
+        public long getCalls() {
+            return this.calls.sum();
+        }
+
+        /**
+         * Gets the number of attempts.
+         *
+         * @return The number of attempts
+         */
+        public long getAttempts() {
+            return this.attempts.sum();
+        }
+
+        /**
+         * Gets the number of waits between attempts.
+         *
+         * @return The number of waits
+         */
+        public long getWaits() {
+            return this.waits.sum();
+        }
+
+        /**
+         * Gets the number of calls that ran out of time.
+         *
+         * @return The number of timeouts
+         */
+        public long getTimeouts() {
+            return this.timeouts.sum();
+        }
+
+        /**
+         * Gets the time spent waiting.
+         *
+         * @return The time, in milliseconds
+         */
+        public long getWaitMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(this.waitNanos.sum());
+        }
+
+        @Override
+        public String toString() {
+            return this.callSite
+                    + ": calls=" + this.getCalls()
+                    + ", attempts=" + this.getAttempts()
+                    + ", waits=" + this.getWaits()
+                    + ", timeouts=" + this.getTimeouts()
+                    + ", waited=" + this.getWaitMillis() + "ms";
+        }
+    }
+}
@@ -545,4 +545,47 @@ public enum PropertyID {
     PropertyID(final int value) {
         this.value = value;
     }
+
+    /**
+     * The lowest property value.
+     */
+    private static final int FIRST;
+
+    /**
+     * The properties, indexed by value less the lowest value.
+     */
+    private static final PropertyID[] BY_VALUE;
+
+    static {
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+
+        for (PropertyID id : values()) {
+            first = Math.min(first, id.value);
+            last = Math.max(last, id.value);
+        }
+
+        FIRST = first;
+        BY_VALUE = new PropertyID[last - first + 1];
+
+        for (PropertyID id : values()) {
+            BY_VALUE[id.value - first] = id;
+        }
+    }
+
+    /**
+     * Gets the property from the value.
+     *
+     * @param propertyValue The value
+     * @return The property, or null if there is none
+     */
+    public static PropertyID fromValue(final int propertyValue) {
+        final int index = propertyValue - FIRST;
+
+        if (index < 0 || index >= BY_VALUE.length) {
+            return null;
+        }
+
+        return BY_VALUE[index];
+    }
 }
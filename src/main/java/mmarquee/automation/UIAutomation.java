@@ -53,10 +53,16 @@ public class UIAutomation extends BaseAutomation {
      */
     protected static UIAutomation INSTANCE = null;
 
+    /**
+     * The instance belonging to the current thread, if it has its own.
+     */
+    private static final ThreadLocal<UIAutomation> CURRENT =
+            new ThreadLocal<>();
+
     /**
      * The wrapper for the Ole32 library.
      */
-    private static Ole32Wrapper Ole32 = null;
+    private Ole32Wrapper Ole32 = null;
 
     /**
      * The root element.
@@ -68,8 +74,52 @@ public class UIAutomation extends BaseAutomation {
      */
     private IUIAutomation automation;
 
+    /**
+     * The conditions created so far.
+     */
+    private final ConditionCache conditions = new ConditionCache();
+
+    /**
+     * The cache request used to fetch names along with elements, created
+     * when first needed.
+     */
+    private CacheRequest nameCacheRequest;
+
+    /**
+     * Whether the name cache request could not be created, so that it is
+     * not tried again for every lookup.
+     */
+    private boolean nameCacheRequestFailed;
+
+    /**
+     * The cache request for matching searches, made when first used.
+     */
+    private CacheRequest searchCacheRequest;
+
+    /**
+     * The cache request for whether each pattern is available, once created.
+     */
+    private CacheRequest patternCacheRequest;
+
+    /**
+     * Whether substring conditions can be created, which needs Windows 10
+     * 1809 or later.
+     */
+    private volatile boolean substringConditions = true;
+
     /*final*/ static int FIND_DESKTOP_ATTEMPTS = 25; // not final to be set in tests
 
+    /**
+     * Gets how long to keep trying for, given the number of attempts that
+     * used to be made a fixed time apart.
+     *
+     * @param numberOfRetries The number of attempts
+     * @return The time, in milliseconds
+     */
+    private static long getTimeout(final int numberOfRetries) {
+        return Math.max(0, numberOfRetries - 1) * (long) Window.SLEEP_DURATION;
+    }
+
     /**
      * Created for test, to allow mocking.
      *
@@ -83,25 +133,107 @@ public class UIAutomation extends BaseAutomation {
      * Constructor for UIAutomation library.
      */
     protected UIAutomation() {
-        Ole32 = new Ole32Wrapper();
+        this(new Ole32Wrapper());
+    }
+
+    /**
+     * Constructor for UIAutomation library, with COM initialized in the
+     * given way.
+     *
+     * @param model How COM is initialized
+     */
+    public UIAutomation(final ApartmentModel model) {
+        this(new Ole32Wrapper(model));
+    }
+
+    /**
+     * Constructor for UIAutomation library, created through the given
+     * wrapper.
+     *
+     * @param wrapper The wrapper for the Ole32 library
+     */
+    UIAutomation(final Ole32Wrapper wrapper) {
+        Ole32 = wrapper;
 
         PointerByReference pbr1 = new PointerByReference();
 
         WinNT.HRESULT result = getOle32Unknown().QueryInterface(new Guid.REFIID(IUIAutomation.IID), pbr1);
         if (COMUtils.SUCCEEDED(result)) {
-            this.automation = IUIAutomationConverter.pointerToInterface(pbr1);
+            this.automation = VTableDispatcher.pointerToInterface(IUIAutomation.class, pbr1);
         }
 
         PointerByReference pRoot = new PointerByReference();
 
         this.getRootElement(pRoot);
 
-        Unknown uRoot = new Unknown(pRoot.getValue());
+        try {
+            this.rootElement =
+                    new Element(getAutomationElementFromReference(pRoot));
+        } catch (AutomationException ex) {
+            logger.warning("Failed to get the root element: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Creates an automation instance that belongs to the current thread,
+     * which is initialized as a single threaded apartment. The instance,
+     * and everything got from it, should only be used on this thread, which
+     * must call uninitialize when it has finished with it.
+     *
+     * @return The automation instance for the current thread
+     */
+    public static UIAutomation createForCurrentThread() {
+        return new UIAutomation(
+                new Ole32Wrapper(com.sun.jna.platform.win32.Ole32.INSTANCE,
+                        ApartmentModel.SingleThreaded));
+    }
+
+    /**
+     * Gets how COM was initialized for this instance.
+     *
+     * @return The apartment model, or null if created for test
+     */
+    public ApartmentModel getApartmentModel() {
+        return Ole32 == null ? null : Ole32.getModel();
+    }
+
+    /**
+     * Uninitializes COM on the current thread, for an instance created by
+     * createForCurrentThread. The root element and the automation interface
+     * are released first, as they cannot be once COM has gone.
+     */
+    public void uninitialize() {
+        this.conditions.clear();
+
+        synchronized (this) {
+            if (this.nameCacheRequest != null) {
+                this.nameCacheRequest.close();
+                this.nameCacheRequest = null;
+            }
 
-        WinNT.HRESULT result0 = uRoot.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), pRoot);
+            if (this.searchCacheRequest != null) {
+                this.searchCacheRequest.close();
+                this.searchCacheRequest = null;
+            }
 
-        if (COMUtils.SUCCEEDED(result0)) {
-            this.rootElement = new Element(IUIAutomationElementConverter.pointerToInterface(pRoot));
+            if (this.patternCacheRequest != null) {
+                this.patternCacheRequest.close();
+                this.patternCacheRequest = null;
+            }
+        }
+
+        if (this.rootElement != null) {
+            this.rootElement.close();
+            this.rootElement = null;
+        }
+
+        if (this.automation != null) {
+            this.automation.Release();
+            this.automation = null;
+        }
+
+        if (Ole32 != null) {
+            Ole32.uninitialize();
         }
     }
 
@@ -142,7 +274,7 @@ public class UIAutomation extends BaseAutomation {
      *
      * @return the instance of the ui automation library.
      */
-    public static UIAutomation getInstance() {
+    public static synchronized UIAutomation getInstance() {
         if (INSTANCE == null) {
             INSTANCE = new UIAutomation();
         }
@@ -150,6 +282,32 @@ public class UIAutomation extends BaseAutomation {
         return INSTANCE;
     }
 
+    /**
+     * Gets the instance for the current thread, being its own instance if
+     * it has one (as the workers of an ApartmentPool do), otherwise the
+     * shared instance.
+     *
+     * @return the instance of the ui automation library.
+     */
+    public static UIAutomation getCurrentInstance() {
+        final UIAutomation current = CURRENT.get();
+
+        return current == null ? getInstance() : current;
+    }
+
+    /**
+     * Sets the instance belonging to the current thread.
+     *
+     * @param automation The instance, or null if the thread has none
+     */
+    static void setCurrentInstance(final UIAutomation automation) {
+        if (automation == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(automation);
+        }
+    }
+
     /**
      * Launches the application.
      *
@@ -161,14 +319,14 @@ public class UIAutomation extends BaseAutomation {
             throws java.io.IOException {
         Process process = Utils.startProcess(command);
         return new Application(
-                new ElementBuilder(rootElement).process(process).attached(false));
+                new ElementBuilder(rootElement).automation(this).process(process).attached(false));
     }
 
     public Application launchWithRedirect(final String... command)
             throws java.io.IOException {
         Process process = Utils.startProcessWithRedirection(command);
         return new Application(
-                new ElementBuilder(rootElement).process(process).attached(false));
+                new ElementBuilder(rootElement).automation(this).process(process).attached(false));
     }
     /**
      * Launches the application, from a given directory, with setting its working directory set to the
@@ -182,7 +340,7 @@ public class UIAutomation extends BaseAutomation {
             throws java.io.IOException {
         Process process = Utils.startProcessWithWorkingDirectory(command);
         return new Application(
-                new ElementBuilder(rootElement).process(process).attached(false));
+                new ElementBuilder(rootElement).automation(this).process(process).attached(false));
     }
 
     /**
@@ -193,7 +351,7 @@ public class UIAutomation extends BaseAutomation {
      */
     public Application attach(final Process process) {
         return new Application(
-                new ElementBuilder(rootElement).process(process).attached(false));
+                new ElementBuilder(rootElement).automation(this).process(process).attached(false));
     }
 
     /**
@@ -264,7 +422,7 @@ public class UIAutomation extends BaseAutomation {
         } else {
             WinNT.HANDLE handle = Utils.getHandleFromProcessEntry(processEntry);
             return new Application(
-                    new ElementBuilder(rootElement).handle(handle).attached(true));
+                    new ElementBuilder(rootElement).automation(this).handle(handle).attached(true));
         }
     }
 
@@ -289,7 +447,7 @@ public class UIAutomation extends BaseAutomation {
 
         WinNT.HANDLE handle = Utils.getHandleFromProcessEntry(processEntry);
         return new Application(
-                new ElementBuilder(rootElement).handle(handle).attached(true));
+                new ElementBuilder(rootElement).automation(this).handle(handle).attached(true));
     }
 
     /**
@@ -307,31 +465,34 @@ public class UIAutomation extends BaseAutomation {
                         final int treeScopeConstant,
                         final int numberOfRetries)
             throws AutomationException {
-        Element foundElement = null;
+        Element foundElement;
 
         // And Condition
-        PointerByReference pAndCondition = this.createAndCondition(
-        		this.createNamePropertyCondition(title),
-        		this.createControlTypeCondition(controlType));
-
-        for (int loop = 0; loop < numberOfRetries; loop++) {
-
-            try {
-            	foundElement = this.rootElement.findFirst(new TreeScope(treeScopeConstant), pAndCondition);
-            } catch (AutomationException ex) {
-                logger.info("Not found, retrying " + title);
-            }
+        final PointerByReference pName = this.createNamePropertyCondition(title);
+        final PointerByReference pType = this.createControlTypeCondition(controlType);
+        final PointerByReference pAndCondition;
 
-            if (foundElement != null) {
-                break;
-            }
+        try {
+            pAndCondition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
 
-            // Wait for it
-            try {
-                Thread.sleep(Window.SLEEP_DURATION);
-            } catch (InterruptedException e) {
-                // interrupted
-            }
+        try {
+            foundElement = new Poller("UIAutomation.get " + controlType,
+                    getTimeout(numberOfRetries))
+                    .poll(() -> {
+                        try {
+                            return this.rootElement.findFirst(
+                                    new TreeScope(treeScopeConstant), pAndCondition);
+                        } catch (AutomationException ex) {
+                            logger.info("Not found, retrying " + title);
+                            return null;
+                        }
+                    });
+        } finally {
+            ConditionCache.release(pAndCondition);
         }
 
         if (foundElement == null) {
@@ -358,39 +519,49 @@ public class UIAutomation extends BaseAutomation {
                         final int numberOfRetries)
             throws AutomationException {
 
-        Element foundElement = null;
+        Element foundElement;
 
-        // And Condition
-        PointerByReference condition = this.createControlTypeCondition(controlType);
-
-        retry_loop: for (int loop = 0; loop < numberOfRetries; loop++) {
+        // And Condition, with what the provider can check of the pattern
+        final PointerByReference prefilter =
+                this.createNamePatternCondition(titlePattern);
+        final PointerByReference pType =
+                this.createControlTypeCondition(controlType);
+        final PointerByReference condition;
 
+        if (prefilter == null) {
+            condition = pType;
+        } else {
             try {
-                List<Element> collection =
-                		this.rootElement.findAll(new TreeScope(treeScopeConstant), condition);
-
-                for (Element element : collection) {
-                    String name = element.getName();
-
-                    if (name != null && titlePattern.matcher(name).matches()) {
-                        foundElement = element;
-                        break retry_loop;
-                    }
-                }
-
-            } catch (AutomationException ex) {
-                logger.info("Failed");
+                condition = this.createAndCondition(pType, prefilter);
+            } finally {
+                ConditionCache.release(pType);
+                ConditionCache.release(prefilter);
             }
+        }
 
-            logger.info("Not found, retrying matching " + titlePattern);
-
-            // Wait for it
-            try {
-                Thread.sleep(Window.SLEEP_DURATION);
-            } catch (InterruptedException e) {
-                // interrupted
-                logger.info("interrupted");
-            }
+        try {
+            foundElement = new Poller("UIAutomation.get " + controlType,
+                    getTimeout(numberOfRetries))
+                    .poll(() -> {
+                        try {
+                            Element element = NameLookup.findFirst(this.rootElement,
+                                    new TreeScope(treeScopeConstant),
+                                    condition,
+                                    this.getNameCacheRequest(),
+                                    titlePattern);
+
+                            if (element != null) {
+                                return element;
+                            }
+                        } catch (AutomationException ex) {
+                            logger.info("Failed");
+                        }
+
+                        logger.info("Not found, retrying matching " + titlePattern);
+                        return null;
+                    });
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement == null) {
@@ -425,7 +596,7 @@ public class UIAutomation extends BaseAutomation {
     public Window getDesktopWindow(final String title, final int retries)
             throws AutomationException {
         return new Window(new ElementBuilder(this.get(ControlType.Window,
-                title, TreeScope.CHILDREN, retries)));
+                title, TreeScope.CHILDREN, retries)).automation(this));
     }
 
     /**
@@ -452,7 +623,7 @@ public class UIAutomation extends BaseAutomation {
     public Window getDesktopWindow(final Pattern titlePattern, final int retries)
             throws AutomationException {
         return new Window(new ElementBuilder(this.get(ControlType.Window,
-                titlePattern, TreeScope.CHILDREN, retries)));
+                titlePattern, TreeScope.CHILDREN, retries)).automation(this));
     }
 
     /**
@@ -479,7 +650,7 @@ public class UIAutomation extends BaseAutomation {
     public Window getWindow(final String title, final int retries)
             throws AutomationException {
         return new Window(new ElementBuilder(this.get(ControlType.Window,
-                title, TreeScope.DESCENDANTS, retries)));
+                title, TreeScope.DESCENDANTS, retries)).automation(this));
     }
 
     /**
@@ -506,7 +677,33 @@ public class UIAutomation extends BaseAutomation {
     public Window getWindow(final Pattern titlePattern, final int retries)
             throws AutomationException {
         return new Window(new ElementBuilder(this.get(ControlType.Window,
-                titlePattern, TreeScope.DESCENDANTS, retries)));
+                titlePattern, TreeScope.DESCENDANTS, retries)).automation(this));
+    }
+
+    /**
+     * Gets the cache of the conditions created by this instance. Each
+     * condition returned by the create methods carries a reference owned by
+     * the caller, so it stays usable after the cache evicts it; release it
+     * with ConditionCache.release once done.
+     *
+     * @return The cache
+     */
+    public ConditionCache getConditionCache() {
+        return this.conditions;
+    }
+
+    /**
+     * Gets a condition from the cache, creating it if needed.
+     *
+     * @param key The key, or null to not cache the condition
+     * @param creator Creates the condition
+     * @return The condition, with a reference owned by the caller
+     * @throws AutomationException Failed to create the condition
+     */
+    private PointerByReference getCondition(final Object key,
+                                            final ConditionCache.Creator creator)
+            throws AutomationException {
+        return new PointerByReference(this.conditions.get(key, creator));
     }
 
     /**
@@ -520,14 +717,20 @@ public class UIAutomation extends BaseAutomation {
     public PointerByReference createAndCondition(final PointerByReference pCondition1,
                                                  final PointerByReference pCondition2)
             throws AutomationException {
-        PointerByReference pbr = new PointerByReference();
+        final Object key = ConditionCache.combinationKey("And",
+                this.conditions.keyOf(pCondition1.getValue()),
+                this.conditions.keyOf(pCondition2.getValue()));
 
-        final int res = this.automation.createAndCondition(pCondition1.getValue(), pCondition2.getValue(), pbr);
-        if (res == 0) {
-            return pbr;
-        } else {
-            throw new AutomationException(res);
-        }
+        return this.getCondition(key, () -> {
+            PointerByReference pbr = new PointerByReference();
+
+            final int res = this.automation.createAndCondition(pCondition1.getValue(), pCondition2.getValue(), pbr);
+            if (res != 0) {
+                throw new AutomationException(res);
+            }
+
+            return pbr.getValue();
+        });
     }
 
     /**
@@ -541,14 +744,20 @@ public class UIAutomation extends BaseAutomation {
     public PointerByReference createOrCondition(final PointerByReference pCondition1,
                                                 final PointerByReference pCondition2)
             throws AutomationException {
-        PointerByReference pbr = new PointerByReference();
+        final Object key = ConditionCache.combinationKey("Or",
+                this.conditions.keyOf(pCondition1.getValue()),
+                this.conditions.keyOf(pCondition2.getValue()));
 
-        final int res = this.automation.createOrCondition(pCondition1.getValue(), pCondition2.getValue(), pbr);
-        if (res == 0) {
-            return pbr;
-        } else {
-            throw new AutomationException(res);
-        }
+        return this.getCondition(key, () -> {
+            PointerByReference pbr = new PointerByReference();
+
+            final int res = this.automation.createOrCondition(pCondition1.getValue(), pCondition2.getValue(), pbr);
+            if (res != 0) {
+                throw new AutomationException(res);
+            }
+
+            return pbr.getValue();
+        });
     }
 
     /**
@@ -560,10 +769,8 @@ public class UIAutomation extends BaseAutomation {
      */
     public PointerByReference createControlTypeCondition(final ControlType id)
             throws AutomationException {
-        Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
-        variant.setValue(Variant.VT_INT, id.getValue());
-
-        return this.createPropertyCondition(PropertyID.ControlType.getValue(), variant);
+        return this.createPropertyCondition(
+                PropertyID.ControlType.getValue(), id.getValue());
     }
 
     /**
@@ -575,15 +782,8 @@ public class UIAutomation extends BaseAutomation {
      */
     public PointerByReference createAutomationIdPropertyCondition(final String automationId)
             throws AutomationException {
-        Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
-        WTypes.BSTR sysAllocated = OleAuto.INSTANCE.SysAllocString(automationId);
-        variant.setValue(Variant.VT_BSTR, sysAllocated);
-
-        try {
-            return this.createPropertyCondition(PropertyID.AutomationId.getValue(), variant);
-        } finally {
-            OleAuto.INSTANCE.SysFreeString(sysAllocated);
-        }
+        return this.createPropertyCondition(
+                PropertyID.AutomationId.getValue(), automationId);
     }
 
     /**
@@ -595,15 +795,7 @@ public class UIAutomation extends BaseAutomation {
      */
     public PointerByReference createNamePropertyCondition(final String name)
             throws AutomationException {
-        Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
-        WTypes.BSTR sysAllocated = OleAuto.INSTANCE.SysAllocString(name);
-        variant.setValue(Variant.VT_BSTR, sysAllocated);
-
-        try {
-            return this.createPropertyCondition(PropertyID.Name.getValue(), variant);
-        } finally {
-            OleAuto.INSTANCE.SysFreeString(sysAllocated);
-        }
+        return this.createPropertyCondition(PropertyID.Name.getValue(), name);
     }
 
     /**
@@ -615,17 +807,143 @@ public class UIAutomation extends BaseAutomation {
      */
 	public PointerByReference createClassNamePropertyCondition(final String className)
             throws AutomationException {
-        Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
-        WTypes.BSTR sysAllocated = OleAuto.INSTANCE.SysAllocString(className);
-        variant.setValue(Variant.VT_BSTR, sysAllocated);
+        return this.createPropertyCondition(
+                PropertyID.ClassName.getValue(), className);
+    }
+
+    /**
+     * Creates a condition on a string property.
+     *
+     * @param id Which property to check for.
+     * @param value The value of the property.
+     * @return The condition.
+     * @throws AutomationException Something went wrong.
+     */
+    public PointerByReference createPropertyCondition(final int id,
+                                                      final String value)
+            throws AutomationException {
+        final Object key = ConditionCache.propertyKey(id, value, 0);
+
+        return this.getCondition(key, () -> {
+            Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
+            WTypes.BSTR sysAllocated = Bstr.allocate(value);
+            variant.setValue(Variant.VT_BSTR, sysAllocated);
+
+            try {
+                return this.createPropertyCondition(id, variant).getValue();
+            } finally {
+                Bstr.free(sysAllocated);
+            }
+        });
+    }
+
+    /**
+     * Creates a condition on a string property, with flags such as
+     * ignoring case.
+     *
+     * @param id Which property to check for.
+     * @param value The value of the property.
+     * @param flags The PropertyConditionFlags.
+     * @return The condition.
+     * @throws AutomationException Something went wrong.
+     */
+    public PointerByReference createPropertyCondition(final int id,
+                                                      final String value,
+                                                      final int flags)
+            throws AutomationException {
+        if (flags == PropertyConditionFlags.None.getValue()) {
+            return this.createPropertyCondition(id, value);
+        }
+
+        final Object key = ConditionCache.propertyKey(id, value, flags);
+
+        return this.getCondition(key, () -> {
+            Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
+            WTypes.BSTR sysAllocated = Bstr.allocate(value);
+            variant.setValue(Variant.VT_BSTR, sysAllocated);
+
+            try {
+                return this.createPropertyConditionEx(id, variant, flags)
+                        .getValue();
+            } finally {
+                Bstr.free(sysAllocated);
+            }
+        });
+    }
+
+    /**
+     * Creates a condition that the provider can check before a name is
+     * matched against the pattern, so that fewer elements are sent back.
+     *
+     * @param namePattern The pattern the name must match
+     * @return The condition, or null if the pattern has no prefilter
+     * @see NamePrefilter
+     */
+    public PointerByReference createNamePatternCondition(
+            final Pattern namePattern) {
+        final NamePrefilter prefilter = NamePrefilter.of(namePattern);
+
+        if (prefilter == null
+                || (!prefilter.isExact() && !this.substringConditions)) {
+            return null;
+        }
 
         try {
-            return this.createPropertyCondition(PropertyID.ClassName.getValue(), variant);
-        } finally {
-            OleAuto.INSTANCE.SysFreeString(sysAllocated);
+            return this.createPropertyCondition(PropertyID.Name.getValue(),
+                    prefilter.getLiteral(), prefilter.getFlags());
+        } catch (AutomationException ex) {
+            if (!prefilter.isExact()) {
+                logger.info("Substring conditions are not supported: "
+                        + ex.getMessage());
+                this.substringConditions = false;
+            }
+
+            return null;
         }
     }
 
+    /**
+     * Creates a condition on an integer property.
+     *
+     * @param id Which property to check for.
+     * @param value The value of the property.
+     * @return The condition.
+     * @throws AutomationException Something went wrong.
+     */
+    public PointerByReference createPropertyCondition(final int id,
+                                                      final int value)
+            throws AutomationException {
+        final Object key = ConditionCache.propertyKey(id, value, 0);
+
+        return this.getCondition(key, () -> {
+            Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
+            variant.setValue(Variant.VT_INT, value);
+
+            return this.createPropertyCondition(id, variant).getValue();
+        });
+    }
+
+    /**
+     * Creates a condition on a boolean property.
+     *
+     * @param id Which property to check for.
+     * @param value The value of the property.
+     * @return The condition.
+     * @throws AutomationException Something went wrong.
+     */
+    public PointerByReference createPropertyCondition(final int id,
+                                                      final boolean value)
+            throws AutomationException {
+        final Object key = ConditionCache.propertyKey(id, value, 0);
+
+        return this.getCondition(key, () -> {
+            Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
+            variant.setValue(Variant.VT_BOOL, new OaIdl.VARIANT_BOOL(value));
+
+            return this.createPropertyCondition(id, variant).getValue();
+        });
+    }
+
     /**
      * Creates a property condition.
      *
@@ -640,12 +958,50 @@ public class UIAutomation extends BaseAutomation {
         PointerByReference pCondition = new PointerByReference();
 
         final int res = this.automation.createPropertyCondition(id, value, pCondition);
+
+        return this.checkCondition(res, pCondition);
+    }
+
+    /**
+     * Creates a property condition, with flags.
+     *
+     * @param id Which property to check for.
+     * @param value The value of the property.
+     * @param flags The PropertyConditionFlags.
+     * @return The new condition.
+     * @throws AutomationException Something has gone wrong.
+     */
+    public PointerByReference createPropertyConditionEx(final int id,
+                                                        final Variant.VARIANT.ByValue value,
+                                                        final int flags)
+            throws AutomationException {
+        PointerByReference pCondition = new PointerByReference();
+
+        final int res = this.automation.createPropertyConditionEx(id, value,
+                flags, pCondition);
+
+        return this.checkCondition(res, pCondition);
+    }
+
+    /**
+     * Checks that a property condition was created.
+     *
+     * @param res The result of creating it.
+     * @param pCondition The condition.
+     * @return The condition.
+     * @throws AutomationException The condition was not created.
+     */
+    private PointerByReference checkCondition(final int res,
+                                              final PointerByReference pCondition)
+            throws AutomationException {
         if (res == 0) {
             Unknown unkCondition = new Unknown(pCondition.getValue());
             PointerByReference pUnknown = new PointerByReference();
 
             WinNT.HRESULT result1 = unkCondition.QueryInterface(new Guid.REFIID(IUIAutomationCondition.IID), pUnknown);
             if (COMUtils.SUCCEEDED(result1)) {
+                // Only checking the type, so drop the extra reference
+                new Unknown(pUnknown.getValue()).Release();
                 return pCondition;
             } else {
                 throw new AutomationException(result1.intValue());
@@ -661,7 +1017,7 @@ public class UIAutomation extends BaseAutomation {
      * @return Panel The found object.
      */
     public Panel getDesktop() {
-        return new Panel(new ElementBuilder(this.rootElement));
+        return new Panel(new ElementBuilder(this.rootElement).automation(this));
     }
 
     /**
@@ -689,7 +1045,7 @@ public class UIAutomation extends BaseAutomation {
     public Panel getDesktopObject(final String title, final int retries)
             throws AutomationException {
         return new Panel(new ElementBuilder(this.get(ControlType.Pane, title,
-                TreeScope.CHILDREN, retries)));
+                TreeScope.CHILDREN, retries)).automation(this));
     }
 
     /**
@@ -717,7 +1073,7 @@ public class UIAutomation extends BaseAutomation {
     public Panel getDesktopObject(final Pattern titlePattern, final int retries)
             throws AutomationException {
         return new Panel(new ElementBuilder(this.get(ControlType.Pane,
-                titlePattern, TreeScope.CHILDREN, retries)));
+                titlePattern, TreeScope.CHILDREN, retries)).automation(this));
     }
 
     /**
@@ -728,24 +1084,25 @@ public class UIAutomation extends BaseAutomation {
      */
     public Menu getDeskopMenuBar ()
             throws AutomationException, ItemNotFoundException {
-        Element element = null;
+        Element element;
 
         PointerByReference pCondition1 =
                 this.createControlTypeCondition(ControlType.MenuBar);
 
-        for (int loop = 0; loop < FIND_DESKTOP_ATTEMPTS; loop++) {
-
-            try {
-                element = this.rootElement.findFirst(
-                        new TreeScope(TreeScope.DESCENDANTS),
-                        pCondition1);
-            } catch (AutomationException ex) {
-                logger.info("Not found, retrying");
-            }
-
-            if (element != null) {
-                break;
-            }
+        try {
+            element = new Poller("UIAutomation.getDeskopMenuBar",
+                    getTimeout(FIND_DESKTOP_ATTEMPTS)).poll(() -> {
+                try {
+                    return this.rootElement.findFirst(
+                            new TreeScope(TreeScope.DESCENDANTS),
+                            pCondition1);
+                } catch (AutomationException ex) {
+                    logger.info("Not found, retrying");
+                    return null;
+                }
+            });
+        } finally {
+            ConditionCache.release(pCondition1);
         }
 
         if (element == null) {
@@ -753,7 +1110,7 @@ public class UIAutomation extends BaseAutomation {
             throw new ItemNotFoundException("Menubar");
         }
 
-        return new Menu(new ElementBuilder(element));
+        return new Menu(new ElementBuilder(element).automation(this));
     }
 
     /**
@@ -769,7 +1126,7 @@ public class UIAutomation extends BaseAutomation {
 
         // Look for a specific title
         Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
-        WTypes.BSTR sysAllocated = OleAuto.INSTANCE.SysAllocString(title);
+        WTypes.BSTR sysAllocated = Bstr.allocate(title);
         variant.setValue(Variant.VT_BSTR, sysAllocated);
 
         try {
@@ -777,22 +1134,23 @@ public class UIAutomation extends BaseAutomation {
                     this.createPropertyCondition(
                             PropertyID.Name.getValue(), variant);
 
-            for (int loop = 0; loop < FIND_DESKTOP_ATTEMPTS; loop++) {
-
-                try {
-                    element = this.rootElement.findFirst(
-                            new TreeScope(TreeScope.DESCENDANTS),
-                                    pCondition1);
-                } catch (AutomationException ex) {
-                    logger.info("Not found, retrying " + title);
-                }
-
-                if (element != null) {
-                    break;
-                }
+            try {
+                element = new Poller("UIAutomation.getDesktopMenu",
+                        getTimeout(FIND_DESKTOP_ATTEMPTS)).poll(() -> {
+                    try {
+                        return this.rootElement.findFirst(
+                                new TreeScope(TreeScope.DESCENDANTS),
+                                        pCondition1);
+                    } catch (AutomationException ex) {
+                        logger.info("Not found, retrying " + title);
+                        return null;
+                    }
+                });
+            } finally {
+                ConditionCache.release(pCondition1);
             }
         } finally {
-            OleAuto.INSTANCE.SysFreeString(sysAllocated);
+            Bstr.free(sysAllocated);
         }
 
         if (element == null) {
@@ -800,7 +1158,7 @@ public class UIAutomation extends BaseAutomation {
             throw new ItemNotFoundException(title);
         }
 
-        return new Menu(new ElementBuilder(element));
+        return new Menu(new ElementBuilder(element).automation(this));
     }
 
     /**
@@ -815,8 +1173,14 @@ public class UIAutomation extends BaseAutomation {
 
         List<Element> collection = getRootChildren(ControlType.Window);
 
-        for (Element element : collection) {
-            result.add(new Window(new ElementBuilder(element)));
+        try {
+            for (Element element : collection) {
+                result.add(new Window(new ElementBuilder(element).automation(this)));
+            }
+        } finally {
+            if (collection instanceof ElementList) {
+                ((ElementList) collection).close();
+            }
         }
 
         return result;
@@ -834,8 +1198,14 @@ public class UIAutomation extends BaseAutomation {
 
         List<Element> collection = getRootChildren(ControlType.Pane);
 
-        for (Element element : collection) {
-            result.add(new Panel(new ElementBuilder(element)));
+        try {
+            for (Element element : collection) {
+                result.add(new Panel(new ElementBuilder(element).automation(this)));
+            }
+        } finally {
+            if (collection instanceof ElementList) {
+                ((ElementList) collection).close();
+            }
         }
 
         return result;
@@ -844,15 +1214,20 @@ public class UIAutomation extends BaseAutomation {
     /**
      * Gets the children of the root element.
      * @param controlType The control type to get
-     * @return List of Elements
+     * @return List of Elements, which the caller closes once it has
+     *         fetched the ones it wants
      * @throws AutomationException Something went wrong
      */
 	private List<Element> getRootChildren(final ControlType controlType)
             throws AutomationException {
         PointerByReference pCondition = this.createControlTypeCondition(controlType);
 
-		return this.rootElement.findAll(new TreeScope(TreeScope.CHILDREN),
-                pCondition);
+        try {
+            return this.rootElement.findAll(new TreeScope(TreeScope.CHILDREN),
+                    pCondition);
+        } finally {
+            ConditionCache.release(pCondition);
+        }
 	}
 
     /**
@@ -863,14 +1238,16 @@ public class UIAutomation extends BaseAutomation {
      */
     public PointerByReference createTrueCondition()
             throws AutomationException {
-        PointerByReference pTrueCondition = new PointerByReference();
+        return this.getCondition(ConditionCache.combinationKey("True"), () -> {
+            PointerByReference pTrueCondition = new PointerByReference();
 
-        final int res = this.automation.createTrueCondition(pTrueCondition);
-        if (res == 0) {
-            return pTrueCondition;
-        } else {
-            throw new AutomationException(res);
-        }
+            final int res = this.automation.createTrueCondition(pTrueCondition);
+            if (res != 0) {
+                throw new AutomationException(res);
+            }
+
+            return pTrueCondition.getValue();
+        });
     }
 
     /**
@@ -881,14 +1258,16 @@ public class UIAutomation extends BaseAutomation {
      */
     public PointerByReference createFalseCondition()
             throws AutomationException {
-        PointerByReference condition = new PointerByReference();
+        return this.getCondition(ConditionCache.combinationKey("False"), () -> {
+            PointerByReference condition = new PointerByReference();
 
-        final int res = this.automation.createFalseCondition(condition);
-        if (res == 0) {
-            return condition;
-        } else {
-            throw new AutomationException(res);
-        }
+            final int res = this.automation.createFalseCondition(condition);
+            if (res != 0) {
+                throw new AutomationException(res);
+            }
+
+            return condition.getValue();
+        });
     }
 
     /**
@@ -900,14 +1279,19 @@ public class UIAutomation extends BaseAutomation {
      */
     public PointerByReference createNotCondition(final PointerByReference condition)
             throws AutomationException {
-        PointerByReference pbr = new PointerByReference();
+        final Object key = ConditionCache.combinationKey("Not",
+                this.conditions.keyOf(condition.getValue()));
 
-        final int res = this.automation.createNotCondition(condition.getValue(), pbr);
-        if (res == 0) {
-            return pbr;
-        } else {
-            throw new AutomationException(res);
-        }
+        return this.getCondition(key, () -> {
+            PointerByReference pbr = new PointerByReference();
+
+            final int res = this.automation.createNotCondition(condition.getValue(), pbr);
+            if (res != 0) {
+                throw new AutomationException(res);
+            }
+
+            return pbr.getValue();
+        });
     }
 
     /**
@@ -997,7 +1381,7 @@ public class UIAutomation extends BaseAutomation {
         if (COMUtils.SUCCEEDED(resultA)) {
 
             IUIAutomationTreeWalker walker =
-                    IUIAutomationTreeWalkerConverter.pointerToInterface(pUnknownA);
+                    VTableDispatcher.pointerToInterface(IUIAutomationTreeWalker.class, pUnknownA);
 
             return new AutomationTreeWalker(walker);
         } else {
@@ -1005,6 +1389,48 @@ public class UIAutomation extends BaseAutomation {
         }
     }
 
+    /**
+     * Creates a tree walker that only visits the elements matching the
+     * condition.
+     *
+     * @param condition The condition.
+     * @return The tree walker object.
+     * @throws AutomationException if something goes wrong.
+     */
+    public AutomationTreeWalker createTreeWalker(
+            final PointerByReference condition)
+            throws AutomationException {
+        PointerByReference pbrWalker = new PointerByReference();
+
+        final int res = this.automation.createTreeWalker(condition.getValue(),
+                pbrWalker);
+        if (res != 0) {
+            throw new AutomationException(res);
+        }
+
+        if (pbrWalker.getValue() == null) {
+            throw new AutomationException("No tree walker was created");
+        }
+
+        Unknown unknown = new Unknown(pbrWalker.getValue());
+        PointerByReference pUnknown = new PointerByReference();
+
+        WinNT.HRESULT result = unknown.QueryInterface(
+                new Guid.REFIID(IUIAutomationTreeWalker.IID), pUnknown);
+
+        // The walker holds the reference from QueryInterface
+        unknown.Release();
+
+        if (COMUtils.SUCCEEDED(result)) {
+            IUIAutomationTreeWalker walker =
+                    VTableDispatcher.pointerToInterface(IUIAutomationTreeWalker.class, pUnknown);
+
+            return new AutomationTreeWalker(walker);
+        } else {
+            throw new AutomationException(result.intValue());
+        }
+    }
+
     /*
      * Adds an automation event handler.
      *
@@ -1038,7 +1464,7 @@ public class UIAutomation extends BaseAutomation {
             throw new AutomationException();
         }
 
-        if (automation.addAutomationEventHandler(ibr, scope, pElement.getValue(), null, handler) != 0) {
+        if (automation.addAutomationEventHandler(ibr, pElement.getValue(), scope, null, handler) != 0) {
             throw new AutomationException();
         }
     }
@@ -1057,6 +1483,106 @@ public class UIAutomation extends BaseAutomation {
     }
 */
 
+    /**
+     * Gets the cache request that fetches the name of each element found,
+     * so that names can be matched without a call per element.
+     *
+     * @return The cache request, or null if one cannot be created
+     */
+    public synchronized CacheRequest getNameCacheRequest() {
+        if (this.nameCacheRequest == null && !this.nameCacheRequestFailed) {
+            CacheRequest request = null;
+
+            try {
+                request = new CacheRequest(this);
+                request.addProperty(PropertyID.Name.getValue());
+
+                this.nameCacheRequest = request;
+            } catch (AutomationException ex) {
+                logger.info("Names will not be cached: " + ex.getMessage());
+                this.nameCacheRequestFailed = true;
+
+                if (request != null) {
+                    request.close();
+                }
+            }
+        }
+
+        return this.nameCacheRequest;
+    }
+
+    /**
+     * Gets the cache request that fetches what searches are matched on,
+     * being the name, automation id, class name and control type, with each
+     * element found.
+     *
+     * @return The cache request, or null if one cannot be created
+     */
+    public synchronized CacheRequest getSearchCacheRequest() {
+        if (this.searchCacheRequest == null) {
+            CacheRequest request = null;
+
+            try {
+                request = new CacheRequest(this);
+                request.addProperty(PropertyID.Name.getValue());
+                request.addProperty(PropertyID.AutomationId.getValue());
+                request.addProperty(PropertyID.ClassName.getValue());
+                request.addProperty(PropertyID.ControlType.getValue());
+
+                this.searchCacheRequest = request;
+            } catch (AutomationException ex) {
+                logger.info("Searches will not be cached: " + ex.getMessage());
+
+                if (request != null) {
+                    request.close();
+                }
+            }
+        }
+
+        return this.searchCacheRequest;
+    }
+
+    /**
+     * Gets the cache request that fetches whether each pattern is
+     * available, so that what an element supports can be found in one call.
+     *
+     * A property that cannot be added, as when the pattern is newer than
+     * this version of Windows, is left out, and that pattern is checked
+     * directly.
+     *
+     * @return The cache request, or null if one cannot be created
+     */
+    public synchronized CacheRequest getPatternCacheRequest() {
+        if (this.patternCacheRequest == null) {
+            CacheRequest request = null;
+
+            try {
+                request = new CacheRequest(this);
+
+                for (PatternID pattern : PatternID.values()) {
+                    try {
+                        request.addProperty(
+                                pattern.getAvailableProperty().getValue());
+                    } catch (AutomationException ex) {
+                        logger.fine("Pattern " + pattern
+                                + " will be checked directly: "
+                                + ex.getMessage());
+                    }
+                }
+
+                this.patternCacheRequest = request;
+            } catch (AutomationException ex) {
+                logger.info("Patterns will not be cached: " + ex.getMessage());
+            } finally {
+                if (request != null && this.patternCacheRequest != request) {
+                    request.close();
+                }
+            }
+        }
+
+        return this.patternCacheRequest;
+    }
+
     /**
      * Creates a cache request.
      *
@@ -24,12 +24,15 @@ import com.sun.jna.Pointer;
 import com.sun.jna.platform.win32.User32;
 import com.sun.jna.platform.win32.WinDef;
 import com.sun.jna.platform.win32.WinNT;
+import com.sun.jna.ptr.PointerByReference;
 
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.ConditionCache;
 import mmarquee.automation.ElementNotFoundException;
 import mmarquee.automation.utils.ExecutableFileInfo;
 import mmarquee.automation.utils.Utils;
+import mmarquee.uiautomation.TreeScope;
 
 /**
  * Wrapper around the Application element.
@@ -183,16 +186,17 @@ public class Application extends AutomationBase {
     public Window getWindow(final Pattern titlePattern)
             throws AutomationException {
 
-        Element foundElement = null;
+        final PointerByReference condition = this.createTrueCondition();
 
-        List<Element> collection = this.findAll();
+        final Element foundElement;
 
-        for (Element element : collection) {
-            String name = element.getName();
-            if (name != null && titlePattern.matcher(name).matches()) {
-                foundElement = element;
-                break;
-            }
+        try {
+            foundElement = this.findFirstByName(
+                    new TreeScope(TreeScope.CHILDREN),
+                    condition,
+                    titlePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement != null) {
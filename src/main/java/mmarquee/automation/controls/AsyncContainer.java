@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.controls;
+
+import mmarquee.automation.AsyncLookup;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The search based getters of a Container, returning futures that
+ * complete once the control has been found (or the lookup has timed out).
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class AsyncContainer {
+    /**
+     * The container to look in.
+     */
+    private final Container container;
+
+    /**
+     * Runs the lookups.
+     */
+    private final AsyncLookup lookup;
+
+    /**
+     * Constructor for the AsyncContainer, with the default timeout.
+     *
+     * @param inContainer The container to look in
+     */
+    public AsyncContainer(final Container inContainer) {
+        this(inContainer, new AsyncLookup());
+    }
+
+    /**
+     * Constructor for the AsyncContainer.
+     *
+     * @param inContainer The container to look in
+     * @param inLookup Runs the lookups
+     */
+    public AsyncContainer(final Container inContainer,
+                          final AsyncLookup inLookup) {
+        this.container = inContainer;
+        this.lookup = inLookup;
+    }
+
+    /**
+     * Gets the container.
+     * @return The container
+     */
+    public Container getContainer() {
+        return this.container;
+    }
+
+    /**
+     * Gets a CheckBox, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<CheckBox> getCheckBox(final Search search) {
+        return this.lookup.find(() -> this.container.getCheckBox(search));
+    }
+
+    /**
+     * Gets a Tab, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Tab> getTab(final Search search) {
+        return this.lookup.find(() -> this.container.getTab(search));
+    }
+
+    /**
+     * Gets an EditBox, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<EditBox> getEditBox(final Search search) {
+        return this.lookup.find(() -> this.container.getEditBox(search));
+    }
+
+    /**
+     * Gets a PasswordEditBox, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<PasswordEditBox> getPasswordEditBox(final Search search) {
+        return this.lookup.find(() -> this.container.getPasswordEditBox(search));
+    }
+
+    /**
+     * Gets a ProgressBar, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<ProgressBar> getProgressBar(final Search search) {
+        return this.lookup.find(() -> this.container.getProgressBar(search));
+    }
+
+    /**
+     * Gets a Slider, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Slider> getSlider(final Search search) {
+        return this.lookup.find(() -> this.container.getSlider(search));
+    }
+
+    /**
+     * Gets a RadioButton, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<RadioButton> getRadioButton(final Search search) {
+        return this.lookup.find(() -> this.container.getRadioButton(search));
+    }
+
+    /**
+     * Gets a Button, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Button> getButton(final Search search) {
+        return this.lookup.find(() -> this.container.getButton(search));
+    }
+
+    /**
+     * Gets a MaskedEdit, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<MaskedEdit> getMaskedEdit(final Search search) {
+        return this.lookup.find(() -> this.container.getMaskedEdit(search));
+    }
+
+    /**
+     * Gets a TextBox, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<TextBox> getTextBox(final Search search) {
+        return this.lookup.find(() -> this.container.getTextBox(search));
+    }
+
+    /**
+     * Gets a ComboBox, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<ComboBox> getComboBox(final Search search) {
+        return this.lookup.find(() -> this.container.getComboBox(search));
+    }
+
+    /**
+     * Gets a DataGrid, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<DataGrid> getDataGrid(final Search search) {
+        return this.lookup.find(() -> this.container.getDataGrid(search));
+    }
+
+    /**
+     * Gets a Document, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Document> getDocument(final Search search) {
+        return this.lookup.find(() -> this.container.getDocument(search));
+    }
+
+    /**
+     * Gets a Hyperlink, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Hyperlink> getHyperlink(final Search search) {
+        return this.lookup.find(() -> this.container.getHyperlink(search));
+    }
+
+    /**
+     * Gets a TreeView, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<TreeView> getTreeView(final Search search) {
+        return this.lookup.find(() -> this.container.getTreeView(search));
+    }
+
+    /**
+     * Gets a List, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<List> getList(final Search search) {
+        return this.lookup.find(() -> this.container.getList(search));
+    }
+
+    /**
+     * Gets a Panel, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Panel> getPanel(final Search search) {
+        return this.lookup.find(() -> this.container.getPanel(search));
+    }
+
+    /**
+     * Gets a Calendar, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Calendar> getCalendar(final Search search) {
+        return this.lookup.find(() -> this.container.getCalendar(search));
+    }
+
+    /**
+     * Gets an AppBar, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<AppBar> getAppBar(final Search search) {
+        return this.lookup.find(() -> this.container.getAppBar(search));
+    }
+
+    /**
+     * Gets a ReBar, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<ReBar> getReBar(final Search search) {
+        return this.lookup.find(() -> this.container.getReBar(search));
+    }
+
+    /**
+     * Gets a ToolBar, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<ToolBar> getToolBar(final Search search) {
+        return this.lookup.find(() -> this.container.getToolBar(search));
+    }
+
+    /**
+     * Gets a SplitButton, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<SplitButton> getSplitButton(final Search search) {
+        return this.lookup.find(() -> this.container.getSplitButton(search));
+    }
+
+    /**
+     * Gets an Image, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Image> getImage(final Search search) {
+        return this.lookup.find(() -> this.container.getImage(search));
+    }
+
+    /**
+     * Gets a Custom, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Custom> getCustom(final Search search) {
+        return this.lookup.find(() -> this.container.getCustom(search));
+    }
+
+    /**
+     * Gets a PowerpointSlide, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<PowerpointSlide> getPowerpointSlide(final Search search) {
+        return this.lookup.find(() -> this.container.getPowerpointSlide(search));
+    }
+
+    /**
+     * Gets a Spinner, using the search criteria.
+     * @param search The search criteria
+     * @return The future control
+     */
+    public CompletableFuture<Spinner> getSpinner(final Search search) {
+        return this.lookup.find(() -> this.container.getSpinner(search));
+    }
+}
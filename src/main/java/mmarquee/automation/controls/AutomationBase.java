@@ -16,11 +16,12 @@
 
 package mmarquee.automation.controls;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import mmarquee.automation.*;
 import mmarquee.automation.pattern.BasePattern;
@@ -45,6 +46,7 @@ import mmarquee.automation.pattern.Transform;
 import mmarquee.automation.pattern.Selection;
 import mmarquee.automation.pattern.Toggle;
 import mmarquee.automation.pattern.PatternNotFoundException;
+import mmarquee.automation.pattern.PatternRegistry;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -105,15 +107,21 @@ public abstract class AutomationBase
     private LegacyIAccessible accessible;
 
     /**
-     * The available Patterns.
+     * The patterns created, by their slot in the PatternRegistry.
      */
-    protected final Map<Class<? extends BasePattern>, BasePattern>
-            automationPatterns = new HashMap<>();
+    private final AtomicReferenceArray<BasePattern> automationPatterns =
+            new AtomicReferenceArray<>(PatternRegistry.size());
 
     /**
-     * The pattern access monitor.
+     * The patterns created whose slot is past the end of the array, being
+     * those registered after this control was made.
      */
-    private Object patternAccessMonitor = new Object();
+    private volatile Map<Integer, BasePattern> laterPatterns;
+
+    /**
+     * The patterns the element supports, once found.
+     */
+    private volatile EnumSet<PatternID> availablePatterns;
 
     /**
      * Constructor for the AutomationBase.
@@ -126,7 +134,7 @@ public abstract class AutomationBase
         if (builder.getHasAutomation()) {
             this.automation = builder.getInstance();
         } else {
-            this.automation = UIAutomation.getInstance();
+            this.automation = UIAutomation.getCurrentInstance();
         }
 
         for (final BasePattern pattern: builder.getAutomationPatterns()) {
@@ -140,7 +148,36 @@ public abstract class AutomationBase
      * @param pattern The pattern to look for
      */
     void setAutomationPattern(final BasePattern pattern) {
-        this.automationPatterns.put(pattern.getPatternClass(), pattern);
+        final int slot = PatternRegistry.slotOf(pattern.getPatternClass());
+
+        if (slot < this.automationPatterns.length()) {
+            this.automationPatterns.set(slot, pattern);
+        } else {
+            this.getLaterPatterns().put(slot, pattern);
+        }
+    }
+
+    /**
+     * Gets the patterns past the end of the array, creating the map if
+     * needs be.
+     *
+     * @return The patterns
+     */
+    private Map<Integer, BasePattern> getLaterPatterns() {
+        Map<Integer, BasePattern> patterns = this.laterPatterns;
+
+        if (patterns == null) {
+            synchronized (this.automationPatterns) {
+                patterns = this.laterPatterns;
+
+                if (patterns == null) {
+                    patterns = new ConcurrentHashMap<>();
+                    this.laterPatterns = patterns;
+                }
+            }
+        }
+
+        return patterns;
     }
 
     /**
@@ -186,20 +223,21 @@ public abstract class AutomationBase
      *
      */
     public boolean isAutomationPatternAvailable(final PatternID patternId) {
+        final EnumSet<PatternID> known = this.availablePatterns;
+
+        if (known != null) {
+            return known.contains(patternId);
+        }
+
+        final PropertyID propertyId = patternId.getAvailableProperty();
+
+        if (propertyId == null) {
+            throw new IllegalArgumentException(
+                    "No availability property for pattern " + patternId);
+        }
+
         try {
-        	final String patternIdName = patternId.name();
-        	final String patternIdNameText =
-                    patternIdName.replaceAll("\\d", "");
-        	final String patternIdNameVersion =
-                    patternIdName.replaceAll("\\D", "");
-        	final String propertyName =
-                    String.format("Is%sPattern%sAvailable",
-                            patternIdNameText, patternIdNameVersion);
-        	final PropertyID propertyId = PropertyID.valueOf(propertyName);
-
-            final Object propertyValue =
-                    this.element.getPropertyValue(propertyId.getValue());
-            return BaseAutomation.isPropertyValueTrue(propertyValue);
+            return this.element.getBooleanProperty(propertyId);
         } catch (AutomationException ex) {
             return false;
         }
@@ -216,11 +254,11 @@ public abstract class AutomationBase
      *
      */
     public boolean isAutomationPatternAvailable(final int patternIdValue) {
-    	for (final PatternID patternId: PatternID.values()) {
-    		if (patternId.getValue() == patternIdValue) {
-    	        return isAutomationPatternAvailable(patternId);
-    		}
-    	}
+        final PatternID patternId = PatternID.fromValue(patternIdValue);
+
+        if (patternId != null) {
+            return isAutomationPatternAvailable(patternId);
+        }
 
     	throw new IllegalArgumentException(
     	        "No PatternID constant defined for patternId " + patternIdValue);
@@ -236,12 +274,107 @@ public abstract class AutomationBase
     public boolean isAutomationPatternAvailable(
             final Class<? extends BasePattern> patternClass) {
         try {
-            return requestAutomationPattern(patternClass).isAvailable();
+            final BasePattern pattern = requestAutomationPattern(patternClass);
+            final EnumSet<PatternID> known = this.availablePatterns;
+
+            if (known != null && pattern.getPatternID() != null) {
+                return known.contains(pattern.getPatternID());
+            }
+
+            return pattern.isAvailable();
         } catch (AutomationException ex) {
             return false;
         }
     }
 
+    /**
+     * Gets the patterns the element supports.
+     *
+     * Whether each pattern is available is fetched with one call, and kept,
+     * so that the pattern checks that follow do not go to the provider. If
+     * the values cannot be fetched together, each pattern is checked in
+     * turn.
+     *
+     * @return The available patterns
+     * @throws AutomationException Error in automation library
+     */
+    public EnumSet<PatternID> getAvailablePatterns()
+            throws AutomationException {
+        EnumSet<PatternID> patterns = this.availablePatterns;
+
+        if (patterns == null) {
+            patterns = this.findAvailablePatterns();
+            this.availablePatterns = patterns;
+        }
+
+        return EnumSet.copyOf(patterns);
+    }
+
+    /**
+     * Forgets the available patterns, so that they are fetched again.
+     */
+    public void invalidateAvailablePatterns() {
+        this.availablePatterns = null;
+    }
+
+    /**
+     * Finds the patterns the element supports.
+     *
+     * @return The available patterns
+     * @throws AutomationException Error in automation library
+     */
+    private EnumSet<PatternID> findAvailablePatterns()
+            throws AutomationException {
+        final EnumSet<PatternID> patterns = EnumSet.noneOf(PatternID.class);
+
+        final CacheRequest request = this.automation == null
+                ? null
+                : this.automation.getPatternCacheRequest();
+
+        Element updated = null;
+
+        if (request != null) {
+            try {
+                updated = this.element.buildUpdatedCache(request);
+            } catch (AutomationException ex) {
+                logger.debug("Checking each pattern: " + ex.getMessage());
+            }
+        }
+
+        if (updated != null) {
+            try {
+                for (PatternID patternId : PatternID.values()) {
+                    boolean available;
+
+                    try {
+                        available = updated.getCachedBooleanProperty(
+                                patternId.getAvailableProperty());
+                    } catch (AutomationException ex) {
+                        // Not in the cache, so check this one directly
+                        available =
+                                this.isAutomationPatternAvailable(patternId);
+                    }
+
+                    if (available) {
+                        patterns.add(patternId);
+                    }
+                }
+            } finally {
+                updated.close();
+            }
+
+            return patterns;
+        }
+
+        for (PatternID patternId : PatternID.values()) {
+            if (this.isAutomationPatternAvailable(patternId)) {
+                patterns.add(patternId);
+            }
+        }
+
+        return patterns;
+    }
+
     /**
      * Is the dock pattern available.
      *
@@ -376,7 +509,7 @@ public abstract class AutomationBase
      */
     private boolean isPatternAvailable(final PropertyID property) {
         try {
-            return !this.element.getPropertyValue(property.getValue()).equals(0);
+            return this.element.getBooleanProperty(property);
         } catch (AutomationException ex) {
             return false;
         }
@@ -443,8 +576,7 @@ public abstract class AutomationBase
      */
     public boolean isOffScreen() {
         try {
-            final Object propertyValue = this.element.getPropertyValue(PropertyID.IsOffscreen.getValue());
-            return BaseAutomation.isPropertyValueTrue(propertyValue);
+            return this.element.getBooleanProperty(PropertyID.IsOffscreen);
         } catch (AutomationException ex) {
             return false;
         }
@@ -534,7 +666,12 @@ public abstract class AutomationBase
     protected List<Element> findAll(final TreeScope scope)
             throws AutomationException {
         PointerByReference condition = this.createTrueCondition();
-        return this.findAll(scope, condition);
+
+        try {
+            return this.findAll(scope, condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
     /**
@@ -626,6 +763,199 @@ public abstract class AutomationBase
         return this.element.findAll(scope, condition);
     }
 
+    /**
+     * Finds the first match for the condition.
+     *
+     * @param scope The scope of where to look
+     * @param condition The condition
+     * @return The found Element
+     * @throws AutomationException An error has occurred in automation
+     */
+    protected Element findFirst(final TreeScope scope,
+                                final Condition condition)
+            throws AutomationException {
+        final PointerByReference compiled = condition.compile(this.automation);
+
+        try {
+            return this.findFirst(scope, compiled);
+        } finally {
+            ConditionCache.release(compiled);
+        }
+    }
+
+    /**
+     * Finds all of the elements that match the condition.
+     *
+     * @param scope The scope of where to look
+     * @param condition The condition
+     * @return The found elements
+     * @throws AutomationException Error in automation library
+     */
+    protected java.util.List<Element> findAll(final TreeScope scope,
+                                              final Condition condition)
+            throws AutomationException {
+        final PointerByReference compiled = condition.compile(this.automation);
+
+        try {
+            return this.findAll(scope, compiled);
+        } finally {
+            ConditionCache.release(compiled);
+        }
+    }
+
+    /**
+     * Finds the element at the index among those matching the condition,
+     * without fetching them all when the index is early.
+     *
+     * @param scope The scope of where to look
+     * @param condition The condition to check
+     * @param index The index
+     * @return The found Element
+     * @throws AutomationException Error in automation library
+     * @throws IndexOutOfBoundsException There are not that many matches
+     */
+    protected Element findAt(final TreeScope scope,
+                             final PointerByReference condition,
+                             final int index)
+            throws AutomationException {
+        return IndexLookup.get(this.automation, this.element, scope,
+                condition, index);
+    }
+
+    /**
+     * Finds the first element matching the condition whose name matches
+     * the pattern, fetching the names along with the elements.
+     *
+     * @param scope The scope of where to look
+     * @param condition The condition to check
+     * @param namePattern The pattern the name must match
+     * @return The found Element, or null if there is none
+     * @throws AutomationException Error in automation library
+     */
+    protected Element findFirstByName(final TreeScope scope,
+                                      final PointerByReference condition,
+                                      final java.util.regex.Pattern namePattern)
+            throws AutomationException {
+        final PointerByReference narrowed =
+                this.narrowByName(condition, namePattern);
+
+        try {
+            return NameLookup.findFirst(this.element, scope, narrowed,
+                    this.getNameCacheRequest(), namePattern);
+        } finally {
+            if (narrowed != condition) {
+                ConditionCache.release(narrowed);
+            }
+        }
+    }
+
+    /**
+     * Finds all the elements matching the condition whose name matches the
+     * pattern, fetching the names along with the elements.
+     *
+     * @param scope The scope of where to look
+     * @param condition The condition to check
+     * @param namePattern The pattern the name must match
+     * @return The found elements
+     * @throws AutomationException Error in automation library
+     */
+    protected java.util.List<Element> findAllByName(
+            final TreeScope scope,
+            final PointerByReference condition,
+            final java.util.regex.Pattern namePattern)
+            throws AutomationException {
+        final PointerByReference narrowed =
+                this.narrowByName(condition, namePattern);
+
+        try {
+            return NameLookup.findAll(this.element, scope, narrowed,
+                    this.getNameCacheRequest(), namePattern);
+        } finally {
+            if (narrowed != condition) {
+                ConditionCache.release(narrowed);
+            }
+        }
+    }
+
+    /**
+     * Adds the part of the name pattern that the provider can check to the
+     * condition, so that fewer elements are sent back to be matched.
+     *
+     * @param condition The condition
+     * @param namePattern The pattern the name must match
+     * @return The narrowed condition, which the caller releases, or the
+     *         condition if it cannot be narrowed
+     * @throws AutomationException Error in automation library
+     */
+    private PointerByReference narrowByName(
+            final PointerByReference condition,
+            final java.util.regex.Pattern namePattern)
+            throws AutomationException {
+        final PointerByReference prefilter = this.automation == null
+                ? null
+                : this.automation.createNamePatternCondition(namePattern);
+
+        if (prefilter == null) {
+            return condition;
+        }
+
+        try {
+            return this.createAndCondition(condition, prefilter);
+        } finally {
+            ConditionCache.release(prefilter);
+        }
+    }
+
+    /**
+     * Finds all of the elements that match the condition, fetching what
+     * searches are matched on along with them if it can.
+     *
+     * @param scope The scope of where to look
+     * @param condition The condition
+     * @param request The cache request to fetch with, or null to fetch
+     *                nothing with the elements
+     * @return The found elements
+     * @throws AutomationException Error in automation library
+     */
+    protected java.util.List<Element> findAll(final TreeScope scope,
+                                              final Condition condition,
+                                              final CacheRequest request)
+            throws AutomationException {
+        if (request == null) {
+            return this.findAll(scope, condition);
+        }
+
+        final PointerByReference compiled = condition.compile(this.automation);
+
+        try {
+            return this.element.findAll(scope, compiled, request);
+        } finally {
+            ConditionCache.release(compiled);
+        }
+    }
+
+    /**
+     * Gets the cache request used to fetch what searches are matched on.
+     *
+     * @return The cache request, or null if there is none
+     */
+    protected CacheRequest getSearchCacheRequest() {
+        return this.automation == null
+                ? null
+                : this.automation.getSearchCacheRequest();
+    }
+
+    /**
+     * Gets the cache request used to fetch names.
+     *
+     * @return The cache request, or null if there is none
+     */
+    private CacheRequest getNameCacheRequest() {
+        return this.automation == null
+                ? null
+                : this.automation.getNameCacheRequest();
+    }
+
     /**
      * Is the control enabled.
      *
@@ -646,6 +976,18 @@ public abstract class AutomationBase
         return this.element.getBoundingRectangle();
     }
 
+    /**
+     * Gets the bounding rectangle of the control, into the given rectangle,
+     * so that nothing is allocated.
+     *
+     * @param rect The rectangle to fill in
+     * @throws AutomationException Something is wrong in automation
+     */
+    public void getBoundingRectangle(final WinDef.RECT rect)
+            throws AutomationException {
+        this.element.getBoundingRectangle(rect);
+    }
+
     /**
      * Get the native window handle.
      *
@@ -774,7 +1116,7 @@ public abstract class AutomationBase
     public void invoke() throws AutomationException {
 
         final Invoke invokePattern = requestAutomationPattern(Invoke.class);
-        if (invokePattern.isAvailable()) {
+        if (BasePattern.isUsable(invokePattern)) {
             invokePattern.invoke();
         } else {
             throw new PatternNotFoundException("Invoke could not be called");
@@ -790,10 +1132,16 @@ public abstract class AutomationBase
      */
     protected List<Element> getChildElements(final boolean deep)
             throws AutomationException {
-        return this.findAll(
-                new TreeScope(deep ? TreeScope.DESCENDANTS :
-                        TreeScope.CHILDREN),
-        		this.createTrueCondition());
+        final PointerByReference condition = this.createTrueCondition();
+
+        try {
+            return this.findAll(
+                    new TreeScope(deep ? TreeScope.DESCENDANTS :
+                            TreeScope.CHILDREN),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
 // TreeScope.Parent is not yet supported,
@@ -858,43 +1206,38 @@ public abstract class AutomationBase
     @Override
     public <T extends BasePattern> T requestAutomationPattern(
             final Class<T> automationPatternClass) throws AutomationException {
-        synchronized (patternAccessMonitor) {
-            @SuppressWarnings("unchecked")
-            T automationPattern = (T) automationPatterns.get(automationPatternClass);
+        final int slot = PatternRegistry.slotOf(automationPatternClass);
+        final boolean inArray = slot < this.automationPatterns.length();
+
+        BasePattern automationPattern = inArray
+                ? this.automationPatterns.get(slot)
+                : this.getLaterPatterns().get(slot);
+
+        if (automationPattern == null) {
+            automationPattern =
+                    this.element.getProvidedPattern(automationPatternClass);
             if (automationPattern == null) {
-            	automationPattern =
-                        this.element.getProvidedPattern(automationPatternClass);
-                if (automationPattern == null) {
-	                try {
-	                    automationPattern =
-                                automationPatternClass.getConstructor(
-                                        Element.class)
-                                            .newInstance(this.element);
-	                } catch (Throwable e) {
-	                	e = getInnerException(e);
-	                	if (e instanceof AutomationException) {
-	                	    throw (AutomationException) e;
-                        }
-	                	throw new AutomationException(e);
-	                }
+                automationPattern = PatternRegistry.create(
+                        automationPatternClass, this.element);
+            }
+
+            // Creating a pattern fetches nothing, so if another thread has
+            // got there first, its pattern is used and this one dropped
+            if (inArray) {
+                if (!this.automationPatterns.compareAndSet(
+                        slot, null, automationPattern)) {
+                    automationPattern = this.automationPatterns.get(slot);
+                }
+            } else {
+                final BasePattern existing = this.getLaterPatterns()
+                        .putIfAbsent(slot, automationPattern);
+                if (existing != null) {
+                    automationPattern = existing;
                 }
-                automationPatterns.put(automationPatternClass, automationPattern);
             }
-            return automationPattern;
         }
-    }
 
-    /**
-     * Gets the inner exception.
-     *
-     * @param e The throwable
-     * @return The inner exception from the input throwable
-     */
-    private Throwable getInnerException(final Throwable e) {
-    	if (e instanceof InvocationTargetException) {
-    		return  getInnerException(e.getCause());
-    	}
-    	return e;
+        return automationPatternClass.cast(automationPattern);
     }
 
 }
@@ -19,8 +19,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.ConditionCache;
 import mmarquee.automation.ControlType;
 import mmarquee.automation.ElementNotFoundException;
 import mmarquee.automation.ItemNotFoundException;
@@ -77,9 +79,17 @@ public final class ComboBox
 
         List<ListItem> list = new ArrayList<>();
 
-        List<Element> collection =
-                this.findAll(new TreeScope(TreeScope.CHILDREN),
-                        this.createControlTypeCondition(ControlType.ListItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.ListItem);
+
+        List<Element> collection;
+
+        try {
+            collection = this.findAll(new TreeScope(TreeScope.CHILDREN),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         for (Element element : collection) {
             list.add(new ListItem(new ElementBuilder(element)));
@@ -119,12 +129,17 @@ public final class ComboBox
     public ListItem getItem(final int index)
             throws AutomationException {
 
-        List<Element> items =
-                this.findAll(new TreeScope(TreeScope.CHILDREN),
-                             this.createControlTypeCondition(
-                                     ControlType.ListItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.ListItem);
+
+        Element item;
 
-        Element item = items.get(index);
+        try {
+            item = this.findAt(new TreeScope(TreeScope.CHILDREN),
+                    condition, index);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item != null) {
             return new ListItem(new ElementBuilder(item));
@@ -141,11 +156,26 @@ public final class ComboBox
      */
     public ListItem getItem(final String name)
             throws AutomationException {
-        Element item =
-                this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-                this.createAndCondition(
-                        this.createNamePropertyCondition(name),
-                        this.createControlTypeCondition(ControlType.ListItem)));
+        final PointerByReference pName = this.createNamePropertyCondition(name);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.ListItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item != null) {
             return new ListItem(new ElementBuilder(item));
@@ -162,20 +192,18 @@ public final class ComboBox
      */
     public ListItem getItem(final Pattern namePattern)
             throws AutomationException {
-        List<Element> collection;
-
-        Element foundElement = null;
-
-        collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createControlTypeCondition(ControlType.ListItem));
-
-        for (Element element : collection) {
-            String name = element.getName();
-
-            if (name != null && namePattern.matcher(name).matches()) {
-                foundElement = element;
-                break;
-            }
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.ListItem);
+
+        final Element foundElement;
+
+        try {
+            foundElement = this.findFirstByName(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition,
+                    namePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement == null) {
@@ -193,11 +221,27 @@ public final class ComboBox
      */
     private ListItem getItemByAutomationId(final String automationId)
             throws AutomationException {
-        Element item =
-                this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-                this.createAndCondition(
-                        this.createAutomationIdPropertyCondition(automationId),
-                        this.createControlTypeCondition(ControlType.ListItem)));
+        final PointerByReference pId =
+                this.createAutomationIdPropertyCondition(automationId);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.ListItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pId, pType);
+        } finally {
+            ConditionCache.release(pId);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item != null) {
             return new ListItem(new ElementBuilder(item));
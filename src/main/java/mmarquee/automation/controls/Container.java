@@ -17,9 +17,6 @@ package mmarquee.automation.controls;
 
 import java.util.regex.Pattern;
 
-import com.sun.jna.platform.win32.OleAuto;
-import com.sun.jna.platform.win32.Variant;
-import com.sun.jna.platform.win32.WTypes;
 import com.sun.jna.ptr.PointerByReference;
 
 import mmarquee.automation.*;
@@ -55,15 +52,14 @@ public class Container extends AutomationBase {
     Element getElementByControlType(final int index,
                                     final ControlType id)
             throws AutomationException {
-        PointerByReference condition =
-                this.getAutomation().createPropertyCondition(
-                        PropertyID.ControlType.getValue(),
-                        this.createIntegerVariant(id.getValue()));
+        PointerByReference condition = this.createControlTypeCondition(id);
 
-        java.util.List<Element> collection = this.findAll(
-                new TreeScope(TreeScope.SUBTREE), condition);
-
-        return collection.get(index);
+        try {
+            return this.findAt(new TreeScope(TreeScope.SUBTREE),
+                    condition, index);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
     /**
@@ -80,21 +76,25 @@ public class Container extends AutomationBase {
                                               final ControlType id,
                                               final String className)
             throws AutomationException {
-        PointerByReference condition =
-        		this.createAndCondition(
-        		        this.getAutomation().createPropertyCondition(
-        		                PropertyID.ControlType.getValue(),
-        				        this.createIntegerVariant(id.getValue())),
-                        this.createClassNamePropertyCondition(className));
+        final PointerByReference pType = this.createControlTypeCondition(id);
+        final PointerByReference pClass =
+                this.createClassNamePropertyCondition(className);
+        final PointerByReference condition;
 
-        java.util.List<Element> collection;
+        try {
+            condition = this.createAndCondition(pType, pClass);
+        } finally {
+            ConditionCache.release(pType);
+            ConditionCache.release(pClass);
+        }
 
         try {
-        	collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-                    condition);
-        	return collection.get(index);
+            return this.findAt(new TreeScope(TreeScope.DESCENDANTS),
+                    condition, index);
         } catch (IndexOutOfBoundsException ex) {
         	throw new ElementNotFoundException(ex); // Backward compatibility
+        } finally {
+            ConditionCache.release(condition);
         }
     }
 
@@ -109,10 +109,23 @@ public class Container extends AutomationBase {
     protected Element getElementByControlType(final String name,
                                               final ControlType id)
             throws AutomationException {
-        return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-                this.createAndCondition(
-                        this.createNamePropertyCondition(name),
-                        this.createControlTypeCondition(id)));
+        final PointerByReference pName = this.createNamePropertyCondition(name);
+        final PointerByReference pType = this.createControlTypeCondition(id);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        try {
+            return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
     /**
@@ -128,20 +141,18 @@ public class Container extends AutomationBase {
             final Pattern namePattern,
             final ControlType id)
             throws AutomationException {
-        java.util.List<Element> collection;
+        final PointerByReference condition =
+                this.createControlTypeCondition(id);
 
-        Element foundElement = null;
+        final Element foundElement;
 
-        collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createControlTypeCondition(id));
-
-        for (Element element : collection) {
-            String name = element.getName();
-
-            if (name != null && namePattern.matcher(name).matches()) {
-                foundElement = element;
-                break;
-            }
+        try {
+            foundElement = this.findFirstByName(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition,
+                    namePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement == null) {
@@ -165,12 +176,34 @@ public class Container extends AutomationBase {
                                               final ControlType id,
                                               final String className)
             throws AutomationException {
-        return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createAndCondition(
-        				this.createAndCondition(
-	                        this.createNamePropertyCondition(name),
-	                        this.createControlTypeCondition(id)),
-        				this.createClassNamePropertyCondition(className)));
+        final PointerByReference pName = this.createNamePropertyCondition(name);
+        final PointerByReference pType = this.createControlTypeCondition(id);
+        final PointerByReference pNameAndType;
+
+        try {
+            pNameAndType = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        final PointerByReference pClass =
+                this.createClassNamePropertyCondition(className);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pNameAndType, pClass);
+        } finally {
+            ConditionCache.release(pNameAndType);
+            ConditionCache.release(pClass);
+        }
+
+        try {
+            return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
     /**
@@ -188,22 +221,27 @@ public class Container extends AutomationBase {
             final ControlType id,
             final String className)
             throws AutomationException {
-        java.util.List<Element> collection;
+        final PointerByReference pType = this.createControlTypeCondition(id);
+        final PointerByReference pClass =
+                this.createClassNamePropertyCondition(className);
+        final PointerByReference condition;
 
-        Element foundElement = null;
-
-        collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createAndCondition(
-        				this.createControlTypeCondition(id),
-        				this.createClassNamePropertyCondition(className)));
+        try {
+            condition = this.createAndCondition(pType, pClass);
+        } finally {
+            ConditionCache.release(pType);
+            ConditionCache.release(pClass);
+        }
 
-        for (Element element : collection) {
-            String name = element.getName();
+        final Element foundElement;
 
-            if (name != null && namePattern.matcher(name).matches()) {
-                foundElement = element;
-                break;
-            }
+        try {
+            foundElement = this.findFirstByName(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition,
+                    namePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement == null) {
@@ -222,8 +260,15 @@ public class Container extends AutomationBase {
      */
     protected Element getElementByName(final String name)
             throws AutomationException {
-        return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createNamePropertyCondition(name));
+        final PointerByReference condition =
+                this.createNamePropertyCondition(name);
+
+        try {
+            return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
     /**
@@ -235,20 +280,17 @@ public class Container extends AutomationBase {
      */
     protected Element getElementByName(final Pattern namePattern)
             throws AutomationException {
-        java.util.List<Element> collection;
-
-        Element foundElement = null;
+        final PointerByReference condition = this.createTrueCondition();
 
-        collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createTrueCondition());
+        final Element foundElement;
 
-        for (Element element : collection) {
-            String name = element.getName();
-
-            if (name != null && namePattern.matcher(name).matches()) {
-                foundElement = element;
-                break;
-            }
+        try {
+            foundElement = this.findFirstByName(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition,
+                    namePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement == null) {
@@ -270,10 +312,24 @@ public class Container extends AutomationBase {
             final String name,
             final String className)
             throws AutomationException {
-        return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createAndCondition(
-        				this.createNamePropertyCondition(name),
-        				this.createClassNamePropertyCondition(className)));
+        final PointerByReference pName = this.createNamePropertyCondition(name);
+        final PointerByReference pClass =
+                this.createClassNamePropertyCondition(className);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pName, pClass);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pClass);
+        }
+
+        try {
+            return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
     /**
@@ -288,20 +344,18 @@ public class Container extends AutomationBase {
             final Pattern namePattern,
             final String className)
             throws AutomationException {
-        java.util.List<Element> collection;
+        final PointerByReference condition =
+                this.createClassNamePropertyCondition(className);
 
-        Element foundElement = null;
+        final Element foundElement;
 
-        collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createClassNamePropertyCondition(className));
-
-        for (Element element : collection) {
-            String name = element.getName();
-
-            if (name != null && namePattern.matcher(name).matches()) {
-                foundElement = element;
-                break;
-            }
+        try {
+            foundElement = this.findFirstByName(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition,
+                    namePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement == null) {
@@ -327,16 +381,17 @@ public class Container extends AutomationBase {
             final int index,
             final String className)
             throws AutomationException {
-        java.util.List<Element> collection;
-
-        collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-                this.createClassNamePropertyCondition(className));
+        final PointerByReference condition =
+                this.createClassNamePropertyCondition(className);
 
         try {
-        	return collection.get(index);
+            return this.findAt(new TreeScope(TreeScope.DESCENDANTS),
+                    condition, index);
         } catch (IndexOutOfBoundsException ex) {
             // backward compatibility
         	throw new ElementNotFoundException(ex);
+        } finally {
+            ConditionCache.release(condition);
         }
     }
 
@@ -352,10 +407,25 @@ public class Container extends AutomationBase {
             final String automationId,
             final ControlType controlType)
             throws AutomationException {
-        return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-                this.createAndCondition(
-                        this.createAutomationIdPropertyCondition(automationId),
-                        this.createControlTypeCondition(controlType)));
+        final PointerByReference pId =
+                this.createAutomationIdPropertyCondition(automationId);
+        final PointerByReference pType =
+                this.createControlTypeCondition(controlType);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pId, pType);
+        } finally {
+            ConditionCache.release(pId);
+            ConditionCache.release(pType);
+        }
+
+        try {
+            return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
     /**
@@ -367,21 +437,38 @@ public class Container extends AutomationBase {
     protected Element getElementByAutomationId(
             final String automationId)
             throws AutomationException {
-        return this.findFirst(
-                new TreeScope(TreeScope.DESCENDANTS),
-                this.createAutomationIdPropertyCondition(automationId));
+        final PointerByReference condition =
+                this.createAutomationIdPropertyCondition(automationId);
+
+        try {
+            return this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
     }
 
     /**
-     * Creates an integer variant.
-     * @param value The value to set
-     * @return ByValue variant
+     * Gets the first descendant matching the condition.
+     * @param condition The condition
+     * @return The matching element
+     * @throws AutomationException An error has occurred in automation
      */
-    Variant.VARIANT.ByValue createIntegerVariant(final int value) {
-        Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
-        variant.setValue(Variant.VT_INT, value);
+    public Element getElementByCondition(final Condition condition)
+            throws AutomationException {
+        return this.findFirst(new TreeScope(TreeScope.DESCENDANTS), condition);
+    }
 
-        return variant;
+    /**
+     * Gets all the descendants matching the condition.
+     * @param condition The condition
+     * @return The matching elements
+     * @throws AutomationException An error has occurred in automation
+     */
+    public java.util.List<Element> getElementsByCondition(
+            final Condition condition)
+            throws AutomationException {
+        return this.findAll(new TreeScope(TreeScope.DESCENDANTS), condition);
     }
 
     ////////////////// 'old-style' API ////////////////
@@ -2811,34 +2898,51 @@ public class Container extends AutomationBase {
                                             final String name)
             throws PatternNotFoundException, AutomationException {
 
-        Variant.VARIANT.ByValue variant1 = new Variant.VARIANT.ByValue();
-        variant1.setValue(Variant.VT_INT, controlType.getValue());
+        final PointerByReference pName = this.createNamePropertyCondition(name);
+        final PointerByReference pType =
+                this.createControlTypeCondition(controlType);
+        final PointerByReference condition;
 
-        Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
-        WTypes.BSTR sysAllocated = OleAuto.INSTANCE.SysAllocString(name);
-        variant.setValue(Variant.VT_BSTR, sysAllocated);
+        try {
+            condition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        Element elem;
 
         try {
-            PointerByReference propertyCondition =
-                    this.getAutomation().createPropertyCondition(
-                            PropertyID.ControlType.getValue(), variant1);
-
-            PointerByReference nameCondition =
-                    this.getAutomation().createPropertyCondition(
-                            PropertyID.Name.getValue(), variant);
-            PointerByReference condition =
-                    this.getAutomation().createAndCondition(
-                            nameCondition, propertyCondition);
-
-            Element elem =
-                    this.findFirst(
-                            new TreeScope(TreeScope.DESCENDANTS), condition);
-
-            /* Not going to work for menus */
-            return type.cast(AutomationControlFactory.get(
-                    null, controlType, elem));
+            elem = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
         } finally {
-            OleAuto.INSTANCE.SysFreeString(sysAllocated);
+            ConditionCache.release(condition);
         }
+
+        /* Not going to work for menus */
+        return type.cast(AutomationControlFactory.get(
+                null, controlType, elem));
+    }
+
+    /**
+     * Gets the controls for several searches, finding the descendants once
+     * and matching every search against them, rather than searching the
+     * descendants for each control.
+     *
+     * @param batch The searches
+     * @return The controls, in the order the searches were added
+     * @throws AutomationException A search was not found, or something has
+     *         gone wrong
+     */
+    public java.util.List<AutomationBase> getControls(final SearchBatch batch)
+            throws AutomationException {
+        batch.validate();
+
+        final CacheRequest request = this.getSearchCacheRequest();
+
+        return batch.match(this,
+                this.findAll(new TreeScope(TreeScope.DESCENDANTS),
+                        batch.getCondition(), request),
+                request != null);
     }
 }
@@ -24,6 +24,7 @@ import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.Grid;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.Table;
@@ -255,7 +256,7 @@ public final class DataGrid
     public int getRowCount()
             throws PatternNotFoundException, AutomationException {
         final Grid pattern = requestAutomationPattern(Grid.class);
-        if (pattern.isAvailable()) {
+        if (BasePattern.isUsable(pattern)) {
             return (pattern.rowCount());
         }
         throw new PatternNotFoundException("Cannot get row count");
@@ -271,7 +272,7 @@ public final class DataGrid
     public int getColumnCount()
             throws PatternNotFoundException, AutomationException {
         final Grid pattern = requestAutomationPattern(Grid.class);
-        if (pattern.isAvailable()) {
+        if (BasePattern.isUsable(pattern)) {
             return (pattern.columnCount());
         }
         throw new PatternNotFoundException("Cannot get column count");
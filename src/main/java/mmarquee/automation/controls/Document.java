@@ -18,8 +18,10 @@ package mmarquee.automation.controls;
 
 import java.util.List;
 
+import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.ConditionCache;
 import mmarquee.automation.ControlType;
 import mmarquee.uiautomation.TreeScope;
 
@@ -47,9 +49,17 @@ public final class Document extends AutomationBase implements ImplementsText {
      */
     public DocumentPage getPage(final int index)
             throws AutomationException {
-        List<Element> items = this.findAll(
-                new TreeScope(TreeScope.DESCENDANTS),
-                this.createControlTypeCondition(ControlType.Custom));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.Custom);
+
+        List<Element> items;
+
+        try {
+            items = this.findAll(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         return new DocumentPage(new ElementBuilder(items.get(index)));
     }
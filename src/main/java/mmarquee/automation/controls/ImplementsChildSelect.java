@@ -19,6 +19,7 @@ import java.util.List;
 
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.Selection;
 
@@ -39,7 +40,7 @@ public interface ImplementsChildSelect extends Automatable, CanRequestBasePatter
      */
     default boolean canSelectMultiple() throws AutomationException, PatternNotFoundException {
 		final Selection selectionPattern = requestAutomationPattern(Selection.class);
-		if (selectionPattern.isAvailable()) {
+		if (BasePattern.isUsable(selectionPattern)) {
 			return selectionPattern.canSelectMultiple();
 		}
 		throw new PatternNotFoundException("Cannot query multi select");
@@ -55,7 +56,7 @@ public interface ImplementsChildSelect extends Automatable, CanRequestBasePatter
     default List<Element> getSelection()
             throws AutomationException, PatternNotFoundException {
         final Selection selectionPattern = requestAutomationPattern(Selection.class);
-		if (selectionPattern.isAvailable()) {
+		if (BasePattern.isUsable(selectionPattern)) {
 			return selectionPattern.getSelection();
 		}
 		throw new PatternNotFoundException("Cannot query selection");
@@ -71,7 +72,7 @@ public interface ImplementsChildSelect extends Automatable, CanRequestBasePatter
     default List<Element> getCurrentSelection()
             throws AutomationException, PatternNotFoundException {
         final Selection selectionPattern = requestAutomationPattern(Selection.class);
-		if (selectionPattern.isAvailable()) {
+		if (BasePattern.isUsable(selectionPattern)) {
 			return selectionPattern.getCurrentSelection();
 		}
 		throw new PatternNotFoundException("Cannot query current selection");
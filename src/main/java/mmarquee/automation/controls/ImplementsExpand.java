@@ -16,6 +16,7 @@
 package mmarquee.automation.controls;
 
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.ExpandCollapse;
 import mmarquee.automation.pattern.PatternNotFoundException;
 
@@ -32,7 +33,7 @@ public interface ImplementsExpand extends Automatable, CanRequestBasePattern {
      */
     default void expand() throws AutomationException {
 		final ExpandCollapse collapsePattern = requestAutomationPattern(ExpandCollapse.class);
-		if (collapsePattern.isAvailable()) {
+		if (BasePattern.isUsable(collapsePattern)) {
 			collapsePattern.expand();
 			return;
 		}
@@ -46,7 +47,7 @@ public interface ImplementsExpand extends Automatable, CanRequestBasePattern {
      */
     default void collapse() throws AutomationException {
         final ExpandCollapse collapsePattern = requestAutomationPattern(ExpandCollapse.class);
-        if (collapsePattern.isAvailable()) {
+        if (BasePattern.isUsable(collapsePattern)) {
         	collapsePattern.collapse();
 			return;
         } 
@@ -61,7 +62,7 @@ public interface ImplementsExpand extends Automatable, CanRequestBasePattern {
      */
     default boolean isExpanded() throws AutomationException {
         final ExpandCollapse collapsePattern = requestAutomationPattern(ExpandCollapse.class);
-        if (collapsePattern.isAvailable()) {
+        if (BasePattern.isUsable(collapsePattern)) {
         	return collapsePattern.isExpanded();
         } 
         throw new PatternNotFoundException("Cannot collapse");
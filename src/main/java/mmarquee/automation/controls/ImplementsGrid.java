@@ -17,6 +17,7 @@ package mmarquee.automation.controls;
 
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.Grid;
 import mmarquee.automation.pattern.PatternNotFoundException;
 
@@ -38,7 +39,7 @@ public interface ImplementsGrid extends Automatable, CanRequestBasePattern {
             throws PatternNotFoundException, AutomationException  {
     	
     	final Grid gridPattern = requestAutomationPattern(Grid.class);
-        if (gridPattern.isAvailable()) {
+        if (BasePattern.isUsable(gridPattern)) {
         	return gridPattern.getItem(row, column);
         }
 		throw new PatternNotFoundException("Cannot get item");
@@ -55,7 +56,7 @@ public interface ImplementsGrid extends Automatable, CanRequestBasePattern {
     default int rowCount() throws AutomationException, PatternNotFoundException {
     	
     	final Grid gridPattern = requestAutomationPattern(Grid.class);
-        if (gridPattern.isAvailable()) {
+        if (BasePattern.isUsable(gridPattern)) {
         	return gridPattern.rowCount();
         }
 		throw new PatternNotFoundException("Cannot get row count");
@@ -70,7 +71,7 @@ public interface ImplementsGrid extends Automatable, CanRequestBasePattern {
      */
     default int columnCount() throws AutomationException, PatternNotFoundException {
     	final Grid gridPattern = requestAutomationPattern(Grid.class);
-        if (gridPattern.isAvailable()) {
+        if (BasePattern.isUsable(gridPattern)) {
         	return gridPattern.columnCount();
         }
 		throw new PatternNotFoundException("Cannot get column count");
@@ -16,6 +16,7 @@
 package mmarquee.automation.controls;
 
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.GridItem;
 import mmarquee.automation.pattern.PatternNotFoundException;
 
@@ -33,7 +34,7 @@ public interface ImplementsGridItem extends Automatable, CanRequestBasePattern {
      */
     default int getRow() throws AutomationException, PatternNotFoundException {
     	final GridItem gridItemPattern = requestAutomationPattern(GridItem.class);
-        if (gridItemPattern.isAvailable()) {
+        if (BasePattern.isUsable(gridItemPattern)) {
         	return gridItemPattern.getRow();
         }
 		throw new PatternNotFoundException("Cannot get row");
@@ -48,7 +49,7 @@ public interface ImplementsGridItem extends Automatable, CanRequestBasePattern {
     default int getColumn() throws AutomationException, PatternNotFoundException {
 
     	final GridItem gridItemPattern = requestAutomationPattern(GridItem.class);
-        if (gridItemPattern.isAvailable()) {
+        if (BasePattern.isUsable(gridItemPattern)) {
         	return gridItemPattern.getColumn();
         }
 		throw new PatternNotFoundException("Cannot get column");
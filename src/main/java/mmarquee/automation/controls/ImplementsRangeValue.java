@@ -16,6 +16,7 @@
 package mmarquee.automation.controls;
 
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.Range;
 
@@ -37,7 +38,7 @@ public interface ImplementsRangeValue extends Automatable, CanRequestBasePattern
     default double getRangeValue()
             throws AutomationException, PatternNotFoundException {
 		final Range rangePattern = requestAutomationPattern(Range.class);
-		if (rangePattern.isAvailable()) {
+		if (BasePattern.isUsable(rangePattern)) {
 			return rangePattern.getValue();
 		}
 		throw new PatternNotFoundException("Cannot get range value");
@@ -53,7 +54,7 @@ public interface ImplementsRangeValue extends Automatable, CanRequestBasePattern
     default void setRangeValue(final double value)
             throws AutomationException, PatternNotFoundException {
 		final Range rangePattern = requestAutomationPattern(Range.class);
-		if (rangePattern.isAvailable()) {
+		if (BasePattern.isUsable(rangePattern)) {
 			rangePattern.setValue(value);
 			return;
 		}
@@ -63,7 +64,7 @@ public interface ImplementsRangeValue extends Automatable, CanRequestBasePattern
     default boolean getIsReadOnly()
 			throws AutomationException {
 		final Range rangePattern = requestAutomationPattern(Range.class);
-		if (rangePattern.isAvailable()) {
+		if (BasePattern.isUsable(rangePattern)) {
 			return rangePattern.getIsReadOnly();
 		}
 		throw new PatternNotFoundException("Cannot getIsReadOnly value");
@@ -17,6 +17,7 @@ package mmarquee.automation.controls;
 
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.SelectionItem;
 
@@ -34,7 +35,7 @@ public interface ImplementsSelect extends Automatable, CanRequestBasePattern {
      */
     default void select() throws AutomationException, PatternNotFoundException {
     	final SelectionItem selectionItemPattern = requestAutomationPattern(SelectionItem.class);
- 		if (selectionItemPattern.isAvailable()) {
+ 		if (BasePattern.isUsable(selectionItemPattern)) {
  			selectionItemPattern.select();
  			return;
  		}
@@ -49,7 +50,7 @@ public interface ImplementsSelect extends Automatable, CanRequestBasePattern {
      */
     default boolean isSelected() throws AutomationException, PatternNotFoundException {
     	final SelectionItem selectionItemPattern = requestAutomationPattern(SelectionItem.class);
- 		if (selectionItemPattern.isAvailable()) {
+ 		if (BasePattern.isUsable(selectionItemPattern)) {
  			return selectionItemPattern.isSelected();
  		}
  		throw new PatternNotFoundException("Cannot query selection state");
@@ -62,7 +63,7 @@ public interface ImplementsSelect extends Automatable, CanRequestBasePattern {
      */
     default void addToSelection() throws AutomationException, PatternNotFoundException {
     	final SelectionItem selectionItemPattern = requestAutomationPattern(SelectionItem.class);
- 		if (selectionItemPattern.isAvailable()) {
+ 		if (BasePattern.isUsable(selectionItemPattern)) {
  			selectionItemPattern.addToSelection();
  			return;
  		}
@@ -76,7 +77,7 @@ public interface ImplementsSelect extends Automatable, CanRequestBasePattern {
      */
     default void removeFromSelection() throws AutomationException, PatternNotFoundException {
     	final SelectionItem selectionItemPattern = requestAutomationPattern(SelectionItem.class);
- 		if (selectionItemPattern.isAvailable()) {
+ 		if (BasePattern.isUsable(selectionItemPattern)) {
  			selectionItemPattern.removeFromSelection();
  			return;
  		}
@@ -92,7 +93,7 @@ public interface ImplementsSelect extends Automatable, CanRequestBasePattern {
      */
     default Element getSelectionContainer() throws AutomationException, PatternNotFoundException {
     	final SelectionItem selectionItemPattern = requestAutomationPattern(SelectionItem.class);
- 		if (selectionItemPattern.isAvailable()) {
+ 		if (BasePattern.isUsable(selectionItemPattern)) {
  			return selectionItemPattern.getSelectionContainer();
  		}
  		throw new PatternNotFoundException("Cannot get the selection container");
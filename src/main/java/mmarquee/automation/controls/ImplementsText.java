@@ -16,6 +16,7 @@
 package mmarquee.automation.controls;
 
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.Text;
 
@@ -32,7 +33,7 @@ public interface ImplementsText extends Automatable, CanRequestBasePattern {
      */
     default public String getText() throws AutomationException, PatternNotFoundException {
 		final Text textPattern = requestAutomationPattern(Text.class);
-		if (textPattern.isAvailable()) {
+		if (BasePattern.isUsable(textPattern)) {
 			return textPattern.getText();
 		}
 		throw new PatternNotFoundException("Cannot get text");
@@ -46,7 +47,7 @@ public interface ImplementsText extends Automatable, CanRequestBasePattern {
      */
     default public String getSelection() throws AutomationException, PatternNotFoundException {
 		final Text textPattern = requestAutomationPattern(Text.class);
-		if (textPattern.isAvailable()) {
+		if (BasePattern.isUsable(textPattern)) {
 			return textPattern.getSelection();
 		}
 		throw new PatternNotFoundException("Cannot get text");
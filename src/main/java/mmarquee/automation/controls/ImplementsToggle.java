@@ -16,6 +16,7 @@
 package mmarquee.automation.controls;
 
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.Toggle;
 import mmarquee.uiautomation.ToggleState;
@@ -32,7 +33,7 @@ public interface ImplementsToggle extends Automatable, CanRequestBasePattern {
      */
     default void toggle() throws AutomationException, PatternNotFoundException {
 		final Toggle togglePattern = requestAutomationPattern(Toggle.class);
-		if (togglePattern.isAvailable()) {
+		if (BasePattern.isUsable(togglePattern)) {
 			togglePattern.toggle();
 			return;
 		}
@@ -47,7 +48,7 @@ public interface ImplementsToggle extends Automatable, CanRequestBasePattern {
      */
     default ToggleState getToggleState() throws AutomationException, PatternNotFoundException {
 		final Toggle togglePattern = requestAutomationPattern(Toggle.class);
-		if (togglePattern.isAvailable()) {
+		if (BasePattern.isUsable(togglePattern)) {
 			return togglePattern.currentToggleState();
 		}
 		throw new PatternNotFoundException("Cannot query toggle state");
@@ -16,6 +16,7 @@
 package mmarquee.automation.controls;
 
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.Value;
 
@@ -34,7 +35,7 @@ public interface ImplementsValue extends Automatable, CanRequestBasePattern {
      */
     default String getValue() throws AutomationException, PatternNotFoundException {
 		final Value valuePattern = requestAutomationPattern(Value.class);
-		if (valuePattern.isAvailable()) {
+		if (BasePattern.isUsable(valuePattern)) {
 			return valuePattern.value();
 		} else {
 			throw new PatternNotFoundException("Cannot get value");
@@ -50,7 +51,7 @@ public interface ImplementsValue extends Automatable, CanRequestBasePattern {
      */
     default void setValue(final String value) throws AutomationException, PatternNotFoundException {
 		final Value valuePattern = requestAutomationPattern(Value.class);
-		if (valuePattern.isAvailable()) {
+		if (BasePattern.isUsable(valuePattern)) {
 			valuePattern.setValue(value);
 			return;
 		} else {
@@ -67,7 +68,7 @@ public interface ImplementsValue extends Automatable, CanRequestBasePattern {
      */
     default boolean isReadOnly() throws AutomationException, PatternNotFoundException {
 		final Value valuePattern = requestAutomationPattern(Value.class);
-		if (valuePattern.isAvailable()) {
+		if (BasePattern.isUsable(valuePattern)) {
 			return valuePattern.isReadOnly();
 		} else {
 			throw new PatternNotFoundException("Cannot check read only state");
@@ -16,6 +16,7 @@
 package mmarquee.automation.controls;
 
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.Window;
 import mmarquee.uiautomation.WindowVisualState;
@@ -36,7 +37,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
 	default void waitForInputIdle(int timeout) throws AutomationException, PatternNotFoundException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			windowPattern.waitForInputIdle(timeout);
 			return;
 		}
@@ -50,7 +51,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
     default void maximize() throws AutomationException, PatternNotFoundException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			windowPattern.maximize();
 			return;
 		}
@@ -64,7 +65,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
     default void minimize() throws AutomationException, PatternNotFoundException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			windowPattern.minimize();
 			return;
 		}
@@ -78,7 +79,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
     default void close() throws AutomationException, PatternNotFoundException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			windowPattern.close();
 			return;
 		}
@@ -92,7 +93,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
     default boolean getCanMaximize() throws AutomationException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			return windowPattern.getCanMaximize();
 		}
 		throw new PatternNotFoundException("Cannot query for maximisation");
@@ -105,7 +106,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
     default boolean getCanMinimize() throws AutomationException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			return windowPattern.getCanMinimize();
 		}
 		throw new PatternNotFoundException("Cannot query for minimization");
@@ -118,7 +119,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
     default boolean isModal() throws AutomationException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			return windowPattern.isModal();
 		}
 		throw new PatternNotFoundException("Cannot query for modal state");
@@ -131,7 +132,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
     default boolean isTopMost() throws AutomationException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			return windowPattern.isTopMost();
 		}
 		throw new PatternNotFoundException("Cannot query for topmost state");
@@ -144,7 +145,7 @@ public interface ImplementsWindow extends Automatable, CanRequestBasePattern {
      */
     default void setWindowState(WindowVisualState state) throws AutomationException {
 		final Window windowPattern = requestAutomationPattern(Window.class);
-		if (windowPattern.isAvailable()) {
+		if (BasePattern.isUsable(windowPattern)) {
 			windowPattern.setWindowState(state);
 			return;
 		}
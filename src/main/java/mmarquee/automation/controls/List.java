@@ -19,6 +19,7 @@ package mmarquee.automation.controls;
 import java.util.ArrayList;
 import java.util.regex.Pattern;
 
+import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.*;
 import mmarquee.automation.Element;
 import mmarquee.automation.pattern.PatternNotFoundException;
@@ -58,11 +59,17 @@ public final class List
     public ListItem getItem(final int index)
             throws AutomationException {
 
-        java.util.List<Element> items =
-                this.findAll(new TreeScope(TreeScope.CHILDREN),
-                    this.createControlTypeCondition(ControlType.ListItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.ListItem);
 
-        Element item = items.get(index);
+        Element item;
+
+        try {
+            item = this.findAt(new TreeScope(TreeScope.CHILDREN),
+                    condition, index);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item != null) {
             return new ListItem(new ElementBuilder(item));
@@ -80,11 +87,26 @@ public final class List
      */
     public ListItem getItem(final String name)
             throws AutomationException {
-        Element item = this.findFirst(
-                new TreeScope(TreeScope.DESCENDANTS),
-                    this.createAndCondition(
-                        this.createNamePropertyCondition(name),
-                        this.createControlTypeCondition(ControlType.ListItem)));
+        final PointerByReference pName = this.createNamePropertyCondition(name);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.ListItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item != null) {
             return new ListItem(new ElementBuilder(item));
@@ -101,20 +123,18 @@ public final class List
      * @throws AutomationException Something has gone wrong
      */
     public ListItem getItem(Pattern namePattern) throws AutomationException {
-        java.util.List<Element> collection;
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.ListItem);
 
-        Element foundElement = null;
-
-        collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createControlTypeCondition(ControlType.ListItem));
-
-        for (Element element : collection) {
-            String name = element.getName();
+        final Element foundElement;
 
-            if (name != null && namePattern.matcher(name).matches()) {
-                foundElement = element;
-                break;
-            }
+        try {
+            foundElement = this.findFirstByName(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition,
+                    namePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement == null) {
@@ -133,11 +153,27 @@ public final class List
      */
     public ListItem getItemByAutomationId(final String automationId)
             throws AutomationException {
-        Element item = this.findFirst(
-                new TreeScope(TreeScope.DESCENDANTS),
-                    this.createAndCondition(
-                        this.createAutomationIdPropertyCondition(automationId),
-                        this.createControlTypeCondition(ControlType.ListItem)));
+        final PointerByReference pId =
+                this.createAutomationIdPropertyCondition(automationId);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.ListItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pId, pType);
+        } finally {
+            ConditionCache.release(pId);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item != null) {
             return new ListItem(new ElementBuilder(item));
@@ -154,9 +190,17 @@ public final class List
      */
     public java.util.List<ListItem> getItems()
             throws AutomationException {
-        java.util.List<Element> items =
-                this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-                        this.createControlTypeCondition(ControlType.ListItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.ListItem);
+
+        java.util.List<Element> items;
+
+        try {
+            items = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         java.util.List<ListItem> list = new ArrayList<>();
 
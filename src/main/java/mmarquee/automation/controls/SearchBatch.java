@@ -0,0 +1,517 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.controls;
+
+import mmarquee.automation.AutomationException;
+import mmarquee.automation.Condition;
+import mmarquee.automation.ControlType;
+import mmarquee.automation.Element;
+import mmarquee.automation.ElementList;
+import mmarquee.automation.ElementNotFoundException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Several searches, found together with one pass over the descendants of a
+ * container.
+ *
+ * Finding each control with its own getter searches the container's
+ * descendants once per control, which for a page object of many controls
+ * is the same tree searched many times. Here the descendants are found
+ * once, along with their names, automation ids, class names and control
+ * types, and every search is matched against them.
+ *
+ * <pre>
+ * SearchBatch batch = new SearchBatch()
+ *         .add(ControlType.Button, Search.getBuilder("OK").build())
+ *         .add(ControlType.Edit, Search.getBuilder().automationId("user").build());
+ *
+ * java.util.List&lt;AutomationBase&gt; controls = window.getControls(batch);
+ * Button ok = (Button) controls.get(0);
+ * </pre>
+ *
+ * Each search matches the elements that have every criterion it sets,
+ * being the name, name pattern, automation id and class name, and takes the
+ * one at its index, or the first. Rows and columns are not supported.
+ *
+ * A search for a control type by index alone counts the container itself
+ * first, when it is of that type, as getElementByControlType(int,
+ * ControlType) searches the subtree rather than the descendants. Every
+ * other search only matches descendants, as the single getters do.
+ *
+ * Searches may match the same element. Each control then gets an Element
+ * of its own, so closing one control does not release another's element.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class SearchBatch {
+
+    /**
+     * The searches, in the order they were added.
+     */
+    private final java.util.List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Adds a search for a control of the given type.
+     *
+     * @param controlType The control type
+     * @param search The search criteria
+     * @return This batch
+     */
+    public SearchBatch add(final ControlType controlType,
+                           final Search search) {
+        if (controlType == null) {
+            throw new IllegalArgumentException("Control type must not be null");
+        }
+
+        this.entries.add(new Entry(controlType, search));
+        return this;
+    }
+
+    /**
+     * Adds a search for a control of any type.
+     *
+     * @param search The search criteria
+     * @return This batch
+     */
+    public SearchBatch add(final Search search) {
+        this.entries.add(new Entry(null, search));
+        return this;
+    }
+
+    /**
+     * Gets the number of searches.
+     *
+     * @return The number of searches
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the condition that every element found must match, being one of
+     * the control types searched for, if each search has one.
+     *
+     * @return The condition
+     */
+    Condition getCondition() {
+        final Set<Condition> types = new LinkedHashSet<>();
+
+        for (Entry entry : this.entries) {
+            if (entry.controlType == null) {
+                return Condition.TRUE;
+            }
+
+            types.add(Condition.controlType(entry.controlType));
+        }
+
+        return Condition.anyOf(types.toArray(new Condition[0]));
+    }
+
+    /**
+     * Checks that every search can be matched.
+     *
+     * @throws AutomationException A search has nothing to match on
+     */
+    void validate() throws AutomationException {
+        for (Entry entry : this.entries) {
+            if (!entry.search.getHasName()
+                    && !entry.search.getHasNamePattern()
+                    && !entry.search.getHasAutomationId()
+                    && !entry.search.getHasClassName()
+                    && !entry.search.getHasIndex()) {
+                throw new AutomationException("Search type not found");
+            }
+        }
+    }
+
+    /**
+     * Matches the searches against the elements found, releasing the
+     * elements that are not used, or all of them if a search fails.
+     *
+     * @param parent The container searched
+     * @param elements The elements found, in tree order
+     * @param cached Whether the elements were found with the properties
+     *               matched on cached
+     * @return The controls, in the order the searches were added
+     * @throws AutomationException A search was not found, or an error in
+     *         the automation library
+     */
+    java.util.List<AutomationBase> match(
+            final AutomationBase parent,
+            final java.util.List<Element> elements,
+            final boolean cached)
+            throws AutomationException {
+        final java.util.List<Candidate> candidates =
+                new ArrayList<>(elements.size());
+
+        for (Element element : elements) {
+            candidates.add(new Candidate(element, cached, false));
+        }
+
+        final Candidate container =
+                new Candidate(parent.getElement(), false, true);
+
+        final java.util.List<Element> copies = new ArrayList<>();
+
+        boolean complete = false;
+
+        try {
+            final java.util.List<AutomationBase> controls =
+                    new ArrayList<>(this.entries.size());
+
+            for (Entry entry : this.entries) {
+                final Candidate found = entry.find(container, candidates);
+
+                if (found == null) {
+                    throw new ElementNotFoundException(entry.toString());
+                }
+
+                final Element element;
+
+                if (found.used || found.container) {
+                    element = found.element.copy();
+                    copies.add(element);
+                } else {
+                    element = found.element;
+                }
+
+                found.used = true;
+
+                final String className = found.getClassName();
+
+                controls.add(AutomationControlFactory.get(parent,
+                        ControlType.fromValue(found.getControlType()),
+                        className == null ? "" : className,
+                        element));
+            }
+
+            complete = true;
+
+            return controls;
+        } finally {
+            for (Candidate candidate : candidates) {
+                if (!candidate.used || !complete) {
+                    candidate.element.close();
+                }
+            }
+
+            if (!complete) {
+                for (Element copy : copies) {
+                    copy.close();
+                }
+            }
+
+            if (elements instanceof ElementList) {
+                ((ElementList) elements).close();
+            }
+        }
+    }
+
+    /**
+     * A search, and the type of control it is for.
+     */
+    private static final class Entry {
+        /**
+         * The control type, or null for any.
+         */
+        private final ControlType controlType;
+
+        /**
+         * The search criteria.
+         */
+        private final Search search;
+
+        /**
+         * Constructor for the Entry.
+         *
+         * @param inControlType The control type, or null for any
+         * @param inSearch The search criteria
+         */
+        Entry(final ControlType inControlType, final Search inSearch) {
+            if (inSearch == null) {
+                throw new IllegalArgumentException("Search must not be null");
+            }
+
+            this.controlType = inControlType;
+            this.search = inSearch;
+        }
+
+        /**
+         * Finds the candidate at the search's index among those that match.
+         *
+         * @param container The container searched, which only a search of
+         *                  the subtree can match
+         * @param candidates The descendants, in tree order
+         * @return The candidate, or null if there is none
+         * @throws AutomationException Error in automation library
+         */
+        Candidate find(final Candidate container,
+                       final java.util.List<Candidate> candidates)
+                throws AutomationException {
+            int remaining = this.search.getHasIndex()
+                    ? this.search.getIndex()
+                    : 0;
+
+            if (this.searchesSubtree()
+                    && this.matches(container)
+                    && remaining-- == 0) {
+                return container;
+            }
+
+            for (Candidate candidate : candidates) {
+                if (this.matches(candidate) && remaining-- == 0) {
+                    return candidate;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Whether the single getter for the search looks in the subtree,
+         * including the container, which is the case for a control type
+         * and an index alone.
+         *
+         * @return True if the container is counted
+         */
+        private boolean searchesSubtree() {
+            return this.controlType != null
+                    && this.search.getHasIndex()
+                    && !this.search.getHasName()
+                    && !this.search.getHasNamePattern()
+                    && !this.search.getHasAutomationId()
+                    && !this.search.getHasClassName();
+        }
+
+        /**
+         * Whether the candidate matches every criterion of the search.
+         *
+         * @param candidate The candidate
+         * @return True if it matches
+         * @throws AutomationException Error in automation library
+         */
+        private boolean matches(final Candidate candidate)
+                throws AutomationException {
+            if (this.controlType != null
+                    && candidate.getControlType() != this.controlType.getValue()) {
+                return false;
+            }
+
+            if (this.search.getHasName()
+                    && !this.search.getName().equals(candidate.getName())) {
+                return false;
+            }
+
+            if (this.search.getHasNamePattern()) {
+                final String name = candidate.getName();
+
+                if (name == null
+                        || !this.search.getNamePattern().matcher(name).matches()) {
+                    return false;
+                }
+            }
+
+            if (this.search.getHasAutomationId()
+                    && !this.search.getAutomationId().equals(
+                            candidate.getAutomationId())) {
+                return false;
+            }
+
+            return !this.search.getHasClassName()
+                    || this.search.getClassName().equals(
+                            candidate.getClassName());
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder(
+                    this.controlType == null
+                            ? "Control"
+                            : this.controlType.toString());
+
+            if (this.search.getHasName()) {
+                builder.append(" name='").append(this.search.getName()).append("'");
+            }
+
+            if (this.search.getHasNamePattern()) {
+                builder.append(" name~'").append(this.search.getNamePattern()).append("'");
+            }
+
+            if (this.search.getHasAutomationId()) {
+                builder.append(" automationId='")
+                        .append(this.search.getAutomationId()).append("'");
+            }
+
+            if (this.search.getHasClassName()) {
+                builder.append(" className='")
+                        .append(this.search.getClassName()).append("'");
+            }
+
+            if (this.search.getHasIndex()) {
+                builder.append(" index=").append(this.search.getIndex());
+            }
+
+            return builder.toString();
+        }
+    }
+
+    /**
+     * An element found, with the properties matched on, each read once.
+     */
+    private static final class Candidate {
+        /**
+         * The element.
+         */
+        private final Element element;
+
+        /**
+         * Whether the properties are cached.
+         */
+        private final boolean cached;
+
+        /**
+         * Whether the element is the container's own, which is never
+         * released here.
+         */
+        private final boolean container;
+
+        /**
+         * Whether a search has taken the element.
+         */
+        private boolean used;
+
+        /**
+         * The control type, once read.
+         */
+        private Integer controlType;
+
+        /**
+         * Whether the name has been read.
+         */
+        private boolean hasName;
+
+        /**
+         * The name, once read.
+         */
+        private String name;
+
+        /**
+         * Whether the automation id has been read.
+         */
+        private boolean hasAutomationId;
+
+        /**
+         * The automation id, once read.
+         */
+        private String automationId;
+
+        /**
+         * Whether the class name has been read.
+         */
+        private boolean hasClassName;
+
+        /**
+         * The class name, once read.
+         */
+        private String className;
+
+        /**
+         * Constructor for the Candidate.
+         *
+         * @param inElement The element
+         * @param inCached Whether the properties are cached
+         * @param inContainer Whether the element is the container's own
+         */
+        Candidate(final Element inElement,
+                  final boolean inCached,
+                  final boolean inContainer) {
+            this.element = inElement;
+            this.cached = inCached;
+            this.container = inContainer;
+        }
+
+        /**
+         * Gets the control type.
+         *
+         * @return The control type
+         * @throws AutomationException Error in automation library
+         */
+        int getControlType() throws AutomationException {
+            if (this.controlType == null) {
+                this.controlType = this.cached
+                        ? this.element.getCachedControlType()
+                        : this.element.getControlType();
+            }
+
+            return this.controlType;
+        }
+
+        /**
+         * Gets the name.
+         *
+         * @return The name
+         * @throws AutomationException Error in automation library
+         */
+        String getName() throws AutomationException {
+            if (!this.hasName) {
+                this.name = this.cached
+                        ? this.element.getCachedName()
+                        : this.element.getName();
+                this.hasName = true;
+            }
+
+            return this.name;
+        }
+
+        /**
+         * Gets the automation id.
+         *
+         * @return The automation id
+         * @throws AutomationException Error in automation library
+         */
+        String getAutomationId() throws AutomationException {
+            if (!this.hasAutomationId) {
+                this.automationId = this.cached
+                        ? this.element.getCachedAutomationId()
+                        : this.element.getAutomationId();
+                this.hasAutomationId = true;
+            }
+
+            return this.automationId;
+        }
+
+        /**
+         * Gets the class name.
+         *
+         * @return The class name
+         * @throws AutomationException Error in automation library
+         */
+        String getClassName() throws AutomationException {
+            if (!this.hasClassName) {
+                this.className = this.cached
+                        ? this.element.getCachedClassName()
+                        : this.element.getClassName();
+                this.hasClassName = true;
+            }
+
+            return this.className;
+        }
+    }
+}
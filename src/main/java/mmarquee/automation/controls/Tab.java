@@ -16,8 +16,10 @@
 
 package mmarquee.automation.controls;
 
+import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.ConditionCache;
 import mmarquee.automation.ControlType;
 import mmarquee.automation.ElementNotFoundException;
 import mmarquee.automation.pattern.PatternNotFoundException;
@@ -43,9 +45,17 @@ public class Tab extends Container {
         List<TabItem> tabItems = new ArrayList<>();
 
         try {
-            List<Element> collection =
-                    this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-                            this.createControlTypeCondition(ControlType.TabItem));
+            final PointerByReference condition =
+                    this.createControlTypeCondition(ControlType.TabItem);
+
+            List<Element> collection;
+
+            try {
+                collection = this.findAll(
+                        new TreeScope(TreeScope.DESCENDANTS), condition);
+            } finally {
+                ConditionCache.release(condition);
+            }
 
             for (Element elem : collection) {
                 tabItems.add(
@@ -89,18 +99,26 @@ public class Tab extends Container {
      */
     public void selectTabPage(final Pattern namePattern) throws AutomationException, PatternNotFoundException {
 
-        boolean found = false;
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.TabItem);
 
-        for (TabItem item: this.getTabItems()) {
-            final String name = item.getName();
-            
-			if (name != null && namePattern.matcher(name).matches()) {
-                found = true;
-                item.selectItem();
-            }
+        final List<Element> collection;
+
+        try {
+            collection = this.findAllByName(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition,
+                    namePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
-        if (!found) {
+        for (Element elem : collection) {
+            new TabItem(new ElementBuilder(elem)
+                    .automation(this.getAutomation())).selectItem();
+        }
+
+        if (collection.isEmpty()) {
             throw new ElementNotFoundException();
         }
     }
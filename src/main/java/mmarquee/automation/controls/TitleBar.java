@@ -18,6 +18,7 @@ package mmarquee.automation.controls;
 import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.ConditionCache;
 import mmarquee.automation.ControlType;
 import mmarquee.automation.controls.menu.MainMenu;
 import mmarquee.uiautomation.TreeScope;
@@ -47,10 +48,15 @@ public final class TitleBar extends Container {
         PointerByReference condition = this.getAutomation()
                 .createControlTypeCondition(ControlType.MenuBar);
 
-        Element element =
-                this.getElement().findFirst(
-                        new TreeScope(TreeScope.DESCENDANTS),
-                        condition);
+        Element element;
+
+        try {
+            element = this.getElement().findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         return new MainMenu(new ElementBuilder(element).parent(this.getElement()));
     }
@@ -15,9 +15,9 @@
  */
 package mmarquee.automation.controls;
 
-import java.util.List;
 import java.util.regex.Pattern;
 
+import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.*;
 import mmarquee.uiautomation.TreeScope;
 
@@ -64,11 +64,26 @@ public class TreeView extends AutomationBase {
      */
     public TreeViewItem getItem(final String name)
             throws AutomationException {
-        Element item = this.findFirst(
-                new TreeScope(TreeScope.DESCENDANTS),
-                    this.createAndCondition(
-                        this.createNamePropertyCondition(name),
-                        this.createControlTypeCondition(ControlType.TreeItem)));
+        final PointerByReference pName = this.createNamePropertyCondition(name);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.TreeItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item != null) {
             return new TreeViewItem(new ElementBuilder(item));
@@ -85,20 +100,18 @@ public class TreeView extends AutomationBase {
      */
     public TreeViewItem getItem(final Pattern namePattern)
             throws AutomationException {
-        List<Element> collection;
-
-        Element foundElement = null;
-
-        collection = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-        		this.createControlTypeCondition(ControlType.TreeItem));
-
-        for (Element element : collection) {
-            String name = element.getName();
-
-            if (name != null && namePattern.matcher(name).matches()) {
-                foundElement = element;
-                break;
-            }
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.TreeItem);
+
+        final Element foundElement;
+
+        try {
+            foundElement = this.findFirstByName(
+                    new TreeScope(TreeScope.DESCENDANTS),
+                    condition,
+                    namePattern);
+        } finally {
+            ConditionCache.release(condition);
         }
 
         if (foundElement == null) {
@@ -116,11 +129,27 @@ public class TreeView extends AutomationBase {
      */
     public TreeViewItem getItemByAutomationId(final String automationId)
             throws AutomationException {
-        Element item = this.findFirst(
-                new TreeScope(TreeScope.DESCENDANTS),
-                    this.createAndCondition(
-                        this.createAutomationIdPropertyCondition(automationId),
-                        this.createControlTypeCondition(ControlType.TreeItem)));
+        final PointerByReference pId =
+                this.createAutomationIdPropertyCondition(automationId);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.TreeItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pId, pType);
+        } finally {
+            ConditionCache.release(pId);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item != null) {
             return new TreeViewItem(new ElementBuilder(item));
@@ -26,8 +26,10 @@ import com.sun.jna.ptr.PointerByReference;
 
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.ConditionCache;
 import mmarquee.automation.ControlType;
 import mmarquee.automation.ElementNotFoundException;
+import mmarquee.automation.Poller;
 import mmarquee.automation.controls.menu.MainMenu;
 import mmarquee.automation.controls.menu.SystemMenu;
 import mmarquee.uiautomation.TreeScope;
@@ -167,9 +169,9 @@ public class Window
     }
 
     /**
-     * Number of retries.
+     * How long to keep looking for a child window, in milliseconds.
      */
-    private static final int WINDOW_RETRIES = 10;
+    private static final long WINDOW_TIMEOUT = 10 * SLEEP_DURATION;
 
     /**
      * Finds the child window with the given title.
@@ -179,32 +181,36 @@ public class Window
      */
     public Window getWindow(final String title)
             throws AutomationException {
-        Element item = null;
-
-        for (int count = 0; count < WINDOW_RETRIES; count++) {
-            try {
-                item = this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-                        this.createAndCondition(
-                                this.createNamePropertyCondition(title),
-                                this.createControlTypeCondition(
-                                        ControlType.Window)));
-            } catch (ElementNotFoundException ex) {
-                getLogger().warn("Failed to find `" + title + "` window");
-            }
+        final PointerByReference pName =
+                this.createNamePropertyCondition(title);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.Window);
+        final PointerByReference pAndCondition;
+
+        try {
+            pAndCondition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
 
-            if (item != null) {
-                getLogger().warn("Found window");
-                break;
-            } else {
-                try {
-                    getLogger().warn(
-                            "Did not find `" + title + "` window, retrying");
-                    // Wait for it
-                    Thread.sleep(SLEEP_DURATION);
-                } catch (InterruptedException ex) {
-                    // interrupted
-                }
-            }
+        Element item;
+
+        try {
+            item = new Poller("Window.getWindow", WINDOW_TIMEOUT)
+                    .poll(() -> {
+                        try {
+                            return this.findFirst(
+                                    new TreeScope(TreeScope.DESCENDANTS),
+                                    pAndCondition);
+                        } catch (ElementNotFoundException ex) {
+                            getLogger().debug("Did not find `"
+                                    + title + "` window, retrying");
+                            return null;
+                        }
+                    });
+        } finally {
+            ConditionCache.release(pAndCondition);
         }
 
         if (item == null) {
@@ -222,39 +228,35 @@ public class Window
      */
     public Window getWindow(Pattern titlePattern)
             throws AutomationException {
-        Element item = null;
-
-        retry_loop: for (int loop = 0; loop < WINDOW_RETRIES; loop++) {
-            try {
-                List<Element> collection =
-                		this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-                				this.createControlTypeCondition(
-                				        ControlType.Window));
-                
-                for (Element element : collection) {
-                    String name = element.getName();
-
-                    if (name != null && titlePattern.matcher(name).matches()) {
-                    	item = element;
-                        break retry_loop;
-                    }
-                }
-                
-            } catch (AutomationException ex) {
-                getLogger().info("Failed");
-            }
-
-            getLogger().warn(
-                    "Did not find window matching `" + titlePattern + "`, retrying");
-            // Wait for it
-            try {
-				Thread.sleep(SLEEP_DURATION);
-			} catch (InterruptedException e) {
-                // interrupted
-                getLogger().info("interrupted");
-			}
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.Window);
+
+        Element item;
+
+        try {
+            item = new Poller("Window.getWindow", WINDOW_TIMEOUT)
+                    .poll(() -> {
+                        try {
+                            Element element = this.findFirstByName(
+                                    new TreeScope(TreeScope.DESCENDANTS),
+                                    pType,
+                                    titlePattern);
+
+                            if (element != null) {
+                                return element;
+                            }
+                        } catch (AutomationException ex) {
+                            getLogger().debug("Failed");
+                        }
+
+                        getLogger().debug("Did not find window matching `"
+                                + titlePattern + "`, retrying");
+                        return null;
+                    });
+        } finally {
+            ConditionCache.release(pType);
         }
-        
+
         if (item == null) {
             throw new ElementNotFoundException(
                     "matching " + titlePattern.toString());
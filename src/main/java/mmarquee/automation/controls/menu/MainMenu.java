@@ -30,8 +30,8 @@ import mmarquee.automation.Element;
 import mmarquee.automation.controls.ElementBuilder;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.uiautomation.IUIAutomationExpandCollapsePattern;
-import mmarquee.uiautomation.IUIAutomationExpandCollapsePatternConverter;
 import mmarquee.uiautomation.TreeScope;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the MainMenu element.
@@ -88,7 +88,7 @@ public class MainMenu extends Menu {
                 new Guid.REFIID(IUIAutomationExpandCollapsePattern.IID),
                 pUnknownA);
         if (COMUtils.SUCCEEDED(resultA)) {
-            return IUIAutomationExpandCollapsePatternConverter.pointerToInterface(pUnknownA);
+            return VTableDispatcher.pointerToInterface(IUIAutomationExpandCollapsePattern.class, pUnknownA);
         } else {
             throw new AutomationException("QueryInterface failed");
         }
@@ -108,7 +108,7 @@ public class MainMenu extends Menu {
     }
 
     /**
-     * Sleep period to ensure menu is shown.
+     * How long to wait for the menu to be shown, in milliseconds.
      */
     private final static int WAIT_TIME = 750;
 
@@ -125,11 +125,27 @@ public class MainMenu extends Menu {
             throws PatternNotFoundException, AutomationException {
 
 
-        Element item = this.findFirst(
-                new TreeScope(TreeScope.CHILDREN),
-                    this.createAndCondition(
-                        this.createNamePropertyCondition(name0),
-                        this.createControlTypeCondition(ControlType.MenuItem)));
+        final PointerByReference pName =
+                this.createNamePropertyCondition(name0);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.MenuItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.CHILDREN), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         if (item == null) {
             throw new ItemNotFoundException("Failed to find element: " + name0);
@@ -146,14 +162,10 @@ public class MainMenu extends Menu {
         
 
         menuItem.expand();
-        
-        try {
-            Thread.sleep(WAIT_TIME);
-        } catch (Exception ex) {
-            // Seems to be fine
-        }
-        
-        return menuItem.getMenuItem(name1);
+
+        // Wait for the menu to be shown
+        return new Poller("MainMenu.getMenuItem", WAIT_TIME)
+                .poll(() -> menuItem.getMenuItem(name1));
     }
 
     /**
@@ -171,8 +183,15 @@ public class MainMenu extends Menu {
 
         Element item = null;
 
-        collection = this.findAll(new TreeScope(TreeScope.CHILDREN),
-        		this.createControlTypeCondition(ControlType.MenuItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.MenuItem);
+
+        try {
+            collection = this.findAll(new TreeScope(TreeScope.CHILDREN),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         for (Element element : collection) {
             String name = element.getName();
@@ -198,14 +217,10 @@ public class MainMenu extends Menu {
         
 
         menuItem.expand();
-        
-        try {
-            Thread.sleep(WAIT_TIME);
-        } catch (Exception ex) {
-            // Seems to be fine
-        }
-        
-        return menuItem.getMenuItem(name1Pattern);
+
+        // Wait for the menu to be shown
+        return new Poller("MainMenu.getMenuItem", WAIT_TIME)
+                .poll(() -> menuItem.getMenuItem(name1Pattern));
     }
     
     /**
@@ -218,11 +233,27 @@ public class MainMenu extends Menu {
             final String automationId)
             throws AutomationException {
     	
-        Element item = this.findFirst(
-                new TreeScope(TreeScope.DESCENDANTS),
-                    this.createAndCondition(
-                        this.createAutomationIdPropertyCondition(automationId),
-                        this.createControlTypeCondition(ControlType.MenuItem)));
+        final PointerByReference pId =
+                this.createAutomationIdPropertyCondition(automationId);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.MenuItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pId, pType);
+        } finally {
+            ConditionCache.release(pId);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         return new MenuItem(new ElementBuilder(item));
     }
@@ -233,9 +264,17 @@ public class MainMenu extends Menu {
      * @throws AutomationException Something has gone wrong
      */
     public List<MenuItem> getItems() throws AutomationException {
-        List<Element> items =
-                this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-                        this.createControlTypeCondition(ControlType.MenuItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.MenuItem);
+
+        List<Element> items;
+
+        try {
+            items = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         List<MenuItem> list = new ArrayList<>();
         
@@ -20,8 +20,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.ConditionCache;
 import mmarquee.automation.ControlType;
 import mmarquee.automation.ItemNotFoundException;
 import mmarquee.automation.controls.AutomationBase;
@@ -57,9 +59,17 @@ public class Menu extends AutomationBase {
     public List<MenuItem> getItems()
             throws  AutomationException {
     	
-        List<Element> items =
-                this.findAll(new TreeScope(TreeScope.CHILDREN),
-                this.createControlTypeCondition(ControlType.MenuItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.MenuItem);
+
+        List<Element> items;
+
+        try {
+            items = this.findAll(new TreeScope(TreeScope.CHILDREN),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         List<MenuItem> list = new ArrayList<>();
 
@@ -94,10 +104,27 @@ public class Menu extends AutomationBase {
     public MenuItem getMenuItem(final String name)
             throws PatternNotFoundException, AutomationException {
 
-        Element item = this.findFirst(new TreeScope(TreeScope.CHILDREN),
-                this.createAndCondition(
-                        this.createNamePropertyCondition(name),
-                        this.createControlTypeCondition(ControlType.MenuItem)));
+        final PointerByReference pName =
+                this.createNamePropertyCondition(name);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.MenuItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.CHILDREN), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         return new MenuItem(new ElementBuilder(item));
     }
@@ -114,8 +141,15 @@ public class Menu extends AutomationBase {
 
         Element item = null;
 
-        collection = this.findAll(new TreeScope(TreeScope.CHILDREN),
-        		this.createControlTypeCondition(ControlType.MenuItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.MenuItem);
+
+        try {
+            collection = this.findAll(new TreeScope(TreeScope.CHILDREN),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         for (Element element : collection) {
             String name = element.getName();
@@ -141,11 +175,27 @@ public class Menu extends AutomationBase {
     public MenuItem getMenuItemByAutomationId(final String automationId)
             throws  AutomationException {
     	
-        Element item = this.findFirst(
-                new TreeScope(TreeScope.DESCENDANTS),
-                    this.createAndCondition(
-                        this.createAutomationIdPropertyCondition(automationId),
-                        this.createControlTypeCondition(ControlType.MenuItem)));
+        final PointerByReference pId =
+                this.createAutomationIdPropertyCondition(automationId);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.MenuItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pId, pType);
+        } finally {
+            ConditionCache.release(pId);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         return new MenuItem(new ElementBuilder(item));
     }
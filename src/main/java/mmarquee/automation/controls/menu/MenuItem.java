@@ -19,8 +19,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.automation.ConditionCache;
 import mmarquee.automation.ControlType;
 import mmarquee.automation.ElementNotFoundException;
 import mmarquee.automation.controls.AutomationBase;
@@ -84,9 +86,17 @@ public class MenuItem
     		return realMenu.getItems();
     	}
     	
-        List<Element> items =
-                this.findAll(new TreeScope(TreeScope.DESCENDANTS),
-                        this.createControlTypeCondition(ControlType.MenuItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.MenuItem);
+
+        List<Element> items;
+
+        try {
+            items = this.findAll(new TreeScope(TreeScope.DESCENDANTS),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         List<MenuItem> list = new ArrayList<>();
 
@@ -141,10 +151,27 @@ public class MenuItem
     		return realMenu.getMenuItem(name);
     	}
 
-        Element item = this.findFirst(new TreeScope(TreeScope.CHILDREN),
-                this.createAndCondition(
-                        this.createNamePropertyCondition(name),
-                        this.createControlTypeCondition(ControlType.MenuItem)));
+        final PointerByReference pName =
+                this.createNamePropertyCondition(name);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.MenuItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pName, pType);
+        } finally {
+            ConditionCache.release(pName);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.CHILDREN), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         return new MenuItem(new ElementBuilder(item));
     }
@@ -172,8 +199,15 @@ public class MenuItem
 
         Element item = null;
 
-        collection = this.findAll(new TreeScope(TreeScope.CHILDREN),
-        		this.createControlTypeCondition(ControlType.MenuItem));
+        final PointerByReference condition =
+                this.createControlTypeCondition(ControlType.MenuItem);
+
+        try {
+            collection = this.findAll(new TreeScope(TreeScope.CHILDREN),
+                    condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         for (Element element : collection) {
             String name = element.getName();
@@ -211,11 +245,27 @@ public class MenuItem
     		return realMenu.getMenuItemByAutomationId(automationId);
     	}
 
-        Element item =
-                this.findFirst(new TreeScope(TreeScope.DESCENDANTS),
-                this.createAndCondition(
-                        this.createAutomationIdPropertyCondition(automationId),
-                        this.createControlTypeCondition(ControlType.MenuItem)));
+        final PointerByReference pId =
+                this.createAutomationIdPropertyCondition(automationId);
+        final PointerByReference pType =
+                this.createControlTypeCondition(ControlType.MenuItem);
+        final PointerByReference condition;
+
+        try {
+            condition = this.createAndCondition(pId, pType);
+        } finally {
+            ConditionCache.release(pId);
+            ConditionCache.release(pType);
+        }
+
+        Element item;
+
+        try {
+            item = this.findFirst(
+                    new TreeScope(TreeScope.DESCENDANTS), condition);
+        } finally {
+            ConditionCache.release(condition);
+        }
 
         return new MenuItem(new ElementBuilder(item));
     }
@@ -232,11 +282,27 @@ public class MenuItem
     		return null;
     	}
     	try {
-	    	Element item = mainMenuParentElement.findFirst(
-	    	        new TreeScope(TreeScope.DESCENDANTS),
-                    this.createAndCondition(
-	                        this.createNamePropertyCondition(parentMenuName),
-	                        this.createControlTypeCondition(ControlType.Menu)));
+            final PointerByReference pName =
+                    this.createNamePropertyCondition(parentMenuName);
+            final PointerByReference pType =
+                    this.createControlTypeCondition(ControlType.Menu);
+            final PointerByReference condition;
+
+            try {
+                condition = this.createAndCondition(pName, pType);
+            } finally {
+                ConditionCache.release(pName);
+                ConditionCache.release(pType);
+            }
+
+            Element item;
+
+            try {
+                item = mainMenuParentElement.findFirst(
+                        new TreeScope(TreeScope.DESCENDANTS), condition);
+            } finally {
+                ConditionCache.release(condition);
+            }
 
             if (item == null) {
                 return null;
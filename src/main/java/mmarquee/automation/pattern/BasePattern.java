@@ -15,6 +15,11 @@
  */
 package mmarquee.automation.pattern;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import mmarquee.automation.*;
@@ -22,6 +27,7 @@ import mmarquee.automation.*;
 import com.sun.jna.platform.win32.Guid;
 import com.sun.jna.platform.win32.WinNT;
 import com.sun.jna.platform.win32.COM.COMUtils;
+import com.sun.jna.platform.win32.COM.IUnknown;
 import com.sun.jna.platform.win32.COM.Unknown;
 import com.sun.jna.ptr.PointerByReference;
 
@@ -31,12 +37,26 @@ import org.apache.logging.log4j.Logger;
 import mmarquee.automation.Element;
 import mmarquee.uiautomation.IUIAutomationElement;
 import mmarquee.uiautomation.IUIAutomationElementArray;
-import mmarquee.uiautomation.IUIAutomationElementArrayConverter;
-import mmarquee.uiautomation.IUIAutomationElementConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * The base pattern functionality, shared for all patterns.
  *
+ * The COM references obtained for the pattern are released by release
+ * (the element is not, as it belongs to the control). This is not close,
+ * as Window already uses that to close the window.
+ *
+ * The pattern interface is fetched from the element when first used, and
+ * kept until the pattern is released or invalidated, so that each later
+ * call on the pattern is a single call to the provider.
+ *
+ * Controls check that a pattern is usable before calling it. Once the
+ * interface is held, the pattern is known to be there. In optimistic mode,
+ * set with setOptimistic or the mmarquee.automation.optimisticPatterns
+ * system property, the element is not asked whether the pattern is
+ * available at all; fetching the interface finds that out, throwing
+ * PatternNotFoundException if the element does not have the pattern.
+ *
  * @author Mark Humphreys
  * Date 29/02/2016
  */
@@ -48,6 +68,12 @@ public abstract class BasePattern
      */
     final Logger logger = LogManager.getLogger(BasePattern.class.getName());
 
+    /**
+     * Whether to call patterns without checking that they are available.
+     */
+    private static volatile boolean optimistic =
+            Boolean.getBoolean("mmarquee.automation.optimisticPatterns");
+
     /**
      * The guid of the pattern.
      */
@@ -68,6 +94,21 @@ public abstract class BasePattern
      */
     protected PropertyID availabilityPropertyID;
 
+    /**
+     * The COM references obtained for the pattern.
+     */
+    private final List<ComReference> references = new ArrayList<>();
+
+    /**
+     * The pattern interfaces fetched, by interface type.
+     */
+    private final Map<Class<?>, Object> interfaces = new ConcurrentHashMap<>();
+
+    /**
+     * The number of times a pattern interface has been fetched.
+     */
+    private final AtomicInteger fetches = new AtomicInteger();
+
     /**
      * Constructor for BasePattern.
      *
@@ -79,6 +120,39 @@ public abstract class BasePattern
         this.element = element;
     }
 
+    /**
+     * Sets whether patterns are called without first checking that they
+     * are available.
+     *
+     * @param value True to call without checking
+     */
+    public static void setOptimistic(final boolean value) {
+        optimistic = value;
+    }
+
+    /**
+     * Gets whether patterns are called without first checking that they
+     * are available.
+     *
+     * @return True if patterns are called without checking
+     */
+    public static boolean isOptimistic() {
+        return optimistic;
+    }
+
+    /**
+     * Whether a call can be made on the pattern. This is so in optimistic
+     * mode, or once the pattern interface is held, as fetching the
+     * interface reports a missing pattern; otherwise the element is asked
+     * whether the pattern is available.
+     *
+     * @param pattern The pattern
+     * @return True to make the call
+     */
+    public static boolean isUsable(final BasePattern pattern) {
+        return optimistic || pattern.hasPattern() || pattern.isAvailable();
+    }
+
     /**
      * Gets the pattern id.
      *
@@ -94,13 +168,21 @@ public abstract class BasePattern
      */
     public boolean isAvailable() {
         try {
-            final Object propertyValue = this.element.getPropertyValue(availabilityPropertyID.getValue());
-            return BaseAutomation.isPropertyValueTrue(propertyValue);
+            return this.element.getBooleanProperty(availabilityPropertyID);
         } catch (AutomationException ex) {
             return false;
         }
     }
 
+    /**
+     * Whether a pattern interface has been fetched, and is held.
+     *
+     * @return True if an interface is held
+     */
+    public boolean hasPattern() {
+        return !this.interfaces.isEmpty();
+    }
+
     /**
      * Gets the raw pointer to the pattern.
      * @param pbr The raw pointer
@@ -116,15 +198,66 @@ public abstract class BasePattern
         	throw new PatternNotFoundException(e);
 		}
 
-//    	if (unknown == null) {
-//        	logger.warn("Failed to find pattern");
-//        	throw new PatternNotFoundException("Failed to find pattern");
-//    	}
+        if (unknown == null || unknown.getValue() == null) {
+            throw new PatternNotFoundException(
+                    "Failed to find pattern " + patternID);
+        }
 
         Unknown uElement = makeUnknown(unknown.getValue());
+        this.track(uElement);
+
         return uElement.QueryInterface(new Guid.REFIID(this.IID), pbr);
     }
 
+    /**
+     * Tracks a COM reference, to be released with the pattern.
+     *
+     * @param unknown The COM interface
+     */
+    private void track(final IUnknown unknown) {
+        final ComReference reference = ComReference.track(this, unknown);
+
+        synchronized (this.references) {
+            this.references.add(reference);
+        }
+    }
+
+    /**
+     * Releases the COM references obtained for the pattern.
+     */
+    public void release() {
+        synchronized (this.interfaces) {
+            this.interfaces.clear();
+
+            synchronized (this.references) {
+                for (ComReference reference : this.references) {
+                    reference.release();
+                }
+
+                this.references.clear();
+            }
+        }
+    }
+
+    /**
+     * Forgets the pattern interfaces that have been fetched, so that they
+     * are fetched from the element again when next used, such as when the
+     * ones held have gone stale.
+     */
+    public void invalidate() {
+        this.release();
+    }
+
+    /**
+     * Gets the number of times a pattern interface has been fetched from
+     * the element.
+     *
+     * @return The number of fetches
+     */
+    public int getFetchCount() {
+        return this.fetches.get();
+    }
+
     /**
      * Returns the Class of the unmocked pattern class.
      * @return the class without mocking
@@ -155,15 +288,66 @@ public abstract class BasePattern
         } else {
             PointerByReference pbr = new PointerByReference();
 
+            this.fetches.incrementAndGet();
+
             WinNT.HRESULT result0 = null;
 			result0 = this.getRawPatternPointer(pbr);
 
             if (COMUtils.SUCCEEDED(result0)) {
-                return (T) convertPointerToInterface.apply(pbr);
+                final T pattern = convertPointerToInterface.apply(pbr);
+
+                if (pattern instanceof IUnknown) {
+                    this.track((IUnknown) pattern);
+                }
+
+                return pattern;
             } else {
-                throw new AutomationException(result0.intValue());
+                throw new PatternNotFoundException(
+                        new AutomationException(result0.intValue()));
+            }
+        }
+    }
+
+    /**
+     * Gets a pattern interface, or returns the override pattern. The
+     * interface is fetched the first time, and kept for later calls.
+     *
+     * @param <T> The class of the pattern to return
+     * @param overridePattern the pattern to use if set
+     * @param type The interface type
+     * @param convertPointerToInterface the method to convert the result pointer
+     * @return the pattern interface
+     * @throws AutomationException if something goes wrong
+     */
+    protected <T> T getPattern(final T overridePattern,
+                               final Class<T> type,
+                               final Function<PointerByReference, T> convertPointerToInterface)
+            throws AutomationException {
+        if (overridePattern != null) {
+            return overridePattern;
+        }
+
+        Object pattern = this.interfaces.get(type);
+
+        if (pattern == null) {
+            synchronized (this.interfaces) {
+                pattern = this.interfaces.get(type);
+
+                if (pattern == null) {
+                    final T fetched =
+                            this.getPattern(null, convertPointerToInterface);
+
+                    if (fetched == null) {
+                        return null;
+                    }
+
+                    this.interfaces.put(type, fetched);
+                    pattern = fetched;
+                }
             }
         }
+
+        return type.cast(pattern);
     }
 	 /**
      * Converts the unknown value to a IUIAutomationElement.
@@ -172,7 +356,7 @@ public abstract class BasePattern
      */
     public IUIAutomationElement convertPointerToElementInterface(
             final PointerByReference pUnknownA) {
-        return IUIAutomationElementConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationElement.class, pUnknownA);
     }
 
     /**
@@ -182,6 +366,6 @@ public abstract class BasePattern
      */
     public IUIAutomationElementArray convertPointerToElementArrayInterface(
             final PointerByReference pUnknownA) {
-        return IUIAutomationElementArrayConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationElementArray.class, pUnknownA);
     }
 }
@@ -23,7 +23,7 @@ import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationExpandCollapsePattern;
-import mmarquee.uiautomation.IUIAutomationExpandCollapsePatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for  the ExpandCollapse pattern.
@@ -57,7 +57,8 @@ public class ExpandCollapse extends BasePattern {
      */
     private IUIAutomationExpandCollapsePattern getPattern()
             throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationExpandCollapsePattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -105,6 +106,6 @@ public class ExpandCollapse extends BasePattern {
      */
     IUIAutomationExpandCollapsePattern convertPointerToInterface(
             final PointerByReference pUnknown) {
-        return IUIAutomationExpandCollapsePatternConverter.pointerToInterface(pUnknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationExpandCollapsePattern.class, pUnknown);
     }
 }
@@ -27,7 +27,7 @@ import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationElement;
 import mmarquee.uiautomation.IUIAutomationGridPattern;
-import mmarquee.uiautomation.IUIAutomationGridPatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * @author Mark Humphreys
@@ -62,7 +62,8 @@ public class Grid extends BasePattern {
      * @throws AutomationException Exception raised by library
      */
     private IUIAutomationGridPattern getPattern() throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationGridPattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -150,6 +151,6 @@ public class Grid extends BasePattern {
      * @return The converted pointer
      */
     IUIAutomationGridPattern convertPointerToInterface(PointerByReference pUnknownA) {
-        return IUIAutomationGridPatternConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationGridPattern.class, pUnknownA);
     }
 }
@@ -23,7 +23,7 @@ import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationGridItemPattern;
-import mmarquee.uiautomation.IUIAutomationGridItemPatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the GridItem pattern.
@@ -59,7 +59,8 @@ public class GridItem extends BasePattern {
      */
     private IUIAutomationGridItemPattern getPattern()
             throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationGridItemPattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -69,7 +70,7 @@ public class GridItem extends BasePattern {
      * @return The converted pointer
      */
     IUIAutomationGridItemPattern convertPointerToInterface(PointerByReference pUnknownA) {
-        return IUIAutomationGridItemPatternConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationGridItemPattern.class, pUnknownA);
     }
 
     /**
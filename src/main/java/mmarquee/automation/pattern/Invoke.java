@@ -22,7 +22,7 @@ import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationInvokePattern;
-import mmarquee.uiautomation.IUIAutomationInvokePatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the Invoke pattern.
@@ -57,7 +57,8 @@ public class Invoke extends BasePattern {
      * @throws AutomationException Something went wrong getting the pattern
      */
     private IUIAutomationInvokePattern getPattern() throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationInvokePattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -79,6 +80,6 @@ public class Invoke extends BasePattern {
      * @return The converted pointer
      */
     IUIAutomationInvokePattern convertPointerToInterface(PointerByReference pUnknown) {
-        return IUIAutomationInvokePatternConverter.pointerToInterface(pUnknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationInvokePattern.class, pUnknown);
     }
 }
@@ -21,13 +21,11 @@ import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.platform.win32.COM.COMUtils;
 import com.sun.jna.platform.win32.Variant;
-import com.sun.jna.platform.win32.WinNT;
 import com.sun.jna.ptr.PointerByReference;
 import mmarquee.uiautomation.IUIAutomationElement;
 import mmarquee.uiautomation.IUIAutomationItemContainerPattern;
-import mmarquee.uiautomation.IUIAutomationItemContainerPatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the item container.
@@ -61,19 +59,8 @@ public class ItemContainer extends BasePattern {
      * @throws AutomationException Something went wrong getting the pattern
      */
     private IUIAutomationItemContainerPattern getPattern() throws AutomationException {
-        if (this.rawPattern != null) {
-            return this.rawPattern;
-        } else {
-            PointerByReference pbr = new PointerByReference();
-
-            WinNT.HRESULT result0 = this.getRawPatternPointer(pbr);
-
-            if (COMUtils.SUCCEEDED(result0)) {
-                return this.convertPointerToInterface(pbr);
-            } else {
-                throw new AutomationException(result0.intValue());
-            }
-        }
+        return getPattern(this.rawPattern, IUIAutomationItemContainerPattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -82,7 +69,7 @@ public class ItemContainer extends BasePattern {
      * @return The converted interface
      */
     public IUIAutomationItemContainerPattern convertPointerToInterface(PointerByReference unknown) {
-        return IUIAutomationItemContainerPatternConverter.pointerToInterface(unknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationItemContainerPattern.class, unknown);
     }
 
     /**
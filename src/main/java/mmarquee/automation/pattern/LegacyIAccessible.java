@@ -15,17 +15,15 @@
  */
 package mmarquee.automation.pattern;
 
-import com.sun.jna.platform.win32.COM.COMUtils;
-import com.sun.jna.platform.win32.OleAuto;
 import com.sun.jna.platform.win32.WTypes;
-import com.sun.jna.platform.win32.WinNT;
 import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
+import mmarquee.uiautomation.Bstr;
 import mmarquee.uiautomation.IUIAutomationLegacyIAccessiblePattern;
-import mmarquee.uiautomation.IUIAutomationLegacyIAccessiblePatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Implements the LegacyIAccessible pattern.
@@ -59,19 +57,8 @@ public class LegacyIAccessible extends BasePattern {
      * @throws AutomationException Something went wrong getting the pattern
      */
     private IUIAutomationLegacyIAccessiblePattern getPattern() throws AutomationException {
-        if (this.rawPattern != null) {
-            return this.rawPattern;
-        } else {
-            PointerByReference pbr = new PointerByReference();
-
-            WinNT.HRESULT result0 = this.getRawPatternPointer(pbr);
-
-            if (COMUtils.SUCCEEDED(result0)) {
-                return this.convertPointerToInterface(pbr);
-            } else {
-                throw new AutomationException(result0.intValue());
-            }
-        }
+        return getPattern(this.rawPattern, IUIAutomationLegacyIAccessiblePattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -81,7 +68,7 @@ public class LegacyIAccessible extends BasePattern {
      * @return The converted interface
      */
     public IUIAutomationLegacyIAccessiblePattern convertPointerToInterface(PointerByReference unknown) {
-        return IUIAutomationLegacyIAccessiblePatternConverter.pointerToInterface(unknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationLegacyIAccessiblePattern.class, unknown);
     }
 
     /**
@@ -98,7 +85,7 @@ public class LegacyIAccessible extends BasePattern {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -108,7 +95,7 @@ public class LegacyIAccessible extends BasePattern {
      * @throws AutomationException Automation issue
      */
     public void setCurrentValue(String value) throws AutomationException {
-        WTypes.BSTR sysAllocated = OleAuto.INSTANCE.SysAllocString(value);
+        WTypes.BSTR sysAllocated = Bstr.allocate(value);
 
         try {
             final int res = this.getPattern().setValue(sysAllocated);
@@ -116,7 +103,7 @@ public class LegacyIAccessible extends BasePattern {
                 throw new AutomationException(res);
             }
         } finally {
-            OleAuto.INSTANCE.SysFreeString(sysAllocated);
+            Bstr.free(sysAllocated);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.pattern;
+
+import mmarquee.automation.AutomationException;
+import mmarquee.automation.Element;
+
+/**
+ * Creates a pattern for an element.
+ *
+ * @param <T> The pattern class
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@FunctionalInterface
+public interface PatternFactory<T extends BasePattern> {
+    /**
+     * Creates the pattern.
+     *
+     * @param element The element the pattern is for
+     * @return The pattern
+     * @throws AutomationException Error in automation library
+     */
+    T create(Element element) throws AutomationException;
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.pattern;
+
+import mmarquee.automation.AutomationException;
+import mmarquee.automation.Element;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The factories that create each pattern class, and the slot each class
+ * is kept in by a control.
+ *
+ * The patterns of this library are registered with their constructors, so
+ * creating one does not go through reflection. Any other pattern class is
+ * registered the first time it is asked for, with a factory that calls its
+ * Element constructor reflectively.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class PatternRegistry {
+    /**
+     * The registrations, by pattern class.
+     */
+    private static final Map<Class<?>, Registration<?>> REGISTRATIONS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The number of slots given out.
+     */
+    private static final AtomicInteger SLOTS = new AtomicInteger();
+
+    static {
+        register(Dock.class, Dock::new);
+        register(ExpandCollapse.class, ExpandCollapse::new);
+        register(Grid.class, Grid::new);
+        register(GridItem.class, GridItem::new);
+        register(Invoke.class, Invoke::new);
+        register(ItemContainer.class, ItemContainer::new);
+        register(LegacyIAccessible.class, LegacyIAccessible::new);
+        register(MultipleView.class, MultipleView::new);
+        register(Range.class, Range::new);
+        register(Scroll.class, Scroll::new);
+        register(ScrollItem.class, ScrollItem::new);
+        register(Selection.class, Selection::new);
+        register(SelectionItem.class, SelectionItem::new);
+        register(Styles.class, Styles::new);
+        register(Table.class, Table::new);
+        register(TableItem.class, TableItem::new);
+        register(Text.class, Text::new);
+        register(Toggle.class, Toggle::new);
+        register(Transform.class, Transform::new);
+        register(Value.class, Value::new);
+        register(Window.class, Window::new);
+    }
+
+    /**
+     * Not to be created.
+     */
+    private PatternRegistry() {
+    }
+
+    /**
+     * Registers the factory for a pattern class, replacing any factory it
+     * had. The class keeps its slot if it had one.
+     *
+     * @param <T> The pattern class
+     * @param type The pattern class
+     * @param factory The factory
+     */
+    public static <T extends BasePattern> void register(
+            final Class<T> type, final PatternFactory<T> factory) {
+        if (type == null || factory == null) {
+            throw new IllegalArgumentException(
+                    "Type and factory must not be null");
+        }
+
+        REGISTRATIONS.compute(type, (key, existing) -> new Registration<>(
+                existing == null ? SLOTS.getAndIncrement() : existing.slot,
+                factory));
+    }
+
+    /**
+     * Gets the number of slots given out so far, which a control can size
+     * its patterns by.
+     *
+     * @return The number of slots
+     */
+    public static int size() {
+        return SLOTS.get();
+    }
+
+    /**
+     * Gets the slot of a pattern class, registering it if needs be.
+     *
+     * @param type The pattern class
+     * @return The slot
+     */
+    public static int slotOf(final Class<? extends BasePattern> type) {
+        return lookup(type).slot;
+    }
+
+    /**
+     * Creates a pattern.
+     *
+     * @param <T> The pattern class
+     * @param type The pattern class
+     * @param element The element the pattern is for
+     * @return The pattern
+     * @throws AutomationException The pattern could not be created
+     */
+    public static <T extends BasePattern> T create(final Class<T> type,
+                                                   final Element element)
+            throws AutomationException {
+        try {
+            return lookup(type).factory.create(element);
+        } catch (RuntimeException ex) {
+            throw new AutomationException(ex);
+        }
+    }
+
+    /**
+     * Gets the registration of a pattern class, registering it if needs be.
+     *
+     * @param <T> The pattern class
+     * @param type The pattern class
+     * @return The registration
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends BasePattern> Registration<T> lookup(
+            final Class<T> type) {
+        final Registration<T> registration =
+                (Registration<T>) REGISTRATIONS.get(type);
+
+        if (registration != null) {
+            return registration;
+        }
+
+        return (Registration<T>) REGISTRATIONS.computeIfAbsent(type,
+                key -> new Registration<>(SLOTS.getAndIncrement(),
+                        reflective(type)));
+    }
+
+    /**
+     * Makes a factory that calls the Element constructor of a pattern class.
+     *
+     * @param <T> The pattern class
+     * @param type The pattern class
+     * @return The factory
+     */
+    private static <T extends BasePattern> PatternFactory<T> reflective(
+            final Class<T> type) {
+        final Constructor<T> constructor;
+
+        try {
+            constructor = type.getConstructor(Element.class);
+        } catch (NoSuchMethodException ex) {
+            return element -> {
+                throw new AutomationException(ex);
+            };
+        }
+
+        return element -> {
+            try {
+                return constructor.newInstance(element);
+            } catch (InvocationTargetException ex) {
+                final Throwable cause = ex.getCause();
+
+                if (cause instanceof AutomationException) {
+                    throw (AutomationException) cause;
+                }
+
+                throw new AutomationException(cause);
+            } catch (ReflectiveOperationException ex) {
+                throw new AutomationException(ex);
+            }
+        };
+    }
+
+    /**
+     * The slot and factory of a pattern class.
+     *
+     * @param <T> The pattern class
+     */
+    private static final class Registration<T extends BasePattern> {
+        /**
+         * The slot.
+         */
+        private final int slot;
+
+        /**
+         * The factory.
+         */
+        private final PatternFactory<T> factory;
+
+        /**
+         * Constructor for the Registration.
+         *
+         * @param inSlot The slot
+         * @param inFactory The factory
+         */
+        Registration(final int inSlot, final PatternFactory<T> inFactory) {
+            this.slot = inSlot;
+            this.factory = inFactory;
+        }
+    }
+}
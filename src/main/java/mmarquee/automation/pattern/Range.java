@@ -24,7 +24,7 @@ import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationRangeValuePattern;
-import mmarquee.uiautomation.IUIAutomationRangeValuePatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the range valuepattern.
@@ -57,7 +57,7 @@ public class Range extends BasePattern {
      * @return The RangeValue pattern
      */
     IUIAutomationRangeValuePattern convertPointerToInterface(PointerByReference pUnknownA) {
-        return IUIAutomationRangeValuePatternConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationRangeValuePattern.class, pUnknownA);
     }
 
     /**
@@ -67,7 +67,8 @@ public class Range extends BasePattern {
      * @throws AutomationException Error in automation library
      */
     private IUIAutomationRangeValuePattern getPattern() throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationRangeValuePattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
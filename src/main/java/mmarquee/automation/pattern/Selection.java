@@ -65,7 +65,8 @@ public class Selection extends BasePattern {
      */
     private IUIAutomationSelectionPattern getPattern()
             throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationSelectionPattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -76,7 +77,8 @@ public class Selection extends BasePattern {
      */
     private IUIAutomationSelectionPattern2 getPattern2()
             throws AutomationException {
-        return getPattern(rawPattern2, this::convertPointerToInterface2);
+        return getPattern(rawPattern2, IUIAutomationSelectionPattern2.class,
+                this::convertPointerToInterface2);
     }
 
     /**
@@ -121,7 +123,7 @@ public class Selection extends BasePattern {
      * @return IUIAutomationSelectionPattern the converted pointer
      */
     IUIAutomationSelectionPattern convertPointerToInterface(PointerByReference pUnknown) {
-        return IUIAutomationSelectionPatternConverter.pointerToInterface(pUnknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationSelectionPattern.class, pUnknown);
     }
 
     /**
@@ -131,7 +133,7 @@ public class Selection extends BasePattern {
      * @return IUIAutomationSelectionPattern2 the converted pointer
      */
     IUIAutomationSelectionPattern2 convertPointerToInterface2(PointerByReference pUnknown) {
-        return IUIAutomationSelectionPattern2Convertor.pointerToInterface(pUnknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationSelectionPattern2.class, pUnknown);
     }
 
     /**
@@ -141,7 +143,7 @@ public class Selection extends BasePattern {
      * @return IUIAutomationSelectionPattern the converted pointer
      */
     public IUIAutomationElementArray convertPointerToElementArray(PointerByReference pUnknown) {
-        return IUIAutomationElementArrayConverter.pointerToInterface(pUnknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationElementArray.class, pUnknown);
     }
 
     /**
@@ -27,7 +27,7 @@ import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationElement;
 import mmarquee.uiautomation.IUIAutomationSelectionItemPattern;
-import mmarquee.uiautomation.IUIAutomationSelectionItemPatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the SelectionItem pattern.
@@ -62,7 +62,8 @@ public class SelectionItem extends BasePattern {
      * @throws AutomationException Error in automation library
      */
     private IUIAutomationSelectionItemPattern getPattern() throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationSelectionItemPattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -140,6 +141,6 @@ public class SelectionItem extends BasePattern {
      * @return The pattern
      */
     IUIAutomationSelectionItemPattern convertPointerToInterface(PointerByReference ref) {
-        return IUIAutomationSelectionItemPatternConverter.pointerToInterface(ref);
+        return VTableDispatcher.pointerToInterface(IUIAutomationSelectionItemPattern.class, ref);
     }
 }
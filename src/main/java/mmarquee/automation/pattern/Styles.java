@@ -22,8 +22,9 @@ import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
+import mmarquee.uiautomation.Bstr;
 import mmarquee.uiautomation.IUIAutomationStylesPattern;
-import mmarquee.uiautomation.IUIAutomationStylesPatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper around the styles pattern.
@@ -76,7 +77,8 @@ public class Styles extends BasePattern {
      * @throws AutomationException Error is automation library
      */
     private IUIAutomationStylesPattern getPattern() throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationStylesPattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -93,7 +95,7 @@ public class Styles extends BasePattern {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -121,6 +123,6 @@ public class Styles extends BasePattern {
      */
     IUIAutomationStylesPattern convertPointerToInterface
             (final PointerByReference pUnknown) {
-        return IUIAutomationStylesPatternConverter.pointerToInterface(pUnknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationStylesPattern.class, pUnknown);
     }
 }
@@ -26,8 +26,8 @@ import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationTablePattern;
-import mmarquee.uiautomation.IUIAutomationTablePatternConverter;
 import mmarquee.uiautomation.RowOrColumnMajor;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the table pattern.
@@ -74,7 +74,8 @@ public class Table extends BasePattern {
      * @throws AutomationException Error in automation library
      */
     private IUIAutomationTablePattern getPattern() throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerToInterface);
+    	return getPattern(rawPattern, IUIAutomationTablePattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -136,6 +137,6 @@ public class Table extends BasePattern {
      */
     IUIAutomationTablePattern convertPointerToInterface(
             final PointerByReference pUnknownA) {
-        return IUIAutomationTablePatternConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationTablePattern.class, pUnknownA);
     }
 }
@@ -26,12 +26,11 @@ import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
+import mmarquee.uiautomation.Bstr;
 import mmarquee.uiautomation.IUIAutomationTextPattern;
-import mmarquee.uiautomation.IUIAutomationTextPatternConverter;
 import mmarquee.uiautomation.IUIAutomationTextRange;
 import mmarquee.uiautomation.IUIAutomationTextRangeArray;
-import mmarquee.uiautomation.IUIAutomationTextRangeArrayConverter;
-import mmarquee.uiautomation.IUIAutomationTextRangeConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the text pattern.
@@ -67,7 +66,8 @@ public class Text extends BasePattern {
      * @throws AutomationException Error in automation library
      */
     private IUIAutomationTextPattern getPattern() throws AutomationException {
-    	return getPattern(rawPattern, this::convertPointerOfTextPatternToInterface);
+    	return getPattern(rawPattern, IUIAutomationTextPattern.class,
+                this::convertPointerOfTextPatternToInterface);
     }
     /**
      * Converts the raw pointer to interface.
@@ -77,7 +77,7 @@ public class Text extends BasePattern {
      */
     IUIAutomationTextPattern convertPointerOfTextPatternToInterface(
             final PointerByReference pUnknownA) {
-        return IUIAutomationTextPatternConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationTextPattern.class, pUnknownA);
     }
 
     /**
@@ -88,7 +88,7 @@ public class Text extends BasePattern {
      */
     IUIAutomationTextRangeArray convertPointerToArrayInterface(
             final PointerByReference pUnknownA) {
-        return IUIAutomationTextRangeArrayConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationTextRangeArray.class, pUnknownA);
     }
 
     /**
@@ -147,7 +147,7 @@ public class Text extends BasePattern {
                         throw new AutomationException(res3);
                     }
 
-                    selectionResult = sr.getValue().getWideString(0);
+                    selectionResult = Bstr.take(sr);
                 } else {
                     throw new AutomationException(result.intValue());
                 }
@@ -187,7 +187,7 @@ public class Text extends BasePattern {
                 throw new AutomationException(res1);
             }
 
-            return sr.getValue().getWideString(0);
+            return Bstr.take(sr);
         } else {
             throw new AutomationException(resultA.intValue());
         }
@@ -201,6 +201,6 @@ public class Text extends BasePattern {
      */
     IUIAutomationTextRange convertPointerToInterface(
                 final PointerByReference pUnknownA) {
-        return IUIAutomationTextRangeConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationTextRange.class, pUnknownA);
     }
 }
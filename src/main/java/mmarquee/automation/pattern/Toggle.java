@@ -8,8 +8,8 @@ import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationTogglePattern;
-import mmarquee.uiautomation.IUIAutomationTogglePatternConverter;
 import mmarquee.uiautomation.ToggleState;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * @author Mark Humphreys
@@ -43,7 +43,8 @@ public class Toggle extends BasePattern {
      * @throws AutomationException Something went wrong with the automation library.
      */
     private IUIAutomationTogglePattern getPattern() throws AutomationException {
-        return getPattern (rawPattern, this::convertPointerToInterface);
+        return getPattern(rawPattern, IUIAutomationTogglePattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -82,6 +83,6 @@ public class Toggle extends BasePattern {
      * @return The interface from the pointer.
      */
     IUIAutomationTogglePattern convertPointerToInterface(final PointerByReference pUnknown) {
-        return IUIAutomationTogglePatternConverter.pointerToInterface(pUnknown);
+        return VTableDispatcher.pointerToInterface(IUIAutomationTogglePattern.class, pUnknown);
     }
 }
@@ -15,7 +15,6 @@
  */
 package mmarquee.automation.pattern;
 
-import com.sun.jna.platform.win32.OleAuto;
 import com.sun.jna.platform.win32.WTypes;
 import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
@@ -24,8 +23,9 @@ import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
+import mmarquee.uiautomation.Bstr;
 import mmarquee.uiautomation.IUIAutomationValuePattern;
-import mmarquee.uiautomation.IUIAutomationValuePatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * Wrapper for the value pattern.
@@ -60,7 +60,8 @@ public class Value extends BasePattern {
      * @throws AutomationException Error in automation library
      */
     private IUIAutomationValuePattern getPattern() throws AutomationException {
-        return getPattern (rawPattern, this::convertPointerToInterface);
+        return getPattern(rawPattern, IUIAutomationValuePattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -77,7 +78,7 @@ public class Value extends BasePattern {
             throw new AutomationException(res);
         }
 
-        return sr.getValue().getWideString(0);
+        return Bstr.take(sr);
     }
 
     /**
@@ -104,7 +105,7 @@ public class Value extends BasePattern {
      * @throws AutomationException Something has gone wrong
      */
     public void setValue(String value) throws AutomationException, NullPointerException {
-        WTypes.BSTR sysAllocated = OleAuto.INSTANCE.SysAllocString(value);
+        WTypes.BSTR sysAllocated = Bstr.allocate(value);
 
         try {
             final int res = this.getPattern().setValue(sysAllocated);
@@ -112,7 +113,7 @@ public class Value extends BasePattern {
                 throw new AutomationException(res);
             }
         } finally {
-            OleAuto.INSTANCE.SysFreeString(sysAllocated);
+            Bstr.free(sysAllocated);
         }
     }
 
@@ -124,6 +125,6 @@ public class Value extends BasePattern {
      */
     IUIAutomationValuePattern convertPointerToInterface(
             final PointerByReference pUnknownA) {
-        return IUIAutomationValuePatternConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationValuePattern.class, pUnknownA);
     }
 }
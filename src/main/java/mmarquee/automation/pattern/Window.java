@@ -23,7 +23,7 @@ import mmarquee.automation.AutomationException;
 import mmarquee.automation.PatternID;
 import mmarquee.automation.PropertyID;
 import mmarquee.uiautomation.IUIAutomationWindowPattern;
-import mmarquee.uiautomation.IUIAutomationWindowPatternConverter;
+import mmarquee.uiautomation.VTableDispatcher;
 import mmarquee.uiautomation.WindowVisualState;
 
 /**
@@ -58,7 +58,8 @@ public class Window extends BasePattern {
      * @throws AutomationException Error in automation library
      * */
     private IUIAutomationWindowPattern getPattern() throws AutomationException {
-        return getPattern (rawPattern, this::convertPointerToInterface);
+        return getPattern(rawPattern, IUIAutomationWindowPattern.class,
+                this::convertPointerToInterface);
     }
 
     /**
@@ -192,6 +193,6 @@ public class Window extends BasePattern {
      */
     IUIAutomationWindowPattern convertPointerToInterface(
             final PointerByReference pUnknownA) {
-        return IUIAutomationWindowPatternConverter.pointerToInterface(pUnknownA);
+        return VTableDispatcher.pointerToInterface(IUIAutomationWindowPattern.class, pUnknownA);
     }
 }
@@ -15,37 +15,54 @@
  */
 package mmarquee.automation.utils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Wraps an interface instance in a way that all calls to interface methods originate from the same thread.
  *
+ * Calls made on that thread (for example from within another canalized call) are made directly, so they
+ * neither deadlock nor pay for a handoff. Calls from other threads are put on a lock-free queue, and the
+ * caller waits for the canalizer thread to run them.
+ *
  * @author Pascal Bihler
  *
  */
 public class Canalizer {
+    /** How many times to check for a call, or its result, before parking. */
+    static final int SPINS = 1000;
+
     /** The thread where all calls originate from. */
-    static final ExecutorService executor = Executors.newFixedThreadPool(1, r -> {
-        Thread t = Executors.defaultThreadFactory().newThread(r);
-        t.setDaemon(true);
-        return t;
-    });
+    static final Worker worker = new Worker();
 
     /**
-     * Shutdown the ExecutorService nicely.
+     * Shutdown the canalizer thread nicely, once the calls already queued have been made.
      */
     public static void shutdown() {
-        executor.shutdown();
+        worker.shutdown();
+    }
+
+    /**
+     * Whether the current thread is the one that all calls originate from.
+     *
+     * @return True if on the canalizer thread
+     */
+    public static boolean isCanalizerThread() {
+        return Thread.currentThread() == worker.thread;
     }
 
     /**
@@ -58,7 +75,7 @@ public class Canalizer {
     @SuppressWarnings("unchecked")
     public static <T extends Object> T canalize(final T plainInstance) {
         final CanalizerInvocationHandler invocationHandler =
-                new CanalizerInvocationHandler(executor, plainInstance);
+                new CanalizerInvocationHandler(worker, plainInstance);
         return (T) java.lang.reflect.Proxy
                 .newProxyInstance(plainInstance.getClass().getClassLoader(),
                         getInterfaces(plainInstance),
@@ -79,11 +96,14 @@ public class Canalizer {
     }
 
     static class CanalizerInvocationHandler implements InvocationHandler {
-        private ExecutorService executor;
-        private Object underlying;
+        private final Worker worker;
+        private final Object underlying;
+
+        /** The handles for the methods called so far, bound to the underlying instance. */
+        private final Map<Method, MethodHandle> handles = new ConcurrentHashMap<>();
 
-        public CanalizerInvocationHandler(final ExecutorService executor, final Object underlying) {
-            this.executor = executor;
+        public CanalizerInvocationHandler(final Worker worker, final Object underlying) {
+            this.worker = worker;
             this.underlying = underlying;
         }
 
@@ -92,14 +112,168 @@ public class Canalizer {
                              final Method method,
                              final Object[] args)
                 throws Throwable {
-            final Callable<Object> task = () -> method.invoke(underlying, args);
+            final MethodHandle handle = this.getHandle(method);
+
+            if (Thread.currentThread() == this.worker.thread) {
+                return handle.invokeExact(args);
+            }
+
+            return this.worker.call(handle, args);
+        }
+
+        /**
+         * Gets the handle for the method, taking the arguments as an array.
+         *
+         * @param method The interface method
+         * @return The handle
+         * @throws IllegalAccessException The method is not accessible
+         */
+        private MethodHandle getHandle(final Method method) throws IllegalAccessException {
+            MethodHandle handle = this.handles.get(method);
+
+            if (handle == null) {
+                if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                    method.setAccessible(true);
+                }
+
+                handle = MethodHandles.lookup()
+                        .unreflect(method)
+                        .bindTo(this.underlying)
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
 
-            final Future<Object> result = executor.submit(task);
+                this.handles.put(method, handle);
+            }
+
+            return handle;
+        }
+    }
+
+    /**
+     * A call waiting to be made on the canalizer thread.
+     */
+    static final class Call {
+        private final MethodHandle handle;
+        private final Object[] args;
+        private final Thread caller = Thread.currentThread();
+
+        private Object result;
+        private Throwable failure;
+        private volatile boolean done;
 
+        Call(final MethodHandle handle, final Object[] args) {
+            this.handle = handle;
+            this.args = args;
+        }
+
+        /**
+         * Makes the call, and wakes up the caller.
+         */
+        void run() {
             try {
-                return result.get();
-            } catch (final ExecutionException ex) {
-                throw ex.getCause();
+                this.result = this.handle.invokeExact(this.args);
+            } catch (final Throwable ex) {
+                this.failure = ex;
+            }
+
+            this.done = true;
+            LockSupport.unpark(this.caller);
+        }
+
+        /**
+         * Waits for the call to be made.
+         *
+         * @return The result of the call
+         * @throws Throwable Whatever the call threw
+         */
+        Object await() throws Throwable {
+            boolean interrupted = false;
+
+            for (int i = 0; i < SPINS && !this.done; i++) {
+                Thread.yield();
+            }
+
+            while (!this.done) {
+                LockSupport.park(this);
+
+                if (Thread.interrupted()) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (this.failure != null) {
+                throw this.failure;
+            }
+
+            return this.result;
+        }
+    }
+
+    /**
+     * The thread where all calls originate from, fed by a lock-free queue.
+     */
+    static final class Worker implements Runnable {
+        private final Queue<Call> calls = new ConcurrentLinkedQueue<>();
+        final Thread thread;
+        private volatile boolean running = true;
+
+        Worker() {
+            this.thread = new Thread(this, "Canalizer");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        /**
+         * Makes a call on this thread, and waits for it to finish.
+         *
+         * @param handle The method to call
+         * @param args The arguments
+         * @return The result of the call
+         * @throws Throwable Whatever the call threw
+         */
+        Object call(final MethodHandle handle, final Object[] args) throws Throwable {
+            if (!this.running) {
+                throw new RejectedExecutionException("The canalizer has been shut down");
+            }
+
+            final Call call = new Call(handle, args);
+
+            this.calls.offer(call);
+            LockSupport.unpark(this.thread);
+
+            // Shut down meanwhile, in which case the thread may have gone
+            if (!this.running && this.calls.remove(call)) {
+                throw new RejectedExecutionException("The canalizer has been shut down");
+            }
+
+            return call.await();
+        }
+
+        void shutdown() {
+            this.running = false;
+            LockSupport.unpark(this.thread);
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+
+            while (this.running || !this.calls.isEmpty()) {
+                final Call call = this.calls.poll();
+
+                if (call != null) {
+                    call.run();
+                    idle = 0;
+                } else if (idle < SPINS) {
+                    Thread.yield();
+                    idle++;
+                } else if (this.running) {
+                    LockSupport.park(this);
+                }
             }
         }
     }
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.OleAuto;
+import com.sun.jna.platform.win32.WTypes;
+import com.sun.jna.ptr.PointerByReference;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Handling of the BSTRs passed to and returned from COM.
+ *
+ * A BSTR returned by COM belongs to the caller, so it is decoded (using the
+ * length prefix, rather than scanning for the terminating NUL) and then
+ * freed straight away.
+ *
+ * The live and freed counts can be used to check that nothing is leaking.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class Bstr {
+    /**
+     * Allocates and frees the strings.
+     */
+    private interface Allocator {
+        /**
+         * Allocates a BSTR.
+         *
+         * @param value The string
+         * @return The BSTR, pointing at the first character
+         */
+        Pointer allocate(String value);
+
+        /**
+         * Frees a BSTR.
+         *
+         * @param bstr The BSTR
+         */
+        void free(Pointer bstr);
+    }
+
+    /**
+     * The size of the length prefix.
+     */
+    private static final int PREFIX_SIZE = 4;
+
+    /**
+     * The size of a character (BSTRs are UTF-16 whatever the platform).
+     */
+    private static final int CHAR_SIZE = 2;
+
+    /**
+     * The allocator, which is only available on Windows; other platforms
+     * just see BSTRs made by tests, which live in Java-owned memory.
+     */
+    private static final Allocator ALLOCATOR = Platform.isWindows()
+            ? new OleAutoAllocator()
+            : new MemoryAllocator();
+
+    /**
+     * The number of BSTRs taken or allocated.
+     */
+    private static final LongAdder OWNED = new LongAdder();
+
+    /**
+     * The number of BSTRs freed.
+     */
+    private static final LongAdder FREED = new LongAdder();
+
+    /**
+     * Not to be constructed.
+     */
+    private Bstr() {
+    }
+
+    /**
+     * Allocates a BSTR, to pass into COM. It must be freed afterwards.
+     *
+     * @param value The string
+     * @return The BSTR
+     */
+    public static WTypes.BSTR allocate(final String value) {
+        final Pointer pointer = ALLOCATOR.allocate(value);
+        OWNED.increment();
+        return new WTypes.BSTR(pointer);
+    }
+
+    /**
+     * Frees a BSTR made by allocate.
+     *
+     * @param bstr The BSTR (may be null)
+     */
+    public static void free(final WTypes.BSTR bstr) {
+        if (bstr != null) {
+            free(bstr.getPointer());
+        }
+    }
+
+    /**
+     * Takes ownership of the BSTR returned by a COM call, returning its
+     * value and freeing it.
+     *
+     * @param sr The reference that COM returned the BSTR in
+     * @return The value, or an empty string for a null BSTR
+     */
+    public static String take(final PointerByReference sr) {
+        final Pointer pointer = sr.getValue();
+        sr.setValue(null);
+
+        return take(pointer);
+    }
+
+    /**
+     * Takes ownership of a BSTR returned by COM, returning its value and
+     * freeing it.
+     *
+     * @param pointer The BSTR (may be null)
+     * @return The value, or an empty string for a null BSTR
+     */
+    public static String take(final Pointer pointer) {
+        if (pointer == null) {
+            return "";
+        }
+
+        OWNED.increment();
+
+        try {
+            return decode(pointer);
+        } finally {
+            free(pointer);
+        }
+    }
+
+    /**
+     * Reads a BSTR, without freeing it.
+     *
+     * @param pointer The BSTR
+     * @return The value
+     */
+    public static String decode(final Pointer pointer) {
+        final int bytes = pointer.getInt(-PREFIX_SIZE);
+
+        if (bytes == 0) {
+            return "";
+        }
+
+        // Not getCharArray, which reads a wchar_t (4 bytes off Windows)
+        return new String(pointer.getByteArray(0, bytes),
+                StandardCharsets.UTF_16LE);
+    }
+
+    /**
+     * Gets the number of BSTRs that have been taken or allocated, but not
+     * yet freed.
+     *
+     * @return The number of live BSTRs
+     */
+    public static long live() {
+        return OWNED.sum() - FREED.sum();
+    }
+
+    /**
+     * Gets the number of BSTRs freed so far.
+     *
+     * @return The number of freed BSTRs
+     */
+    public static long freed() {
+        return FREED.sum();
+    }
+
+    /**
+     * Frees the BSTR and counts it.
+     *
+     * @param pointer The BSTR
+     */
+    private static void free(final Pointer pointer) {
+        ALLOCATOR.free(pointer);
+        FREED.increment();
+    }
+
+    /**
+     * Allocates through SysAllocString and SysFreeString.
+     */
+    private static final class OleAutoAllocator implements Allocator {
+        @Override
+        public Pointer allocate(final String value) {
+            return OleAuto.INSTANCE.SysAllocString(value).getPointer();
+        }
+
+        @Override
+        public void free(final Pointer bstr) {
+            OleAuto.INSTANCE.SysFreeString(new WTypes.BSTR(bstr));
+        }
+    }
+
+    /**
+     * Allocates BSTR-shaped strings in Java-owned memory, which is
+     * released by the garbage collector once it has been freed.
+     */
+    private static final class MemoryAllocator implements Allocator {
+        /**
+         * The allocated memory, keyed by the address of the string.
+         */
+        private final Map<Long, Memory> allocated = new ConcurrentHashMap<>();
+
+        @Override
+        public Pointer allocate(final String value) {
+            final byte[] data = value.getBytes(StandardCharsets.UTF_16LE);
+            final int bytes = data.length;
+
+            final Memory memory = new Memory(PREFIX_SIZE + bytes + CHAR_SIZE);
+            memory.setInt(0, bytes);
+            memory.write(PREFIX_SIZE, data, 0, bytes);
+            memory.setShort(PREFIX_SIZE + bytes, (short) 0);
+
+            final Pointer bstr = memory.share(PREFIX_SIZE);
+            this.allocated.put(Pointer.nativeValue(bstr), memory);
+
+            return bstr;
+        }
+
+        @Override
+        public void free(final Pointer bstr) {
+            this.allocated.remove(Pointer.nativeValue(bstr));
+        }
+    }
+}
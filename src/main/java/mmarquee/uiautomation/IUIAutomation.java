@@ -52,6 +52,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(5)
     int getRootElement(PointerByReference root);
 
     /**
@@ -61,6 +62,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(6)
     int getElementFromHandle(WinDef.HWND hwnd, PointerByReference element);
 
     /**
@@ -73,6 +75,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(25)
     int createAndCondition(Pointer condition1, Pointer condition2,
                            PointerByReference condition);
 
@@ -86,10 +89,28 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(23)
     int createPropertyCondition(int propertyId,
                                 Variant.VARIANT.ByValue value,
                                 PointerByReference condition);
 
+    /**
+     * Creates a condition that selects elements that have a property with the
+     * specified value, using optional flags.
+     *
+     * @param propertyId The property id
+     * @param value The property value
+     * @param flags The PropertyConditionFlags
+     * @param condition The resulting condition
+     * @return If this method succeeds, it returns S_OK. Otherwise, it returns
+     *         an HRESULT error code.
+     */
+    @VTableSlot(24)
+    int createPropertyConditionEx(int propertyId,
+                                  Variant.VARIANT.ByValue value,
+                                  int flags,
+                                  PointerByReference condition);
+
     /**
      * Creates a combination of two conditions where a match exists if
      * either of the conditions is true.
@@ -100,6 +121,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(28)
     int createOrCondition(Pointer condition1, Pointer condition2,
                           PointerByReference condition);
 
@@ -108,6 +130,7 @@ public interface IUIAutomation extends IUnknown {
      * @param condition The created condition
      * @return Error code
      */
+    @VTableSlot(21)
     int createTrueCondition(PointerByReference condition);
 
     /**
@@ -116,6 +139,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(22)
     int createFalseCondition(PointerByReference condition);
 
     /**
@@ -128,6 +152,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(3)
     int compareElements(Pointer element1,
                         Pointer element2,
                         IntByReference same);
@@ -139,6 +164,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(31)
     int createNotCondition(Pointer condition, PointerByReference retval);
 
     /**
@@ -148,6 +174,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(50)
     int getPatternProgrammaticName(int patternId, PointerByReference retval);
 
     /**
@@ -156,6 +183,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(8)
     int getFocusedElement(PointerByReference element);
 
     /**
@@ -167,7 +195,8 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
-    int createTreeWalker(PointerByReference condition,
+    @VTableSlot(13)
+    int createTreeWalker(Pointer condition,
                          PointerByReference walker);
 
     /**
@@ -176,23 +205,25 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(14)
     int getControlViewWalker(PointerByReference walker);
 
     /**
      * Registers a method that handles Microsoft UI Automation events.
      * @param eventId The event
+     * @param element The element
      * @param scope The scope of events to be handled; that is, whether
      *              they are on the element itself, or on
      *              its ancestors and descendants.
-     * @param element The element
      * @param cacheRequest The cache request (or null if not required)
      * @param handler The returned handler
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(32)
     int addAutomationEventHandler(IntByReference eventId,
-                                  TreeScope scope,
                                   Pointer element,
+                                  TreeScope scope,
                                   PointerByReference cacheRequest,
                                   PointerByReference handler);
 
@@ -204,6 +235,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(33)
     int removeAutomationEventHandler(IntByReference eventId,
                                      PointerByReference element,
                                      PointerByReference handler);
@@ -217,6 +249,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(7)
     int elementFromPoint(WinDef.POINT pt, PointerByReference element);
 
     /**
@@ -225,6 +258,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(20)
     int createCacheRequest(PointerByReference request);
 
     /**
@@ -237,6 +271,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(52)
     int pollForPotentialSupportedProperties(Pointer element,
                                             PointerByReference ids,
                                             PointerByReference names);
@@ -251,6 +286,7 @@ public interface IUIAutomation extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(51)
     int pollForPotentialSupportedPatterns(Pointer element,
                                           PointerByReference ids,
                                           PointerByReference names);
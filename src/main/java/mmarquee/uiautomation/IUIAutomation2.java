@@ -40,6 +40,7 @@ public interface IUIAutomation2 extends IUIAutomation {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(58)
     int getAutoSetFocus(Integer AutoSetFocus);
 
     /**
@@ -50,6 +51,7 @@ public interface IUIAutomation2 extends IUIAutomation {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(59)
     int setAutoSetFocus(Integer AutoSetFocus);
 
     /**
@@ -60,6 +62,7 @@ public interface IUIAutomation2 extends IUIAutomation {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(60)
     int getConnectionTimeout(WinDef.DWORD timeout);
 
     /**
@@ -70,6 +73,7 @@ public interface IUIAutomation2 extends IUIAutomation {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(61)
     int setConnectionTimeout(WinDef.DWORD timeout);
 
     /**
@@ -81,6 +85,7 @@ public interface IUIAutomation2 extends IUIAutomation {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(62)
     int getTransactionTimeout(WinDef.DWORD timeout);
 
     /**
@@ -92,6 +97,7 @@ public interface IUIAutomation2 extends IUIAutomation {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(63)
     int setTransactionTimeout(WinDef.DWORD timeout);
 }
 
@@ -33,5 +33,6 @@ public interface IUIAutomationBoolCondition extends IUIAutomationCondition {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(3)
     int getBooleanValue(Integer boolVal);
 }
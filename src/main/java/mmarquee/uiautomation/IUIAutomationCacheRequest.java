@@ -39,6 +39,7 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(4)
     int addPattern(int inVal);
 
     /**
@@ -47,6 +48,7 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(3)
     int addProperty(int inVal);
 
     /**
@@ -55,6 +57,7 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(5)
     int clone(PointerByReference retVal);
 
     /**
@@ -63,6 +66,7 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(6)
     int getTreeScope(PointerByReference inVal);
 
     /**
@@ -71,6 +75,7 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(7)
     int setTreeScope(PointerByReference retVal);
 
     /**
@@ -79,6 +84,7 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(8)
     int getTreeFilter(PointerByReference inVal);
 
     /**
@@ -87,6 +93,7 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(9)
     int setTreeFilter(PointerByReference retVal);
 
     /**
@@ -95,6 +102,7 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(10)
     int getAutomationElementMode(PointerByReference mode);
 
     /**
@@ -103,5 +111,6 @@ public interface IUIAutomationCacheRequest extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(11)
     int setAutomationElementMode(PointerByReference mode);
 }
@@ -40,6 +40,7 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(3)
     int setFocus();
 
     /**
@@ -49,7 +50,8 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
-    int getCurrentName (PointerByReference sr);
+    @VTableSlot(23)
+    int getCurrentName(PointerByReference sr);
 
     /**
      * Retrieves the class name of the element.
@@ -58,7 +60,8 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
-    int getCurrentClassName (PointerByReference sr);
+    @VTableSlot(30)
+    int getCurrentClassName(PointerByReference sr);
 
     /**
      * Returns all UI Automation elements that satisfy the specified condition.
@@ -69,7 +72,8 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
-    int findAll (TreeScope scope, Pointer condition, PointerByReference sr);
+    @VTableSlot(6)
+    int findAll(TreeScope scope, Pointer condition, PointerByReference sr);
 
     /**
      * Retrieves the first child or descendant element that matches the
@@ -81,7 +85,8 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
-    int findFirst (TreeScope scope, Pointer condition, PointerByReference sr);
+    @VTableSlot(5)
+    int findFirst(TreeScope scope, Pointer condition, PointerByReference sr);
 
     /**
      * Returns all UI Automation elements that satisfy the specified condition,
@@ -95,15 +100,18 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(8)
     int findAllBuildCache(int scope,
                           Pointer condition,
                           Pointer cr,
                           PointerByReference sr);
+    @VTableSlot(7)
     int findFirstBuildCache(int scope,
                             Pointer condition,
                             Pointer cr,
                             PointerByReference sr);
-    int buildUpdatedCache (Pointer cacheRequest,
+    @VTableSlot(9)
+    int buildUpdatedCache(Pointer cacheRequest,
                            PointerByReference updatedElement);
 
     /**
@@ -116,17 +124,30 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(84)
     int getClickablePoint(WinDef.POINT.ByReference clickable,
                           WinDef.BOOLByReference gotClickable);
+    @VTableSlot(35)
     int getCurrentIsPassword(IntByReference value);
-    int getCurrentAriaRole (PointerByReference sr);
+    @VTableSlot(45)
+    int getCurrentAriaRole(PointerByReference sr);
+    @VTableSlot(16)
     int getCurrentPattern(Integer patternId, PointerByReference pbr);
+    @VTableSlot(10)
     int getCurrentPropertyValue(int propertyId,
                                 Variant.VARIANT.ByReference value);
+    @VTableSlot(10)
+    int getCurrentPropertyValue(int propertyId, Pointer value);
+    @VTableSlot(12)
+    int getCachedPropertyValue(int propertyId, Pointer value);
+    @VTableSlot(21)
     int getCurrentControlType(IntByReference ipr);
+    @VTableSlot(51)
     int getCurrentProviderDescription(PointerByReference sr);
-    int getCurrentFrameworkId (PointerByReference retVal);
-    int getCurrentItemStatus (PointerByReference retVal);
+    @VTableSlot(40)
+    int getCurrentFrameworkId(PointerByReference retVal);
+    @VTableSlot(42)
+    int getCurrentItemStatus(PointerByReference retVal);
 
     /**
      * Retrieves a value that indicates the orientation of the element.
@@ -135,15 +156,24 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
-    int getCurrentOrientation (IntByReference retVal);
-    int getCurrentAcceleratorKey (PointerByReference retVal);
-    int getCurrentProcessId (IntByReference retVal);
-    int getCurrentBoundingRectangle (WinDef.RECT retVal);
-    int getCurrentLocalizedControlType (PointerByReference retVal);
-    int getCurrentIsOffscreen (WinDef.BOOLByReference retVal);
-    int getCurrentIsEnabled (WinDef.BOOLByReference retVal);
-    int getCurrentIsControlElement (WinDef.BOOLByReference retVal);
-    int getCurrentIsContentElement (WinDef.BOOLByReference retVal);
+    @VTableSlot(39)
+    int getCurrentOrientation(IntByReference retVal);
+    @VTableSlot(24)
+    int getCurrentAcceleratorKey(PointerByReference retVal);
+    @VTableSlot(20)
+    int getCurrentProcessId(IntByReference retVal);
+    @VTableSlot(43)
+    int getCurrentBoundingRectangle(WinDef.RECT retVal);
+    @VTableSlot(22)
+    int getCurrentLocalizedControlType(PointerByReference retVal);
+    @VTableSlot(38)
+    int getCurrentIsOffscreen(WinDef.BOOLByReference retVal);
+    @VTableSlot(28)
+    int getCurrentIsEnabled(WinDef.BOOLByReference retVal);
+    @VTableSlot(33)
+    int getCurrentIsControlElement(WinDef.BOOLByReference retVal);
+    @VTableSlot(34)
+    int getCurrentIsContentElement(WinDef.BOOLByReference retVal);
 
     /**
      * Retrieves the unique identifier assigned to the UI element.
@@ -152,9 +182,19 @@ public interface IUIAutomationElement extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(4)
     int getCurrentRuntimeId(PointerByReference runtimeId);
+    @VTableSlot(29)
     int getCurrentAutomationId(PointerByReference retVal);
-    int getCurrentCulture (IntByReference retVal);
+    @VTableSlot(32)
+    int getCurrentCulture(IntByReference retVal);
+    @VTableSlot(53)
+    int getCachedControlType(IntByReference retVal);
+    @VTableSlot(55)
     int getCachedName(PointerByReference retVal);
+    @VTableSlot(61)
+    int getCachedAutomationId(PointerByReference retVal);
+    @VTableSlot(62)
+    int getCachedClassName(PointerByReference retVal);
 }
 
@@ -36,6 +36,7 @@ public interface IUIAutomationElement3 extends IUIAutomationElement2 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(91)
     int showContextMenu();
 
     /**
@@ -66,6 +67,7 @@ public interface IUIAutomationElement3 extends IUIAutomationElement2 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(92)
     int getCurrentIsPeripheral(Integer retVal);
 
     /**
@@ -80,5 +82,6 @@ public interface IUIAutomationElement3 extends IUIAutomationElement2 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(93)
     int getCachedIsPeripheral(Integer retVal);
 }
\ No newline at end of file
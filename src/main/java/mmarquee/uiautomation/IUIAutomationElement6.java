@@ -38,6 +38,7 @@ public interface IUIAutomationElement6 extends IUIAutomationElement5 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(108)
     int getCurrentFullDescription(PointerByReference sr);
 
     /**
@@ -46,5 +47,6 @@ public interface IUIAutomationElement6 extends IUIAutomationElement5 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(109)
     int getCachedFullDescription(PointerByReference sr);
 }
\ No newline at end of file
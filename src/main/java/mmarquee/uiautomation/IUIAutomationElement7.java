@@ -44,6 +44,7 @@ public interface IUIAutomationElement7 extends IUIAutomationElement6 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(111)
     int findAllWithOptions(TreeScope scope,
                            Pointer condition,
                            Pointer options,
@@ -60,6 +61,7 @@ public interface IUIAutomationElement7 extends IUIAutomationElement6 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(113)
     int findAllWithOptionsBuildCache(TreeScope scope,
                                      Pointer condition,
                                      Pointer options,
@@ -76,6 +78,7 @@ public interface IUIAutomationElement7 extends IUIAutomationElement6 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(110)
     int findFirstWithOptions(TreeScope scope,
                              Pointer condition,
                              Pointer options,
@@ -92,6 +95,7 @@ public interface IUIAutomationElement7 extends IUIAutomationElement6 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(112)
     int findFirstWithOptionsBuildCache(TreeScope scope,
                                        Pointer condition,
                                        Pointer options,
@@ -108,6 +112,7 @@ public interface IUIAutomationElement7 extends IUIAutomationElement6 {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(114)
     int getCurrentMetadataValue(Integer target,
                                 Integer metadata,
                                 Variant.VARIANT.ByReference retVal);
@@ -32,6 +32,8 @@ public interface IUIAutomationElementArray extends IUnknown {
     Guid.IID IID = new Guid.IID(
             "{14314595-B4BC-4055-95F2-58F2E42C9855}");
 
+    @VTableSlot(3)
     int getLength(IntByReference length); // 3
+    @VTableSlot(4)
     int getElement(int index, PointerByReference element); // 4
 }
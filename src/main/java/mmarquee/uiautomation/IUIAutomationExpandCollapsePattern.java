@@ -30,8 +30,11 @@ public interface IUIAutomationExpandCollapsePattern extends IUnknown {
     Guid.IID IID = new Guid.IID(
             "{619BE086-1F4E-4EE4-BAFA-210128738730}");
 
+    @VTableSlot(3)
     int expand();
+    @VTableSlot(4)
     int collapse();
+    @VTableSlot(5)
     int getCurrentExpandCollapseState(IntByReference retVal);
 }
 
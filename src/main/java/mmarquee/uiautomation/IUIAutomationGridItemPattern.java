@@ -30,9 +30,13 @@ public interface IUIAutomationGridItemPattern extends IUnknown {
     Guid.IID IID = new Guid.IID(
             "{78F8EF57-66C3-4E09-BD7C-E79B2004894D}");
 
+    @VTableSlot(4)
     int getCurrentRow(IntByReference retVal);
+    @VTableSlot(5)
     int getCurrentColumn(IntByReference retVal);
+    @VTableSlot(6)
     int getRowSpan(IntByReference retVal);
+    @VTableSlot(7)
     int getColumnSpan(IntByReference retVal);
 }
 
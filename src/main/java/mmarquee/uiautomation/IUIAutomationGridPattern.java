@@ -31,8 +31,11 @@ public interface IUIAutomationGridPattern extends IUnknown {
     Guid.IID IID = new Guid.IID(
             "{414C3CDC-856B-4F5B-8538-3131C6302550}");
 
+    @VTableSlot(3)
     int getItem(int row, int column, PointerByReference item);
+    @VTableSlot(4)
     int getCurrentRowCount(IntByReference retVal);
+    @VTableSlot(5)
     int getCurrentColumnCount(IntByReference retVal);
 }
 
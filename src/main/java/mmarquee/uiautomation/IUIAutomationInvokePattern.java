@@ -29,6 +29,7 @@ public interface IUIAutomationInvokePattern extends IUnknown {
     Guid.IID IID = new Guid.IID(
             "{FB377FBE-8EA6-46D5-9C73-6499642D3059}");
 
+    @VTableSlot(3)
     int invoke();
 }
 
@@ -46,6 +46,7 @@ public interface IUIAutomationLegacyIAccessiblePattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(5)
     int setValue(WTypes.BSTR sr);
     //  int getCurrentChildId(PointerByReference pRetVal);
 
@@ -56,6 +57,7 @@ public interface IUIAutomationLegacyIAccessiblePattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(7)
     int getCurrentName(PointerByReference pszName);
 
     //  int getCurrentValue(PointerByReference pszValue);
@@ -39,6 +39,7 @@ public interface IUIAutomationRangeValuePattern extends IUnknown {
      * @param val the value to set
      * @return Success or failure
      */
+    @VTableSlot(3)
     int setValue(Double val);
 
     /**
@@ -47,6 +48,7 @@ public interface IUIAutomationRangeValuePattern extends IUnknown {
      * @param retVal The value to set
      * @return Success or failure
      */
+    @VTableSlot(4)
     int getValue(DoubleByReference retVal);
 
     /**
@@ -55,5 +57,6 @@ public interface IUIAutomationRangeValuePattern extends IUnknown {
      * @param retVal The return value
      * @return Success or failure
      */
+    @VTableSlot(5)
     int getIsReadOnly(IntByReference retVal);
 }
\ No newline at end of file
@@ -25,5 +25,6 @@ public interface IUIAutomationScrollItemPattern extends IUnknown {
     Guid.IID IID = new Guid.IID(
             "{B488300F-D015-4F19-9C29-BB595E3645EF}");
 
+    @VTableSlot(3)
     int scrollIntoView();
 }
@@ -31,9 +31,14 @@ public interface IUIAutomationSelectionItemPattern extends IUnknown {
     Guid.IID IID =
             new Guid.IID("{A8EFA66A-0FDA-421A-9194-38021F3578EA}");
 
+    @VTableSlot(3)
     int select();
+    @VTableSlot(6)
     int getCurrentIsSelected(IntByReference ibr);
+    @VTableSlot(4)
     int addToSelection();
+    @VTableSlot(5)
     int removeFromSelection();
+    @VTableSlot(7)
     int getCurrentSelectionContainer(PointerByReference pbr);
 }
@@ -31,8 +31,11 @@ public interface IUIAutomationSelectionPattern extends IUnknown {
     Guid.IID IID =
             new Guid.IID("{5ED5202E-B2AC-47A6-B638-4B0BF140D78E}");
 
+    @VTableSlot(3)
     int getCurrentSelection(PointerByReference retVal);
+    @VTableSlot(4)
     int getCurrentCanSelectMultiple(IntByReference retval);
+    @VTableSlot(5)
     int getCurrentIsSelectionRequired(IntByReference retval);
 }
 
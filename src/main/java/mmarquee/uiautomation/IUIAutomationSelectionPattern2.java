@@ -31,8 +31,12 @@ public interface IUIAutomationSelectionPattern2
     Guid.IID IID =
             new Guid.IID("{0532bfae-c011-4e32-a343-6d642d798555}");
 
+    @VTableSlot(9)
     int getCurrentFirstSelectedItem(PointerByReference retval);
+    @VTableSlot(10)
     int getCurrentLastSelectedItem(PointerByReference retval);
+    @VTableSlot(11)
     int getCurrentCurrentSelectedItem(PointerByReference retVal);
+    @VTableSlot(12)
     int getCurrentItemCount(IntByReference retval);
 }
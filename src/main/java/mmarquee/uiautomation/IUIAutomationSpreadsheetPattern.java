@@ -25,5 +25,6 @@ public interface IUIAutomationSpreadsheetPattern extends IUnknown {
      */
     Guid.IID IID = new Guid.IID("{7517A7C8-FAAE-4DE9-9F08-29B91E8595C1}");
 
+    @VTableSlot(3)
     int getItemByNameA(PointerByReference name, PointerByReference retVal);
 }
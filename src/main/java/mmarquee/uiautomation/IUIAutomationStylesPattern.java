@@ -30,7 +30,9 @@ public interface IUIAutomationStylesPattern extends IUnknown {
      */
     Guid.IID IID = new Guid.IID("{85B5F0A2-BD79-484A-AD2B-388C9838D5FB}");
 
+    @VTableSlot(3)
     int getCurrentStyleId(IntByReference retVal);
+    @VTableSlot(4)
     int getCurrentStyleName(PointerByReference retVal);
 }
 
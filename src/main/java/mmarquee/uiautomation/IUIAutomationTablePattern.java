@@ -30,7 +30,10 @@ public interface IUIAutomationTablePattern extends IUnknown {
      */
     Guid.IID IID = new Guid.IID("{620E691C-EA96-4710-A850-754B24CE2417}");
 
+    @VTableSlot(3)
     int getCurrentRowHeaders(PointerByReference retVal);
+    @VTableSlot(4)
     int getCurrentColumnHeaders(PointerByReference retVal);
+    @VTableSlot(5)
     int getCurrentRowOrColumnMajor(IntByReference retVal);
 }
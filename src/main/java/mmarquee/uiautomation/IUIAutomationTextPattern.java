@@ -29,8 +29,11 @@ public interface IUIAutomationTextPattern extends IUnknown {
      */
     Guid.IID IID = new Guid.IID("{32EBA289-3583-42C9-9C59-3B6D9A1E9B6A}");
 
+    @VTableSlot(5)
     int getSelection(PointerByReference result);
+    @VTableSlot(6)
     int getVisibleRanges(PointerByReference ranges);
+    @VTableSlot(7)
     int getDocumentRange(PointerByReference range);
 }
 
@@ -29,6 +29,8 @@ public interface IUIAutomationTextRange extends IUnknown {
      */
     Guid.IID IID = new Guid.IID("{A543CC6A-F4AE-494B-8239-C814481187A8}");
 
+    @VTableSlot(16)
     int select();
+    @VTableSlot(12)
     int getText(Integer maxLength, PointerByReference sr);
 }
\ No newline at end of file
@@ -31,7 +31,9 @@ public interface IUIAutomationTextRangeArray extends IUnknown {
      */
     Guid.IID IID = new Guid.IID("{CE4AE76A-E717-4C98-81EA-47371D028EB6}");
 
+    @VTableSlot(3)
     int getLength(IntByReference ibr);
+    @VTableSlot(4)
     int getElement(Integer index, PointerByReference element);
 }
 
@@ -34,6 +34,7 @@ public interface IUIAutomationTogglePattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(3)
     int toggle();
 
     /**
@@ -42,6 +43,7 @@ public interface IUIAutomationTogglePattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(4)
     int getCurrentToggleState(IntByReference ibr);
 }
 
@@ -31,11 +31,17 @@ public interface IUIAutomationTreeWalker extends IUnknown {
     Guid.IID IID = new Guid.IID(
             "{4042C624-389C-4AFC-A630-9DF854A541FC}");
 
+    @VTableSlot(3)
     int getParentElement(Pointer element, PointerByReference parent);
+    @VTableSlot(4)
     int getFirstChildElement(Pointer element, PointerByReference first);
+    @VTableSlot(5)
     int getLastChildElement(Pointer element, PointerByReference last);
+    @VTableSlot(6)
     int getNextSiblingElement(Pointer element, PointerByReference next);
+    @VTableSlot(7)
     int getPreviousSiblingElement(Pointer element, PointerByReference previous);
 /* 8-14 cache equivalents */
+    @VTableSlot(15)
     int getCondition(PointerByReference condition);
 }
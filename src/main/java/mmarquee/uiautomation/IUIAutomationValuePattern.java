@@ -32,7 +32,10 @@ public interface IUIAutomationValuePattern extends IUnknown {
     Guid.IID IID = new Guid.IID(
             "{A94CD8B1-0844-4CD6-9D2D-640537AB39E9}");
 
+    @VTableSlot(3)
     int setValue(WTypes.BSTR sr);
+    @VTableSlot(4)
     int getValue(PointerByReference sr);
+    @VTableSlot(5)
     int getCurrentIsReadOnly(IntByReference ibr);
 }
\ No newline at end of file
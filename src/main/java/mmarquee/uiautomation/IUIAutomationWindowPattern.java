@@ -34,6 +34,7 @@ public interface IUIAutomationWindowPattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(3)
     int close();
 
     /**
@@ -43,6 +44,7 @@ public interface IUIAutomationWindowPattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(4)
     int waitForInputIdle(Integer milliseconds, IntByReference success);
 
     /**
@@ -51,6 +53,7 @@ public interface IUIAutomationWindowPattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(5)
     int setWindowVisualState(Integer state);
 
     /**
@@ -59,6 +62,7 @@ public interface IUIAutomationWindowPattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(6)
     int getCurrentCanMaximize(IntByReference retVal);
 
     /**
@@ -67,6 +71,7 @@ public interface IUIAutomationWindowPattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(7)
     int getCurrentCanMinimize(IntByReference retVal);
 
     /**
@@ -75,6 +80,7 @@ public interface IUIAutomationWindowPattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(8)
     int getCurrentIsModal(IntByReference retVal);
 
     /**
@@ -84,6 +90,7 @@ public interface IUIAutomationWindowPattern extends IUnknown {
      * @return If this method succeeds, it returns S_OK. Otherwise, it returns
      *         an HRESULT error code.
      */
+    @VTableSlot(9)
     int getCurrentIsTopmost(IntByReference retVal);
 }
 
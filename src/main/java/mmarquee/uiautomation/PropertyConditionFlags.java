@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+/**
+ * Contains values used in creating property conditions. The values are
+ * flags, and can be combined.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026
+ */
+public enum PropertyConditionFlags {
+    /**
+     * No flags.
+     */
+    None(0),
+
+    /**
+     * Comparison of string properties is not case-sensitive.
+     */
+    IgnoreCase(1),
+
+    /**
+     * Comparison of string properties matches a substring of the property,
+     * from Windows 10 1809.
+     */
+    MatchSubstring(2);
+
+    /**
+     * The underlying value.
+     */
+    private int value;
+
+    /**
+     * Gets the value associated with this enumeration.
+     * @return The associated value.
+     */
+    public int getValue() {
+        return this.value;
+    }
+
+    /**
+     * Constructor for PropertyConditionFlags.
+     * @param inValue The value of the object.
+     */
+    PropertyConditionFlags(final int inValue) {
+        this.value = inValue;
+    }
+}
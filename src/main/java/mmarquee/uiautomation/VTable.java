@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Function;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shared, lazily populated table of the functions behind a COM vtable.
+ *
+ * All interface pointers of the same COM class share the same vtable, so the
+ * resolved functions are kept per vtable address, and each slot is only
+ * resolved the first time it is called.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class VTable {
+    /**
+     * The tables resolved so far, keyed by the address of the vtable.
+     */
+    private static final ConcurrentMap<Pointer, VTable> TABLES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The calling convention of COM methods (stdcall); other platforms only
+     * see fake vtables, which use the C convention.
+     */
+    static final int CALLING_CONVENTION = Platform.isWindows()
+            ? Function.ALT_CONVENTION : Function.C_CONVENTION;
+
+    /**
+     * The largest number of arguments (including the interface pointer).
+     */
+    private static final int MAX_ARGUMENTS = 6;
+
+    /**
+     * Per-thread argument buffers, indexed by the number of arguments.
+     *
+     * JNA copies the argument array before making the native call, so the
+     * buffers can be reused for the next call on the same thread.
+     */
+    private static final ThreadLocal<Object[][]> ARGUMENTS =
+            ThreadLocal.withInitial(() -> new Object[MAX_ARGUMENTS + 1][]);
+
+    /**
+     * The vtable itself.
+     */
+    private final Pointer vTablePointer;
+
+    /**
+     * The resolved functions.
+     */
+    private volatile AtomicReferenceArray<Function> functions;
+
+    /**
+     * Constructor for the VTable.
+     *
+     * @param inVTablePointer The pointer to the vtable
+     * @param methods The number of methods in the vtable
+     */
+    private VTable(final Pointer inVTablePointer, final int methods) {
+        this.vTablePointer = inVTablePointer;
+        this.functions = new AtomicReferenceArray<>(methods);
+    }
+
+    /**
+     * Gets the shared table for the given interface pointer.
+     *
+     * @param interfacePointer The COM interface pointer
+     * @param methods The number of methods in the interface (including
+     *                those of IUnknown)
+     * @return The shared table
+     */
+    public static VTable of(final Pointer interfacePointer, final int methods) {
+        final Pointer vTablePointer = interfacePointer.getPointer(0);
+
+        final VTable table = TABLES.computeIfAbsent(vTablePointer,
+                key -> new VTable(key, methods));
+        table.ensureCapacity(methods);
+
+        return table;
+    }
+
+    /**
+     * Gets the number of tables that have been resolved so far.
+     *
+     * @return The number of tables
+     */
+    public static int size() {
+        return TABLES.size();
+    }
+
+    /**
+     * Grows the table, if a derived interface uses more slots than the one
+     * that created it.
+     *
+     * @param methods The number of methods needed
+     */
+    private void ensureCapacity(final int methods) {
+        if (this.functions.length() >= methods) {
+            return;
+        }
+
+        synchronized (this) {
+            final AtomicReferenceArray<Function> current = this.functions;
+
+            if (current.length() < methods) {
+                final AtomicReferenceArray<Function> grown =
+                        new AtomicReferenceArray<>(methods);
+                for (int slot = 0; slot < current.length(); slot++) {
+                    grown.set(slot, current.get(slot));
+                }
+                this.functions = grown;
+            }
+        }
+    }
+
+    /**
+     * Gets the function in the given slot, resolving it on first use.
+     *
+     * @param slot The vtable slot
+     * @return The function
+     */
+    public Function getFunction(final int slot) {
+        final AtomicReferenceArray<Function> current = this.functions;
+
+        Function function = current.get(slot);
+
+        if (function == null) {
+            function = Function.getFunction(
+                    this.vTablePointer.getPointer(
+                            (long) slot * Native.POINTER_SIZE),
+                    CALLING_CONVENTION);
+
+            if (!current.compareAndSet(slot, null, function)) {
+                function = current.get(slot);
+            }
+        }
+
+        return function;
+    }
+
+    /**
+     * Invokes the function in the given slot.
+     *
+     * @param slot The vtable slot
+     * @param interfacePointer The COM interface pointer
+     * @return The result of the call
+     */
+    public int invokeInt(final int slot,
+                         final Pointer interfacePointer) {
+        final Object[] args = arguments(1);
+        args[0] = interfacePointer;
+        return invoke(slot, args);
+    }
+
+    /**
+     * Invokes the function in the given slot.
+     *
+     * @param slot The vtable slot
+     * @param interfacePointer The COM interface pointer
+     * @param arg1 The first argument
+     * @return The result of the call
+     */
+    public int invokeInt(final int slot,
+                         final Pointer interfacePointer,
+                         final Object arg1) {
+        final Object[] args = arguments(2);
+        args[0] = interfacePointer;
+        args[1] = arg1;
+        return invoke(slot, args);
+    }
+
+    /**
+     * Invokes the function in the given slot.
+     *
+     * @param slot The vtable slot
+     * @param interfacePointer The COM interface pointer
+     * @param arg1 The first argument
+     * @param arg2 The second argument
+     * @return The result of the call
+     */
+    public int invokeInt(final int slot,
+                         final Pointer interfacePointer,
+                         final Object arg1,
+                         final Object arg2) {
+        final Object[] args = arguments(3);
+        args[0] = interfacePointer;
+        args[1] = arg1;
+        args[2] = arg2;
+        return invoke(slot, args);
+    }
+
+    /**
+     * Invokes the function in the given slot.
+     *
+     * @param slot The vtable slot
+     * @param interfacePointer The COM interface pointer
+     * @param arg1 The first argument
+     * @param arg2 The second argument
+     * @param arg3 The third argument
+     * @return The result of the call
+     */
+    public int invokeInt(final int slot,
+                         final Pointer interfacePointer,
+                         final Object arg1,
+                         final Object arg2,
+                         final Object arg3) {
+        final Object[] args = arguments(4);
+        args[0] = interfacePointer;
+        args[1] = arg1;
+        args[2] = arg2;
+        args[3] = arg3;
+        return invoke(slot, args);
+    }
+
+    /**
+     * Invokes the function in the given slot.
+     *
+     * @param slot The vtable slot
+     * @param interfacePointer The COM interface pointer
+     * @param arg1 The first argument
+     * @param arg2 The second argument
+     * @param arg3 The third argument
+     * @param arg4 The fourth argument
+     * @return The result of the call
+     */
+    public int invokeInt(final int slot,
+                         final Pointer interfacePointer,
+                         final Object arg1,
+                         final Object arg2,
+                         final Object arg3,
+                         final Object arg4) {
+        final Object[] args = arguments(5);
+        args[0] = interfacePointer;
+        args[1] = arg1;
+        args[2] = arg2;
+        args[3] = arg3;
+        args[4] = arg4;
+        return invoke(slot, args);
+    }
+
+    /**
+     * Invokes the function in the given slot.
+     *
+     * @param slot The vtable slot
+     * @param interfacePointer The COM interface pointer
+     * @param arg1 The first argument
+     * @param arg2 The second argument
+     * @param arg3 The third argument
+     * @param arg4 The fourth argument
+     * @param arg5 The fifth argument
+     * @return The result of the call
+     */
+    public int invokeInt(final int slot,
+                         final Pointer interfacePointer,
+                         final Object arg1,
+                         final Object arg2,
+                         final Object arg3,
+                         final Object arg4,
+                         final Object arg5) {
+        final Object[] args = arguments(6);
+        args[0] = interfacePointer;
+        args[1] = arg1;
+        args[2] = arg2;
+        args[3] = arg3;
+        args[4] = arg4;
+        args[5] = arg5;
+        return invoke(slot, args);
+    }
+
+    /**
+     * Invokes the function in the given slot, with the arguments in an
+     * array (as they come from the dispatcher).
+     *
+     * @param slot The vtable slot
+     * @param interfacePointer The COM interface pointer
+     * @param arguments The arguments (may be null if there are none)
+     * @return The result of the call
+     */
+    public int invokeIntArray(final int slot,
+                              final Pointer interfacePointer,
+                              final Object[] arguments) {
+        final int count = arguments == null ? 0 : arguments.length;
+
+        final Object[] args = count < MAX_ARGUMENTS
+                ? arguments(count + 1)
+                : new Object[count + 1];
+        args[0] = interfacePointer;
+        if (count > 0) {
+            System.arraycopy(arguments, 0, args, 1, count);
+        }
+        return invoke(slot, args);
+    }
+
+    /**
+     * Makes the call, clearing the buffer afterwards so that the arguments
+     * are not kept alive.
+     *
+     * @param slot The vtable slot
+     * @param args The argument buffer
+     * @return The result of the call
+     */
+    private int invoke(final int slot, final Object[] args) {
+        try {
+            return getFunction(slot).invokeInt(args);
+        } finally {
+            Arrays.fill(args, null);
+        }
+    }
+
+    /**
+     * Gets this thread's argument buffer of the given length.
+     *
+     * @param length The number of arguments
+     * @return The buffer
+     */
+    private static Object[] arguments(final int length) {
+        final Object[][] buffers = ARGUMENTS.get();
+
+        Object[] buffer = buffers[length];
+        if (buffer == null) {
+            buffer = new Object[length];
+            buffers[length] = buffer;
+        }
+
+        return buffer;
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.COM.IUnknown;
+import com.sun.jna.platform.win32.WinNT;
+import com.sun.jna.ptr.PointerByReference;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns a COM interface pointer into an implementation of the matching
+ * Java interface, calling the vtable slot given by the {@link VTableSlot}
+ * annotation on each method.
+ *
+ * The method handles for an interface are built once, the first time it is
+ * used, and then shared by every pointer of that interface.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class VTableDispatcher {
+    /**
+     * The type every dispatch handle is adapted to.
+     */
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(
+            Object.class, VTable.class, Pointer.class, Object[].class);
+
+    /**
+     * VTable.invokeIntArray(int, Pointer, Object[]).
+     */
+    private static final MethodHandle INVOKE;
+
+    /**
+     * VTableDispatcher.scopeValues(int[], Object[]).
+     */
+    private static final MethodHandle SCOPE_VALUES;
+
+    /**
+     * new WinNT.HRESULT(int).
+     */
+    private static final MethodHandle HRESULT;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            INVOKE = lookup.findVirtual(VTable.class, "invokeIntArray",
+                    MethodType.methodType(int.class,
+                            int.class, Pointer.class, Object[].class));
+            SCOPE_VALUES = lookup.findStatic(VTableDispatcher.class,
+                    "scopeValues",
+                    MethodType.methodType(Object[].class,
+                            int[].class, Object[].class));
+            HRESULT = lookup.findConstructor(WinNT.HRESULT.class,
+                    MethodType.methodType(void.class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * The dispatch tables built so far, one per interface.
+     */
+    private static final ClassValue<Dispatch> DISPATCH =
+            new ClassValue<Dispatch>() {
+                @Override
+                protected Dispatch computeValue(final Class<?> type) {
+                    return new Dispatch(type);
+                }
+            };
+
+    /**
+     * Not to be constructed.
+     */
+    private VTableDispatcher() {
+    }
+
+    /**
+     * Gets an implementation of the interface that calls through the
+     * vtable of the given pointer.
+     *
+     * @param type The COM interface
+     * @param ptr The interface pointer, as returned by COM
+     * @param <T> The type of the interface
+     * @return The implementation of the interface
+     */
+    public static <T extends IUnknown> T pointerToInterface(
+            final Class<T> type,
+            final PointerByReference ptr) {
+        final Dispatch dispatch = DISPATCH.get(type);
+        final Pointer interfacePointer = ptr.getValue();
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                new Class<?>[]{type},
+                new Handler(dispatch,
+                        interfacePointer,
+                        VTable.of(interfacePointer, dispatch.methods))));
+    }
+
+    /**
+     * Gets the interface pointer behind an implementation made by
+     * pointerToInterface, without calling COM.
+     *
+     * @param implementation The implementation
+     * @return The interface pointer, or null if the implementation was not
+     *         made here
+     */
+    public static Pointer getPointer(final Object implementation) {
+        if (implementation == null
+                || !Proxy.isProxyClass(implementation.getClass())) {
+            return null;
+        }
+
+        final InvocationHandler handler =
+                Proxy.getInvocationHandler(implementation);
+
+        if (handler instanceof Handler) {
+            return ((Handler) handler).interfacePointer;
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the number of vtable slots used by the interface, building its
+     * dispatch table if it has not been used yet.
+     *
+     * @param type The COM interface
+     * @return The number of slots (including those of IUnknown)
+     * @throws IllegalArgumentException A method has no slot
+     */
+    public static int methods(final Class<? extends IUnknown> type) {
+        return DISPATCH.get(type).methods;
+    }
+
+    /**
+     * Replaces the TreeScope arguments by their values, as COM passes the
+     * scope by value.
+     *
+     * @param positions The positions of the TreeScope arguments
+     * @param args The arguments (a new array for every call of the proxy)
+     * @return The arguments
+     */
+    private static Object[] scopeValues(final int[] positions,
+                                        final Object[] args) {
+        for (int position : positions) {
+            final TreeScope scope = (TreeScope) args[position];
+            args[position] = scope == null ? null : scope.getValue();
+        }
+
+        return args;
+    }
+
+    /**
+     * The method handles for one interface.
+     */
+    private static final class Dispatch {
+        /**
+         * The number of slots used by the interface.
+         */
+        private final int methods;
+
+        /**
+         * The handle for each method of the interface.
+         */
+        private final Map<Method, MethodHandle> handles;
+
+        /**
+         * Builds the dispatch table for the interface.
+         *
+         * @param type The COM interface
+         * @throws IllegalArgumentException A method has no slot
+         */
+        Dispatch(final Class<?> type) {
+            final Map<Method, MethodHandle> map = new HashMap<>();
+            int max = 2;
+
+            for (Method method : type.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+
+                final int slot = slotOf(method);
+                max = Math.max(max, slot);
+
+                map.put(method, handleFor(method, slot));
+            }
+
+            this.methods = max + 1;
+            this.handles = Collections.unmodifiableMap(map);
+        }
+
+        /**
+         * Gets the slot of the method.
+         *
+         * @param method The method
+         * @return The vtable slot
+         * @throws IllegalArgumentException The method has no slot
+         */
+        private static int slotOf(final Method method) {
+            final VTableSlot annotation =
+                    method.getAnnotation(VTableSlot.class);
+
+            if (annotation != null) {
+                return annotation.value();
+            }
+
+            if (method.getDeclaringClass() == IUnknown.class) {
+                switch (method.getName()) {
+                    case "QueryInterface":
+                        return 0;
+                    case "AddRef":
+                        return 1;
+                    case "Release":
+                        return 2;
+                    default:
+                        break;
+                }
+            }
+
+            throw new IllegalArgumentException(
+                    "No vtable slot for " + method);
+        }
+
+        /**
+         * Composes the handle that calls the slot for the method.
+         *
+         * @param method The method
+         * @param slot The vtable slot
+         * @return The handle, of type (VTable, Pointer, Object[])Object
+         */
+        private static MethodHandle handleFor(final Method method,
+                                              final int slot) {
+            MethodHandle handle = MethodHandles.insertArguments(INVOKE, 1, slot);
+
+            final List<Integer> scopes = new ArrayList<>();
+            final Class<?>[] parameters = method.getParameterTypes();
+            for (int index = 0; index < parameters.length; index++) {
+                if (TreeScope.class.isAssignableFrom(parameters[index])) {
+                    scopes.add(index);
+                }
+            }
+
+            if (!scopes.isEmpty()) {
+                final int[] positions = new int[scopes.size()];
+                for (int index = 0; index < positions.length; index++) {
+                    positions[index] = scopes.get(index);
+                }
+
+                handle = MethodHandles.filterArguments(handle, 2,
+                        MethodHandles.insertArguments(SCOPE_VALUES, 0,
+                                (Object) positions));
+            }
+
+            if (method.getReturnType() == WinNT.HRESULT.class) {
+                handle = MethodHandles.filterReturnValue(handle, HRESULT);
+            } else if (method.getReturnType() != int.class) {
+                throw new IllegalArgumentException(
+                        "Unsupported return type for " + method);
+            }
+
+            return handle.asType(DISPATCH_TYPE);
+        }
+    }
+
+    /**
+     * The invocation handler for one interface pointer.
+     */
+    private static final class Handler implements InvocationHandler {
+        /**
+         * The dispatch table of the interface.
+         */
+        private final Dispatch dispatch;
+
+        /**
+         * The COM interface pointer.
+         */
+        private final Pointer interfacePointer;
+
+        /**
+         * The vtable of the pointer.
+         */
+        private final VTable vTable;
+
+        /**
+         * Constructor for the handler.
+         *
+         * @param inDispatch The dispatch table
+         * @param inInterfacePointer The interface pointer
+         * @param inVTable The vtable
+         */
+        Handler(final Dispatch inDispatch,
+                final Pointer inInterfacePointer,
+                final VTable inVTable) {
+            this.dispatch = inDispatch;
+            this.interfacePointer = inInterfacePointer;
+            this.vTable = inVTable;
+        }
+
+        @Override
+        public Object invoke(final Object proxy,
+                             final Method method,
+                             final Object[] args) throws Throwable {
+            final MethodHandle handle = this.dispatch.handles.get(method);
+
+            if (handle != null) {
+                return (Object) handle.invokeExact(this.vTable,
+                        this.interfacePointer, args);
+            }
+
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return proxy.getClass().getInterfaces()[0].getSimpleName()
+                            + "@" + this.interfacePointer;
+                default:
+                    throw new UnsupportedOperationException(method.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.WinDef;
+import com.sun.jna.win32.StdCallLibrary;
+
+/**
+ * A VARIANT in native memory, one per thread, for property values to be
+ * returned in.
+ *
+ * The value is decoded straight from the memory, so nothing is allocated
+ * (or boxed) for numbers and booleans. The buffer must be cleared once the
+ * value has been read, which frees any string or array that COM put in it.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class VariantBuffer {
+    /**
+     * No value.
+     */
+    public static final int VT_EMPTY = 0;
+
+    /**
+     * A 4 byte signed integer.
+     */
+    public static final int VT_I4 = 3;
+
+    /**
+     * A double.
+     */
+    public static final int VT_R8 = 5;
+
+    /**
+     * A BSTR.
+     */
+    public static final int VT_BSTR = 8;
+
+    /**
+     * A VARIANT_BOOL.
+     */
+    public static final int VT_BOOL = 11;
+
+    /**
+     * A 4 byte unsigned integer.
+     */
+    public static final int VT_UI4 = 19;
+
+    /**
+     * A machine sized integer.
+     */
+    public static final int VT_INT = 22;
+
+    /**
+     * Flag for a SAFEARRAY of the type.
+     */
+    public static final int VT_ARRAY = 0x2000;
+
+    /**
+     * The size of a VARIANT.
+     */
+    private static final int SIZE = Native.POINTER_SIZE == 8 ? 24 : 16;
+
+    /**
+     * Where the value lives in the VARIANT.
+     */
+    private static final int VALUE_OFFSET = 8;
+
+    /**
+     * Where pvData lives in a SAFEARRAY.
+     */
+    private static final int ARRAY_DATA_OFFSET =
+            Native.POINTER_SIZE == 8 ? 16 : 12;
+
+    /**
+     * Where the element count of the first dimension lives in a SAFEARRAY.
+     */
+    private static final int ARRAY_COUNT_OFFSET =
+            ARRAY_DATA_OFFSET + Native.POINTER_SIZE;
+
+    /**
+     * The size of a double.
+     */
+    private static final int DOUBLE_SIZE = 8;
+
+    /**
+     * The buffer for each thread.
+     */
+    private static final ThreadLocal<VariantBuffer> BUFFER =
+            ThreadLocal.withInitial(VariantBuffer::new);
+
+    /**
+     * VariantClear, which only exists on Windows.
+     */
+    private interface OleAut32 extends StdCallLibrary {
+        /**
+         * Frees the contents of a VARIANT, and sets it to VT_EMPTY.
+         *
+         * @param variant The VARIANT
+         * @return The HRESULT
+         */
+        int VariantClear(Pointer variant);
+    }
+
+    /**
+     * The library, or null off Windows.
+     */
+    private static final OleAut32 OLEAUT32 = Platform.isWindows()
+            ? Native.load("OleAut32", OleAut32.class)
+            : null;
+
+    /**
+     * The VARIANT.
+     */
+    private final Memory memory = new Memory(SIZE);
+
+    /**
+     * Constructor for the buffer.
+     */
+    private VariantBuffer() {
+        this.memory.clear();
+    }
+
+    /**
+     * Gets the buffer for the current thread, which is empty unless the
+     * caller has forgotten to clear it.
+     *
+     * @return The buffer
+     */
+    public static VariantBuffer get() {
+        return BUFFER.get();
+    }
+
+    /**
+     * Gets the pointer to pass into COM.
+     *
+     * @return The VARIANT
+     */
+    public Pointer getPointer() {
+        return this.memory;
+    }
+
+    /**
+     * Gets the VARTYPE of the value.
+     *
+     * @return The VARTYPE
+     */
+    public int getType() {
+        return this.memory.getShort(0) & 0xFFFF;
+    }
+
+    /**
+     * Gets the value as a boolean. Integers are true when not zero, and
+     * anything else is false.
+     *
+     * @return The value
+     */
+    public boolean getBoolean() {
+        switch (this.getType()) {
+            case VT_BOOL:
+                return this.memory.getShort(VALUE_OFFSET) != 0;
+            case VT_I4:
+            case VT_UI4:
+            case VT_INT:
+                return this.memory.getInt(VALUE_OFFSET) != 0;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Gets the value as an integer.
+     *
+     * @return The value (0 when empty)
+     * @throws IllegalStateException The value is not an integer
+     */
+    public int getInt() {
+        switch (this.getType()) {
+            case VT_EMPTY:
+                return 0;
+            case VT_I4:
+            case VT_UI4:
+            case VT_INT:
+                return this.memory.getInt(VALUE_OFFSET);
+            case VT_BOOL:
+                return this.memory.getShort(VALUE_OFFSET) != 0 ? 1 : 0;
+            default:
+                throw new IllegalStateException(
+                        "Not an integer, VARTYPE " + this.getType());
+        }
+    }
+
+    /**
+     * Takes the value as a string, freeing the BSTR.
+     *
+     * @return The value (an empty string when empty)
+     * @throws IllegalStateException The value is not a string
+     */
+    public String takeString() {
+        switch (this.getType()) {
+            case VT_EMPTY:
+                return "";
+            case VT_BSTR:
+                final Pointer bstr = this.memory.getPointer(VALUE_OFFSET);
+                this.memory.setShort(0, (short) VT_EMPTY);
+                return Bstr.take(bstr);
+            default:
+                throw new IllegalStateException(
+                        "Not a string, VARTYPE " + this.getType());
+        }
+    }
+
+    /**
+     * Reads the value as a rectangle, given as the left, top, width and
+     * height in an array of doubles.
+     *
+     * @param rect The rectangle to fill in (left alone when empty)
+     * @throws IllegalStateException The value is not a rectangle
+     */
+    public void getRect(final WinDef.RECT rect) {
+        final int type = this.getType();
+
+        if (type == VT_EMPTY) {
+            return;
+        }
+
+        if (type != (VT_ARRAY | VT_R8)) {
+            throw new IllegalStateException(
+                    "Not a rectangle, VARTYPE " + type);
+        }
+
+        final Pointer array = this.memory.getPointer(VALUE_OFFSET);
+
+        if (array.getInt(ARRAY_COUNT_OFFSET) != 4) {
+            throw new IllegalStateException("Not a rectangle, "
+                    + array.getInt(ARRAY_COUNT_OFFSET) + " elements");
+        }
+
+        final Pointer data = array.getPointer(ARRAY_DATA_OFFSET);
+
+        rect.left = (int) data.getDouble(0);
+        rect.top = (int) data.getDouble(DOUBLE_SIZE);
+        rect.right = rect.left + (int) data.getDouble(2 * DOUBLE_SIZE);
+        rect.bottom = rect.top + (int) data.getDouble(3 * DOUBLE_SIZE);
+    }
+
+    /**
+     * Frees whatever the value holds, and empties the buffer.
+     */
+    public void clear() {
+        if (OLEAUT32 != null) {
+            OLEAUT32.VariantClear(this.memory);
+        } else if (this.getType() == VT_BSTR) {
+            // Only tests put strings in here off Windows
+            this.takeString();
+        }
+
+        this.memory.setShort(0, (short) VT_EMPTY);
+    }
+}
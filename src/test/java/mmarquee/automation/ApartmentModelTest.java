@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.platform.win32.Ole32;
+import mmarquee.uiautomation.IUIAutomation;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the ApartmentModel enum behaviour.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ApartmentModelTest {
+
+    @Test
+    public void test_SingleThreaded_Is_Canalized_Apartment() {
+        assertEquals(Ole32.COINIT_APARTMENTTHREADED,
+                ApartmentModel.SingleThreaded.getValue());
+        assertTrue(ApartmentModel.SingleThreaded.isCanalized());
+    }
+
+    @Test
+    public void test_MultiThreaded_Is_Called_Directly() {
+        assertEquals(Ole32.COINIT_MULTITHREADED,
+                ApartmentModel.MultiThreaded.getValue());
+        assertFalse(ApartmentModel.MultiThreaded.isCanalized());
+    }
+
+    @Test
+    public void test_Automation_Created_For_Test_Has_No_Model() {
+        UIAutomation automation =
+                new UIAutomation(Mockito.mock(IUIAutomation.class));
+
+        assertNull(automation.getApartmentModel());
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import mmarquee.uiautomation.IUIAutomation;
+import org.junit.After;
+import org.junit.Test;
+import mmarquee.automation.controls.ElementBuilder;
+import mmarquee.automation.controls.Panel;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for the ApartmentPool, with a stand-in automation factory.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ApartmentPoolTest {
+
+    /**
+     * Creates mocked automation instances, remembering which thread each
+     * was created and destroyed on.
+     */
+    private static class StandIn implements ApartmentPool.Factory {
+        private final Map<UIAutomation, Thread> created =
+                new ConcurrentHashMap<>();
+        private final Map<UIAutomation, Thread> destroyed =
+                new ConcurrentHashMap<>();
+
+        @Override
+        public UIAutomation create() {
+            UIAutomation automation =
+                    new UIAutomation(Mockito.mock(IUIAutomation.class));
+            created.put(automation, Thread.currentThread());
+            return automation;
+        }
+
+        @Override
+        public void destroy(final UIAutomation automation) {
+            destroyed.put(automation, Thread.currentThread());
+        }
+    }
+
+    private final StandIn factory = new StandIn();
+
+    private ApartmentPool pool;
+
+    @After
+    public void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void test_Each_Worker_Creates_Its_Own_Automation_On_Its_Thread()
+            throws Exception {
+        pool = new ApartmentPool(2, factory);
+
+        try (ApartmentPool.Session first = pool.openSession();
+             ApartmentPool.Session second = pool.openSession()) {
+            UIAutomation one = first.call(automation -> automation);
+            UIAutomation two = second.call(automation -> automation);
+
+            assertNotSame(one, two);
+            assertSame(factory.created.get(one),
+                    first.call(automation -> Thread.currentThread()));
+            assertSame(factory.created.get(two),
+                    second.call(automation -> Thread.currentThread()));
+        }
+    }
+
+    @Test
+    public void test_Sessions_Are_Spread_Over_The_Workers() {
+        pool = new ApartmentPool(3, factory);
+
+        ApartmentPool.Session first = pool.openSession();
+        ApartmentPool.Session second = pool.openSession();
+        ApartmentPool.Session third = pool.openSession();
+
+        assertNotEquals(first.getWorker(), second.getWorker());
+        assertNotEquals(second.getWorker(), third.getWorker());
+        assertNotEquals(first.getWorker(), third.getWorker());
+
+        second.close();
+
+        assertEquals(second.getWorker(), pool.openSession().getWorker());
+    }
+
+    @Test
+    public void test_Session_Stays_On_One_Worker() throws Exception {
+        pool = new ApartmentPool(4, factory);
+
+        try (ApartmentPool.Session session = pool.openSession()) {
+            Thread thread = session.call(automation -> Thread.currentThread());
+
+            for (int i = 0; i < 10; i++) {
+                assertSame(thread,
+                        session.call(automation -> Thread.currentThread()));
+            }
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void test_Sessions_On_Different_Workers_Run_In_Parallel()
+            throws Exception {
+        pool = new ApartmentPool(2, factory);
+
+        CountDownLatch both = new CountDownLatch(2);
+
+        try (ApartmentPool.Session first = pool.openSession();
+             ApartmentPool.Session second = pool.openSession()) {
+            ApartmentPool.Task<Boolean> meet = automation -> {
+                both.countDown();
+                return both.await(5, TimeUnit.SECONDS);
+            };
+
+            Future<Boolean> one = first.submit(meet);
+            Future<Boolean> two = second.submit(meet);
+
+            assertTrue(one.get());
+            assertTrue(two.get());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void test_Nested_Call_Is_Done_Directly() throws Exception {
+        pool = new ApartmentPool(1, factory);
+
+        try (ApartmentPool.Session session = pool.openSession()) {
+            assertEquals("nested", session.call(
+                    automation -> session.call(inner -> "nested")));
+        }
+    }
+
+    @Test
+    public void test_Failure_Is_Thrown_From_Call() {
+        pool = new ApartmentPool(1, factory);
+
+        try (ApartmentPool.Session session = pool.openSession()) {
+            session.call(automation -> {
+                throw new AutomationException("Expected");
+            });
+            fail("Should have thrown");
+        } catch (AutomationException ex) {
+            assertEquals("Expected", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void test_Failure_To_Create_Is_Thrown_From_Call() {
+        pool = new ApartmentPool(1, () -> {
+            throw new AutomationException("No automation");
+        });
+
+        try (ApartmentPool.Session session = pool.openSession()) {
+            session.call(automation -> automation);
+            fail("Should have thrown");
+        } catch (AutomationException ex) {
+            assertEquals("No automation", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void test_Close_Destroys_Automation_On_Its_Thread() {
+        pool = new ApartmentPool(2, factory);
+        pool.close();
+
+        assertEquals(2, factory.destroyed.size());
+        assertEquals(factory.created, factory.destroyed);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_No_Sessions_Once_Closed() {
+        pool = new ApartmentPool(1, factory);
+        pool.close();
+
+        pool.openSession();
+    }
+
+    @Test
+    public void test_Controls_Use_The_Worker_Automation() throws Exception {
+        pool = new ApartmentPool(2, factory);
+
+        try (ApartmentPool.Session session = pool.openSession()) {
+            UIAutomation own = session.call(automation -> automation);
+
+            assertSame(own, session.call(
+                    automation -> automation.getDesktop().getAutomation()));
+
+            // Made without being given an instance, as child controls are
+            assertSame(own, session.call(automation -> new Panel(
+                    new ElementBuilder(Mockito.mock(Element.class)))
+                    .getAutomation()));
+        }
+    }
+
+    @Test
+    public void test_Worker_Releases_Automation_Before_Uninitializing()
+            throws Exception {
+        IUIAutomation mocked = Mockito.mock(IUIAutomation.class);
+
+        pool = new ApartmentPool(1, new ApartmentPool.Factory() {
+            @Override
+            public UIAutomation create() {
+                return new UIAutomation(mocked);
+            }
+
+            @Override
+            public void destroy(final UIAutomation automation) {
+                automation.uninitialize();
+            }
+        });
+
+        try (ApartmentPool.Session session = pool.openSession()) {
+            session.call(automation -> automation);
+        }
+
+        pool.close();
+
+        verify(mocked).Release();
+    }
+}
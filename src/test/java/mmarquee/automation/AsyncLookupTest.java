@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the AsyncLookup.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class AsyncLookupTest {
+
+    private ScheduledExecutorService scheduler;
+    private AsyncLookup lookup;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newScheduledThreadPool(2);
+        lookup = new AsyncLookup(scheduler, 2000, 5);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void test_Found_First_Time() throws Exception {
+        assertEquals("Found", lookup.find(() -> "Found").get());
+    }
+
+    @Test
+    public void test_Tries_Again_Until_Found() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = lookup.find(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ElementNotFoundException();
+            }
+            return "Found";
+        });
+
+        assertEquals("Found", result.get(1, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void test_Gives_Up_After_Timeout() throws Exception {
+        lookup = new AsyncLookup(scheduler, 50, 5);
+
+        try {
+            lookup.find(() -> {
+                throw new ItemNotFoundException("Missing");
+            }).get(1, TimeUnit.SECONDS);
+            fail("Should have thrown");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof ItemNotFoundException);
+        }
+    }
+
+    @Test
+    public void test_Other_Failure_Is_Not_Retried() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            lookup.find(() -> {
+                attempts.incrementAndGet();
+                throw new AutomationException("Broken");
+            }).get(1, TimeUnit.SECONDS);
+            fail("Should have thrown");
+        } catch (ExecutionException ex) {
+            assertEquals("Broken", ex.getCause().getMessage());
+        }
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void test_Cancel_Stops_Attempts() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = lookup.find(() -> {
+            attempts.incrementAndGet();
+            throw new ElementNotFoundException();
+        });
+
+        Thread.sleep(30);
+        result.cancel(false);
+        Thread.sleep(30);
+        int stopped = attempts.get();
+        Thread.sleep(50);
+
+        assertEquals(stopped, attempts.get());
+    }
+
+    @Test
+    public void test_Many_Lookups_Wait_On_Few_Threads() throws Exception {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        long start = System.currentTimeMillis();
+
+        for (int i = 0; i < 50; i++) {
+            final int value = i;
+            results.add(lookup.find(() -> {
+                threads.add(Thread.currentThread());
+                if (System.currentTimeMillis() - start < 100) {
+                    throw new ElementNotFoundException();
+                }
+                return value;
+            }));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .get(2, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, (int) results.get(i).get());
+        }
+
+        assertTrue(threads.size() <= 2);
+    }
+}
@@ -30,11 +30,8 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.mockito.stubbing.Stubber;
 
-import com.sun.jna.Memory;
-import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.platform.win32.User32;
-import com.sun.jna.platform.win32.Variant;
 import com.sun.jna.platform.win32.WinDef;
 import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
@@ -45,6 +42,7 @@ import mmarquee.automation.pattern.BasePattern;
 import mmarquee.automation.pattern.ExpandCollapse;
 import mmarquee.automation.pattern.PatternNotFoundException;
 import mmarquee.automation.pattern.SelectionItem;
+import mmarquee.uiautomation.FakeBstr;
 import mmarquee.uiautomation.IUIAutomationElement;
 import mmarquee.uiautomation.IUIAutomationElement6;
 import mmarquee.uiautomation.TreeScope;
@@ -123,8 +121,7 @@ public class BaseAutomationTest {
           Object[] args = invocation.getArguments();
           PointerByReference pr = (PointerByReference)args[0];
 
-          Pointer m = new Memory(Native.WCHAR_SIZE * (expectedString.length() + 1));
-          m.setWideString(0, expectedString);
+          Pointer m = FakeBstr.of(expectedString);
           pr.setValue(m);
           return 0;
         };
@@ -162,8 +159,7 @@ public class BaseAutomationTest {
             Object[] args = invocation.getArguments();
             PointerByReference reference = (PointerByReference)args[0];
 
-            Pointer pointer = new Memory(Native.WCHAR_SIZE * (value.length() +1));
-            pointer.setWideString(0, value);
+            Pointer pointer = FakeBstr.of(value);
 
             reference.setValue(pointer);
 
@@ -187,14 +183,15 @@ public class BaseAutomationTest {
 		doAnswer((Answer<Integer>) invocation -> {
 
             Object[] args = invocation.getArguments();
-            Variant.VARIANT.ByReference reference = (Variant.VARIANT.ByReference)args[1];
+            Pointer reference = (Pointer)args[1];
 
-            reference.setValue(vartype, propertyValue);
+            reference.setShort(0, (short) vartype);
+            reference.setInt(8, ((Number) propertyValue).intValue());
 
             return 0;
         })
         .when(elem)
-        .getCurrentPropertyValue(eq(property.getValue()),any());
+        .getCurrentPropertyValue(eq(property.getValue()), any(Pointer.class));
 	}
 	
 	public static TreeScope isTreeScope(int expectedValue) {
@@ -246,7 +243,7 @@ public class BaseAutomationTest {
 
 	public static void declarePatternAvailable(Element element, PatternID patternId, PropertyID patternAvailablePropertyID) throws AutomationException {
 		declarePatternAvailable(element, patternId);
-		when(element.getPropertyValue(patternAvailablePropertyID.getValue())).thenReturn(1);
+		when(element.getBooleanProperty(patternAvailablePropertyID)).thenReturn(true);
 	}
 	
 	public static void declarePatternAvailable(Element element, PatternID patternId) throws AutomationException {
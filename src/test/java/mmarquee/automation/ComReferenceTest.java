@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.platform.win32.COM.IUnknown;
+import mmarquee.uiautomation.IUIAutomationElement;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for the release of COM references.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ComReferenceTest {
+
+    @After
+    public void tearDown() {
+        ComReference.setLeakDetection(false);
+    }
+
+    @Test
+    public void test_Release_Releases_Once() {
+        IUnknown unknown = Mockito.mock(IUnknown.class);
+
+        ComReference reference = ComReference.track(new Object(), unknown);
+        assertFalse(reference.isReleased());
+
+        reference.release();
+        reference.release();
+
+        assertTrue(reference.isReleased());
+        verify(unknown, times(1)).Release();
+    }
+
+    @Test
+    public void test_Outstanding_Counts_Unreleased_References() {
+        Object owner = new Object();
+        int outstanding = ComReference.outstanding();
+
+        ComReference reference =
+                ComReference.track(owner, Mockito.mock(IUnknown.class));
+        assertEquals(outstanding + 1, ComReference.outstanding());
+
+        reference.release();
+        assertEquals(outstanding, ComReference.outstanding());
+    }
+
+    @Test
+    public void test_Leak_Detection_Records_Allocation_Site() {
+        ComReference.setLeakDetection(true);
+
+        Object owner = new Object();
+        ComReference reference =
+                ComReference.track(owner, Mockito.mock(IUnknown.class));
+
+        boolean found = ComReference.outstandingSites().stream()
+                .anyMatch(site -> site.getStackTrace()[2].getMethodName()
+                        .equals("test_Leak_Detection_Records_Allocation_Site"));
+
+        reference.release();
+
+        assertTrue(found);
+    }
+
+    @Test
+    public void test_Unreachable_Owner_Has_Reference_Released()
+            throws Exception {
+        IUnknown unknown = Mockito.mock(IUnknown.class);
+        long leaked = ComReference.leaked();
+
+        ComReference.track(new Object(), unknown);
+
+        for (int attempt = 0; attempt < 50 && ComReference.leaked() == leaked;
+             attempt++) {
+            System.gc();
+            Thread.sleep(10);
+            ComReference.releaseUnreachable();
+        }
+
+        verify(unknown, times(1)).Release();
+        assertTrue(ComReference.leaked() > leaked);
+    }
+
+    @Test
+    public void test_Unreachable_Reference_Is_Released_On_Its_Own_Thread()
+            throws Exception {
+        IUnknown unknown = Mockito.mock(IUnknown.class);
+
+        CountDownLatch tracked = new CountDownLatch(1);
+        CountDownLatch collected = new CountDownLatch(1);
+        AtomicReference<ComReference> reference = new AtomicReference<>();
+        AtomicInteger released = new AtomicInteger();
+
+        Thread owner = new Thread(() -> {
+            reference.set(ComReference.track(new Object(), unknown));
+            tracked.countDown();
+
+            try {
+                collected.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            released.set(ComReference.releaseUnreachable());
+        });
+        owner.start();
+        tracked.await();
+
+        for (int attempt = 0; attempt < 50 && !reference.get().isReleased();
+             attempt++) {
+            System.gc();
+            Thread.sleep(10);
+            ComReference.releaseUnreachable();
+        }
+
+        // Collected here, but not released on this thread
+        assertTrue(reference.get().isReleased());
+        verify(unknown, never()).Release();
+
+        collected.countDown();
+        owner.join();
+
+        assertEquals(1, released.get());
+        verify(unknown, times(1)).Release();
+    }
+
+    @Test
+    public void test_Closed_Element_Releases_Element() {
+        IUIAutomationElement mocked = Mockito.mock(IUIAutomationElement.class);
+
+        try (Element element = new Element(mocked)) {
+            verify(mocked, never()).Release();
+        }
+
+        verify(mocked, times(1)).Release();
+    }
+
+    @Test
+    public void test_SetElement_Releases_Previous_Element() {
+        IUIAutomationElement first = Mockito.mock(IUIAutomationElement.class);
+        IUIAutomationElement second = Mockito.mock(IUIAutomationElement.class);
+
+        Element element = new Element(first);
+        element.setElement(second);
+
+        verify(first, times(1)).Release();
+
+        element.close();
+
+        verify(second, times(1)).Release();
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.Callback;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.FakeComObject;
+import mmarquee.uiautomation.IUIAutomation;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for the ConditionCache.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ConditionCacheTest {
+
+    public interface QueryInterface extends Callback {
+        int invoke(Pointer self, Pointer riid, Pointer ppv);
+    }
+
+    /**
+     * The number of times each fake condition has been AddRef'd.
+     */
+    private final Map<Pointer, AtomicInteger> addRefs = new HashMap<>();
+
+    /**
+     * The number of times each fake condition has been released.
+     */
+    private final Map<Pointer, AtomicInteger> releases = new HashMap<>();
+
+    private FakeComObject prototype;
+
+    @Before
+    public void setUp() {
+        prototype = new FakeComObject(3)
+                .slot(0, (QueryInterface) (self, riid, ppv) -> {
+                    ppv.setPointer(0, self);
+                    return 0;
+                })
+                .slot(1, (FakeComObject.Method0) self -> {
+                    synchronized (releases) {
+                        addRefs.computeIfAbsent(self, p -> new AtomicInteger())
+                                .incrementAndGet();
+                    }
+                    return 0;
+                })
+                .slot(2, (FakeComObject.Method0) self -> {
+                    synchronized (releases) {
+                        releases.computeIfAbsent(self, p -> new AtomicInteger())
+                                .incrementAndGet();
+                    }
+                    return 0;
+                });
+    }
+
+    private Pointer newCondition() {
+        return new FakeComObject(prototype).getPointer();
+    }
+
+    /**
+     * Gets the number of references held to a fake condition, counting the
+     * one it was created with.
+     */
+    private int references(final Pointer condition) {
+        synchronized (releases) {
+            AtomicInteger count = addRefs.get(condition);
+            return 1 + (count == null ? 0 : count.get()) - releases(condition);
+        }
+    }
+
+    private int releases(final Pointer condition) {
+        synchronized (releases) {
+            AtomicInteger count = releases.get(condition);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    @Test
+    public void test_Same_Key_Creates_Once() throws Exception {
+        ConditionCache cache = new ConditionCache(10);
+        AtomicInteger created = new AtomicInteger();
+
+        Pointer first = cache.get(ConditionCache.propertyKey(1, "name", 0), () -> {
+            created.incrementAndGet();
+            return newCondition();
+        });
+        Pointer second = cache.get(ConditionCache.propertyKey(1, "name", 0), () -> {
+            created.incrementAndGet();
+            return newCondition();
+        });
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void test_Keys_Differ_By_Property_Value_And_Flags() {
+        assertNotEquals(ConditionCache.propertyKey(1, "a", 0),
+                ConditionCache.propertyKey(2, "a", 0));
+        assertNotEquals(ConditionCache.propertyKey(1, "a", 0),
+                ConditionCache.propertyKey(1, "b", 0));
+        assertNotEquals(ConditionCache.propertyKey(1, "a", 0),
+                ConditionCache.propertyKey(1, "a", 1));
+        assertNotEquals(ConditionCache.propertyKey(1, 5, 0),
+                ConditionCache.propertyKey(1, "5", 0));
+    }
+
+    @Test
+    public void test_Combinations_Are_Keyed_By_Structure() {
+        Object a = ConditionCache.propertyKey(1, "a", 0);
+        Object b = ConditionCache.propertyKey(2, 50000, 0);
+
+        assertEquals(ConditionCache.combinationKey("And", a, b),
+                ConditionCache.combinationKey("And",
+                        ConditionCache.propertyKey(1, "a", 0),
+                        ConditionCache.propertyKey(2, 50000, 0)));
+        assertNotEquals(ConditionCache.combinationKey("And", a, b),
+                ConditionCache.combinationKey("Or", a, b));
+        assertNotEquals(ConditionCache.combinationKey("Not", a),
+                ConditionCache.combinationKey("Not", b));
+        assertNull(ConditionCache.combinationKey("And", a, null));
+    }
+
+    @Test
+    public void test_Evicts_Least_Recently_Used_And_Releases_It() throws Exception {
+        ConditionCache cache = new ConditionCache(2);
+
+        Object keyA = ConditionCache.propertyKey(1, "a", 0);
+        Object keyB = ConditionCache.propertyKey(1, "b", 0);
+        Object keyC = ConditionCache.propertyKey(1, "c", 0);
+
+        Pointer a = cache.get(keyA, this::newCondition);
+        Pointer b = cache.get(keyB, this::newCondition);
+
+        // Use a again, so b is the least recently used
+        cache.get(keyA, this::newCondition);
+        cache.get(keyC, this::newCondition);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, releases(b));
+        assertEquals(0, releases(a));
+        assertNull(cache.keyOf(b));
+        assertEquals(keyA, cache.keyOf(a));
+    }
+
+    @Test
+    public void test_Evicted_Condition_Is_Kept_For_Its_Holder() throws Exception {
+        ConditionCache cache = new ConditionCache(1);
+
+        Object keyA = ConditionCache.propertyKey(1, "a", 0);
+        Object keyB = ConditionCache.propertyKey(1, "b", 0);
+
+        Pointer held = cache.get(keyA, this::newCondition);
+        Pointer again = cache.get(keyA, this::newCondition);
+        assertSame(held, again);
+        assertEquals(3, references(held));
+
+        // Evicts a, while both callers still hold it
+        Pointer b = cache.get(keyB, this::newCondition);
+
+        assertEquals(1, cache.size());
+        assertNull(cache.keyOf(held));
+        assertEquals(2, references(held));
+        assertEquals(2, references(b));
+
+        ConditionCache.release(new PointerByReference(held));
+        ConditionCache.release(new PointerByReference(again));
+
+        assertEquals(0, references(held));
+    }
+
+    @Test
+    public void test_Combination_Keeps_Its_Operands_When_They_Are_Evicted() throws Exception {
+        IUIAutomation mocked = Mockito.mock(IUIAutomation.class);
+        Map<Pointer, Integer> operandReferences = new HashMap<>();
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(0);
+            pbr.setValue(newCondition());
+            return 0;
+        }).when(mocked).createTrueCondition(any());
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(0);
+            pbr.setValue(newCondition());
+            return 0;
+        }).when(mocked).createFalseCondition(any());
+
+        doAnswer(invocation -> {
+            for (int index = 0; index < 2; index++) {
+                Pointer operand = invocation.getArgument(index);
+                operandReferences.put(operand, references(operand));
+            }
+
+            PointerByReference pbr = invocation.getArgument(2);
+            pbr.setValue(newCondition());
+            return 0;
+        }).when(mocked).createAndCondition(any(), any(), any());
+
+        String previous = System.setProperty(
+                "mmarquee.automation.conditionCacheSize", "1");
+
+        UIAutomation instance;
+
+        try {
+            instance = new UIAutomation(mocked);
+        } finally {
+            if (previous == null) {
+                System.clearProperty("mmarquee.automation.conditionCacheSize");
+            } else {
+                System.setProperty("mmarquee.automation.conditionCacheSize", previous);
+            }
+        }
+
+        // Creating the false condition evicts the true one
+        PointerByReference trueCondition = instance.createTrueCondition();
+        PointerByReference falseCondition = instance.createFalseCondition();
+
+        instance.createAndCondition(trueCondition, falseCondition);
+
+        assertEquals(Integer.valueOf(1), operandReferences.get(trueCondition.getValue()));
+        assertEquals(Integer.valueOf(2), operandReferences.get(falseCondition.getValue()));
+
+        instance.uninitialize();
+
+        assertEquals(1, references(trueCondition.getValue()));
+        assertEquals(1, references(falseCondition.getValue()));
+    }
+
+    @Test
+    public void test_Clear_Releases_All() throws Exception {
+        ConditionCache cache = new ConditionCache(10);
+
+        Pointer a = cache.get(ConditionCache.propertyKey(1, "a", 0), this::newCondition);
+        Pointer b = cache.get(ConditionCache.propertyKey(1, "b", 0), this::newCondition);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(1, releases(a));
+        assertEquals(1, releases(b));
+    }
+
+    @Test
+    public void test_Zero_Capacity_Does_Not_Cache() throws Exception {
+        ConditionCache cache = new ConditionCache(0);
+
+        Object key = ConditionCache.propertyKey(1, "a", 0);
+
+        Pointer first = cache.get(key, this::newCondition);
+        Pointer second = cache.get(key, this::newCondition);
+
+        assertNotEquals(first, second);
+        assertEquals(0, cache.size());
+        assertNull(cache.keyOf(first));
+    }
+
+    @Test
+    public void test_UIAutomation_Reuses_Conditions() throws Exception {
+        // Property conditions need a VARIANT, which JNA can only lay out
+        // on Windows, so this uses the conditions without a value
+        IUIAutomation mocked = Mockito.mock(IUIAutomation.class);
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(0);
+            pbr.setValue(newCondition());
+            return 0;
+        }).when(mocked).createTrueCondition(any());
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(0);
+            pbr.setValue(newCondition());
+            return 0;
+        }).when(mocked).createFalseCondition(any());
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(1);
+            pbr.setValue(newCondition());
+            return 0;
+        }).when(mocked).createNotCondition(any(), any());
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(2);
+            pbr.setValue(newCondition());
+            return 0;
+        }).when(mocked).createAndCondition(any(), any(), any());
+
+        UIAutomation instance = new UIAutomation(mocked);
+
+        for (int i = 0; i < 100; i++) {
+            instance.createAndCondition(
+                    instance.createTrueCondition(),
+                    instance.createNotCondition(instance.createFalseCondition()));
+        }
+
+        PointerByReference first = instance.createAndCondition(
+                instance.createTrueCondition(),
+                instance.createNotCondition(instance.createFalseCondition()));
+        PointerByReference other = instance.createAndCondition(
+                instance.createNotCondition(instance.createFalseCondition()),
+                instance.createTrueCondition());
+
+        assertNotNull(first.getValue());
+        assertNotEquals(first.getValue(), other.getValue());
+
+        verify(mocked, times(1)).createTrueCondition(any());
+        verify(mocked, times(1)).createFalseCondition(any());
+        verify(mocked, times(1)).createNotCondition(any(), any());
+        verify(mocked, times(2)).createAndCondition(any(), any(), any());
+
+        ConditionCache cache = instance.getConditionCache();
+        assertEquals(5, cache.size());
+
+        instance.uninitialize();
+
+        assertEquals(0, cache.size());
+        assertEquals(1, releases(first.getValue()));
+    }
+
+    @Test
+    public void test_UIAutomation_Does_Not_Cache_Combinations_Of_Unknown_Conditions() throws Exception {
+        IUIAutomation mocked = Mockito.mock(IUIAutomation.class);
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(1);
+            pbr.setValue(newCondition());
+            return 0;
+        }).when(mocked).createNotCondition(any(), any());
+
+        UIAutomation instance = new UIAutomation(mocked);
+        PointerByReference unknown = new PointerByReference(newCondition());
+
+        instance.createNotCondition(unknown);
+        instance.createNotCondition(unknown);
+
+        verify(mocked, times(2)).createNotCondition(any(), any());
+        assertEquals(0, instance.getConditionCache().size());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.automation.controls.Container;
+import mmarquee.automation.controls.ElementBuilder;
+import mmarquee.uiautomation.FakeComObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that the controls give back the conditions they create.
+ *
+ * Each condition the automation hands out carries a reference owned by
+ * the caller, so after a lookup every one of them should have been
+ * released once.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ConditionReleaseTest {
+
+    private final AtomicInteger addRefs = new AtomicInteger();
+
+    private final AtomicInteger releases = new AtomicInteger();
+
+    private final Map<Pointer, AtomicInteger> references = new HashMap<>();
+
+    private final List<Pointer> created = new ArrayList<>();
+
+    private FakeComObject prototype;
+
+    private UIAutomation automation;
+
+    private Element element;
+
+    private Element found;
+
+    @Before
+    public void setUp() throws Exception {
+        prototype = new FakeComObject(3)
+                .slot(1, (FakeComObject.Method0) self -> {
+                    addRefs.incrementAndGet();
+                    counter(self).incrementAndGet();
+                    return 0;
+                })
+                .slot(2, (FakeComObject.Method0) self -> {
+                    releases.incrementAndGet();
+                    counter(self).decrementAndGet();
+                    return 0;
+                });
+
+        automation = Mockito.mock(UIAutomation.class);
+        element = Mockito.mock(Element.class);
+        found = Mockito.mock(Element.class);
+
+        when(automation.createNamePropertyCondition(anyString()))
+                .thenAnswer(invocation -> newCondition());
+        when(automation.createControlTypeCondition(any()))
+                .thenAnswer(invocation -> newCondition());
+        when(automation.createAndCondition(any(), any()))
+                .thenAnswer(invocation -> newCondition());
+
+        when(element.findFirst(any(), any())).thenReturn(found);
+
+        // The controls found are built with the current instance
+        UIAutomation.setCurrentInstance(automation);
+    }
+
+    @After
+    public void tearDown() {
+        UIAutomation.setCurrentInstance(null);
+    }
+
+    private AtomicInteger counter(final Pointer condition) {
+        synchronized (references) {
+            return references.computeIfAbsent(condition,
+                    p -> new AtomicInteger());
+        }
+    }
+
+    private PointerByReference newCondition() {
+        PointerByReference condition =
+                new FakeComObject(prototype).getReference();
+        counter(condition.getValue()).incrementAndGet();
+        created.add(condition.getValue());
+        return condition;
+    }
+
+    @Test
+    public void test_GetItem_By_Name_Releases_Every_Condition()
+            throws Exception {
+        mmarquee.automation.controls.List list =
+                new mmarquee.automation.controls.List(
+                        new ElementBuilder(element).automation(automation));
+
+        assertSame(found, list.getItem("Item").getElement());
+
+        // The name, the control type and the And condition
+        assertEquals(3, created.size());
+        assertEquals(created.size() + addRefs.get(), releases.get());
+
+        for (Pointer condition : created) {
+            assertEquals(0, counter(condition).get());
+        }
+    }
+
+    @Test
+    public void test_Container_Lookup_Releases_Every_Condition()
+            throws Exception {
+        Container container = new Container(
+                new ElementBuilder(element).automation(automation));
+
+        assertSame(found, container.getButton("OK").getElement());
+
+        assertEquals(3, created.size());
+        assertEquals(created.size() + addRefs.get(), releases.get());
+
+        for (Pointer condition : created) {
+            assertEquals(0, counter(condition).get());
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.FakeComObject;
+import mmarquee.uiautomation.IUIAutomation;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the Condition model.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ConditionTest {
+
+    private final AtomicInteger addRefs = new AtomicInteger();
+
+    private final Map<Pointer, AtomicInteger> references = new HashMap<>();
+
+    private final Map<Pointer, AtomicInteger> releases = new HashMap<>();
+
+    private final List<Pointer> created = new ArrayList<>();
+
+    private FakeComObject prototype;
+
+    @Before
+    public void setUp() {
+        prototype = new FakeComObject(3)
+                .slot(1, (FakeComObject.Method0) self -> {
+                    addRefs.incrementAndGet();
+                    counter(references, self).incrementAndGet();
+                    return 0;
+                })
+                .slot(2, (FakeComObject.Method0) self -> {
+                    counter(references, self).decrementAndGet();
+                    counter(releases, self).incrementAndGet();
+                    return 0;
+                });
+    }
+
+    private static AtomicInteger counter(final Map<Pointer, AtomicInteger> counts,
+                                         final Pointer condition) {
+        synchronized (counts) {
+            return counts.computeIfAbsent(condition, p -> new AtomicInteger());
+        }
+    }
+
+    private int references(final Pointer condition) {
+        return counter(references, condition).get();
+    }
+
+    private int releases(final Pointer condition) {
+        return counter(releases, condition).get();
+    }
+
+    private PointerByReference newCondition() {
+        PointerByReference condition = new FakeComObject(prototype).getReference();
+        counter(references, condition.getValue()).incrementAndGet();
+        created.add(condition.getValue());
+        return condition;
+    }
+
+    private IUIAutomation mockAutomation() {
+        IUIAutomation mocked = Mockito.mock(IUIAutomation.class);
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(0);
+            pbr.setValue(newCondition().getValue());
+            return 0;
+        }).when(mocked).createTrueCondition(any());
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(0);
+            pbr.setValue(newCondition().getValue());
+            return 0;
+        }).when(mocked).createFalseCondition(any());
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(1);
+            pbr.setValue(newCondition().getValue());
+            return 0;
+        }).when(mocked).createNotCondition(any(), any());
+
+        doAnswer(invocation -> {
+            PointerByReference pbr = invocation.getArgument(2);
+            pbr.setValue(newCondition().getValue());
+            return 0;
+        }).when(mocked).createAndCondition(any(), any(), any());
+
+        return mocked;
+    }
+
+    @Test
+    public void test_Equal_Conditions_Are_Equal() {
+        Condition first = Condition.name("OK").and(Condition.controlType(ControlType.Button));
+        Condition second = Condition.name("OK").and(Condition.controlType(ControlType.Button));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        assertNotEquals(first, Condition.name("Cancel").and(Condition.controlType(ControlType.Button)));
+        assertNotEquals(first, Condition.name("OK").or(Condition.controlType(ControlType.Button)));
+        assertNotEquals(Condition.name("OK"), Condition.automationId("OK"));
+
+        Set<Condition> set = new HashSet<>();
+        set.add(first);
+        set.add(second);
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void test_Combinations_Are_Flattened() {
+        Condition a = Condition.name("a");
+        Condition b = Condition.name("b");
+        Condition c = Condition.name("c");
+
+        assertEquals(Condition.allOf(a, b, c), a.and(b).and(c));
+        assertEquals(Condition.allOf(a, b, c), a.and(b.and(c)));
+        assertEquals(Condition.anyOf(a, b, c), a.or(b).or(c));
+        assertNotEquals(Condition.allOf(a, b, c), Condition.allOf(a, Condition.anyOf(b, c)));
+    }
+
+    @Test
+    public void test_Degenerate_Combinations() {
+        Condition a = Condition.name("a");
+
+        assertSame(Condition.TRUE, Condition.allOf());
+        assertSame(Condition.FALSE, Condition.anyOf());
+        assertSame(a, Condition.allOf(a));
+        assertSame(a, a.negate().negate());
+    }
+
+    @Test
+    public void test_Control_Type_Conditions_Are_Shared() {
+        assertSame(Condition.controlType(ControlType.Button),
+                Condition.controlType(ControlType.Button));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_Unsupported_Value_Throws_Exception() {
+        Condition.property(PropertyID.BoundingRectangle, new Object());
+    }
+
+    @Test
+    public void test_ToString() {
+        Condition condition = Condition.controlType(ControlType.Button)
+                .and(Condition.name("OK").or(Condition.className("Edit")).negate());
+
+        assertEquals("(ControlType=Button AND NOT (Name='OK' OR ClassName='Edit'))",
+                condition.toString());
+    }
+
+    @Test
+    public void test_Compile_Releases_The_Operands() throws Exception {
+        UIAutomation automation = Mockito.mock(UIAutomation.class);
+
+        PointerByReference name = newCondition();
+        PointerByReference type = newCondition();
+        PointerByReference and = newCondition();
+
+        when(automation.createPropertyCondition(eq(PropertyID.Name.getValue()), anyString()))
+                .thenReturn(name);
+        when(automation.createPropertyCondition(PropertyID.ControlType.getValue(),
+                ControlType.Button.getValue())).thenReturn(type);
+        when(automation.createAndCondition(any(), any())).thenReturn(and);
+
+        Condition condition = Condition.name("OK")
+                .and(Condition.controlType(ControlType.Button));
+
+        assertEquals(and.getValue(), condition.compile(automation).getValue());
+
+        verify(automation, times(1)).createAndCondition(name, type);
+        assertEquals(0, addRefs.get());
+        assertEquals(1, releases(name.getValue()));
+        assertEquals(1, releases(type.getValue()));
+        assertEquals(0, releases(and.getValue()));
+    }
+
+    @Test
+    public void test_Compile_Releases_The_First_Operand_On_Failure() throws Exception {
+        UIAutomation automation = Mockito.mock(UIAutomation.class);
+
+        PointerByReference name = newCondition();
+
+        when(automation.createPropertyCondition(eq(PropertyID.Name.getValue()), anyString()))
+                .thenReturn(name);
+        when(automation.createPropertyCondition(PropertyID.ControlType.getValue(),
+                ControlType.Button.getValue()))
+                .thenThrow(new AutomationException(-1));
+
+        Condition condition = Condition.name("OK")
+                .and(Condition.controlType(ControlType.Button));
+
+        try {
+            condition.compile(automation);
+            fail("Expected AutomationException");
+        } catch (AutomationException ex) {
+            // expected
+        }
+
+        assertEquals(1, releases(name.getValue()));
+        assertEquals(0, references(name.getValue()));
+    }
+
+    @Test
+    public void test_Compiled_Once_Per_Automation() throws Exception {
+        // Property conditions need a VARIANT, which JNA can only lay out
+        // on Windows, so this uses the conditions without a value
+        IUIAutomation mocked = mockAutomation();
+        IUIAutomation otherMocked = mockAutomation();
+
+        UIAutomation automation = new UIAutomation(mocked);
+        UIAutomation other = new UIAutomation(otherMocked);
+
+        Condition condition = Condition.TRUE.and(Condition.FALSE.negate());
+
+        PointerByReference first = condition.compile(automation);
+        PointerByReference second = condition.compile(automation);
+        PointerByReference fromOther = condition.compile(other);
+
+        assertEquals(first.getValue(), second.getValue());
+        assertNotEquals(first.getValue(), fromOther.getValue());
+
+        verify(mocked, times(1)).createTrueCondition(any());
+        verify(mocked, times(1)).createFalseCondition(any());
+        verify(mocked, times(1)).createNotCondition(any(), any());
+        verify(mocked, times(1)).createAndCondition(any(), any(), any());
+        verify(otherMocked, times(1)).createAndCondition(any(), any(), any());
+
+        ConditionCache.release(first);
+        ConditionCache.release(second);
+        ConditionCache.release(fromOther);
+
+        automation.uninitialize();
+        other.uninitialize();
+
+        // Nothing is left holding a condition
+        for (Pointer created : this.created) {
+            assertEquals(0, references(created));
+        }
+    }
+}
@@ -54,4 +54,17 @@ public class ControlTypeTest {
 		ControlType type = ControlType.fromValue(-123);
 		assertEquals(ControlType.None, type);
 	}
+
+	@Test
+	public void fromValue_Gap() throws Exception {
+		assertEquals(ControlType.None, ControlType.fromValue(49999));
+		assertEquals(ControlType.None, ControlType.fromValue(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void fromValue_Every_Type() throws Exception {
+		for (ControlType type : ControlType.values()) {
+			assertEquals(type, ControlType.fromValue(type.getValue()));
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.IUIAutomationElement;
+import mmarquee.uiautomation.IUIAutomationElementArray;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the lazy list of elements.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ElementListTest {
+
+    private static final int SIZE = 10000;
+
+    private IUIAutomationElementArray array;
+    private BaseAutomation owner;
+
+    @Before
+    public void setUp() throws Exception {
+        array = Mockito.mock(IUIAutomationElementArray.class);
+        owner = Mockito.mock(BaseAutomation.class);
+
+        doAnswer(invocation -> {
+            IntByReference ibr = invocation.getArgument(0);
+            ibr.setValue(SIZE);
+            return 0;
+        }).when(array).getLength(any());
+
+        when(owner.getAutomationElementFromReference(any()))
+                .thenAnswer(invocation ->
+                        Mockito.mock(IUIAutomationElement.class));
+    }
+
+    @Test
+    public void test_Size_Does_Not_Fetch_Elements() throws Exception {
+        ElementList list = new ElementList(owner, array, false);
+
+        assertEquals(SIZE, list.size());
+        verify(array, never()).getElement(anyInt(), any());
+    }
+
+    @Test
+    public void test_Get_Fetches_Only_That_Element_Once() throws Exception {
+        ElementList list = new ElementList(owner, array, false);
+
+        Element first = list.get(SIZE - 1);
+        Element second = list.get(SIZE - 1);
+
+        assertSame(first, second);
+        verify(array, times(1)).getElement(eq(SIZE - 1), any(PointerByReference.class));
+        verify(array, times(1)).getElement(anyInt(), any(PointerByReference.class));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_Get_Out_Of_Range_Throws_Exception() throws Exception {
+        new ElementList(owner, array, false).get(SIZE);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_Error_From_Array_Throws_Exception() throws Exception {
+        doAnswer(invocation -> -1).when(array).getElement(anyInt(), any());
+
+        new ElementList(owner, array, false).get(0);
+    }
+
+    @Test
+    public void test_Close_Releases_Array() throws Exception {
+        try (ElementList list = new ElementList(owner, array, false)) {
+            list.get(0);
+        }
+
+        verify(array, times(1)).Release();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_Get_After_Close_Throws_Exception() throws Exception {
+        ElementList list = new ElementList(owner, array, false);
+        list.close();
+
+        list.get(0);
+    }
+
+    @Test(expected = AutomationException.class)
+    public void test_Error_Getting_Length_Throws_Exception() throws Exception {
+        doAnswer(invocation -> -1).when(array).getLength(any());
+
+        try {
+            new ElementList(owner, array, false);
+        } finally {
+            verify(array, times(1)).Release();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.WinDef;
+import mmarquee.uiautomation.Bstr;
+import mmarquee.uiautomation.FakeBstr;
+import mmarquee.uiautomation.IUIAutomationElement;
+import mmarquee.uiautomation.VariantBuffer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests for the typed property accessors of Element.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ElementPropertyTest {
+
+    private IUIAutomationElement mocked;
+    private Element element;
+
+    @Before
+    public void setUp() {
+        mocked = Mockito.mock(IUIAutomationElement.class);
+        element = new Element(mocked);
+    }
+
+    private void answer(final PropertyID property,
+                        final Consumer<Pointer> write) {
+        doAnswer(invocation -> {
+            Pointer variant = invocation.getArgument(1);
+            write.accept(variant);
+            return 0;
+        }).when(mocked).getCurrentPropertyValue(
+                eq(property.getValue()), any(Pointer.class));
+    }
+
+    @Test
+    public void test_getBooleanProperty_Reads_VARIANT_BOOL() throws Exception {
+        answer(PropertyID.IsOffscreen, variant -> {
+            variant.setShort(0, (short) VariantBuffer.VT_BOOL);
+            variant.setShort(8, (short) -1);
+        });
+
+        assertTrue(element.getBooleanProperty(PropertyID.IsOffscreen));
+        assertEquals(VariantBuffer.VT_EMPTY, VariantBuffer.get().getType());
+    }
+
+    @Test
+    public void test_getBooleanProperty_Is_False_When_Empty() throws Exception {
+        answer(PropertyID.IsOffscreen, variant -> { });
+
+        assertFalse(element.getBooleanProperty(PropertyID.IsOffscreen));
+    }
+
+    @Test
+    public void test_getIntProperty_Reads_VT_I4() throws Exception {
+        answer(PropertyID.ProcessId, variant -> {
+            variant.setShort(0, (short) VariantBuffer.VT_I4);
+            variant.setInt(8, 1234);
+        });
+
+        assertEquals(1234, element.getIntProperty(PropertyID.ProcessId));
+    }
+
+    @Test(expected = AutomationException.class)
+    public void test_getIntProperty_Throws_Exception_For_String() throws Exception {
+        answer(PropertyID.ProcessId, variant -> {
+            variant.setShort(0, (short) VariantBuffer.VT_BSTR);
+            variant.setPointer(8, FakeBstr.of("1234"));
+        });
+
+        element.getIntProperty(PropertyID.ProcessId);
+    }
+
+    @Test(expected = AutomationException.class)
+    public void test_Error_From_Element_Throws_Exception() throws Exception {
+        doAnswer(invocation -> -1).when(mocked)
+                .getCurrentPropertyValue(anyInt(), any(Pointer.class));
+
+        element.getIntProperty(PropertyID.ProcessId);
+    }
+
+    @Test
+    public void test_getStringProperty_Frees_BSTR() throws Exception {
+        answer(PropertyID.FrameworkId, variant -> {
+            variant.setShort(0, (short) VariantBuffer.VT_BSTR);
+            variant.setPointer(8, FakeBstr.of("Win32"));
+        });
+
+        long live = Bstr.live();
+        long freed = Bstr.freed();
+
+        assertEquals("Win32", element.getStringProperty(PropertyID.FrameworkId));
+        assertEquals(live, Bstr.live());
+        assertEquals(freed + 1, Bstr.freed());
+    }
+
+    @Test
+    public void test_getRectProperty_Reads_Array_Of_Doubles() throws Exception {
+        final Memory data = new Memory(4 * 8);
+        data.write(0, new double[]{10, 20, 100, 50}, 0, 4);
+
+        final int dataOffset = Native.POINTER_SIZE == 8 ? 16 : 12;
+        final Memory array = new Memory(dataOffset + Native.POINTER_SIZE + 8);
+        array.clear();
+        array.setShort(0, (short) 1);
+        array.setInt(4, 8);
+        array.setPointer(dataOffset, data);
+        array.setInt(dataOffset + Native.POINTER_SIZE, 4);
+
+        answer(PropertyID.BoundingRectangle, variant -> {
+            variant.setShort(0,
+                    (short) (VariantBuffer.VT_ARRAY | VariantBuffer.VT_R8));
+            variant.setPointer(8, array);
+        });
+
+        WinDef.RECT rect = element.getRectProperty(PropertyID.BoundingRectangle);
+
+        assertEquals(10, rect.left);
+        assertEquals(20, rect.top);
+        assertEquals(110, rect.right);
+        assertEquals(70, rect.bottom);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.Platform;
+import com.sun.jna.platform.win32.COM.Unknown;
+import com.sun.jna.platform.win32.Guid;
+import com.sun.jna.platform.win32.WinNT;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.FakeComObject;
+import mmarquee.uiautomation.IUIAutomationElement;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for the conversion of the elements returned by the automation
+ * library.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ElementReferenceTest {
+
+    @After
+    public void tearDown() {
+        BaseAutomation.setVerifyInterfaces(false);
+    }
+
+    @Test
+    public void test_Element_Is_Used_Without_QueryInterface() throws Exception {
+        // IUIAutomationElement refers to VARIANT, which needs Windows
+        Assume.assumeTrue(Platform.isWindows());
+
+        Element owner = Mockito.spy(new Element((IUIAutomationElement) null));
+
+        PointerByReference pbr = new FakeComObject(85).getReference();
+
+        assertNotNull(owner.getAutomationElementFromReference(pbr));
+        verify(owner, never()).makeUnknown(any());
+    }
+
+    @Test
+    public void test_Copy_Holds_A_Reference_Of_Its_Own() throws Exception {
+        // IUIAutomationElement refers to VARIANT, which needs Windows
+        Assume.assumeTrue(Platform.isWindows());
+
+        IUIAutomationElement mocked = Mockito.mock(IUIAutomationElement.class);
+
+        Element element = new Element(mocked);
+
+        Element copy = element.copy();
+
+        verify(mocked, times(1)).AddRef();
+        assertSame(mocked, copy.getElement());
+
+        copy.close();
+
+        verify(mocked, times(1)).Release();
+
+        element.close();
+
+        verify(mocked, times(2)).Release();
+    }
+
+    private final AtomicInteger releases = new AtomicInteger();
+
+    private FakeComObject fakeArray() {
+        FakeComObject array = new FakeComObject(5);
+
+        return array
+                .slot(0, (FakeComObject.Method2) (self, iid, result) -> {
+                    result.setPointer(0, array.getPointer());
+                    return 0;
+                })
+                .slot(1, (FakeComObject.Method0) self -> 2)
+                .slot(2, (FakeComObject.Method0) self -> {
+                    releases.incrementAndGet();
+                    return 1;
+                })
+                .slot(3, (FakeComObject.Method1) (self, length) -> {
+                    length.setInt(0, 0);
+                    return 0;
+                });
+    }
+
+    @Test
+    public void test_Closed_Array_Releases_The_Returned_Reference()
+            throws Exception {
+        Element owner = new Element((IUIAutomationElement) null);
+
+        ElementList list = new ElementList(owner,
+                owner.getAutomationElementArrayFromReference(
+                        fakeArray().getReference()), false);
+
+        assertEquals(0, releases.get());
+
+        list.close();
+
+        assertEquals(1, releases.get());
+    }
+
+    @Test
+    public void test_Verified_Array_Releases_Both_References()
+            throws Exception {
+        BaseAutomation.setVerifyInterfaces(true);
+
+        Element owner = new Element((IUIAutomationElement) null);
+
+        ElementList list = new ElementList(owner,
+                owner.getAutomationElementArrayFromReference(
+                        fakeArray().getReference()), false);
+
+        // The reference returned, now the QueryInterface has its own
+        assertEquals(1, releases.get());
+
+        list.close();
+
+        assertEquals(2, releases.get());
+    }
+
+    @Test
+    public void test_Verified_Mode_Checks_Interface() throws Exception {
+        BaseAutomation.setVerifyInterfaces(true);
+
+        Element owner = Mockito.spy(new Element((IUIAutomationElement) null));
+        Unknown unknown = Mockito.mock(Unknown.class);
+
+        doReturn(unknown).when(owner).makeUnknown(any());
+        doReturn(new WinNT.HRESULT(-1)).when(unknown)
+                .QueryInterface(any(Guid.REFIID.class), any(PointerByReference.class));
+
+        try {
+            owner.getAutomationElementFromReference(new PointerByReference());
+            fail("Expected AutomationException");
+        } catch (AutomationException ex) {
+            verify(unknown, times(1))
+                    .QueryInterface(any(Guid.REFIID.class), any(PointerByReference.class));
+            verify(unknown, never()).Release();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.platform.win32.Guid;
+import com.sun.jna.platform.win32.WinNT;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.IUIAutomationElement;
+import mmarquee.uiautomation.IUIAutomationElement7;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the later versions of the element interface.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class ElementVersionTest {
+
+    private static final int E_NOINTERFACE = 0x80004002;
+
+    @Test
+    public void test_Later_Interface_Is_Used_Without_QueryInterface() throws Exception {
+        IUIAutomationElement7 mocked = Mockito.mock(IUIAutomationElement7.class);
+
+        Element element = new Element(mocked);
+
+        assertSame(mocked, element.getElement3());
+        assertSame(mocked, element.getElement6());
+        assertSame(mocked, element.getElement7());
+        assertEquals(7, element.getHighestVersion());
+
+        verify(mocked, never()).QueryInterface(any(), any());
+    }
+
+    @Test
+    public void test_Unsupported_Version_Is_Only_Asked_For_Once() throws Exception {
+        IUIAutomationElement mocked = Mockito.mock(IUIAutomationElement.class);
+        when(mocked.QueryInterface(any(Guid.REFIID.class), any(PointerByReference.class)))
+                .thenReturn(new WinNT.HRESULT(E_NOINTERFACE));
+
+        Element element = new Element(mocked);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            try {
+                element.getElement7();
+                fail("Expected ConversionFailure");
+            } catch (ConversionFailure ex) {
+                assertEquals("IUIAutomationElement7", ex.getMessage());
+            }
+        }
+
+        verify(mocked, times(1)).QueryInterface(any(), any());
+    }
+
+    @Test
+    public void test_Closed_Element_Cannot_Be_Used() throws Exception {
+        IUIAutomationElement mocked = Mockito.mock(IUIAutomationElement.class);
+
+        Element element = new Element(mocked);
+        element.close();
+
+        verify(mocked, times(1)).Release();
+
+        try {
+            element.getElement();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+
+        try {
+            element.getName();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+
+        try {
+            element.getElement7();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+
+        verify(mocked, never()).getCurrentName(any());
+        verify(mocked, never()).QueryInterface(any(), any());
+
+        // Closing again does nothing
+        element.close();
+        verify(mocked, times(1)).Release();
+
+        IUIAutomationElement replacement = Mockito.mock(IUIAutomationElement.class);
+        element.setElement(replacement);
+
+        assertSame(replacement, element.getElement());
+    }
+
+    @Test
+    public void test_Highest_Version_Is_One_When_Nothing_Later_Is_Supported() throws Exception {
+        IUIAutomationElement mocked = Mockito.mock(IUIAutomationElement.class);
+        when(mocked.QueryInterface(any(Guid.REFIID.class), any(PointerByReference.class)))
+                .thenReturn(new WinNT.HRESULT(E_NOINTERFACE));
+
+        Element element = new Element(mocked);
+
+        assertEquals(1, element.getHighestVersion());
+        assertEquals(1, element.getHighestVersion());
+
+        verify(mocked, times(3)).QueryInterface(any(), any());
+    }
+
+    @Test
+    public void test_SetElement_Forgets_Versions() throws Exception {
+        IUIAutomationElement mocked = Mockito.mock(IUIAutomationElement.class);
+        when(mocked.QueryInterface(any(Guid.REFIID.class), any(PointerByReference.class)))
+                .thenReturn(new WinNT.HRESULT(E_NOINTERFACE));
+
+        Element element = new Element(mocked);
+        assertEquals(1, element.getHighestVersion());
+
+        element.setElement(Mockito.mock(IUIAutomationElement7.class));
+        assertEquals(7, element.getHighestVersion());
+    }
+}
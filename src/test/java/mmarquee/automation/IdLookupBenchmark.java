@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns the control type of each of a window's controls into its
+ * ControlType, as the control factory does, and checks a pattern by its
+ * value, against scanning the constants and deriving the availability
+ * property from the pattern's name as was done before.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdLookupBenchmark {
+
+    /**
+     * The number of controls in the window.
+     */
+    private static final int CONTROLS = 500;
+
+    private final int[] controlTypes = new int[CONTROLS];
+
+    private final int[] patterns = new int[CONTROLS];
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final ControlType[] types = ControlType.values();
+        final PatternID[] ids = PatternID.values();
+
+        for (int i = 0; i < CONTROLS; i++) {
+            this.controlTypes[i] =
+                    types[1 + random.nextInt(types.length - 1)].getValue();
+            this.patterns[i] = ids[random.nextInt(ids.length)].getValue();
+        }
+    }
+
+    private static ControlType scanControlType(final int value) {
+        for (ControlType type : ControlType.values()) {
+            if (type.getValue() == value) {
+                return type;
+            }
+        }
+        return ControlType.None;
+    }
+
+    private static PropertyID deriveAvailableProperty(final int value) {
+        for (PatternID patternId : PatternID.values()) {
+            if (patternId.getValue() == value) {
+                final String name = patternId.name();
+                return PropertyID.valueOf(String.format(
+                        "Is%sPattern%sAvailable",
+                        name.replaceAll("\\d", ""),
+                        name.replaceAll("\\D", "")));
+            }
+        }
+        throw new IllegalArgumentException("No PatternID for " + value);
+    }
+
+    @Benchmark
+    public void scanned(final Blackhole blackhole) {
+        for (int i = 0; i < CONTROLS; i++) {
+            blackhole.consume(scanControlType(this.controlTypes[i]));
+            blackhole.consume(deriveAvailableProperty(this.patterns[i]));
+        }
+    }
+
+    @Benchmark
+    public void tables(final Blackhole blackhole) {
+        for (int i = 0; i < CONTROLS; i++) {
+            blackhole.consume(ControlType.fromValue(this.controlTypes[i]));
+            blackhole.consume(
+                    PatternID.fromValue(this.patterns[i]).getAvailableProperty());
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IdLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
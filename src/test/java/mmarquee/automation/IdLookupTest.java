@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for looking up the pattern, property and event ids by value.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class IdLookupTest {
+
+    @Test
+    public void test_Every_Pattern_From_Value() {
+        for (PatternID id : PatternID.values()) {
+            assertSame(id, PatternID.fromValue(id.getValue()));
+        }
+    }
+
+    @Test
+    public void test_Every_Property_From_Value() {
+        for (PropertyID id : PropertyID.values()) {
+            assertSame(id, PropertyID.fromValue(id.getValue()));
+        }
+    }
+
+    @Test
+    public void test_Every_Event_From_Value() {
+        for (EventID id : EventID.values()) {
+            assertSame(id, EventID.fromValue(id.getValue()));
+        }
+    }
+
+    @Test
+    public void test_Unknown_Values() {
+        assertNull(PatternID.fromValue(0));
+        assertNull(PatternID.fromValue(9999));
+        assertNull(PatternID.fromValue(20000));
+        assertNull(PropertyID.fromValue(-1));
+        assertNull(PropertyID.fromValue(30200));
+        assertNull(EventID.fromValue(Integer.MIN_VALUE));
+        assertNull(EventID.fromValue(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void test_Gap_In_Property_Values() {
+        // 30045 to 30061 are not defined
+        assertNull(PropertyID.fromValue(30050));
+    }
+
+    @Test
+    public void test_Every_Pattern_Has_An_Available_Property() {
+        for (PatternID id : PatternID.values()) {
+            assertNotNull(id.name(), id.getAvailableProperty());
+        }
+    }
+
+    @Test
+    public void test_Available_Property() {
+        assertEquals(PropertyID.IsInvokePatternAvailable,
+                PatternID.Invoke.getAvailableProperty());
+        assertEquals(PropertyID.IsTextPattern2Available,
+                PatternID.Text2.getAvailableProperty());
+        assertEquals(PropertyID.IsLegacyIAccessiblePatternAvailable,
+                PatternID.LegacyIAccessible.getAvailableProperty());
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.TreeScope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the IndexLookup.
+ *
+ * The walker sees the parent P, which does not match, with the matches
+ * A (holding A1 and A2), B and C (holding C1) below it, and X, outside P,
+ * after C.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class IndexLookupTest {
+
+    private final PointerByReference condition = new PointerByReference();
+
+    private final PointerByReference trueCondition = new PointerByReference();
+
+    private UIAutomation automation;
+
+    private AutomationTreeWalker walker;
+
+    private AutomationTreeWalker rawWalker;
+
+    private long nextAddress = 1;
+
+    private Element parent;
+    private Element a;
+    private Element a1;
+    private Element a2;
+    private Element b;
+    private Element c;
+    private Element c1;
+    private Element x;
+
+    private Element element() throws Exception {
+        Element element = Mockito.mock(Element.class);
+        Pointer pointer = new Pointer(nextAddress++);
+        when(element.getPointerFromElement(any())).thenReturn(pointer);
+        return element;
+    }
+
+    /**
+     * Matches an element by its address, as each call to the walker gives a
+     * new Element for the same COM element.
+     */
+    private static Element is(final Element element) throws Exception {
+        final Pointer pointer = element.getPointerFromElement(null);
+        return argThat(other -> other != null && pointerOf(other).equals(pointer));
+    }
+
+    private static Pointer pointerOf(final Element element) {
+        try {
+            return element.getPointerFromElement(null);
+        } catch (AutomationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        automation = Mockito.mock(UIAutomation.class);
+        walker = Mockito.mock(AutomationTreeWalker.class);
+        rawWalker = Mockito.mock(AutomationTreeWalker.class);
+
+        parent = element();
+        a = element();
+        a1 = element();
+        a2 = element();
+        b = element();
+        c = element();
+        c1 = element();
+        x = element();
+
+        when(automation.createTreeWalker(condition)).thenReturn(walker);
+        when(automation.createTrueCondition()).thenReturn(trueCondition);
+        when(automation.createTreeWalker(trueCondition)).thenReturn(rawWalker);
+
+        doAnswer(invocation -> {
+            Pointer first = invocation.getArgument(0);
+            Pointer second = invocation.getArgument(1);
+            IntByReference same = invocation.getArgument(2);
+            same.setValue(first.equals(second) ? 1 : 0);
+            return 0;
+        }).when(automation).compareElements(any(), any(), any());
+
+        when(walker.getFirstChildElement(is(parent))).thenReturn(a);
+        when(walker.getLastChildElement(is(parent))).thenReturn(c);
+        when(walker.getFirstChildElement(is(a))).thenReturn(a1);
+        when(walker.getNextSiblingElement(is(a1))).thenReturn(a2);
+        when(walker.getNextSiblingElement(is(a))).thenReturn(b);
+        when(walker.getNextSiblingElement(is(b))).thenReturn(c);
+        when(walker.getFirstChildElement(is(c))).thenReturn(c1);
+        when(walker.getNextSiblingElement(is(c))).thenReturn(x);
+
+        // B is a grandchild of P, seen at the first level as its parent
+        // does not match
+        when(rawWalker.getParentElement(is(a))).thenReturn(parent);
+        when(rawWalker.getParentElement(is(b))).thenReturn(x);
+        when(rawWalker.getParentElement(is(c))).thenReturn(parent);
+
+        when(parent.findAll(any(), any())).thenReturn(
+                Arrays.asList(a, a1, a2, b, c, c1));
+    }
+
+    @After
+    public void tearDown() {
+        IndexLookup.setWalkLimit(IndexLookup.DEFAULT_WALK_LIMIT);
+    }
+
+    private Element get(final int scope, final int index) throws Exception {
+        return IndexLookup.get(automation, parent, new TreeScope(scope),
+                condition, index);
+    }
+
+    @Test
+    public void test_Walks_Descendants_In_Order() throws Exception {
+        assertSame(a, get(TreeScope.DESCENDANTS, 0));
+        assertSame(a2, get(TreeScope.DESCENDANTS, 2));
+        assertSame(b, get(TreeScope.DESCENDANTS, 3));
+        assertSame(c1, get(TreeScope.DESCENDANTS, 5));
+
+        verify(parent, never()).findAll(any(), any());
+    }
+
+    @Test
+    public void test_Walk_Stops_At_The_Last_Child() throws Exception {
+        try {
+            get(TreeScope.DESCENDANTS, 6);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+
+        verify(walker, never()).getNextSiblingElement(is(c));
+        verify(walker, never()).getFirstChildElement(is(x));
+    }
+
+    @Test
+    public void test_Walks_Direct_Children_Only() throws Exception {
+        assertSame(a, get(TreeScope.CHILDREN, 0));
+        assertSame(c, get(TreeScope.CHILDREN, 1));
+
+        verify(walker, never()).getFirstChildElement(is(a));
+    }
+
+    @Test
+    public void test_Subtree_Includes_The_Parent_If_It_Matches() throws Exception {
+        Element self = element();
+        when(parent.findFirst(any(), any())).thenReturn(self);
+
+        assertSame(self, get(TreeScope.SUBTREE, 0));
+        assertSame(a, get(TreeScope.SUBTREE, 1));
+    }
+
+    @Test
+    public void test_Late_Index_Finds_All() throws Exception {
+        IndexLookup.setWalkLimit(4);
+
+        assertSame(a2, get(TreeScope.DESCENDANTS, 2));
+
+        verify(parent).findAll(any(), any());
+        verify(automation, never()).createTreeWalker(any());
+    }
+
+    @Test
+    public void test_Finds_All_Without_A_Walker() throws Exception {
+        assertSame(a1, IndexLookup.get(Mockito.mock(UIAutomation.class),
+                parent, new TreeScope(TreeScope.DESCENDANTS), condition, 1));
+        assertSame(a1, IndexLookup.get(null,
+                parent, new TreeScope(TreeScope.DESCENDANTS), condition, 1));
+    }
+
+    @Test
+    public void test_Gives_Up_Walking_Matches_Below_A_Non_Matching_Child()
+            throws Exception {
+        // A combo box holding a list, which does not match, holding the
+        // items, which do; none of the items is a child of the combo box
+        Element combo = element();
+        Element list = element();
+
+        List<Element> items = new ArrayList<>();
+        for (int count = 0; count < 50; count++) {
+            items.add(element());
+        }
+
+        when(walker.getFirstChildElement(is(combo))).thenReturn(items.get(0));
+        when(walker.getLastChildElement(is(combo))).thenReturn(
+                items.get(items.size() - 1));
+        for (int count = 0; count < items.size(); count++) {
+            if (count + 1 < items.size()) {
+                when(walker.getNextSiblingElement(is(items.get(count))))
+                        .thenReturn(items.get(count + 1));
+            }
+            when(rawWalker.getParentElement(is(items.get(count))))
+                    .thenReturn(list);
+        }
+
+        when(combo.findAll(any(), any())).thenReturn(Collections.emptyList());
+
+        try {
+            IndexLookup.get(automation, combo,
+                    new TreeScope(TreeScope.CHILDREN), condition, 0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+
+        // The walk is given up at the limit, rather than visiting every item
+        verify(combo).findAll(any(), any());
+        verify(rawWalker, atMost(IndexLookup.DEFAULT_WALK_LIMIT / 4))
+                .getParentElement(any());
+        verify(walker, never()).getNextSiblingElement(
+                is(items.get(items.size() - 2)));
+    }
+
+    @Test
+    public void test_Cost_Model() {
+        assertTrue(IndexLookup.shouldWalk(TreeScope.DESCENDANTS, 0));
+        assertFalse(IndexLookup.shouldWalk(TreeScope.DESCENDANTS, 1000));
+        assertTrue(IndexLookup.estimateWalk(TreeScope.CHILDREN, 3)
+                > IndexLookup.estimateWalk(TreeScope.DESCENDANTS, 3));
+        assertFalse(IndexLookup.shouldWalk(TreeScope.ELEMENT, 0));
+
+        IndexLookup.setWalkLimit(0);
+        assertFalse(IndexLookup.shouldWalk(TreeScope.DESCENDANTS, 0));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.IUIAutomationElement;
+import mmarquee.uiautomation.TreeScope;
+import org.objenesis.ObjenesisStd;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the last of a number of tree items by a name pattern, getting the
+ * current name of each item, against matching the names fetched along with
+ * the items.
+ *
+ * The fake elements spin for a round trip on every call that would cross
+ * to the provider process: the find, and each current name.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameLookupBenchmark {
+
+    /**
+     * The time taken by a call to another process.
+     */
+    private static final long ROUND_TRIP_NANOS = 20_000;
+
+    @Param({"300", "3000"})
+    private int items;
+
+    private final TreeScope scope = new TreeScope(TreeScope.DESCENDANTS);
+
+    private final PointerByReference condition = new PointerByReference();
+
+    private Pattern last;
+
+    private FakeElement parent;
+
+    private CacheRequest request;
+
+    /**
+     * Waits for a round trip.
+     */
+    static void roundTrip() {
+        final long end = System.nanoTime() + ROUND_TRIP_NANOS;
+
+        while (System.nanoTime() < end) {
+            // spin
+        }
+    }
+
+    /**
+     * An element in another process.
+     */
+    static final class FakeElement extends Element {
+        private final String name;
+
+        private final List<Element> children;
+
+        FakeElement(final String inName, final List<Element> inChildren) {
+            super((IUIAutomationElement) null);
+            this.name = inName;
+            this.children = inChildren;
+        }
+
+        @Override
+        public String getName() {
+            roundTrip();
+            return this.name;
+        }
+
+        @Override
+        public String getCachedName() {
+            return this.name;
+        }
+
+        @Override
+        public List<Element> findAll(final TreeScope scope,
+                                     final PointerByReference condition) {
+            roundTrip();
+            return this.children;
+        }
+
+        @Override
+        public List<Element> findAll(final TreeScope scope,
+                                     final PointerByReference condition,
+                                     final CacheRequest cacheRequest) {
+            roundTrip();
+            return this.children;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Setup
+    public void setup() {
+        final List<Element> children = new ArrayList<>();
+
+        for (int i = 0; i < this.items; i++) {
+            children.add(new FakeElement("Item " + i, null));
+        }
+
+        this.parent = new FakeElement("Tree", children);
+        this.last = Pattern.compile("Item " + (this.items - 1));
+        // Only needs to be there; the fake elements do not look at it
+        this.request = new ObjenesisStd().newInstance(CacheRequest.class);
+    }
+
+    @Benchmark
+    public Element currentNames() throws AutomationException {
+        return NameLookup.findFirst(this.parent, this.scope, this.condition,
+                null, this.last);
+    }
+
+    @Benchmark
+    public Element cachedNames() throws AutomationException {
+        return NameLookup.findFirst(this.parent, this.scope, this.condition,
+                this.request, this.last);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NameLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.TreeScope;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the NameLookup.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class NameLookupTest {
+
+    private final TreeScope scope = new TreeScope(TreeScope.DESCENDANTS);
+
+    private final PointerByReference condition = new PointerByReference();
+
+    private Element parent;
+
+    private CacheRequest request;
+
+    private List<Element> children;
+
+    @Before
+    public void setUp() throws Exception {
+        parent = Mockito.mock(Element.class);
+        request = Mockito.mock(CacheRequest.class);
+
+        children = new ArrayList<>();
+
+        for (String name : Arrays.asList("File", null, "Edit", "Editor")) {
+            Element child = Mockito.mock(Element.class);
+            when(child.getName()).thenReturn(name);
+            when(child.getCachedName()).thenReturn(name);
+            children.add(child);
+        }
+
+        when(parent.findAll(any(), any())).thenReturn(children);
+        when(parent.findAll(any(), any(), any())).thenReturn(children);
+    }
+
+    @Test
+    public void test_FindFirst_Matches_Cached_Names() throws Exception {
+        Element found = NameLookup.findFirst(parent, scope, condition, request,
+                Pattern.compile("Ed.*"));
+
+        assertSame(children.get(2), found);
+
+        verify(parent).findAll(scope, condition, request);
+        verify(parent, never()).findAll(any(), any());
+        for (Element child : children) {
+            verify(child, never()).getName();
+        }
+
+        // The candidates that did not match are released
+        verify(children.get(0)).close();
+        verify(children.get(1)).close();
+        verify(children.get(2), never()).close();
+    }
+
+    @Test
+    public void test_FindAll_Matches_Cached_Names() throws Exception {
+        List<Element> found = NameLookup.findAll(parent, scope, condition,
+                request, Pattern.compile("Ed.*"));
+
+        assertEquals(Arrays.asList(children.get(2), children.get(3)), found);
+    }
+
+    @Test
+    public void test_FindFirst_Returns_Null_When_Nothing_Matches() throws Exception {
+        assertNull(NameLookup.findFirst(parent, scope, condition, request,
+                Pattern.compile("View")));
+    }
+
+    @Test
+    public void test_Without_Request_Gets_Current_Names() throws Exception {
+        Element found = NameLookup.findFirst(parent, scope, condition, null,
+                Pattern.compile("Ed.*"));
+
+        assertSame(children.get(2), found);
+
+        verify(parent).findAll(scope, condition);
+        verify(parent, never()).findAll(any(), any(), any());
+        verify(children.get(0)).getName();
+        verify(children.get(3), never()).getName();
+
+        verify(children.get(0)).close();
+        verify(children.get(1)).close();
+        verify(children.get(2), never()).close();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import mmarquee.uiautomation.PropertyConditionFlags;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the NamePrefilter.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class NamePrefilterTest {
+
+    private static NamePrefilter of(final String regex) {
+        return NamePrefilter.of(Pattern.compile(regex));
+    }
+
+    @Test
+    public void test_Literal_Is_Exact() {
+        NamePrefilter prefilter = of("Untitled - Notepad");
+
+        assertEquals("Untitled - Notepad", prefilter.getLiteral());
+        assertTrue(prefilter.isExact());
+        assertEquals(PropertyConditionFlags.None.getValue(), prefilter.getFlags());
+    }
+
+    @Test
+    public void test_Quoted_And_Escaped_Literals_Are_Exact() {
+        NamePrefilter quoted = NamePrefilter.of(
+                Pattern.compile(Pattern.quote("a.b (c)")));
+
+        assertEquals("a.b (c)", quoted.getLiteral());
+        assertTrue(quoted.isExact());
+
+        NamePrefilter escaped = of("^File\\.txt\\*$");
+
+        assertEquals("File.txt*", escaped.getLiteral());
+        assertTrue(escaped.isExact());
+
+        NamePrefilter literal = NamePrefilter.of(
+                Pattern.compile("a|b", Pattern.LITERAL));
+
+        assertEquals("a|b", literal.getLiteral());
+        assertTrue(literal.isExact());
+    }
+
+    @Test
+    public void test_Case_Insensitive_Literal() {
+        NamePrefilter flag = NamePrefilter.of(
+                Pattern.compile("notepad", Pattern.CASE_INSENSITIVE));
+        NamePrefilter inline = of("(?i)notepad");
+
+        assertTrue(flag.isExact());
+        assertTrue(flag.isIgnoreCase());
+        assertEquals("notepad", inline.getLiteral());
+        assertTrue(inline.isIgnoreCase());
+        assertEquals(PropertyConditionFlags.IgnoreCase.getValue(), flag.getFlags());
+    }
+
+    @Test
+    public void test_Longest_Required_Run_Is_A_Substring() {
+        NamePrefilter prefilter = of("Item \\d+");
+
+        assertEquals("Item ", prefilter.getLiteral());
+        assertFalse(prefilter.isExact());
+        assertEquals(PropertyConditionFlags.MatchSubstring.getValue(),
+                prefilter.getFlags());
+
+        assertEquals("Notepad", of(".*Notepad").getLiteral());
+        assertEquals(" - Notepad", of("[A-Z]\\w* - Notepad").getLiteral());
+        assertEquals(" Document", of("(Untitled)? Document.*").getLiteral());
+    }
+
+    @Test
+    public void test_Quantified_Character_Is_Not_Required() {
+        assertEquals("colo", of("colou?r").getLiteral());
+        assertEquals("Item", of("Items*").getLiteral());
+        assertEquals("abc", of("abcd{0,2}").getLiteral());
+        assertEquals("Tab", of("Tabs+?").getLiteral());
+    }
+
+    @Test
+    public void test_Case_Insensitive_Substring() {
+        NamePrefilter prefilter = NamePrefilter.of(
+                Pattern.compile("untitled.+", Pattern.CASE_INSENSITIVE));
+
+        assertEquals("untitled", prefilter.getLiteral());
+        assertEquals(PropertyConditionFlags.IgnoreCase.getValue()
+                        | PropertyConditionFlags.MatchSubstring.getValue(),
+                prefilter.getFlags());
+    }
+
+    @Test
+    public void test_No_Prefilter() {
+        assertNull(of(".*"));
+        assertNull(of("\\d+"));
+        assertNull(of("OK|Cancel"));
+        assertNull(of("Save (As|Copy)|Close"));
+        assertNull(of("ab(?i)cd"));
+        assertNull(of("\\x41BC"));
+        assertNull(of("\\p{L}bc"));
+        assertNull(of("(a)\\1bc"));
+        assertNull(NamePrefilter.of(Pattern.compile("ab c", Pattern.COMMENTS)));
+    }
+
+    @Test
+    public void test_Prefilter_Accepts_Every_Match() {
+        List<String> patterns = Arrays.asList(
+                "Item \\d+", "colou?r", ".*Notepad", "(?i)untitled.+",
+                "Tabs+?", "a\\.b", "[xy]z{2,}w", "File\\Q.*\\E", "^Save$",
+                "(Open)+ File", "X{3}Y");
+        List<String> names = Arrays.asList(
+                "Item 1", "Item 42", "color", "colour", "Untitled - Notepad",
+                "UNTITLED doc", "Tab", "Tabs", "Tabsss", "a.b", "xzzw",
+                "yzzzw", "File.*", "Save", "OpenOpen File", "Open File",
+                "XXXY", "");
+
+        for (String regex : patterns) {
+            Pattern pattern = Pattern.compile(regex);
+            NamePrefilter prefilter = NamePrefilter.of(pattern);
+
+            for (String name : names) {
+                if (pattern.matcher(name).matches()) {
+                    assertTrue(regex + " / " + prefilter + " rejects " + name,
+                            accepts(prefilter, name));
+                }
+            }
+        }
+    }
+
+    private static boolean accepts(final NamePrefilter prefilter,
+                                   final String name) {
+        if (prefilter == null) {
+            return true;
+        }
+
+        String literal = prefilter.getLiteral();
+        String value = name;
+
+        if (prefilter.isIgnoreCase()) {
+            literal = literal.toLowerCase(Locale.ROOT);
+            value = value.toLowerCase(Locale.ROOT);
+        }
+
+        return prefilter.isExact() ? value.equals(literal) : value.contains(literal);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.ptr.PointerByReference;
+import com.sun.jna.platform.win32.COM.COMException;
+import com.sun.jna.platform.win32.Ole32;
+import com.sun.jna.platform.win32.WinError;
+import com.sun.jna.platform.win32.WinNT;
+import mmarquee.uiautomation.FakeComObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for how the Ole32Wrapper initializes and uninitializes COM.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class Ole32WrapperTest {
+
+    private Ole32 ole32;
+
+    private void initializeReturns(final WinNT.HRESULT result) {
+        when(ole32.CoInitializeEx(any(), anyInt())).thenReturn(result);
+    }
+
+    @Before
+    public void setUp() {
+        ole32 = Mockito.mock(Ole32.class);
+
+        FakeComObject created = new FakeComObject(3)
+                .slot(1, (FakeComObject.Method0) self -> 2)
+                .slot(2, (FakeComObject.Method0) self -> 1);
+
+        when(ole32.CoCreateInstance(any(), any(), anyInt(), any(), any()))
+                .thenAnswer(invocation -> {
+                    PointerByReference pbr = invocation.getArgument(4);
+                    pbr.setValue(created.getPointer());
+                    return WinError.S_OK;
+                });
+    }
+
+    @Test
+    public void test_Uninitializes_After_S_OK() {
+        initializeReturns(WinError.S_OK);
+
+        Ole32Wrapper wrapper =
+                new Ole32Wrapper(ole32, ApartmentModel.MultiThreaded);
+        wrapper.uninitialize();
+        wrapper.uninitialize();
+
+        verify(ole32, times(1)).CoUninitialize();
+    }
+
+    @Test
+    public void test_Uninitializes_After_S_FALSE() {
+        initializeReturns(WinError.S_FALSE);
+
+        new Ole32Wrapper(ole32, ApartmentModel.SingleThreaded).uninitialize();
+
+        verify(ole32, times(1)).CoUninitialize();
+    }
+
+    @Test
+    public void test_Changed_Mode_Throws_Without_Uninitializing() {
+        initializeReturns(new WinNT.HRESULT(WinError.RPC_E_CHANGED_MODE));
+
+        try {
+            new Ole32Wrapper(ole32, ApartmentModel.MultiThreaded);
+            fail("Expected COMException");
+        } catch (COMException ex) {
+            // expected
+        }
+
+        verify(ole32, never()).CoCreateInstance(any(), any(), anyInt(),
+                any(), any());
+        verify(ole32, never()).CoUninitialize();
+    }
+
+    @Test
+    public void test_Failure_Throws_Without_Uninitializing() {
+        initializeReturns(new WinNT.HRESULT(WinError.E_OUTOFMEMORY));
+
+        try {
+            new Ole32Wrapper(ole32, ApartmentModel.SingleThreaded);
+            fail("Expected COMException");
+        } catch (COMException ex) {
+            // expected
+        }
+
+        verify(ole32, never()).CoUninitialize();
+    }
+
+    @Test
+    public void test_Failed_Create_Uninitializes() {
+        initializeReturns(WinError.S_OK);
+        doReturn(new WinNT.HRESULT(WinError.E_OUTOFMEMORY)).when(ole32)
+                .CoCreateInstance(any(), any(), anyInt(), any(), any());
+
+        try {
+            new Ole32Wrapper(ole32, ApartmentModel.SingleThreaded);
+            fail("Expected COMException");
+        } catch (COMException ex) {
+            // expected
+        }
+
+        verify(ole32, times(1)).CoUninitialize();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import com.sun.jna.platform.win32.WinDef;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.uiautomation.FakeBstr;
+import mmarquee.uiautomation.IUIAutomationElement;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests for the per-thread out parameters, and their use by Element.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class OutParametersTest {
+
+    private IUIAutomationElement mocked;
+    private Element element;
+
+    @Before
+    public void setUp() {
+        mocked = Mockito.mock(IUIAutomationElement.class);
+        element = new Element(mocked);
+    }
+
+    @Test
+    public void test_Parameters_Are_Reset_When_Handed_Out() {
+        OutParameters out = OutParameters.get();
+
+        out.intReference().setValue(42);
+        out.pointerReference().setValue(FakeBstr.of("Left over"));
+        out.boolReference().setValue(new WinDef.BOOL(true));
+        out.pointReference().x = 7;
+
+        assertEquals(0, out.intReference().getValue());
+        assertNull(out.pointerReference().getValue());
+        out.boolReference();
+        assertFalse(out.boolValue());
+        assertEquals(0, out.pointReference().x);
+    }
+
+    @Test
+    public void test_Parameters_Belong_To_One_Thread() throws Exception {
+        AtomicReference<OutParameters> other = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> other.set(OutParameters.get()));
+        thread.start();
+        thread.join();
+
+        assertSame(OutParameters.get(), OutParameters.get());
+        assertNotSame(OutParameters.get(), other.get());
+    }
+
+    @Test
+    public void test_Getters_Reuse_The_Same_Int_Parameter() throws Exception {
+        List<IntByReference> seen = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            IntByReference ibr = invocation.getArgument(0);
+            seen.add(ibr);
+            ibr.setValue(100 + seen.size());
+            return 0;
+        }).when(mocked).getCurrentProcessId(any());
+
+        assertEquals(101, (int) element.getProcessId());
+        assertEquals(102, (int) element.getProcessId());
+        assertSame(seen.get(0), seen.get(1));
+    }
+
+    @Test
+    public void test_Getters_Reuse_The_Same_Pointer_Parameter() throws Exception {
+        List<PointerByReference> seen = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            PointerByReference sr = invocation.getArgument(0);
+            seen.add(sr);
+            sr.setValue(FakeBstr.of("Name " + seen.size()));
+            return 0;
+        }).when(mocked).getCurrentName(any());
+
+        assertEquals("Name 1", element.getName());
+        assertEquals("Name 2", element.getName());
+        assertSame(seen.get(0), seen.get(1));
+    }
+
+    @Test
+    public void test_Boolean_Getter_Reads_Reused_Parameter() throws Exception {
+        doAnswer(invocation -> {
+            WinDef.BOOLByReference bbr = invocation.getArgument(0);
+            bbr.setValue(new WinDef.BOOL(true));
+            return 0;
+        }).when(mocked).getCurrentIsEnabled(any());
+
+        assertTrue(element.isEnabled());
+
+        doAnswer(invocation -> 0).when(mocked).getCurrentIsEnabled(any());
+
+        assertFalse(element.isEnabled());
+    }
+
+    @Test
+    public void test_getBoundingRectangle_Fills_In_Given_Rectangle() throws Exception {
+        WinDef.RECT rect = new WinDef.RECT();
+
+        doAnswer(invocation -> {
+            WinDef.RECT value = invocation.getArgument(0);
+            value.left = 1;
+            value.top = 2;
+            value.right = 3;
+            value.bottom = 4;
+            return 0;
+        }).when(mocked).getCurrentBoundingRectangle(any());
+
+        element.getBoundingRectangle(rect);
+
+        assertEquals(1, rect.left);
+        assertEquals(4, rect.bottom);
+    }
+}
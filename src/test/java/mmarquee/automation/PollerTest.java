@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the Poller.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class PollerTest {
+
+    @Before
+    public void setUp() {
+        Poller.resetStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        Poller.setDelays(Poller.DEFAULT_INITIAL_DELAY, Poller.DEFAULT_MAX_DELAY);
+        Poller.resetStatistics();
+    }
+
+    @Test
+    public void test_Found_First_Time_Does_Not_Wait() throws Exception {
+        String result = new Poller("test", 1000).poll(() -> "found");
+
+        assertEquals("found", result);
+
+        Poller.Statistics statistics = Poller.getStatistics("test");
+        assertEquals(1, statistics.getCalls());
+        assertEquals(1, statistics.getAttempts());
+        assertEquals(0, statistics.getWaits());
+        assertEquals(0, statistics.getTimeouts());
+    }
+
+    @Test
+    public void test_Found_Later_Waits_Little() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+
+        String result = new Poller("test", 5000).poll(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ElementNotFoundException();
+            }
+            return "found";
+        });
+
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("found", result);
+        assertEquals(3, attempts.get());
+        // Two short waits, nowhere near the 500 ms of a fixed sleep
+        assertTrue("Took " + elapsed + "ms", elapsed < 250);
+        assertEquals(2, Poller.getStatistics("test").getWaits());
+    }
+
+    @Test
+    public void test_Timeout_Returns_Null() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        Object result = new Poller("test", 50).poll(() -> {
+            attempts.incrementAndGet();
+            return null;
+        });
+
+        assertNull(result);
+        assertTrue(attempts.get() > 1);
+
+        Poller.Statistics statistics = Poller.getStatistics("test");
+        assertEquals(1, statistics.getTimeouts());
+        assertEquals(attempts.get(), statistics.getAttempts());
+        assertTrue(statistics.getWaitMillis() >= 40);
+    }
+
+    @Test
+    public void test_Timeout_Rethrows_Last_Not_Found() throws Exception {
+        try {
+            new Poller("test", 20).poll(() -> {
+                throw new ItemNotFoundException("missing");
+            });
+            fail("Expected ItemNotFoundException");
+        } catch (ItemNotFoundException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void test_Zero_Timeout_Tries_Once() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        new Poller("test", 0).poll(() -> {
+            attempts.incrementAndGet();
+            return null;
+        });
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void test_Other_Exceptions_Stop_Polling() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            new Poller("test", 1000).poll(() -> {
+                attempts.incrementAndGet();
+                throw new AutomationException("broken");
+            });
+            fail("Expected AutomationException");
+        } catch (AutomationException ex) {
+            assertEquals("broken", ex.getMessage());
+        }
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void test_Interrupted_Stops_Waiting() throws Exception {
+        Thread.currentThread().interrupt();
+
+        try {
+            new Poller("test", 10000).poll(() -> null);
+            fail("Expected AutomationException");
+        } catch (AutomationException ex) {
+            assertTrue(ex.getCause() instanceof InterruptedException);
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void test_Delays_Back_Off_Up_To_The_Maximum() throws Exception {
+        Poller.setDelays(10, 20);
+
+        final AtomicInteger attempts = new AtomicInteger();
+
+        new Poller("test", 200).poll(() -> {
+            attempts.incrementAndGet();
+            return null;
+        });
+
+        // Waits of about 10, then about 20 each, so about 10 attempts
+        assertTrue("Attempts " + attempts.get(), attempts.get() >= 6);
+        assertTrue("Attempts " + attempts.get(), attempts.get() <= 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_Delays_Must_Be_Positive() {
+        Poller.setDelays(0, 10);
+    }
+
+    @Test
+    public void test_Statistics_Are_Per_Call_Site() throws Exception {
+        new Poller("first", 0).poll(() -> "found");
+        new Poller("second", 0).poll(() -> "found");
+        new Poller("second", 0).poll(() -> "found");
+
+        assertEquals(2, Poller.getStatistics().size());
+        assertEquals(1, Poller.getStatistics().get("first").getCalls());
+        assertEquals(2, Poller.getStatistics().get("second").getCalls());
+    }
+}
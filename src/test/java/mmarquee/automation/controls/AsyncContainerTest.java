@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.controls;
+
+import mmarquee.automation.AsyncLookup;
+import mmarquee.automation.ElementNotFoundException;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the AsyncContainer.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class AsyncContainerTest {
+
+    @Test
+    public void test_getButton_Completes_Once_Found() throws Exception {
+        Container container = Mockito.mock(Container.class);
+        Button button = Mockito.mock(Button.class);
+        Search search = Search.getBuilder("OK").build();
+
+        when(container.getButton(search))
+                .thenThrow(new ElementNotFoundException())
+                .thenReturn(button);
+
+        AsyncContainer async =
+                new AsyncContainer(container, new AsyncLookup(1000, 5));
+
+        assertSame(button, async.getButton(search).get(1, TimeUnit.SECONDS));
+        verify(container, times(2)).getButton(search);
+    }
+
+    @Test
+    public void test_Several_Controls_Awaited_Together() throws Exception {
+        Container container = Mockito.mock(Container.class);
+        EditBox editBox = Mockito.mock(EditBox.class);
+        Custom custom = Mockito.mock(Custom.class);
+        Search edit = Search.getBuilder("Edit").build();
+        Search check = Search.getBuilder("Custom").build();
+
+        when(container.getEditBox(edit)).thenReturn(editBox);
+        when(container.getCustom(check))
+                .thenThrow(new ElementNotFoundException())
+                .thenReturn(custom);
+
+        AsyncContainer async =
+                new AsyncContainer(container, new AsyncLookup(1000, 5));
+
+        CompletableFuture<EditBox> first = async.getEditBox(edit);
+        CompletableFuture<Custom> second = async.getCustom(check);
+
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+
+        assertSame(editBox, first.get());
+        assertSame(custom, second.get());
+    }
+}
@@ -200,7 +200,7 @@ public class AutomationBaseTest {
     public void testIsAutomationPatternAvailablePatternID () throws Exception {
     	
         Window window = new Window(new ElementBuilder(element));
-        when(element.getPropertyValue(PropertyID.IsGridItemPatternAvailable.getValue())).thenReturn(1);
+        when(element.getBooleanProperty(PropertyID.IsGridItemPatternAvailable)).thenReturn(true);
 
         boolean value = window.isAutomationPatternAvailable(PatternID.GridItem);
 
@@ -211,7 +211,7 @@ public class AutomationBaseTest {
     public void testIsAutomationPatternAvailableAllDefinedPatternID_no_Exception () throws Exception {
     	
     	Window window = new Window(new ElementBuilder(element));
-        when(element.getPropertyValue(anyInt())).thenReturn(0);
+        when(element.getBooleanProperty(any())).thenReturn(false);
         
     	for (final PatternID patternId: PatternID.values()) {
     		window.isAutomationPatternAvailable(patternId);
@@ -222,7 +222,7 @@ public class AutomationBaseTest {
     public void testIsAutomationPatternAvailablePatternID_when_not_available () throws Exception {
 
         Window window = new Window(new ElementBuilder(element));
-        when(element.getPropertyValue(PropertyID.IsRangeValuePatternAvailable.getValue())).thenReturn(0);
+        when(element.getBooleanProperty(PropertyID.IsRangeValuePatternAvailable)).thenReturn(false);
 
         boolean value = window.isAutomationPatternAvailable(PatternID.RangeValue);
 
@@ -234,7 +234,7 @@ public class AutomationBaseTest {
     public void testIsAutomationPatternAvailableInt () throws Exception {
     	
         Window window = new Window(new ElementBuilder(element));
-        when(element.getPropertyValue(PropertyID.IsWindowPatternAvailable.getValue())).thenReturn(1);
+        when(element.getBooleanProperty(PropertyID.IsWindowPatternAvailable)).thenReturn(true);
 
         boolean value = window.isAutomationPatternAvailable(PatternID.Window.getValue());
 
@@ -246,7 +246,7 @@ public class AutomationBaseTest {
     public void testIsAutomationPatternAvailableIntSecondVersion () throws Exception {
     	
         Window window = new Window(new ElementBuilder(element));
-        when(element.getPropertyValue(PropertyID.IsTextPattern2Available.getValue())).thenReturn(1);
+        when(element.getBooleanProperty(PropertyID.IsTextPattern2Available)).thenReturn(true);
 
         boolean value = window.isAutomationPatternAvailable(PatternID.Text2.getValue());
 
@@ -257,7 +257,7 @@ public class AutomationBaseTest {
     public void testIsAutomationPatternAvailableInt_when_not_available () throws Exception {
 
         Window window = new Window(new ElementBuilder(element));
-        when(element.getPropertyValue(PropertyID.IsTogglePatternAvailable.getValue())).thenReturn(0);
+        when(element.getBooleanProperty(PropertyID.IsTogglePatternAvailable)).thenReturn(false);
 
         boolean value = window.isAutomationPatternAvailable(PatternID.Toggle.getValue());
 
@@ -460,7 +460,7 @@ public class AutomationBaseTest {
 
     @Test
     public void testisOffScreen_Get_Value_From_Element() throws Exception {
-        when(element.getPropertyValue(anyInt())).thenReturn(1);
+        when(element.getBooleanProperty(any())).thenReturn(true);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -475,7 +475,7 @@ public class AutomationBaseTest {
 
     @Test
     public void testisTableItemPatternAvailable() throws Exception {
-        when(element.getPropertyValue(anyInt())).thenReturn(0);
+        when(element.getBooleanProperty(any())).thenReturn(false);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -490,7 +490,7 @@ public class AutomationBaseTest {
 
     @Test
     public void testisScrollItemPatternAvailable () throws Exception {
-        when(element.getPropertyValue(anyInt())).thenReturn(1);
+        when(element.getBooleanProperty(any())).thenReturn(true);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -505,7 +505,7 @@ public class AutomationBaseTest {
 
     @Test
     public void testisTransformPatternAvailable() throws Exception {
-        when(element.getPropertyValue(anyInt())).thenReturn(1);
+        when(element.getBooleanProperty(any())).thenReturn(true);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -520,7 +520,7 @@ public class AutomationBaseTest {
 
     @Test
     public void testisGridItemPatternAvailable() throws Exception {
-        when(element.getPropertyValue(anyInt())).thenReturn(1);
+        when(element.getBooleanProperty(any())).thenReturn(true);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -535,7 +535,7 @@ public class AutomationBaseTest {
 
     @Test
     public void testisGridItemPatternAvailable_Returns_False_When_Property_Is_Zero() throws Exception {
-        when(element.getPropertyValue(anyInt())).thenReturn(0);
+        when(element.getBooleanProperty(any())).thenReturn(false);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -550,7 +550,7 @@ public class AutomationBaseTest {
 
     @Test
     public void testIsDockPatternPatternAvailable_Returns_True_When_Value_Is_One() throws Exception {
-        when(element.getPropertyValue(anyInt())).thenReturn(1);
+        when(element.getBooleanProperty(any())).thenReturn(true);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -566,7 +566,7 @@ public class AutomationBaseTest {
     /*
     @Test(expected = AutomationException.class)
     public void testgetRuntimeIdThrowsException() throws Exception {
-        when(element.getPropertyValue(anyInt())).thenReturn(1);
+        when(element.getBooleanProperty(any())).thenReturn(true);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -676,7 +676,7 @@ public class AutomationBaseTest {
 
         doThrow(AutomationException.class)
                 .when(element)
-                .getPropertyValue(any());
+                .getBooleanProperty(any());
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
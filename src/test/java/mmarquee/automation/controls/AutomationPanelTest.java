@@ -81,7 +81,7 @@ public class AutomationPanelTest {
         Window window = panel.getWindow(Search.getBuilder(0).build());
         assertEquals(targetElement,window.getElement());
 
-        verify(panel).createIntegerVariant(ControlType.Window.getValue());
+        verify(panel).createControlTypeCondition(ControlType.Window);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
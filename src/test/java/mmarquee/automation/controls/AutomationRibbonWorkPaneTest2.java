@@ -15,13 +15,12 @@
  */
 package mmarquee.automation.controls;
 
-import com.sun.jna.Memory;
-import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 import mmarquee.automation.Element;
 import mmarquee.automation.ElementNotFoundException;
 import mmarquee.automation.pattern.ItemContainer;
+import mmarquee.uiautomation.FakeBstr;
 import mmarquee.uiautomation.IUIAutomationElement;
 import org.junit.*;
 import org.mockito.Mockito;
@@ -93,8 +92,7 @@ public class AutomationRibbonWorkPaneTest2 {
                     PointerByReference reference = (PointerByReference) args[0];
 
                     String value = "NUIPane";
-                    Pointer pointer = new Memory(Native.WCHAR_SIZE * (value.length() + 1));
-                    pointer.setWideString(0, value);
+                    Pointer pointer = FakeBstr.of(value);
 
                     reference.setValue(pointer);
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.controls;
+
+import mmarquee.automation.AutomationException;
+import mmarquee.automation.CacheRequest;
+import mmarquee.automation.Element;
+import mmarquee.automation.PatternID;
+import mmarquee.automation.PropertyID;
+import mmarquee.automation.UIAutomation;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.EnumSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for finding the patterns an element supports with one call.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class AvailablePatternsTest {
+
+    private UIAutomation automation;
+
+    private CacheRequest request;
+
+    private Element element;
+
+    private Element updated;
+
+    private Container control;
+
+    @Before
+    public void setUp() throws Exception {
+        automation = Mockito.mock(UIAutomation.class);
+        request = Mockito.mock(CacheRequest.class);
+        element = Mockito.mock(Element.class);
+        updated = Mockito.mock(Element.class);
+
+        when(automation.getPatternCacheRequest()).thenReturn(request);
+        when(element.buildUpdatedCache(request)).thenReturn(updated);
+        when(updated.getCachedBooleanProperty(PropertyID.IsInvokePatternAvailable))
+                .thenReturn(true);
+        when(updated.getCachedBooleanProperty(PropertyID.IsValuePatternAvailable))
+                .thenReturn(true);
+
+        control = new Container(
+                new ElementBuilder(element).automation(automation));
+    }
+
+    @Test
+    public void test_Patterns_Are_Fetched_In_One_Call() throws Exception {
+        assertEquals(EnumSet.of(PatternID.Invoke, PatternID.Value),
+                control.getAvailablePatterns());
+
+        verify(element, times(1)).buildUpdatedCache(request);
+        verify(element, never()).getBooleanProperty(any());
+        verify(updated).close();
+    }
+
+    @Test
+    public void test_Patterns_Are_Kept() throws Exception {
+        control.getAvailablePatterns();
+        control.getAvailablePatterns().clear();
+
+        assertTrue(control.isAutomationPatternAvailable(PatternID.Value));
+        assertTrue(control.isAutomationPatternAvailable(
+                PatternID.Invoke.getValue()));
+        assertFalse(control.isAutomationPatternAvailable(PatternID.Toggle));
+        assertFalse(control.isDockPatternAvailable());
+
+        verify(element, times(1)).buildUpdatedCache(request);
+        verify(element, never()).getBooleanProperty(any());
+    }
+
+    @Test
+    public void test_Invalidate_Fetches_Again() throws Exception {
+        control.getAvailablePatterns();
+        control.invalidateAvailablePatterns();
+        control.getAvailablePatterns();
+
+        verify(element, times(2)).buildUpdatedCache(request);
+    }
+
+    @Test
+    public void test_Checks_Each_Pattern_Without_A_Cache_Request()
+            throws Exception {
+        when(automation.getPatternCacheRequest()).thenReturn(null);
+        when(element.getBooleanProperty(PropertyID.IsTogglePatternAvailable))
+                .thenReturn(true);
+
+        assertEquals(EnumSet.of(PatternID.Toggle),
+                control.getAvailablePatterns());
+
+        verify(element, times(PatternID.values().length))
+                .getBooleanProperty(any());
+    }
+
+    @Test
+    public void test_Checks_Each_Pattern_When_The_Cache_Fails()
+            throws Exception {
+        when(element.buildUpdatedCache(request))
+                .thenThrow(new AutomationException(-1));
+
+        assertEquals(EnumSet.noneOf(PatternID.class),
+                control.getAvailablePatterns());
+
+        verify(element, times(PatternID.values().length))
+                .getBooleanProperty(any());
+    }
+
+    @Test
+    public void test_Checks_A_Pattern_Missing_From_The_Cache_Directly()
+            throws Exception {
+        when(updated.getCachedBooleanProperty(PropertyID.IsTogglePatternAvailable))
+                .thenThrow(new AutomationException(-1));
+        when(element.getBooleanProperty(PropertyID.IsTogglePatternAvailable))
+                .thenReturn(true);
+
+        assertEquals(
+                EnumSet.of(PatternID.Invoke, PatternID.Value, PatternID.Toggle),
+                control.getAvailablePatterns());
+
+        verify(element, times(1)).getBooleanProperty(any());
+        verify(updated).close();
+    }
+}
@@ -759,7 +759,7 @@ public class ContainerTest {
         Panel bar = spyWndw.getPanel(Search.getBuilder(0).className("BlaBla").build());
         assertEquals(targetElement,bar.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.Pane.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.Pane);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -1752,7 +1752,7 @@ public class ContainerTest {
         TextBox textBox = spyWndw.getTextBox(Search.getBuilder(0).build());
         assertEquals(targetElement,textBox.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.Text.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.Text);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -1829,7 +1829,7 @@ public class ContainerTest {
         SplitButton btn = spyWndw.getSplitButton(Search.getBuilder(0).build());
         assertEquals(targetElement,btn.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.SplitButton.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.SplitButton);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -1908,7 +1908,7 @@ public class ContainerTest {
         Image img = spyWndw.getImage(Search.getBuilder(0).build());
         assertEquals(targetElement, img.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.Image.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.Image);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -1985,7 +1985,7 @@ public class ContainerTest {
         Spinner spin = spyWndw.getSpinner(Search.getBuilder(0).build());
         assertEquals(targetElement, spin.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.Spinner.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.Spinner);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -2063,7 +2063,7 @@ public class ContainerTest {
         ReBar bar = spyWndw.getReBar(Search.getBuilder(0).build());
         assertEquals(targetElement,bar.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.Pane.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.Pane);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -2159,7 +2159,7 @@ public class ContainerTest {
         Custom custom = spyWndw.getCustom(Search.getBuilder(0).build());
         assertEquals(targetElement, custom.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.Custom.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.Custom);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -2237,7 +2237,7 @@ public class ContainerTest {
         Custom bar = spyWndw.getCustom(Search.getBuilder(0).className("BlaBla").build());
         assertEquals(targetElement,bar.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.Custom.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.Custom);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -2310,7 +2310,7 @@ public class ContainerTest {
         PowerpointSlide slide = spyWndw.getPowerpointSlide(Search.getBuilder(0).build());
         assertEquals(targetElement, slide.getElement());
 
-        verify(spyWndw).createIntegerVariant(ControlType.Custom.getValue());
+        verify(spyWndw).createControlTypeCondition(ControlType.Custom);
         verify(element, atLeastOnce()).findAll(any(), any());
     }
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.controls;
+
+import mmarquee.automation.AutomationException;
+import mmarquee.automation.Element;
+import mmarquee.automation.UIAutomation;
+import mmarquee.automation.pattern.BasePattern;
+import mmarquee.automation.pattern.Invoke;
+import mmarquee.automation.pattern.Toggle;
+import mmarquee.automation.pattern.Value;
+import mmarquee.uiautomation.IUIAutomationElement;
+import org.objenesis.ObjenesisStd;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes a short-lived control and asks it for three patterns, as a test
+ * that wraps each control it touches does, against creating each pattern
+ * reflectively into a map under a lock, as was done before.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestPatternBenchmark {
+
+    private Element element;
+
+    private UIAutomation automation;
+
+    @Setup
+    public void setup() {
+        this.element = new Element((IUIAutomationElement) null);
+        // Only needs to be there; nothing is called on it
+        this.automation = new ObjenesisStd().newInstance(UIAutomation.class);
+    }
+
+    /**
+     * The patterns of a control, as they were kept before.
+     */
+    static final class Reflective {
+        private final Map<Class<? extends BasePattern>, BasePattern> patterns =
+                new HashMap<>();
+
+        private final Object monitor = new Object();
+
+        private final Element element;
+
+        Reflective(final Element inElement) {
+            this.element = inElement;
+        }
+
+        <T extends BasePattern> T request(final Class<T> type)
+                throws AutomationException {
+            synchronized (this.monitor) {
+                T pattern = type.cast(this.patterns.get(type));
+                if (pattern == null) {
+                    try {
+                        pattern = type.getConstructor(Element.class)
+                                .newInstance(this.element);
+                    } catch (ReflectiveOperationException ex) {
+                        throw new AutomationException(ex);
+                    }
+                    this.patterns.put(type, pattern);
+                }
+                return pattern;
+            }
+        }
+    }
+
+    @Benchmark
+    public void reflective(final Blackhole blackhole)
+            throws AutomationException {
+        final Reflective control = new Reflective(this.element);
+
+        blackhole.consume(control.request(Invoke.class));
+        blackhole.consume(control.request(Value.class));
+        blackhole.consume(control.request(Toggle.class));
+        blackhole.consume(control.request(Value.class));
+    }
+
+    @Benchmark
+    public void registry(final Blackhole blackhole)
+            throws AutomationException {
+        final Container control = new Container(
+                new ElementBuilder(this.element).automation(this.automation));
+
+        blackhole.consume(control.requestAutomationPattern(Invoke.class));
+        blackhole.consume(control.requestAutomationPattern(Value.class));
+        blackhole.consume(control.requestAutomationPattern(Toggle.class));
+        blackhole.consume(control.requestAutomationPattern(Value.class));
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RequestPatternBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
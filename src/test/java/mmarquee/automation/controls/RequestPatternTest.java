@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.controls;
+
+import mmarquee.automation.AutomationException;
+import mmarquee.automation.Element;
+import mmarquee.automation.UIAutomation;
+import mmarquee.automation.pattern.BasePattern;
+import mmarquee.automation.pattern.Invoke;
+import mmarquee.automation.pattern.Value;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for keeping the patterns a control has created.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class RequestPatternTest {
+
+    /**
+     * A pattern registered after the control is made.
+     */
+    public static class Late extends BasePattern {
+        public Late(final Element element) throws AutomationException {
+            super(element);
+        }
+    }
+
+    private Element element;
+
+    private Container control;
+
+    @Before
+    public void setUp() {
+        element = Mockito.mock(Element.class);
+
+        control = new Container(new ElementBuilder(element)
+                .automation(Mockito.mock(UIAutomation.class)));
+    }
+
+    @Test
+    public void test_Pattern_Is_Created_Once() throws Exception {
+        Value value = control.requestAutomationPattern(Value.class);
+
+        assertSame(value, control.requestAutomationPattern(Value.class));
+        verify(element, times(1)).getProvidedPattern(Value.class);
+    }
+
+    @Test
+    public void test_Provided_Pattern_Is_Used() throws Exception {
+        Invoke invoke = Mockito.mock(Invoke.class);
+        when(element.getProvidedPattern(Invoke.class)).thenReturn(invoke);
+
+        assertSame(invoke, control.requestAutomationPattern(Invoke.class));
+    }
+
+    @Test
+    public void test_Set_Pattern_Is_Used() throws Exception {
+        Value value = Mockito.mock(Value.class);
+        control.setAutomationPattern(value);
+
+        assertSame(value, control.requestAutomationPattern(Value.class));
+        verify(element, times(0)).getProvidedPattern(Value.class);
+    }
+
+    @Test
+    public void test_Pattern_Registered_Later_Is_Created_Once() throws Exception {
+        Late late = control.requestAutomationPattern(Late.class);
+
+        assertSame(late, control.requestAutomationPattern(Late.class));
+        verify(element, times(1)).getProvidedPattern(Late.class);
+    }
+}
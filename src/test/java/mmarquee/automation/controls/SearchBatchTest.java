@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.controls;
+
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.automation.AutomationException;
+import mmarquee.automation.CacheRequest;
+import mmarquee.automation.Condition;
+import mmarquee.automation.ControlType;
+import mmarquee.automation.Element;
+import mmarquee.automation.ElementNotFoundException;
+import mmarquee.automation.UIAutomation;
+import mmarquee.uiautomation.FakeComObject;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the SearchBatch.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class SearchBatchTest {
+
+    private UIAutomation automation;
+
+    private Element parent;
+
+    private Container container;
+
+    private Element ok;
+    private Element cancel;
+    private Element user;
+    private Element label;
+
+    private FakeComObject prototype;
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name").toLowerCase().contains("windows");
+    }
+
+    private PointerByReference newCondition() {
+        return new FakeComObject(prototype).getReference();
+    }
+
+    private static Element cached(final ControlType controlType,
+                                  final String name,
+                                  final String automationId,
+                                  final String className)
+            throws AutomationException {
+        Element element = Mockito.mock(Element.class);
+
+        when(element.getCachedControlType()).thenReturn(controlType.getValue());
+        when(element.getCachedName()).thenReturn(name);
+        when(element.getCachedAutomationId()).thenReturn(automationId);
+        when(element.getCachedClassName()).thenReturn(className);
+
+        return element;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        prototype = new FakeComObject(3)
+                .slot(1, (FakeComObject.Method0) self -> 1)
+                .slot(2, (FakeComObject.Method0) self -> 0);
+
+        automation = Mockito.mock(UIAutomation.class);
+        parent = Mockito.mock(Element.class);
+
+        when(automation.getSearchCacheRequest())
+                .thenReturn(Mockito.mock(CacheRequest.class));
+        when(automation.createTrueCondition())
+                .thenAnswer(invocation -> newCondition());
+        when(automation.createPropertyCondition(anyInt(), anyInt()))
+                .thenAnswer(invocation -> newCondition());
+        when(automation.createOrCondition(any(), any()))
+                .thenAnswer(invocation -> newCondition());
+
+        ok = cached(ControlType.Button, "OK", "okButton", "Button");
+        label = cached(ControlType.Text, "User name", "", "Static");
+        user = cached(ControlType.Edit, "", "user", "Edit");
+        cancel = cached(ControlType.Button, "Cancel", "cancelButton", "Button");
+
+        when(parent.findAll(any(), any(), any(CacheRequest.class)))
+                .thenReturn(Arrays.asList(ok, label, user, cancel));
+
+        container = new Container(
+                new ElementBuilder(parent).automation(automation));
+    }
+
+    @Test
+    public void test_Finds_Every_Search_In_One_Pass() throws Exception {
+        // Creating the controls needs the automation library
+        Assume.assumeTrue(isWindows());
+
+        List<AutomationBase> controls = container.getControls(new SearchBatch()
+                .add(ControlType.Button, Search.getBuilder("OK").build())
+                .add(ControlType.Edit, Search.getBuilder().automationId("user").build())
+                .add(ControlType.Button, Search.getBuilder(1).build())
+                .add(Search.getBuilder(Pattern.compile("User.*")).build()));
+
+        assertEquals(4, controls.size());
+        assertTrue(controls.get(0) instanceof Button);
+        assertSame(ok, controls.get(0).getElement());
+        assertTrue(controls.get(1) instanceof EditBox);
+        assertSame(user, controls.get(1).getElement());
+        assertSame(cancel, controls.get(2).getElement());
+        assertTrue(controls.get(3) instanceof TextBox);
+        assertSame(label, controls.get(3).getElement());
+
+        verify(parent, times(1)).findAll(any(), any(), any(CacheRequest.class));
+        verify(parent, never()).findFirst(any(), any());
+        verify(ok, never()).getName();
+        verify(ok, never()).getClassName();
+    }
+
+    @Test
+    public void test_Matches_All_Criteria_And_Releases_The_Rest() throws Exception {
+        Assume.assumeTrue(isWindows());
+
+        List<AutomationBase> controls = container.getControls(new SearchBatch()
+                .add(ControlType.Button, Search.getBuilder("Cancel")
+                        .automationId("cancelButton").className("Button").build()));
+
+        assertSame(cancel, controls.get(0).getElement());
+        verify(cancel, never()).close();
+        verify(ok).close();
+        verify(label).close();
+        verify(user).close();
+    }
+
+    @Test(expected = ElementNotFoundException.class)
+    public void test_Every_Criterion_Must_Match() throws Exception {
+        container.getControls(new SearchBatch()
+                .add(ControlType.Button, Search.getBuilder("OK")
+                        .automationId("cancelButton").build()));
+    }
+
+    @Test
+    public void test_Missing_Search_Throws_Exception_And_Releases_Elements() throws Exception {
+        try {
+            container.getControls(new SearchBatch()
+                    .add(ControlType.Button, Search.getBuilder("Help").build())
+                    .add(ControlType.Button, Search.getBuilder("OK").build()));
+            fail("Expected ElementNotFoundException");
+        } catch (ElementNotFoundException ex) {
+            assertTrue(ex.getMessage().contains("Help"));
+        }
+
+        verify(parent, times(1)).findAll(any(), any(), any(CacheRequest.class));
+        verify(ok).close();
+        verify(label).close();
+        verify(user).close();
+        verify(cancel).close();
+    }
+
+    @Test(expected = AutomationException.class)
+    public void test_Search_Without_Criteria_Throws_Exception() throws Exception {
+        container.getControls(new SearchBatch()
+                .add(ControlType.Button, Search.getBuilder().build()));
+    }
+
+    @Test
+    public void test_Reads_Current_Properties_Without_A_Cache_Request() throws Exception {
+        // Creating the controls needs the automation library
+        Assume.assumeTrue(isWindows());
+
+        when(automation.getSearchCacheRequest()).thenReturn(null);
+
+        Element current = Mockito.mock(Element.class);
+        when(current.getControlType()).thenReturn(ControlType.Button.getValue());
+        when(current.getName()).thenReturn("OK");
+        when(current.getClassName()).thenReturn("Button");
+        when(parent.findAll(any(), any())).thenReturn(Arrays.asList(current));
+
+        List<AutomationBase> controls = container.getControls(new SearchBatch()
+                .add(ControlType.Button, Search.getBuilder("OK").build()));
+
+        assertSame(current, controls.get(0).getElement());
+        verify(current, never()).getCachedName();
+    }
+
+    @Test
+    public void test_Searches_Matching_The_Same_Element_Get_Their_Own() throws Exception {
+        // Creating the controls needs the automation library
+        Assume.assumeTrue(isWindows());
+
+        Element okCopy = Mockito.mock(Element.class);
+        when(ok.copy()).thenReturn(okCopy);
+
+        List<AutomationBase> controls = container.getControls(new SearchBatch()
+                .add(ControlType.Button, Search.getBuilder("OK").build())
+                .add(ControlType.Button, Search.getBuilder().automationId("okButton").build()));
+
+        assertSame(ok, controls.get(0).getElement());
+        assertSame(okCopy, controls.get(1).getElement());
+        verify(ok, never()).close();
+    }
+
+    @Test
+    public void test_Index_Search_Counts_The_Container_Of_That_Type() throws Exception {
+        // Creating the controls needs the automation library
+        Assume.assumeTrue(isWindows());
+
+        Element parentCopy = Mockito.mock(Element.class);
+        Element okCopy = Mockito.mock(Element.class);
+        when(parent.getControlType()).thenReturn(ControlType.Button.getValue());
+        when(parent.copy()).thenReturn(parentCopy);
+        when(ok.copy()).thenReturn(okCopy);
+
+        List<AutomationBase> controls = container.getControls(new SearchBatch()
+                .add(ControlType.Button, Search.getBuilder(0).build())
+                .add(ControlType.Button, Search.getBuilder(1).build())
+                .add(ControlType.Button, Search.getBuilder("OK").build()));
+
+        // As getElementByControlType(int, ControlType), which searches the
+        // subtree; the name is only matched against the descendants
+        assertSame(parentCopy, controls.get(0).getElement());
+        assertSame(ok, controls.get(1).getElement());
+        assertSame(okCopy, controls.get(2).getElement());
+        verify(parent, never()).close();
+    }
+
+    @Test
+    public void test_Index_Search_Does_Not_Count_A_Container_Of_Another_Type() throws Exception {
+        when(parent.getControlType()).thenReturn(ControlType.Pane.getValue());
+
+        try {
+            container.getControls(new SearchBatch()
+                    .add(ControlType.Text, Search.getBuilder(1).build()));
+            fail("Expected ElementNotFoundException");
+        } catch (ElementNotFoundException ex) {
+            assertTrue(ex.getMessage().contains("index=1"));
+        }
+
+        verify(parent, never()).copy();
+        verify(label).close();
+    }
+
+    @Test
+    public void test_Condition() {
+        assertEquals(Condition.TRUE, new SearchBatch()
+                .add(ControlType.Button, Search.getBuilder("OK").build())
+                .add(Search.getBuilder("Cancel").build())
+                .getCondition());
+
+        assertEquals(Condition.controlType(ControlType.Button)
+                        .or(Condition.controlType(ControlType.Edit)),
+                new SearchBatch()
+                        .add(ControlType.Button, Search.getBuilder("OK").build())
+                        .add(ControlType.Edit, Search.getBuilder("User").build())
+                        .add(ControlType.Button, Search.getBuilder("Cancel").build())
+                        .getCondition());
+    }
+}
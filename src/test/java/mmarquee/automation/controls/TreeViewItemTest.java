@@ -74,7 +74,7 @@ public class TreeViewItemTest {
 
     @Test
     public void testSelect() throws Exception {
-        when(element.getPropertyValue(PropertyID.IsSelectionItemPatternAvailable.getValue())).thenReturn(1);
+        when(element.getBooleanProperty(PropertyID.IsSelectionItemPatternAvailable)).thenReturn(true);
 
         when(selection.isAvailable()).thenReturn(true);
         
@@ -91,7 +91,7 @@ public class TreeViewItemTest {
 
     @Test(expected=PatternNotFoundException.class)
     public void testSelect_When_Pattern_Is_NOT_Available() throws Exception {
-        when(element.getPropertyValue(PropertyID.IsSelectionItemPatternAvailable.getValue())).thenReturn(0);
+        when(element.getBooleanProperty(PropertyID.IsSelectionItemPatternAvailable)).thenReturn(false);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -150,7 +150,7 @@ public class TreeViewItemTest {
 
     @Test(expected=PatternNotFoundException.class)
     public void testIsSelected_When_Pattern_Is_NOT_Available() throws Exception {
-        when(element.getPropertyValue(PropertyID.IsSelectionItemPatternAvailable.getValue())).thenReturn(0);
+        when(element.getBooleanProperty(PropertyID.IsSelectionItemPatternAvailable)).thenReturn(false);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -181,7 +181,7 @@ public class TreeViewItemTest {
 
     @Test(expected=PatternNotFoundException.class)
     public void testIsExpanded_When_Pattern_Is_NOT_Available() throws Exception {
-        when(element.getPropertyValue(PropertyID.IsExpandCollapsePatternAvailable.getValue())).thenReturn(0);
+        when(element.getBooleanProperty(PropertyID.IsExpandCollapsePatternAvailable)).thenReturn(false);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -208,7 +208,7 @@ public class TreeViewItemTest {
 
     @Test(expected=PatternNotFoundException.class)
     public void testExpand_When_Pattern_Is_NOT_Available() throws Exception {
-        when(element.getPropertyValue(PropertyID.IsExpandCollapsePatternAvailable.getValue())).thenReturn(0);
+        when(element.getBooleanProperty(PropertyID.IsExpandCollapsePatternAvailable)).thenReturn(false);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
@@ -236,7 +236,7 @@ public class TreeViewItemTest {
 
     @Test(expected=PatternNotFoundException.class)
     public void testCollapse_When_Pattern_Is_NOT_Available() throws Exception {
-        when(element.getPropertyValue(PropertyID.IsExpandCollapsePatternAvailable.getValue())).thenReturn(0);
+        when(element.getBooleanProperty(PropertyID.IsExpandCollapsePatternAvailable)).thenReturn(false);
 
         IUIAutomation mocked_automation = Mockito.mock(IUIAutomation.class);
         UIAutomation instance = new UIAutomation(mocked_automation);
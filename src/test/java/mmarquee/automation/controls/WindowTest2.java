@@ -230,7 +230,7 @@ public class WindowTest2 {
             reference = 1245;
 
             return 1;
-        }).when(elem).getCurrentPropertyValue(anyInt(), any());
+        }).when(elem).getCurrentPropertyValue(anyInt(), any(com.sun.jna.platform.win32.Variant.VARIANT.ByReference.class));
 
         Element localElement = Mockito.mock(Element.class);
 
@@ -244,7 +244,7 @@ public class WindowTest2 {
 
         WinDef.HWND handle = wndw.getNativeWindowHandle();
 
-        verify(elem, atLeastOnce()).getCurrentPropertyValue(anyInt(), any());
+        verify(elem, atLeastOnce()).getCurrentPropertyValue(anyInt(), any(com.sun.jna.platform.win32.Variant.VARIANT.ByReference.class));
     }
 
     @Test
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.pattern;
+
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.automation.Element;
+import mmarquee.automation.PatternID;
+import mmarquee.automation.PropertyID;
+import mmarquee.uiautomation.Bstr;
+import mmarquee.uiautomation.FakeComObject;
+import mmarquee.uiautomation.IUIAutomationValuePattern;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for keeping the pattern interface in the BasePattern, using the
+ * Value pattern.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class BasePatternTest {
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicInteger releases = new AtomicInteger();
+    private final AtomicInteger setValueCalls = new AtomicInteger();
+    private final AtomicInteger getValueCalls = new AtomicInteger();
+    private final AtomicInteger isReadOnlyCalls = new AtomicInteger();
+
+    private volatile String setValue;
+
+    private Element element;
+
+    @Before
+    public void setUp() throws Exception {
+        FakeComObject valuePattern = new FakeComObject(6)
+                .slot(1, (FakeComObject.Method0) self -> 1)
+                .slot(2, (FakeComObject.Method0) self -> {
+                    releases.incrementAndGet();
+                    return 0;
+                })
+                .slot(3, (FakeComObject.Method1) (self, value) -> {
+                    setValue = Bstr.decode(value);
+                    setValueCalls.incrementAndGet();
+                    return 0;
+                })
+                .slot(4, (FakeComObject.Method1) (self, value) -> {
+                    getValueCalls.incrementAndGet();
+                    return 0;
+                })
+                .slot(5, (FakeComObject.Method1) (self, value) -> {
+                    isReadOnlyCalls.incrementAndGet();
+                    return 0;
+                });
+
+        FakeComObject unknown = new FakeComObject(3)
+                .slot(0, (FakeComObject.Method2) (self, iid, result) -> {
+                    queries.incrementAndGet();
+                    result.setPointer(0, valuePattern.getPointer());
+                    return 0;
+                })
+                .slot(1, (FakeComObject.Method0) self -> 1)
+                .slot(2, (FakeComObject.Method0) self -> {
+                    releases.incrementAndGet();
+                    return 0;
+                });
+
+        element = Mockito.mock(Element.class);
+        when(element.getPattern(anyInt()))
+                .thenAnswer(invocation -> new PointerByReference(unknown.getPointer()));
+    }
+
+    @After
+    public void tearDown() {
+        BasePattern.setOptimistic(false);
+    }
+
+    @Test
+    public void test_Pattern_Is_Fetched_Once() throws Exception {
+        Value pattern = new Value(element);
+
+        for (int i = 0; i < 10; i++) {
+            pattern.value();
+            pattern.isReadOnly();
+            pattern.setValue("Value " + i);
+        }
+
+        // One call to the provider for each operation, after the first
+        assertEquals(1, pattern.getFetchCount());
+        verify(element, times(1)).getPattern(PatternID.Value.getValue());
+        assertEquals(1, queries.get());
+        assertEquals(10, getValueCalls.get());
+        assertEquals(10, isReadOnlyCalls.get());
+        assertEquals(10, setValueCalls.get());
+        assertEquals("Value 9", setValue);
+    }
+
+    @Test
+    public void test_Invalidate_Fetches_Again() throws Exception {
+        Value pattern = new Value(element);
+
+        pattern.value();
+        pattern.invalidate();
+
+        assertTrue(releases.get() >= 2);
+
+        pattern.value();
+        pattern.value();
+
+        assertEquals(2, pattern.getFetchCount());
+        verify(element, times(2)).getPattern(anyInt());
+    }
+
+    @Test
+    public void test_Override_Is_Not_Fetched() throws Exception {
+        Value pattern = new Value(element);
+        pattern.rawPattern = Mockito.mock(IUIAutomationValuePattern.class);
+
+        pattern.value();
+
+        assertEquals(0, pattern.getFetchCount());
+        verify(element, never()).getPattern(anyInt());
+    }
+
+    @Test
+    public void test_Usable_Once_Held_Without_Asking_The_Element() throws Exception {
+        Value pattern = new Value(element);
+
+        assertFalse(BasePattern.isUsable(pattern));
+        verify(element).getBooleanProperty(PropertyID.IsValuePatternAvailable);
+
+        pattern.value();
+
+        assertTrue(BasePattern.isUsable(pattern));
+        verify(element, times(1)).getBooleanProperty(any());
+    }
+
+    @Test
+    public void test_Optimistic_Does_Not_Ask_The_Element() throws Exception {
+        BasePattern.setOptimistic(true);
+
+        Value pattern = new Value(element);
+
+        assertTrue(BasePattern.isUsable(pattern));
+        verify(element, never()).getBooleanProperty(any());
+    }
+
+    @Test
+    public void test_Missing_Pattern_Throws_PatternNotFoundException() throws Exception {
+        when(element.getPattern(anyInt())).thenReturn(new PointerByReference());
+
+        Value pattern = new Value(element);
+
+        try {
+            pattern.value();
+            fail("Expected PatternNotFoundException");
+        } catch (PatternNotFoundException ex) {
+            // expected
+        }
+
+        assertEquals(0, queries.get());
+    }
+}
@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.junit.Before;
@@ -128,4 +129,30 @@ public class InvokePatternTest {
 
         verify(mockRange, atLeastOnce()).invoke();
     }
+
+    @Test
+    public void test_Release_Releases_References_From_Pattern() throws Exception {
+
+        doAnswer(invocation -> new WinNT.HRESULT(0)).when(mockUnknown).QueryInterface(any(Guid.REFIID.class), any(PointerByReference.class));
+        doReturn(0).when(mockUnknown).Release();
+
+        Invoke spyPattern = Mockito.spy(new Invoke(element));
+
+        IUIAutomationInvokePattern mockRange = Mockito.mock(IUIAutomationInvokePattern.class);
+
+        doReturn(mockUnknown)
+                .when(spyPattern)
+                .makeUnknown(any());
+
+        doReturn(mockRange)
+                .when(spyPattern)
+                .convertPointerToInterface(any());
+
+        spyPattern.invoke();
+        spyPattern.release();
+        spyPattern.release();
+
+        verify(mockUnknown, times(1)).Release();
+        verify(mockRange, times(1)).Release();
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.pattern;
+
+import mmarquee.automation.AutomationException;
+import mmarquee.automation.Element;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the PatternRegistry.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class PatternRegistryTest {
+
+    /**
+     * A pattern that is not registered up front.
+     */
+    public static class Custom extends BasePattern {
+        public Custom(final Element element) throws AutomationException {
+            super(element);
+        }
+    }
+
+    /**
+     * A pattern that fails to be created.
+     */
+    public static class Failing extends BasePattern {
+        public Failing(final Element element) throws AutomationException {
+            super(element);
+            throw new AutomationException("Failed");
+        }
+    }
+
+    /**
+     * A pattern without an Element constructor.
+     */
+    public static class NoConstructor extends BasePattern {
+        public NoConstructor() throws AutomationException {
+            super(null);
+        }
+    }
+
+    /**
+     * A pattern registered by the test.
+     */
+    public static class Registered extends BasePattern {
+        public Registered(final Element element) throws AutomationException {
+            super(element);
+        }
+    }
+
+    private final Element element = Mockito.mock(Element.class);
+
+    @Test
+    public void test_Library_Patterns_Have_Their_Own_Slots() throws Exception {
+        Set<Integer> slots = new HashSet<>();
+
+        for (Class<? extends BasePattern> type : new Class[] {
+                Dock.class, ExpandCollapse.class, Grid.class, GridItem.class,
+                Invoke.class, ItemContainer.class, LegacyIAccessible.class,
+                MultipleView.class, Range.class, Scroll.class, ScrollItem.class,
+                Selection.class, SelectionItem.class, Styles.class, Table.class,
+                TableItem.class, Text.class, Toggle.class, Transform.class,
+                Value.class, Window.class}) {
+            int slot = PatternRegistry.slotOf(type);
+
+            assertTrue(slot < PatternRegistry.size());
+            assertTrue(slots.add(slot));
+            assertSame(type, PatternRegistry.create(type, element).getClass());
+        }
+    }
+
+    @Test
+    public void test_Other_Patterns_Are_Created_Reflectively() throws Exception {
+        int slot = PatternRegistry.slotOf(Custom.class);
+
+        assertEquals(slot, PatternRegistry.slotOf(Custom.class));
+        assertTrue(slot < PatternRegistry.size());
+
+        Custom pattern = PatternRegistry.create(Custom.class, element);
+
+        assertSame(element, pattern.element);
+    }
+
+    @Test
+    public void test_Failure_Is_Thrown_Unwrapped() {
+        try {
+            PatternRegistry.create(Failing.class, element);
+            fail("Expected AutomationException");
+        } catch (AutomationException ex) {
+            assertEquals("Failed", ex.getMessage());
+        }
+    }
+
+    @Test(expected = AutomationException.class)
+    public void test_No_Element_Constructor_Throws_Exception() throws Exception {
+        PatternRegistry.create(NoConstructor.class, element);
+    }
+
+    @Test
+    public void test_Register_Keeps_The_Slot() throws Exception {
+        Registered registered = new Registered(element);
+
+        PatternRegistry.register(Registered.class, e -> new Registered(e));
+        int slot = PatternRegistry.slotOf(Registered.class);
+
+        PatternRegistry.register(Registered.class, e -> registered);
+
+        assertEquals(slot, PatternRegistry.slotOf(Registered.class));
+        assertSame(registered, PatternRegistry.create(Registered.class, element));
+    }
+}
@@ -42,8 +42,8 @@ import mmarquee.automation.BaseAutomationTest;
 import mmarquee.automation.PatternID;
 import mmarquee.uiautomation.IUIAutomationElementArray;
 import mmarquee.uiautomation.IUIAutomationSelectionItemPattern;
-import mmarquee.uiautomation.IUIAutomationSelectionItemPatternConverter;
 import mmarquee.uiautomation.IUIAutomationSelectionPattern;
+import mmarquee.uiautomation.VTableDispatcher;
 
 /**
  * @author Mark Humphreys
@@ -187,7 +187,7 @@ public class SelectionPatternTest {
         IUIAutomationSelectionItemPattern rawPattern
                 = Mockito.mock(IUIAutomationSelectionItemPattern.class);
 
-        Mockito.when(IUIAutomationSelectionItemPatternConverter.pointerToInterface(any()))
+        Mockito.when(VTableDispatcher.pointerToInterface(IUIAutomationSelectionItemPattern.class, any()))
                 .thenReturn(rawPattern);
 
         spyPattern.getSelection();
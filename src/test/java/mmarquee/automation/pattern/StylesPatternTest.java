@@ -15,8 +15,6 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import com.sun.jna.Memory;
-import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.platform.win32.Guid;
 import com.sun.jna.platform.win32.WinNT;
@@ -27,6 +25,7 @@ import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
 import mmarquee.automation.BaseAutomationTest;
 import mmarquee.automation.PatternID;
+import mmarquee.uiautomation.FakeBstr;
 import mmarquee.uiautomation.IUIAutomationStylesPattern;
 
 /**
@@ -81,8 +80,7 @@ public class StylesPatternTest {
             PointerByReference reference = (PointerByReference)args[0];
 
             String value = "Hello";
-            Pointer pointer = new Memory(Native.WCHAR_SIZE * (value.length() +1));
-            pointer.setWideString(0, value);
+            Pointer pointer = FakeBstr.of(value);
 
             reference.setValue(pointer);
 
@@ -139,8 +137,7 @@ public class StylesPatternTest {
             PointerByReference reference = (PointerByReference)args[0];
 
             String value = "Hello";
-            Pointer pointer = new Memory(Native.WCHAR_SIZE * (value.length() +1));
-            pointer.setWideString(0, value);
+            Pointer pointer = FakeBstr.of(value);
 
             reference.setValue(pointer);
 
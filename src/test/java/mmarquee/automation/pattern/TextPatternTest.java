@@ -30,8 +30,6 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import com.sun.jna.Memory;
-import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.platform.win32.Guid;
 import com.sun.jna.platform.win32.WinNT;
@@ -41,6 +39,7 @@ import com.sun.jna.ptr.PointerByReference;
 
 import mmarquee.automation.Element;
 import mmarquee.automation.AutomationException;
+import mmarquee.uiautomation.FakeBstr;
 import mmarquee.uiautomation.IUIAutomationTextPattern;
 import mmarquee.uiautomation.IUIAutomationTextRange;
 import mmarquee.uiautomation.IUIAutomationTextRangeArray;
@@ -168,8 +167,7 @@ public class TextPatternTest {
             PointerByReference reference = (PointerByReference)args[1];
 
             String value = "Hello";
-            Pointer pointer = new Memory(Native.WCHAR_SIZE * (value.length() +1));
-            pointer.setWideString(0, value);
+            Pointer pointer = FakeBstr.of(value);
 
             reference.setValue(pointer);
 
@@ -232,8 +230,7 @@ public class TextPatternTest {
             PointerByReference reference = (PointerByReference)args[1];
 
             String value = "Hello";
-            Pointer pointer = new Memory(Native.WCHAR_SIZE * (value.length() +1));
-            pointer.setWideString(0, value);
+            Pointer pointer = FakeBstr.of(value);
 
             reference.setValue(pointer);
 
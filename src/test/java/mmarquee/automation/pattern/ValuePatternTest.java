@@ -16,6 +16,7 @@
 package mmarquee.automation.pattern;
 
 import static junit.framework.TestCase.assertFalse;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
@@ -32,8 +33,6 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 
-import com.sun.jna.Memory;
-import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.platform.win32.Guid;
 import com.sun.jna.platform.win32.WinNT;
@@ -42,6 +41,8 @@ import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
 
 import mmarquee.automation.Element;
+import mmarquee.uiautomation.Bstr;
+import mmarquee.uiautomation.FakeBstr;
 import mmarquee.uiautomation.IUIAutomationValuePattern;
 
 /**
@@ -76,8 +77,7 @@ public class ValuePatternTest {
             PointerByReference reference = (PointerByReference)args[0];
 
             String value = "Hello";
-            Pointer pointer = new Memory(Native.WCHAR_SIZE * (value.length() +1));
-            pointer.setWideString(0, value);
+            Pointer pointer = FakeBstr.of(value);
 
             reference.setValue(pointer);
 
@@ -94,6 +94,30 @@ public class ValuePatternTest {
         verify(rawPattern, atLeastOnce()).getValue(any());
     }
 
+    @Test
+    public void test_Value_Frees_The_String_From_Pattern() throws Exception {
+        doAnswer(invocation -> {
+
+            Object[] args = invocation.getArguments();
+            PointerByReference reference = (PointerByReference)args[0];
+
+            reference.setValue(FakeBstr.of("Hello"));
+
+            return 0;
+        }).when(rawPattern).getValue(any());
+
+        Value pattern = new Value(element);
+        pattern.rawPattern = rawPattern;
+
+        long live = Bstr.live();
+        long freed = Bstr.freed();
+
+        pattern.value();
+
+        assertEquals(live, Bstr.live());
+        assertEquals(freed + 1, Bstr.freed());
+    }
+
     @Test(expected=AutomationException.class)
     public void test_Value_Throws_Exception_When_COM_Sets_Error_State() throws Exception {
         doAnswer(invocation -> {
@@ -215,8 +239,7 @@ public class ValuePatternTest {
             PointerByReference reference = (PointerByReference)args[0];
 
             String value = "Hello";
-            Pointer pointer = new Memory(Native.WCHAR_SIZE * (value.length() +1));
-            pointer.setWideString(0, value);
+            Pointer pointer = FakeBstr.of(value);
 
             reference.setValue(pointer);
 
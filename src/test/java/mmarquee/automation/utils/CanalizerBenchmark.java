@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls through a canalized interface, from another thread and from the
+ * canalizer thread itself, against the previous handoff (a reflective call
+ * submitted to a single thread executor).
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanalizerBenchmark {
+
+    public interface Adder {
+        int add(int left, int right);
+
+        int addMany(int count);
+    }
+
+    public static class PlainAdder implements Adder {
+        private Adder self;
+
+        @Override
+        public int add(final int left, final int right) {
+            return left + right;
+        }
+
+        @Override
+        public int addMany(final int count) {
+            int total = 0;
+            for (int i = 0; i < count; i++) {
+                total = self.add(total, i);
+            }
+            return total;
+        }
+    }
+
+    private static final int NESTED = 100;
+
+    private ExecutorService executor;
+    private Method add;
+    private PlainAdder plain;
+    private Adder canalized;
+
+    @Setup
+    public void setup() throws Exception {
+        this.executor = Executors.newSingleThreadExecutor();
+        this.add = Adder.class.getMethod("add", int.class, int.class);
+        this.plain = new PlainAdder();
+        this.canalized = Canalizer.canalize((Adder) this.plain);
+        this.plain.self = this.canalized;
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.executor.shutdown();
+    }
+
+    @Benchmark
+    public Object executorHandoff() throws Exception {
+        return this.executor.submit(
+                () -> this.add.invoke(this.plain, 1, 2)).get();
+    }
+
+    @Benchmark
+    public int canalizedHandoff() {
+        return this.canalized.add(1, 2);
+    }
+
+    /**
+     * One handoff, then NESTED calls made on the canalizer thread.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NESTED)
+    public int canalizedOnThread() {
+        return this.canalized.addMany(NESTED);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CanalizerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.automation.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the Canalizer.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class CanalizerTest {
+
+    public interface Service {
+        Thread thread();
+
+        int add(int left, int right);
+
+        int nested();
+
+        void fail(String message);
+    }
+
+    private static class PlainService implements Service {
+        private Service self;
+
+        @Override
+        public Thread thread() {
+            return Thread.currentThread();
+        }
+
+        @Override
+        public int add(final int left, final int right) {
+            return left + right;
+        }
+
+        @Override
+        public int nested() {
+            // Calls back through the proxy, from the canalizer thread
+            return self.add(1, 2);
+        }
+
+        @Override
+        public void fail(final String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private Service canalized() {
+        PlainService plain = new PlainService();
+        plain.self = Canalizer.canalize((Service) plain);
+        return plain.self;
+    }
+
+    @Test
+    public void test_Calls_Are_Made_On_The_Canalizer_Thread() {
+        Thread thread = canalized().thread();
+
+        assertSame(Canalizer.worker.thread, thread);
+        assertFalse(Canalizer.isCanalizerThread());
+    }
+
+    @Test
+    public void test_Arguments_And_Results_Are_Passed() {
+        assertEquals(5, canalized().add(2, 3));
+    }
+
+    @Test(timeout = 5000)
+    public void test_Nested_Call_Is_Made_Directly() {
+        assertEquals(3, canalized().nested());
+    }
+
+    @Test
+    public void test_Exception_Is_Thrown_Unwrapped() {
+        try {
+            canalized().fail("Expected");
+            fail("Should have thrown");
+        } catch (IllegalStateException ex) {
+            assertEquals("Expected", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void test_Object_Methods_Are_Passed_On() {
+        PlainService plain = new PlainService();
+        Service service = Canalizer.canalize((Service) plain);
+
+        assertEquals(plain.hashCode(), service.hashCode());
+        assertEquals(plain.toString(), service.toString());
+    }
+
+    @Test(timeout = 10000)
+    public void test_Calls_From_Many_Threads_All_Run_On_One_Thread()
+            throws Exception {
+        Service service = canalized();
+        Set<Thread> seen = ConcurrentHashMap.newKeySet();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 200; i++) {
+                final int value = i;
+                results.add(pool.submit(() -> {
+                    seen.add(service.thread());
+                    return service.add(value, 1);
+                }));
+            }
+
+            for (int i = 0; i < 200; i++) {
+                assertEquals(i + 1, (int) results.get(i).get());
+            }
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(Collections.singleton(Canalizer.worker.thread), seen);
+    }
+}
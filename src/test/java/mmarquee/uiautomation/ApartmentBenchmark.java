@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Callback;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.COM.IUnknown;
+import com.sun.jna.ptr.PointerByReference;
+import mmarquee.automation.utils.Canalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls findAll on a fake element from several threads at once, as the
+ * two apartment models would: funnelled through the Canalizer thread
+ * (single threaded), or directly from each caller (multithreaded).
+ *
+ * The fake findAll takes about a microsecond, standing in for the work
+ * done by the provider.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ApartmentBenchmark {
+
+    private static final int SLOT = 6;
+
+    private static final long WORK = 1000;
+
+    /**
+     * findAll, as seen from the native side.
+     */
+    public interface FindAllMethod extends Callback {
+        int invoke(Pointer self, int scope, Pointer condition, Pointer all);
+    }
+
+    /**
+     * An interface with findAll (IUIAutomationElement itself refers to
+     * VARIANT, which cannot be initialised off Windows).
+     */
+    public interface Stub extends IUnknown {
+        @VTableSlot(SLOT)
+        int findAll(int scope, Pointer condition, PointerByReference all);
+    }
+
+    private Stub direct;
+    private Stub canalized;
+
+    @Setup
+    public void setup() {
+        FakeComObject object = new FakeComObject(SLOT + 1)
+                .slot(SLOT, (FindAllMethod) (self, scope, condition, all) -> {
+                    long end = System.nanoTime() + WORK;
+                    while (System.nanoTime() < end) {
+                        // The provider's work
+                    }
+                    all.setPointer(0, null);
+                    return 0;
+                });
+
+        this.direct = VTableDispatcher.pointerToInterface(Stub.class,
+                object.getReference());
+        this.canalized = Canalizer.canalize(this.direct);
+    }
+
+    @Benchmark
+    public int singleThreaded() {
+        return this.canalized.findAll(4, null, new PointerByReference());
+    }
+
+    @Benchmark
+    public int multiThreaded() {
+        return this.direct.findAll(4, null, new PointerByReference());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApartmentBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
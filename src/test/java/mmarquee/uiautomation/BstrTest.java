@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Platform;
+import com.sun.jna.platform.win32.WTypes;
+import com.sun.jna.ptr.PointerByReference;
+import org.junit.Assume;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for the BSTR handling.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class BstrTest {
+
+    @Test
+    public void test_Take_Returns_Value() {
+        PointerByReference sr =
+                new PointerByReference(FakeBstr.of("Hello"));
+
+        assertEquals("Hello", Bstr.take(sr));
+    }
+
+    @Test
+    public void test_Take_Uses_Length_Prefix() {
+        // SysAllocString stops at the first NUL
+        Assume.assumeFalse(Platform.isWindows());
+
+        PointerByReference sr =
+                new PointerByReference(FakeBstr.of("a\0b"));
+
+        assertEquals("a\0b", Bstr.take(sr));
+    }
+
+    @Test
+    public void test_Take_Returns_Empty_String_For_Null() {
+        assertEquals("", Bstr.take(new PointerByReference()));
+    }
+
+    @Test
+    public void test_Take_Returns_Empty_String_For_Empty_BSTR() {
+        PointerByReference sr =
+                new PointerByReference(FakeBstr.of(""));
+
+        assertEquals("", Bstr.take(sr));
+    }
+
+    @Test
+    public void test_Take_Frees_BSTR_From_COM() {
+        PointerByReference sr =
+                new PointerByReference(FakeBstr.of("Hello"));
+
+        long live = Bstr.live();
+        long freed = Bstr.freed();
+
+        Bstr.take(sr);
+
+        assertEquals(live, Bstr.live());
+        assertEquals(freed + 1, Bstr.freed());
+        assertNull(sr.getValue());
+    }
+
+    @Test
+    public void test_Allocate_Writes_UTF16_Characters() {
+        String value = "A longer string, with \u00e9 and \u4e2d";
+
+        WTypes.BSTR bstr = Bstr.allocate(value);
+
+        try {
+            assertEquals(value.length() * 2,
+                    bstr.getPointer().getInt(-4));
+            assertEquals(value, Bstr.decode(bstr.getPointer()));
+        } finally {
+            Bstr.free(bstr);
+        }
+    }
+
+    @Test
+    public void test_Allocate_And_Free_Are_Counted() {
+        long live = Bstr.live();
+
+        WTypes.BSTR bstr = Bstr.allocate("Hello");
+        assertEquals(live + 1, Bstr.live());
+
+        Bstr.free(bstr);
+        assertEquals(live, Bstr.live());
+    }
+}
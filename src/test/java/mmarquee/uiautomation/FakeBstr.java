@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.OleAuto;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Makes BSTRs the way COM would return them, for mocked COM calls to hand
+ * back to the code under test (which then owns and frees them).
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public final class FakeBstr {
+    private FakeBstr() {
+    }
+
+    /**
+     * Makes a BSTR.
+     *
+     * @param value The string
+     * @return The BSTR, pointing at the first character
+     */
+    public static Pointer of(final String value) {
+        if (Platform.isWindows()) {
+            return OleAuto.INSTANCE.SysAllocString(value).getPointer();
+        }
+
+        // Not write(char[]), which writes a wchar_t (4 bytes off Windows)
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_16LE);
+
+        final Memory memory = new Memory(4 + bytes.length + 2);
+        memory.setInt(0, bytes.length);
+        memory.write(4, bytes, 0, bytes.length);
+        memory.setShort(4 + bytes.length, (short) 0);
+
+        return memory.share(4);
+    }
+}
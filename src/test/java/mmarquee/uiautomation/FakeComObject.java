@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Callback;
+import com.sun.jna.CallbackReference;
+import com.sun.jna.Function;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A COM object with a fake vtable in native memory, so that the vtable
+ * dispatch can be tested (and benchmarked) without Windows.
+ *
+ * The memory is never released, as the vtables are cached by address, and
+ * a reused address would otherwise point at stale functions.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class FakeComObject {
+    /**
+     * Keeps the vtables and callbacks alive for the whole test run.
+     */
+    private static final List<Object> LIVE = new ArrayList<>();
+
+    /**
+     * A method taking just the interface pointer.
+     */
+    public interface Method0 extends Callback {
+        int invoke(Pointer self);
+    }
+
+    /**
+     * A method taking the interface pointer and one pointer argument.
+     */
+    public interface Method1 extends Callback {
+        int invoke(Pointer self, Pointer arg);
+    }
+
+    /**
+     * A method taking the interface pointer and two pointer arguments.
+     */
+    public interface Method2 extends Callback {
+        int invoke(Pointer self, Pointer arg1, Pointer arg2);
+    }
+
+    /**
+     * A method taking the interface pointer and two int arguments.
+     */
+    public interface MethodIntInt extends Callback {
+        int invoke(Pointer self, int arg1, int arg2);
+    }
+
+    /**
+     * The vtable.
+     */
+    private final Memory vTable;
+
+    /**
+     * The object, which just points at the vtable.
+     */
+    private final Memory object;
+
+    /**
+     * Creates a fake object with an empty vtable.
+     *
+     * @param methods The number of methods in the vtable
+     */
+    public FakeComObject(final int methods) {
+        this(newVTable(methods));
+    }
+
+    /**
+     * Creates another fake object sharing the vtable of the given one.
+     *
+     * @param other The object to share the vtable with
+     */
+    public FakeComObject(final FakeComObject other) {
+        this(other.vTable);
+    }
+
+    private FakeComObject(final Memory inVTable) {
+        this.vTable = inVTable;
+        this.object = new Memory(Native.POINTER_SIZE);
+        this.object.setPointer(0, this.vTable);
+
+        synchronized (LIVE) {
+            LIVE.add(this.object);
+        }
+    }
+
+    private static Memory newVTable(final int methods) {
+        final Memory memory = new Memory((long) methods * Native.POINTER_SIZE);
+        memory.clear();
+
+        synchronized (LIVE) {
+            LIVE.add(memory);
+        }
+
+        return memory;
+    }
+
+    /**
+     * Gets the interface pointer.
+     *
+     * @return The interface pointer
+     */
+    public Pointer getPointer() {
+        return this.object;
+    }
+
+    /**
+     * Gets the interface pointer, as the COM API would return it.
+     *
+     * @return The reference
+     */
+    public PointerByReference getReference() {
+        return new PointerByReference(this.object);
+    }
+
+    /**
+     * Sets a vtable slot to a Java callback.
+     *
+     * @param slot The slot
+     * @param callback The callback
+     * @return This object
+     */
+    public FakeComObject slot(final int slot, final Callback callback) {
+        synchronized (LIVE) {
+            LIVE.add(callback);
+        }
+
+        return slot(slot, CallbackReference.getFunctionPointer(callback));
+    }
+
+    /**
+     * Sets a vtable slot to a native function.
+     *
+     * @param slot The slot
+     * @param function The function
+     * @return This object
+     */
+    public FakeComObject slot(final int slot, final Pointer function) {
+        this.vTable.setPointer((long) slot * Native.POINTER_SIZE, function);
+        return this;
+    }
+
+    /**
+     * Gets a native function that ignores its arguments and returns quickly,
+     * to measure the cost of the dispatch itself.
+     *
+     * @return The function (returns the current process id)
+     */
+    public static Function nativeStub() {
+        if (Platform.isWindows()) {
+            return Function.getFunction("kernel32", "GetCurrentProcessId",
+                    Function.ALT_CONVENTION);
+        } else {
+            return Function.getFunction("c", "getpid");
+        }
+    }
+}
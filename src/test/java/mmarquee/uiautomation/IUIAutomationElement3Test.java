@@ -68,7 +68,7 @@ public class IUIAutomationElement3Test {
 
         WinNT.HRESULT result = uRoot.QueryInterface(new Guid.REFIID(IUIAutomationElement3.IID), root);
         if (COMUtils.SUCCEEDED(result)) {
-            return IUIAutomationElement3Converter.pointerToInterface(root);
+            return VTableDispatcher.pointerToInterface(IUIAutomationElement3.class, root);
         } else {
             throw new Exception("Failed to get root element");
         }
@@ -82,7 +82,7 @@ public class IUIAutomationElement3Test {
 
         WinNT.HRESULT result = uRoot.QueryInterface(new Guid.REFIID(IUIAutomationElement3.IID), root);
         if (COMUtils.SUCCEEDED(result)) {
-            IUIAutomationElement rootElement = IUIAutomationElement3Converter.pointerToInterface(root);
+            IUIAutomationElement rootElement = VTableDispatcher.pointerToInterface(IUIAutomationElement3.class, root);
 
             // Get first descendant for the root element
             PointerByReference pCondition = new PointerByReference();
@@ -99,7 +99,7 @@ public class IUIAutomationElement3Test {
 
             uElement.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), element);
 
-            return IUIAutomationElement3Converter.pointerToInterface(element);
+            return VTableDispatcher.pointerToInterface(IUIAutomationElement3.class, element);
         } else {
             throw new Exception("Failed to get root element");
         }
@@ -127,7 +127,7 @@ public class IUIAutomationElement3Test {
 
         WinNT.HRESULT result = unk.QueryInterface(new Guid.REFIID(IUIAutomation.IID), pbr1);
         if (COMUtils.SUCCEEDED(result)) {
-            this.automation = IUIAutomationConverter.pointerToInterface(pbr1);
+            this.automation = VTableDispatcher.pointerToInterface(IUIAutomation.class, pbr1);
         }
     }
 
@@ -391,7 +391,7 @@ public class IUIAutomationElement3Test {
 
         uElement.QueryInterface(new Guid.REFIID(IUIAutomationElement3.IID), element);
 
-        IUIAutomationElement3 elem = IUIAutomationElement3Converter.pointerToInterface(element);
+        IUIAutomationElement3 elem = VTableDispatcher.pointerToInterface(IUIAutomationElement3.class, element);
 
         PointerByReference sr = new PointerByReference();
 
@@ -421,7 +421,7 @@ public class IUIAutomationElement3Test {
 
         uElement.QueryInterface(new Guid.REFIID(IUIAutomationElementArray.IID), element);
 
-        IUIAutomationElementArray elements = IUIAutomationElementArrayConverter.pointerToInterface(element);
+        IUIAutomationElementArray elements = VTableDispatcher.pointerToInterface(IUIAutomationElementArray.class, element);
 
         IntByReference ibr = new IntByReference();
 
@@ -445,7 +445,7 @@ public class IUIAutomationElement3Test {
 
         uElement.QueryInterface(new Guid.REFIID(IUIAutomationElementArray.IID), element);
 
-        IUIAutomationElementArray elements = IUIAutomationElementArrayConverter.pointerToInterface(element);
+        IUIAutomationElementArray elements = VTableDispatcher.pointerToInterface(IUIAutomationElementArray.class, element);
 
         IntByReference ibr = new IntByReference();
 
@@ -469,7 +469,7 @@ public class IUIAutomationElement3Test {
     public void testcurrentPropertyValue_Fails_When_Element_Call_Fails() throws AutomationException {
         IUIAutomationElement3 mockedElement = Mockito.mock(IUIAutomationElement3.class);
 
-        when(mockedElement.getCurrentPropertyValue(anyInt(), any())).thenReturn(-1);
+        when(mockedElement.getCurrentPropertyValue(anyInt(), any(Variant.VARIANT.ByReference.class))).thenReturn(-1);
 
         Element element = new Element(mockedElement);
 
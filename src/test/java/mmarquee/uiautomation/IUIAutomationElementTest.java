@@ -69,7 +69,7 @@ public class IUIAutomationElementTest {
 
         WinNT.HRESULT result = uRoot.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), root);
         if (COMUtils.SUCCEEDED(result)) {
-            return IUIAutomationElementConverter.pointerToInterface(root);
+            return VTableDispatcher.pointerToInterface(IUIAutomationElement.class, root);
         } else {
             throw new Exception("Failed to get root element");
         }
@@ -83,7 +83,7 @@ public class IUIAutomationElementTest {
 
         WinNT.HRESULT result = uRoot.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), root);
         if (COMUtils.SUCCEEDED(result)) {
-            IUIAutomationElement rootElement = IUIAutomationElementConverter.pointerToInterface(root);
+            IUIAutomationElement rootElement = VTableDispatcher.pointerToInterface(IUIAutomationElement.class, root);
 
             // Get first descendant for the root element
             PointerByReference pCondition = new PointerByReference();
@@ -98,7 +98,7 @@ public class IUIAutomationElementTest {
 
             uElement.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), element);
 
-            return IUIAutomationElementConverter.pointerToInterface(element);
+            return VTableDispatcher.pointerToInterface(IUIAutomationElement.class, element);
         } else {
             throw new Exception("Failed to get root element");
         }
@@ -126,7 +126,7 @@ public class IUIAutomationElementTest {
 
         WinNT.HRESULT result = unk.QueryInterface(new Guid.REFIID(IUIAutomation.IID), pbr1);
         if (COMUtils.SUCCEEDED(result)) {
-            this.automation = IUIAutomationConverter.pointerToInterface(pbr1);
+            this.automation = VTableDispatcher.pointerToInterface(IUIAutomation.class, pbr1);
         }
     }
 
@@ -390,7 +390,7 @@ public class IUIAutomationElementTest {
 
         uElement.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), element);
 
-        IUIAutomationElement elem = IUIAutomationElementConverter.pointerToInterface(element);
+        IUIAutomationElement elem = VTableDispatcher.pointerToInterface(IUIAutomationElement.class, element);
 
         PointerByReference sr = new PointerByReference();
 
@@ -420,7 +420,7 @@ public class IUIAutomationElementTest {
 
         uElement.QueryInterface(new Guid.REFIID(IUIAutomationElementArray.IID), element);
 
-        IUIAutomationElementArray elements = IUIAutomationElementArrayConverter.pointerToInterface(element);
+        IUIAutomationElementArray elements = VTableDispatcher.pointerToInterface(IUIAutomationElementArray.class, element);
 
         IntByReference ibr = new IntByReference();
 
@@ -444,7 +444,7 @@ public class IUIAutomationElementTest {
 
         uElement.QueryInterface(new Guid.REFIID(IUIAutomationElementArray.IID), element);
 
-        IUIAutomationElementArray elements = IUIAutomationElementArrayConverter.pointerToInterface(element);
+        IUIAutomationElementArray elements = VTableDispatcher.pointerToInterface(IUIAutomationElementArray.class, element);
 
         IntByReference ibr = new IntByReference();
 
@@ -468,7 +468,7 @@ public class IUIAutomationElementTest {
     public void testcurrentPropertyValue_Fails_When_Element_Call_Fails() throws AutomationException {
         IUIAutomationElement mockedElement = Mockito.mock(IUIAutomationElement.class);
 
-        when(mockedElement.getCurrentPropertyValue(anyInt(), any())).thenReturn(-1);
+        when(mockedElement.getCurrentPropertyValue(anyInt(), any(Variant.VARIANT.ByReference.class))).thenReturn(-1);
 
         Element element = new Element(mockedElement);
 
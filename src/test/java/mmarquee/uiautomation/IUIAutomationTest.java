@@ -79,7 +79,7 @@ public class IUIAutomationTest {
 
         WinNT.HRESULT result = unk.QueryInterface(new Guid.REFIID(IUIAutomation.IID), pbr1);
         if (COMUtils.SUCCEEDED(result)) {
-            this.automation = IUIAutomationConverter.pointerToInterface(pbr1);
+            this.automation = VTableDispatcher.pointerToInterface(IUIAutomation.class, pbr1);
         }
     }
 
@@ -241,7 +241,7 @@ public class IUIAutomationTest {
 
         WinNT.HRESULT result = uRoot.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), root);
         if (COMUtils.SUCCEEDED(result)) {
-            rootElement = IUIAutomationElementConverter.pointerToInterface(root);
+            rootElement = VTableDispatcher.pointerToInterface(IUIAutomationElement.class, root);
 
             // Get first descendant for the root element
             PointerByReference pCondition = new PointerByReference();
@@ -64,7 +64,7 @@ public class IUIWindowPatternTest {
 
         WinNT.HRESULT result = uRoot.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), root);
         if (COMUtils.SUCCEEDED(result)) {
-            return IUIAutomationElementConverter.pointerToInterface(root);
+            return VTableDispatcher.pointerToInterface(IUIAutomationElement.class, root);
         } else {
             throw new Exception("Failed to get root element");
         }
@@ -92,7 +92,7 @@ public class IUIWindowPatternTest {
 
         WinNT.HRESULT result = unk.QueryInterface(new Guid.REFIID(IUIAutomation.IID), pbr1);
         if (COMUtils.SUCCEEDED(result)) {
-            this.automation = IUIAutomationConverter.pointerToInterface(pbr1);
+            this.automation = VTableDispatcher.pointerToInterface(IUIAutomation.class, pbr1);
         }
     }
 
@@ -104,7 +104,7 @@ public class IUIWindowPatternTest {
 
         WinNT.HRESULT result = uRoot.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), root);
         if (COMUtils.SUCCEEDED(result)) {
-            IUIAutomationElement rootElement = IUIAutomationElementConverter.pointerToInterface(root);
+            IUIAutomationElement rootElement = VTableDispatcher.pointerToInterface(IUIAutomationElement.class, root);
 
             Variant.VARIANT.ByValue variant = new Variant.VARIANT.ByValue();
             variant.setValue(Variant.VT_INT, ControlType.Window.getValue());
@@ -123,7 +123,7 @@ public class IUIWindowPatternTest {
 
             WinNT.HRESULT res = uElement.QueryInterface(new Guid.REFIID(IUIAutomationElement.IID), element);
 
-            return IUIAutomationElementConverter.pointerToInterface(element);
+            return VTableDispatcher.pointerToInterface(IUIAutomationElement.class, element);
         } else {
             throw new Exception("Failed to get root element");
         }
@@ -160,7 +160,7 @@ public class IUIWindowPatternTest {
         WinNT.HRESULT resultA = unkConditionA.QueryInterface(new Guid.REFIID(IUIAutomationWindowPattern.IID), pUnknownA);
         if (COMUtils.SUCCEEDED(resultA)) {
             IUIAutomationWindowPattern pattern =
-                    IUIAutomationWindowPatternConverter.pointerToInterface(pUnknownA);
+                    VTableDispatcher.pointerToInterface(IUIAutomationWindowPattern.class, pUnknownA);
         } else {
             fail("Failed to get WindowPattern");
         }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Callback;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.COM.IUnknown;
+import com.sun.jna.ptr.IntByReference;
+import mmarquee.automation.OutParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads an int getter (as getProcessId does) into a new IntByReference,
+ * and into the thread's OutParameters.
+ *
+ * Run with -prof gc to see the allocation per read.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutParameterBenchmark {
+
+    private static final int SLOT = 10;
+
+    /**
+     * An int getter, as seen from the native side.
+     */
+    public interface IntMethod extends Callback {
+        int invoke(Pointer self, Pointer value);
+    }
+
+    /**
+     * An interface with an int getter.
+     */
+    public interface Stub extends IUnknown {
+        @VTableSlot(SLOT)
+        int getCurrentProcessId(IntByReference retVal);
+    }
+
+    private Stub stub;
+
+    @Setup
+    public void setup() {
+        FakeComObject object = new FakeComObject(SLOT + 1)
+                .slot(SLOT, (IntMethod) (self, value) -> {
+                    value.setInt(0, 1234);
+                    return 0;
+                });
+
+        this.stub = VTableDispatcher.pointerToInterface(Stub.class,
+                object.getReference());
+    }
+
+    @Benchmark
+    public int newParameterPerRead() {
+        IntByReference ibr = new IntByReference();
+
+        this.stub.getCurrentProcessId(ibr);
+
+        return ibr.getValue();
+    }
+
+    @Benchmark
+    public int outParameters() {
+        IntByReference ibr = OutParameters.get().intReference();
+
+        this.stub.getCurrentProcessId(ibr);
+
+        return ibr.getValue();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OutParameterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Callback;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.COM.IUnknown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a boolean property through getCurrentPropertyValue, into a new
+ * VARIANT that is decoded to a boxed value (as getPropertyValue does), and
+ * into the thread's VariantBuffer.
+ *
+ * Run with -prof gc to see the allocation per read.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyReadBenchmark {
+
+    private static final int SLOT = 10;
+
+    private static final int VARIANT_SIZE = 24;
+
+    /**
+     * getCurrentPropertyValue, as seen from the native side.
+     */
+    public interface PropertyMethod extends Callback {
+        int invoke(Pointer self, int propertyId, Pointer value);
+    }
+
+    /**
+     * An interface with getCurrentPropertyValue (IUIAutomationElement
+     * itself refers to VARIANT, which cannot be initialised off Windows).
+     */
+    public interface Stub extends IUnknown {
+        @VTableSlot(SLOT)
+        int getCurrentPropertyValue(int propertyId, Pointer value);
+    }
+
+    private Stub stub;
+
+    @Setup
+    public void setup() {
+        FakeComObject object = new FakeComObject(SLOT + 1)
+                .slot(SLOT, (PropertyMethod) (self, propertyId, value) -> {
+                    value.setShort(0, (short) VariantBuffer.VT_BOOL);
+                    value.setShort(8, (short) -1);
+                    return 0;
+                });
+
+        this.stub = VTableDispatcher.pointerToInterface(Stub.class,
+                object.getReference());
+    }
+
+    @Benchmark
+    public Object newVariantPerRead() {
+        Memory variant = new Memory(VARIANT_SIZE);
+        variant.clear();
+
+        this.stub.getCurrentPropertyValue(30022, variant);
+
+        return Boolean.valueOf(variant.getShort(8) != 0);
+    }
+
+    @Benchmark
+    public boolean variantBuffer() {
+        VariantBuffer value = VariantBuffer.get();
+
+        this.stub.getCurrentPropertyValue(30022, value.getPointer());
+
+        try {
+            return value.getBoolean();
+        } finally {
+            value.clear();
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PropertyReadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Function;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.COM.IUnknown;
+import com.sun.jna.ptr.PointerByReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls per second through a vtable slot, resolving the function on every
+ * call (as the converters used to) against the shared VTable, and through
+ * the VTableDispatcher.
+ *
+ * The slot points at a native stub, so this measures the dispatch only.
+ *
+ * Run the main method from the test classpath (after mvn test-compile).
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VTableBenchmark {
+
+    private static final int SLOT = 23;
+
+    /**
+     * An interface with a method in the benchmarked slot.
+     */
+    public interface Stub extends IUnknown {
+        @VTableSlot(SLOT)
+        int call(PointerByReference sr);
+    }
+
+    private Pointer interfacePointer;
+    private Pointer[] vTable;
+    private VTable table;
+    private PointerByReference sr;
+    private Stub stub;
+
+    @Setup
+    public void setup() {
+        FakeComObject object = new FakeComObject(SLOT + 1)
+                .slot(SLOT, FakeComObject.nativeStub());
+
+        this.interfacePointer = object.getPointer();
+
+        this.vTable = new Pointer[SLOT + 1];
+        this.interfacePointer.getPointer(0)
+                .read(0, this.vTable, 0, this.vTable.length);
+
+        this.table = VTable.of(this.interfacePointer, SLOT + 1);
+        this.sr = new PointerByReference();
+        this.stub = VTableDispatcher.pointerToInterface(Stub.class,
+                object.getReference());
+    }
+
+    @Benchmark
+    public int resolveOnEveryCall() {
+        Function f = Function.getFunction(vTable[SLOT],
+                VTable.CALLING_CONVENTION);
+        return f.invokeInt(new Object[]{interfacePointer, sr});
+    }
+
+    @Benchmark
+    public int sharedVTable() {
+        return table.invokeInt(SLOT, interfacePointer, sr);
+    }
+
+    @Benchmark
+    public int dispatcher() {
+        return stub.call(sr);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VTableBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
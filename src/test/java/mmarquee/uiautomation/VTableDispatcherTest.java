@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Callback;
+import com.sun.jna.Pointer;
+import com.sun.jna.platform.win32.COM.IUnknown;
+import com.sun.jna.platform.win32.Guid;
+import com.sun.jna.platform.win32.WinNT;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the generic vtable dispatcher, against fake vtables in native
+ * memory.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class VTableDispatcherTest {
+
+    /**
+     * A method taking a scope, as seen from the native side.
+     */
+    public interface ScopeMethod extends Callback {
+        int invoke(Pointer self, int scope, Pointer found);
+    }
+
+    /**
+     * IUnknown.QueryInterface, as seen from the native side.
+     */
+    public interface QueryInterface extends Callback {
+        int invoke(Pointer self, Pointer riid, Pointer found);
+    }
+
+    /**
+     * An interface taking a scope (IUIAutomationElement itself refers to
+     * VARIANT, which cannot be initialised off Windows).
+     */
+    public interface Scoped extends IUnknown {
+        @VTableSlot(3)
+        int find(TreeScope scope, PointerByReference found);
+    }
+
+    /**
+     * An interface that is missing a slot.
+     */
+    public interface Unannotated extends IUnknown {
+        int missing();
+    }
+
+    private static final List<Class<? extends IUnknown>> INTERFACES =
+            Arrays.asList(
+                    IUIAutomation.class,
+                    IUIAutomation2.class,
+                    IUIAutomation3.class,
+                    IUIAutomation6.class,
+                    IUIAutomationBoolCondition.class,
+                    IUIAutomationCacheRequest.class,
+                    IUIAutomationCondition.class,
+                    IUIAutomationElement.class,
+                    IUIAutomationElement3.class,
+                    IUIAutomationElement6.class,
+                    IUIAutomationElement7.class,
+                    IUIAutomationElement9.class,
+                    IUIAutomationElementArray.class,
+                    IUIAutomationEventHandler.class,
+                    IUIAutomationExpandCollapsePattern.class,
+                    IUIAutomationGridItemPattern.class,
+                    IUIAutomationGridPattern.class,
+                    IUIAutomationInvokePattern.class,
+                    IUIAutomationItemContainerPattern.class,
+                    IUIAutomationLegacyIAccessiblePattern.class,
+                    IUIAutomationRangeValuePattern.class,
+                    IUIAutomationScrollItemPattern.class,
+                    IUIAutomationSelectionItemPattern.class,
+                    IUIAutomationSelectionPattern.class,
+                    IUIAutomationSelectionPattern2.class,
+                    IUIAutomationSpreadsheetPattern.class,
+                    IUIAutomationStylesPattern.class,
+                    IUIAutomationTablePattern.class,
+                    IUIAutomationTextPattern.class,
+                    IUIAutomationTextRange.class,
+                    IUIAutomationTextRange2.class,
+                    IUIAutomationTextRangeArray.class,
+                    IUIAutomationTogglePattern.class,
+                    IUIAutomationTreeWalker.class,
+                    IUIAutomationValuePattern.class,
+                    IUIAutomationWindowPattern.class);
+
+    @Test
+    public void test_Every_Interface_Has_A_Slot_For_Every_Method() {
+        for (Class<? extends IUnknown> type : INTERFACES) {
+            assertTrue(type.getSimpleName(),
+                    VTableDispatcher.methods(type) >= 3);
+        }
+    }
+
+    @Test
+    public void test_Methods_Is_One_More_Than_The_Highest_Slot() {
+        assertEquals(16, VTableDispatcher.methods(IUIAutomationTreeWalker.class));
+        assertEquals(85, VTableDispatcher.methods(IUIAutomationElement.class));
+        assertEquals(115, VTableDispatcher.methods(IUIAutomationElement7.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_Method_Without_Slot_Fails_When_Built() {
+        VTableDispatcher.methods(Unannotated.class);
+    }
+
+    @Test
+    public void test_Call_Is_Dispatched_To_Slot() {
+        final AtomicReference<Pointer> received = new AtomicReference<>();
+
+        FakeComObject object = new FakeComObject(6)
+                .slot(5, (FakeComObject.Method1) (self, arg) -> {
+                    received.set(self);
+                    arg.setInt(0, 1);
+                    return 0;
+                });
+
+        IUIAutomationValuePattern pattern =
+                VTableDispatcher.pointerToInterface(
+                        IUIAutomationValuePattern.class,
+                        object.getReference());
+
+        IntByReference ibr = new IntByReference();
+
+        assertEquals(0, pattern.getCurrentIsReadOnly(ibr));
+        assertEquals(1, ibr.getValue());
+        assertEquals(object.getPointer(), received.get());
+    }
+
+    @Test
+    public void test_TreeScope_Is_Passed_By_Value() {
+        final AtomicInteger scope = new AtomicInteger(-1);
+
+        FakeComObject object = new FakeComObject(4)
+                .slot(3, (ScopeMethod) (self, inScope, found) -> {
+                    scope.set(inScope);
+                    return 0;
+                });
+
+        Scoped scoped = VTableDispatcher.pointerToInterface(
+                Scoped.class, object.getReference());
+
+        scoped.find(new TreeScope(TreeScope.DESCENDANTS),
+                new PointerByReference());
+
+        assertEquals(TreeScope.DESCENDANTS, scope.get());
+    }
+
+    @Test
+    public void test_QueryInterface_Returns_HRESULT() {
+        final int E_NOINTERFACE = 0x80004002;
+
+        FakeComObject object = new FakeComObject(4)
+                .slot(0, (QueryInterface) (self, riid, found) -> E_NOINTERFACE);
+
+        IUIAutomationInvokePattern pattern =
+                VTableDispatcher.pointerToInterface(
+                        IUIAutomationInvokePattern.class,
+                        object.getReference());
+
+        WinNT.HRESULT result = pattern.QueryInterface(
+                new Guid.REFIID(IUIAutomationInvokePattern.IID),
+                new PointerByReference());
+
+        assertEquals(E_NOINTERFACE, result.intValue());
+    }
+
+    @Test
+    public void test_Derived_Interface_Uses_Slots_Of_Base() {
+        FakeComObject object = new FakeComObject(13)
+                .slot(4, (FakeComObject.Method1) (self, arg) -> 4)
+                .slot(12, (FakeComObject.Method1) (self, arg) -> 12);
+
+        IUIAutomationSelectionPattern2 pattern =
+                VTableDispatcher.pointerToInterface(
+                        IUIAutomationSelectionPattern2.class,
+                        object.getReference());
+
+        assertEquals(4, pattern.getCurrentCanSelectMultiple(new IntByReference()));
+        assertEquals(12, pattern.getCurrentItemCount(new IntByReference()));
+    }
+
+    @Test
+    public void test_Proxies_Have_Identity_Equality() {
+        FakeComObject object = new FakeComObject(4);
+
+        IUIAutomationInvokePattern first =
+                VTableDispatcher.pointerToInterface(
+                        IUIAutomationInvokePattern.class,
+                        object.getReference());
+        IUIAutomationInvokePattern second =
+                VTableDispatcher.pointerToInterface(
+                        IUIAutomationInvokePattern.class,
+                        object.getReference());
+
+        assertEquals(first, first);
+        assertNotEquals(first, second);
+        assertTrue(first.toString().startsWith("IUIAutomationInvokePattern@"));
+    }
+
+    @Test
+    public void test_getPointer_Returns_Interface_Pointer() {
+        FakeComObject object = new FakeComObject(4);
+
+        IUIAutomationInvokePattern pattern =
+                VTableDispatcher.pointerToInterface(
+                        IUIAutomationInvokePattern.class,
+                        object.getReference());
+
+        assertEquals(object.getPointer(), VTableDispatcher.getPointer(pattern));
+        assertNull(VTableDispatcher.getPointer(new Object()));
+        assertNull(VTableDispatcher.getPointer(null));
+    }
+}
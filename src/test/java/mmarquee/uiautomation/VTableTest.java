@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 inpwtepydjuf@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mmarquee.uiautomation;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for the shared vtable function cache, against fake vtables in
+ * native memory.
+ *
+ * @author Mark Humphreys
+ * Date 18/10/2026.
+ */
+public class VTableTest {
+
+    @Test
+    public void test_Objects_Sharing_A_VTable_Share_The_Table() {
+        FakeComObject first = new FakeComObject(4);
+        FakeComObject second = new FakeComObject(first);
+
+        assertSame(VTable.of(first.getPointer(), 4),
+                VTable.of(second.getPointer(), 4));
+    }
+
+    @Test
+    public void test_Different_VTables_Have_Different_Tables() {
+        FakeComObject first = new FakeComObject(4);
+        FakeComObject second = new FakeComObject(4);
+
+        assertNotSame(VTable.of(first.getPointer(), 4),
+                VTable.of(second.getPointer(), 4));
+    }
+
+    @Test
+    public void test_Function_Is_Only_Resolved_Once() {
+        FakeComObject object = new FakeComObject(4)
+                .slot(3, FakeComObject.nativeStub());
+
+        VTable table = VTable.of(object.getPointer(), 4);
+
+        assertSame(table.getFunction(3), table.getFunction(3));
+    }
+
+    @Test
+    public void test_Table_Grows_For_Derived_Interface() {
+        FakeComObject object = new FakeComObject(8)
+                .slot(3, FakeComObject.nativeStub())
+                .slot(7, (FakeComObject.Method0) self -> 7);
+
+        VTable table = VTable.of(object.getPointer(), 4);
+        table.getFunction(3);
+
+        VTable derived = VTable.of(object.getPointer(), 8);
+
+        assertSame(table, derived);
+        assertEquals(7, derived.invokeInt(7, object.getPointer()));
+    }
+
+    @Test
+    public void test_InvokeInt_Passes_Interface_Pointer_And_Arguments() {
+        final AtomicReference<Pointer> received = new AtomicReference<>();
+
+        FakeComObject object = new FakeComObject(4)
+                .slot(3, (FakeComObject.MethodIntInt) (self, arg1, arg2) -> {
+                    received.set(self);
+                    return arg1 + arg2;
+                });
+
+        VTable table = VTable.of(object.getPointer(), 4);
+
+        assertEquals(5, table.invokeInt(3, object.getPointer(), 2, 3));
+        assertEquals(object.getPointer(), received.get());
+    }
+
+    @Test
+    public void test_InvokeInt_Writes_Through_Out_Parameter() {
+        FakeComObject object = new FakeComObject(4)
+                .slot(3, (FakeComObject.Method1) (self, arg) -> {
+                    arg.setInt(0, 42);
+                    return 0;
+                });
+
+        VTable table = VTable.of(object.getPointer(), 4);
+
+        IntByReference ibr = new IntByReference();
+
+        assertEquals(0, table.invokeInt(3, object.getPointer(), ibr));
+        assertEquals(42, ibr.getValue());
+    }
+}